@@ -6,6 +6,7 @@ plugins {
     jacoco
     id("io.github.stellarsunset.auto-semver") version "2.0.0"
     id("com.vanniktech.maven.publish") version "0.37.0"
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 repositories {
@@ -25,8 +26,12 @@ dependencies {
     implementation(libs.guava)
     implementation(libs.slf4j.api)
 
+    compileOnly(libs.arrow.vector)
+
     testImplementation(libs.junit.jupiter)
     testImplementation(libs.grib)
+    testImplementation(libs.arrow.vector)
+    testRuntimeOnly(libs.arrow.memory.unsafe)
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
 
@@ -38,6 +43,16 @@ java {
 
 tasks.named<Test>("test") {
     useJUnitPlatform()
+    // required by the Arrow memory allocators
+    jvmArgs("--add-opens=java.base/java.nio=ALL-UNNAMED")
+}
+
+// benchmarks live in src/jmh, run a subset with e.g. ./gradlew jmh -Pjmh.includes=Iteration
+jmh {
+    includes = providers.gradleProperty("jmh.includes").map { listOf(it) }.orElse(listOf())
+    fork = 1
+    warmupIterations = 3
+    iterations = 5
 }
 
 tasks.jacocoTestReport {
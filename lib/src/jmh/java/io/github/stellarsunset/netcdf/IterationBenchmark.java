@@ -0,0 +1,110 @@
+package io.github.stellarsunset.netcdf;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Iterator;
+import java.util.Spliterators;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.StreamSupport;
+
+/**
+ * Sequential traversal of in-memory cubes, isolating the cost of iteration from that of reading and binding records.
+ *
+ * <p>{@code iteratorStream} streams through an adapter over the cube's iterator, as {@link Hypercube#stream()} used to,
+ * for comparison with the nested-loop spliterator behind {@code stream}. {@code d3StreamInOrder} streams with the innermost
+ * dimension outermost, the worst case for reads from storage.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class IterationBenchmark {
+
+    @Param({"16", "128"})
+    int size;
+
+    private Hypercube.D3<Integer> d3;
+
+    private Hypercube.D4<Integer> d4;
+
+    @Setup
+    public void setup() {
+        Integer[] values = new Integer[size * size * size * 4];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i;
+        }
+        d3 = new ArrayD3(values, size, size, size * 4);
+        d4 = new ArrayD4(values, 4, size, size, size);
+    }
+
+    @Benchmark
+    public void d3Stream(Blackhole blackhole) {
+        d3.stream().forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void d3IteratorStream(Blackhole blackhole) {
+        long size = (long) d3.d0Max() * d3.d1Max() * d3.d2Max();
+        StreamSupport.stream(Spliterators.spliterator(d3.iterator(), size, 0), false).forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void d3Iterator(Blackhole blackhole) {
+        Iterator<Integer> iterator = d3.iterator();
+        while (iterator.hasNext()) {
+            blackhole.consume(iterator.next());
+        }
+    }
+
+    @Benchmark
+    public long d3Count() {
+        return d3.stream().count();
+    }
+
+    @Benchmark
+    public void d3StreamInOrder(Blackhole blackhole) {
+        d3.stream(new int[]{2, 0, 1}).forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void d4Stream(Blackhole blackhole) {
+        d4.stream().forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void d4IteratorStream(Blackhole blackhole) {
+        long size = (long) d4.d0Max() * d4.d1Max() * d4.d2Max() * d4.d3Max();
+        StreamSupport.stream(Spliterators.spliterator(d4.iterator(), size, 0), false).forEach(blackhole::consume);
+    }
+
+    record ArrayD3(Integer[] values, int d0Max, int d1Max, int d2Max) implements Hypercube.D3<Integer> {
+
+        @Override
+        public Integer read(int i0, int i1, int i2) {
+            return values[(i0 * d1Max + i1) * d2Max + i2];
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    record ArrayD4(Integer[] values, int d0Max, int d1Max, int d2Max, int d3Max) implements Hypercube.D4<Integer> {
+
+        @Override
+        public Integer read(int i0, int i1, int i2, int i3) {
+            return values[((i0 * d1Max + i1) * d2Max + i2) * d3Max + i3];
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
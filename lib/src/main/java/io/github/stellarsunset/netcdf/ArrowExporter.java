@@ -0,0 +1,414 @@
+package io.github.stellarsunset.netcdf;
+
+import org.apache.arrow.memory.ArrowBuf;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.BaseFixedWidthVector;
+import org.apache.arrow.vector.BitVectorHelper;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowFileWriter;
+import org.apache.arrow.vector.types.FloatingPointPrecision;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.Schema;
+import ucar.ma2.DataType;
+import ucar.nc2.Dimension;
+import ucar.nc2.NetcdfFile;
+import ucar.nc2.Variable;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Exports the variables declared by a {@link SchemaBinding} straight into Apache Arrow {@link VectorSchemaRoot} batches,
+ * copying values directly out of the primitive storage of the underlying {@link ucar.ma2.Array}s without creating any
+ * per-cell objects.
+ *
+ * <p>Each row of the output corresponds to one cell of the cube, coordinate variables become one column each and dimension
+ * variables are broadcast along the rows of the dimension they vary over, as are coordinate variables of lower rank than
+ * the cube along the dimensions they don't vary over. Only the variable names of the schema are used, the field bindings,
+ * initializer and finalizer are ignored.
+ *
+ * <p>Batches are built from whole slabs of the outermost dimension of the cube so only one batch worth of variable data is
+ * read from the file at a time.
+ *
+ * <p>Arrow is an optional dependency of this library, to use this class add {@code org.apache.arrow:arrow-vector} and one of
+ * the Arrow memory allocator implementations (e.g. {@code arrow-memory-unsafe}) to the runtime classpath.
+ */
+public final class ArrowExporter {
+
+    private static final int DEFAULT_BATCH_SIZE = 1 << 16;
+
+    private final SchemaBinding<?> schema;
+
+    private final int batchSize;
+
+    private ArrowExporter(SchemaBinding<?> schema, int batchSize) {
+        this.schema = requireNonNull(schema);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Create a new exporter for the variables in the provided {@link SchemaBinding} using a default target batch size.
+     *
+     * @param schema the schema declaring the dimension and coordinate variables to export
+     */
+    public static ArrowExporter of(SchemaBinding<?> schema) {
+        return of(schema, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Create a new exporter for the variables in the provided {@link SchemaBinding}.
+     *
+     * <p>The batch size is a target, batches always contain a whole number of slabs of the outermost dimension of the cube,
+     * so a single batch may exceed the target when one slab is larger than it.
+     *
+     * @param schema    the schema declaring the dimension and coordinate variables to export
+     * @param batchSize the target number of rows in each exported batch
+     */
+    public static ArrowExporter of(SchemaBinding<?> schema, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive, was: " + batchSize);
+        }
+        return new ArrowExporter(schema, batchSize);
+    }
+
+    /**
+     * Returns the Arrow {@link Schema} of the batches that will be exported for the provided file.
+     *
+     * @param file the file the schema binding will be evaluated against
+     */
+    public Schema arrowSchema(NetcdfFile file) {
+        return arrowSchema(columns(ValidatedBinding.validate(file, schema)));
+    }
+
+    /**
+     * Export the contents of the file as a sequence of Arrow batches, the same {@link VectorSchemaRoot} instance is re-used
+     * for every batch (as is conventional in Arrow) and is closed once the export completes.
+     *
+     * @param file      the file to export variable data from
+     * @param allocator the allocator to allocate the Arrow vectors with
+     * @param consumer  consumer invoked once with each batch of rows
+     */
+    public void export(NetcdfFile file, BufferAllocator allocator, BatchConsumer consumer) throws IOException {
+
+        ValidatedBinding<?> binding = ValidatedBinding.validate(file, schema);
+        List<Column> columns = columns(binding);
+
+        try (VectorSchemaRoot root = VectorSchemaRoot.create(arrowSchema(columns), allocator)) {
+            export(binding, columns, root, consumer);
+        }
+    }
+
+    /**
+     * Export the contents of the file to the provided channel in the Arrow IPC file format.
+     *
+     * @param file      the file to export variable data from
+     * @param allocator the allocator to allocate the Arrow vectors with
+     * @param channel   the channel to write the Arrow IPC file to, it's left open after the export
+     */
+    public void writeIpc(NetcdfFile file, BufferAllocator allocator, WritableByteChannel channel) throws IOException {
+
+        ValidatedBinding<?> binding = ValidatedBinding.validate(file, schema);
+        List<Column> columns = columns(binding);
+
+        try (VectorSchemaRoot root = VectorSchemaRoot.create(arrowSchema(columns), allocator);
+             ArrowFileWriter writer = new ArrowFileWriter(root, null, channel)) {
+
+            writer.start();
+            export(binding, columns, root, r -> writer.writeBatch());
+            writer.end();
+        }
+    }
+
+    private void export(ValidatedBinding<?> binding, List<Column> columns, VectorSchemaRoot root,
+                        BatchConsumer consumer) throws IOException {
+
+        int[] shape = binding.shape();
+
+        if (shape.length == 0) {
+            throw new IllegalArgumentException("Exporting scalar (D0) variables isn't supported.");
+        }
+
+        long rowsPerSlab = 1;
+        for (int i = 1; i < shape.length; i++) {
+            rowsPerSlab *= shape[i];
+        }
+
+        int slabsPerBatch = (int) Math.max(1, Math.min(shape[0], batchSize / Math.max(1, rowsPerSlab)));
+
+        if (rowsPerSlab * slabsPerBatch > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(String.format("A single slab of %d rows is too large for an Arrow batch.", rowsPerSlab));
+        }
+
+        // variables not varying over the outermost dimension (e.g. dimension variables) are read once and broadcast (or
+        // sliced) into each batch, the rest are read a slab at a time
+        List<Object> fullValues = new ArrayList<>(columns.size());
+        for (Column column : columns) {
+            fullValues.add(column.sliced() ? null : storage(SchemaBoundHyperCubes.read(column.variable())));
+        }
+
+        for (int origin = 0; origin < shape[0]; origin += slabsPerBatch) {
+
+            int length = Math.min(slabsPerBatch, shape[0] - origin);
+            int rows = (int) (length * rowsPerSlab);
+
+            int[] batchShape = shape.clone();
+            batchShape[0] = length;
+
+            for (int c = 0; c < columns.size(); c++) {
+
+                Column column = columns.get(c);
+                BaseFixedWidthVector vector = (BaseFixedWidthVector) root.getVector(c);
+                vector.allocateNew(rows);
+
+                if (column.sliced()) {
+                    Object values = storage(SchemaBoundHyperCubes.readSlab(column.variable(), origin, length));
+                    if (column.axes().length == shape.length) {
+                        copy(column.type(), values, vector);
+                    } else {
+                        int[] slabShape = column.variable().getShape();
+                        slabShape[0] = length;
+                        broadcast(column.type(), values, elements(batchShape, column.axes(), slabShape, 0), vector);
+                    }
+                } else {
+                    int[] elements = elements(batchShape, column.axes(), column.variable().getShape(), origin);
+                    broadcast(column.type(), fullValues.get(c), elements, vector);
+                }
+
+                vector.getValidityBuffer().setOne(0L, BitVectorHelper.getValidityBufferSize(rows));
+            }
+
+            root.setRowCount(rows);
+            consumer.accept(root);
+        }
+    }
+
+    /**
+     * Dimension variables first (ordered by the dimension they vary along) followed by the coordinate variables, each group
+     * sorted by name so the column order is stable.
+     */
+    private static List<Column> columns(ValidatedBinding<?> binding) {
+
+        NetcdfFile file = binding.context();
+        List<Column> columns = new ArrayList<>();
+
+        for (int axis = 0; axis < binding.shape().length; axis++) {
+            for (String name : binding.dimensionVariables(axis).keySet().stream().sorted().toList()) {
+                columns.add(new Column(name, findVariable(file, name), new int[]{axis}, false));
+            }
+        }
+
+        List<Dimension> dimensions = binding.dimensions();
+        for (String name : binding.schema().coordinateVariables().keySet().stream().sorted().toList()) {
+            Variable variable = findVariable(file, name);
+            int[] axes = requireNonNull(ValidatedBinding.broadcastAxes(dimensions, variable.getDimensions()), "Binding should have already been validated...");
+            columns.add(new Column(name, variable, axes, axes.length > 0 && axes[0] == 0));
+        }
+
+        return columns;
+    }
+
+    private static Variable findVariable(NetcdfFile file, String name) {
+        return requireNonNull(file.findVariable(name), "Missing required variable, check validation logic.");
+    }
+
+    private static Schema arrowSchema(List<Column> columns) {
+        return new Schema(columns.stream().map(column -> Field.notNullable(column.name(), arrowType(column.type()))).toList());
+    }
+
+    /**
+     * Unsigned NetCDF types map to their unsigned Arrow counterparts, the bits in storage are the same either way.
+     */
+    private static ArrowType arrowType(DataType type) {
+        return switch (type) {
+            case BOOLEAN -> ArrowType.Bool.INSTANCE;
+            case BYTE, ENUM1 -> new ArrowType.Int(8, true);
+            case UBYTE -> new ArrowType.Int(8, false);
+            case CHAR, USHORT -> new ArrowType.Int(16, false);
+            case SHORT, ENUM2 -> new ArrowType.Int(16, true);
+            case INT, ENUM4 -> new ArrowType.Int(32, true);
+            case UINT -> new ArrowType.Int(32, false);
+            case LONG -> new ArrowType.Int(64, true);
+            case ULONG -> new ArrowType.Int(64, false);
+            case FLOAT -> new ArrowType.FloatingPoint(FloatingPointPrecision.SINGLE);
+            case DOUBLE -> new ArrowType.FloatingPoint(FloatingPointPrecision.DOUBLE);
+            case STRING, STRUCTURE, SEQUENCE, OPAQUE, OBJECT ->
+                    throw new IllegalStateException("Binding should have already been validated...");
+        };
+    }
+
+    /**
+     * The 1D primitive Java array backing the provided array in canonical order, only copied if the array isn't already
+     * contiguous.
+     */
+    private static Object storage(ucar.ma2.Array array) {
+        return array.get1DJavaArray(array.getDataType());
+    }
+
+    private static void copy(DataType type, Object values, BaseFixedWidthVector vector) {
+        ArrowBuf buffer = vector.getDataBuffer();
+        switch (values) {
+            case boolean[] b -> {
+                for (int i = 0; i < b.length; i++) {
+                    if (b[i]) {
+                        BitVectorHelper.setBit(buffer, i);
+                    }
+                }
+            }
+            case byte[] b -> {
+                for (int i = 0; i < b.length; i++) {
+                    buffer.setByte(i, b[i]);
+                }
+            }
+            case char[] c -> {
+                for (int i = 0; i < c.length; i++) {
+                    buffer.setChar((long) i * Character.BYTES, c[i]);
+                }
+            }
+            case short[] s -> {
+                for (int i = 0; i < s.length; i++) {
+                    buffer.setShort((long) i * Short.BYTES, s[i]);
+                }
+            }
+            case int[] n -> {
+                for (int i = 0; i < n.length; i++) {
+                    buffer.setInt((long) i * Integer.BYTES, n[i]);
+                }
+            }
+            case long[] l -> {
+                for (int i = 0; i < l.length; i++) {
+                    buffer.setLong((long) i * Long.BYTES, l[i]);
+                }
+            }
+            case float[] f -> {
+                for (int i = 0; i < f.length; i++) {
+                    buffer.setFloat((long) i * Float.BYTES, f[i]);
+                }
+            }
+            case double[] d -> {
+                for (int i = 0; i < d.length; i++) {
+                    buffer.setDouble((long) i * Double.BYTES, d[i]);
+                }
+            }
+            default -> throw new IllegalStateException("Unexpected storage for variable type: " + type);
+        }
+    }
+
+    /**
+     * The index into the values of a variable of each row of the batch, e.g. for a {@code [x, y, z]} batch the value of a
+     * {@code [y]} variable for index {@code j} is repeated {@code |z|} times, once for each {@code x}.
+     *
+     * @param batchShape  the shape of the batch
+     * @param axes        the axis of the batch each dimension of the variable varies over
+     * @param valuesShape the shape of the variable's values
+     * @param origin      the index of the first row of the batch along the outermost dimension within the values
+     */
+    private static int[] elements(int[] batchShape, int[] axes, int[] valuesShape, int origin) {
+
+        // the stride through the values for each axis of the batch, zero for those the variable doesn't vary over
+        int[] strides = new int[batchShape.length];
+        int stride = 1;
+        for (int d = axes.length - 1; d >= 0; d--) {
+            strides[axes[d]] = stride;
+            stride *= valuesShape[d];
+        }
+
+        int rows = 1;
+        for (int length : batchShape) {
+            rows *= length;
+        }
+
+        int[] elements = new int[rows];
+        int[] index = new int[batchShape.length];
+        int element = origin * strides[0];
+
+        for (int row = 0; row < rows; row++) {
+            elements[row] = element;
+            for (int a = batchShape.length - 1; a >= 0; a--) {
+                if (++index[a] < batchShape[a]) {
+                    element += strides[a];
+                    break;
+                }
+                index[a] = 0;
+                element -= strides[a] * (batchShape[a] - 1);
+            }
+        }
+
+        return elements;
+    }
+
+    /**
+     * Copy the value at each of the given indices of the values into consecutive rows of the vector.
+     */
+    private static void broadcast(DataType type, Object values, int[] elements, BaseFixedWidthVector vector) {
+        ArrowBuf buffer = vector.getDataBuffer();
+        switch (values) {
+            case boolean[] b -> {
+                for (int i = 0; i < elements.length; i++) {
+                    if (b[elements[i]]) {
+                        BitVectorHelper.setBit(buffer, i);
+                    }
+                }
+            }
+            case byte[] b -> {
+                for (int i = 0; i < elements.length; i++) {
+                    buffer.setByte(i, b[elements[i]]);
+                }
+            }
+            case char[] c -> {
+                for (int i = 0; i < elements.length; i++) {
+                    buffer.setChar((long) i * Character.BYTES, c[elements[i]]);
+                }
+            }
+            case short[] s -> {
+                for (int i = 0; i < elements.length; i++) {
+                    buffer.setShort((long) i * Short.BYTES, s[elements[i]]);
+                }
+            }
+            case int[] n -> {
+                for (int i = 0; i < elements.length; i++) {
+                    buffer.setInt((long) i * Integer.BYTES, n[elements[i]]);
+                }
+            }
+            case long[] l -> {
+                for (int i = 0; i < elements.length; i++) {
+                    buffer.setLong((long) i * Long.BYTES, l[elements[i]]);
+                }
+            }
+            case float[] f -> {
+                for (int i = 0; i < elements.length; i++) {
+                    buffer.setFloat((long) i * Float.BYTES, f[elements[i]]);
+                }
+            }
+            case double[] d -> {
+                for (int i = 0; i < elements.length; i++) {
+                    buffer.setDouble((long) i * Double.BYTES, d[elements[i]]);
+                }
+            }
+            default -> throw new IllegalStateException("Unexpected storage for variable type: " + type);
+        }
+    }
+
+    /**
+     * Callback for each exported batch, declared here so consumers can throw {@link IOException}s as Arrow writers do.
+     */
+    @FunctionalInterface
+    public interface BatchConsumer {
+        void accept(VectorSchemaRoot root) throws IOException;
+    }
+
+    /**
+     * A column of the exported batches, the axes are those of the cube the variable varies over. Sliced columns are
+     * coordinate variables varying over the outermost dimension which are read a slab at a time.
+     */
+    private record Column(String name, Variable variable, int[] axes, boolean sliced) {
+
+        DataType type() {
+            return variable.getDataType();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.stellarsunset.netcdf;
+
+import static io.github.stellarsunset.netcdf.RecordBinding.select;
+
+/**
+ * Lifts {@link IndexBinding}s of coordinate variables varying over a subset of the dimensions of a cube to bindings over
+ * all of its dimensions, the indices along the dimensions the variable doesn't vary over are ignored.
+ *
+ * <p>This lets a single cube combine e.g. 2D surface fields with 3D fields on levels, each variable is read once at its
+ * native size rather than being duplicated across the missing dimensions.
+ *
+ * <p>The {@code axes} arrays give the axis of the cube each dimension of the variable corresponds to, see
+ * {@link ValidatedBinding#broadcastAxes(java.util.List, java.util.List)}.
+ */
+final class Broadcasts {
+
+    private Broadcasts() {
+    }
+
+    static <T> IndexBinding.D1<T> d1(IndexBinding.D0<T> binding) {
+        return (object, i) -> binding.set(object);
+    }
+
+    static <T> IndexBinding.D2<T> d2(IndexBinding.D0<T> binding) {
+        return (object, i0, i1) -> binding.set(object);
+    }
+
+    static <T> IndexBinding.D2<T> d2(IndexBinding.D1<T> binding, int[] axes) {
+        int a0 = axes[0];
+        return (object, i0, i1) -> binding.set(object, select(a0, i0, i1, 0, 0));
+    }
+
+    static <T> IndexBinding.D3<T> d3(IndexBinding.D0<T> binding) {
+        return (object, i0, i1, i2) -> binding.set(object);
+    }
+
+    static <T> IndexBinding.D3<T> d3(IndexBinding.D1<T> binding, int[] axes) {
+        int a0 = axes[0];
+        return (object, i0, i1, i2) -> binding.set(object, select(a0, i0, i1, i2, 0));
+    }
+
+    static <T> IndexBinding.D3<T> d3(IndexBinding.D2<T> binding, int[] axes) {
+        int a0 = axes[0];
+        int a1 = axes[1];
+        return (object, i0, i1, i2) -> binding.set(object, select(a0, i0, i1, i2, 0), select(a1, i0, i1, i2, 0));
+    }
+
+    static <T> IndexBinding.D4<T> d4(IndexBinding.D0<T> binding) {
+        return (object, i0, i1, i2, i3) -> binding.set(object);
+    }
+
+    static <T> IndexBinding.D4<T> d4(IndexBinding.D1<T> binding, int[] axes) {
+        int a0 = axes[0];
+        return (object, i0, i1, i2, i3) -> binding.set(object, select(a0, i0, i1, i2, i3));
+    }
+
+    static <T> IndexBinding.D4<T> d4(IndexBinding.D2<T> binding, int[] axes) {
+        int a0 = axes[0];
+        int a1 = axes[1];
+        return (object, i0, i1, i2, i3) -> binding.set(object, select(a0, i0, i1, i2, i3), select(a1, i0, i1, i2, i3));
+    }
+
+    static <T> IndexBinding.D4<T> d4(IndexBinding.D3<T> binding, int[] axes) {
+        int a0 = axes[0];
+        int a1 = axes[1];
+        int a2 = axes[2];
+        return (object, i0, i1, i2, i3) -> binding.set(object, select(a0, i0, i1, i2, i3), select(a1, i0, i1, i2, i3), select(a2, i0, i1, i2, i3));
+    }
+}
@@ -0,0 +1,165 @@
+package io.github.stellarsunset.netcdf;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@link RecordBinding} created at runtime from the {@link CoordinateVariable} and {@link DimensionVariable} annotations on
+ * the components of a record, the reflective equivalent of the bindings generated by the annotation processor.
+ *
+ * <p>The record's canonical constructor is resolved once as a {@link MethodHandle}, each cube then binds an array element
+ * getter per column to the decoded data and folds them into the constructor so that a single invocation reads every
+ * component's value and constructs the record.
+ */
+final class CanonicalRecordBinding<R extends Record> implements RecordBinding<R> {
+
+    private static final MethodType FACTORY_TYPE = MethodType.methodType(Object.class, int.class, int.class, int.class, int.class, int.class);
+
+    private final Class<R> type;
+
+    private final List<Column> columns;
+
+    private final MethodHandle constructor;
+
+    private CanonicalRecordBinding(Class<R> type, List<Column> columns, MethodHandle constructor) {
+        this.type = requireNonNull(type);
+        this.columns = List.copyOf(columns);
+        this.constructor = requireNonNull(constructor);
+    }
+
+    /**
+     * Create a new binding for the given record type, resolving the canonical constructor via the provided lookup.
+     *
+     * @throws IllegalArgumentException if any component isn't a primitive annotated with exactly one of
+     *                                  {@link CoordinateVariable} or {@link DimensionVariable}, or if the lookup doesn't
+     *                                  have access to the canonical constructor
+     */
+    static <R extends Record> CanonicalRecordBinding<R> create(Class<R> type, MethodHandles.Lookup lookup) {
+
+        RecordComponent[] components = type.getRecordComponents();
+        if (components == null) {
+            throw new IllegalArgumentException("Not a record type: " + type);
+        }
+
+        List<Column> columns = new ArrayList<>(components.length);
+        Class<?>[] parameters = new Class<?>[components.length];
+
+        for (int i = 0; i < components.length; i++) {
+            RecordComponent component = components[i];
+            parameters[i] = component.getType();
+
+            Type columnType = typeOf(component);
+
+            CoordinateVariable coordinate = component.getAnnotation(CoordinateVariable.class);
+            DimensionVariable dimension = component.getAnnotation(DimensionVariable.class);
+
+            if ((coordinate == null) == (dimension == null)) {
+                throw new IllegalArgumentException(String.format(
+                        "Component %s of %s must be annotated with exactly one of @CoordinateVariable or @DimensionVariable.",
+                        component.getName(), type.getName()
+                ));
+            }
+
+            columns.add(coordinate != null
+                    ? Column.coordinate(coordinate.value(), columnType)
+                    : Column.dimension(dimension.dim(), dimension.variable().isEmpty() ? dimension.dim() : dimension.variable(), columnType));
+        }
+
+        try {
+            MethodHandle constructor = lookup.findConstructor(type, MethodType.methodType(void.class, parameters));
+            return new CanonicalRecordBinding<>(type, columns, constructor);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalArgumentException("Unable to access the canonical constructor of: " + type.getName(), e);
+        }
+    }
+
+    private static Type typeOf(RecordComponent component) {
+        Class<?> type = component.getType();
+        if (type == boolean.class) {
+            return Type.BOOLEAN;
+        } else if (type == byte.class) {
+            return Type.BYTE;
+        } else if (type == char.class) {
+            return Type.CHAR;
+        } else if (type == short.class) {
+            return Type.SHORT;
+        } else if (type == int.class) {
+            return Type.INT;
+        } else if (type == long.class) {
+            return Type.LONG;
+        } else if (type == float.class) {
+            return Type.FLOAT;
+        } else if (type == double.class) {
+            return Type.DOUBLE;
+        }
+        throw new IllegalArgumentException(String.format(
+                "Component %s of %s must be a primitive, was: %s",
+                component.getName(), component.getDeclaringRecord().getName(), type.getName()
+        ));
+    }
+
+    @Override
+    public List<Column> columns() {
+        return columns;
+    }
+
+    /**
+     * Binds an element getter to each column's data and collects them into the constructor, producing a single handle of
+     * type {@code (offset, i0, i1, i2, i3) -> R}.
+     *
+     * <p>Coordinate variable getters are indexed by the offset and dimension variable getters by the index along their
+     * axis, so no per-cell branching is required to select between them.
+     */
+    @Override
+    public RecordFactory<R> factory(Columns columns) {
+
+        MethodHandle[] getters = new MethodHandle[this.columns.size()];
+        int[] reorder = new int[this.columns.size()];
+
+        for (int c = 0; c < getters.length; c++) {
+            Object data = columns.array(c);
+            getters[c] = MethodHandles.arrayElementGetter(data.getClass()).bindTo(data);
+            reorder[c] = columns.axis(c) < 0 ? 0 : columns.axis(c) + 1;
+        }
+
+        MethodHandle handle = MethodHandles.permuteArguments(
+                MethodHandles.filterArguments(constructor, 0, getters).asType(MethodType.methodType(Object.class, intParameters(getters.length))),
+                FACTORY_TYPE,
+                reorder
+        );
+
+        return new Factory<>(type, handle);
+    }
+
+    private static Class<?>[] intParameters(int count) {
+        Class<?>[] parameters = new Class<?>[count];
+        Arrays.fill(parameters, int.class);
+        return parameters;
+    }
+
+    @Override
+    public String toString() {
+        return "CanonicalRecordBinding[" + type.getName() + "]";
+    }
+
+    private record Factory<R>(Class<R> type, MethodHandle handle) implements RecordFactory<R> {
+
+        @Override
+        public R create(int offset, int i0, int i1, int i2, int i3) {
+            try {
+                return type.cast((Object) handle.invokeExact(offset, i0, i1, i2, i3));
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("Unexpected checked exception from canonical constructor.", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package io.github.stellarsunset.netcdf;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a primitive record component as bound to the coordinate variable with the given name, the record equivalent of
+ * {@link SchemaBinding.Builder#coordinateVariable(String, FieldBinding)}.
+ *
+ * <p>Records whose components are all annotated with either this or {@link DimensionVariable} can be read without any
+ * intermediate builder, see {@link RecordBinding}.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.RECORD_COMPONENT)
+public @interface CoordinateVariable {
+
+    /**
+     * The name of the coordinate variable in the file.
+     */
+    String value();
+}
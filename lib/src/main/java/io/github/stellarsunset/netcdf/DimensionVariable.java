@@ -0,0 +1,30 @@
+package io.github.stellarsunset.netcdf;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a primitive record component as bound to a dimension variable varying along the given dimension, the record
+ * equivalent of {@link SchemaBinding.Builder#dimensionVariable(String, String, FieldBinding)}.
+ *
+ * <p>Records whose components are all annotated with either this or {@link CoordinateVariable} can be read without any
+ * intermediate builder, see {@link RecordBinding}.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.RECORD_COMPONENT)
+public @interface DimensionVariable {
+
+    /**
+     * The name of the single dimension the variable varies across.
+     */
+    String dim();
+
+    /**
+     * The name of the variable, defaults to the name of the dimension (as is conventional for CDM coordinate axes).
+     */
+    String variable() default "";
+}
@@ -0,0 +1,394 @@
+package io.github.stellarsunset.netcdf;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import ucar.ma2.DataType;
+import ucar.nc2.NetcdfFile;
+import ucar.nc2.Variable;
+
+import java.util.concurrent.ExecutionException;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Nearest-grid-point index over the 2D latitude/longitude coordinate variables of a curvilinear or projected grid (e.g. the
+ * Lambert conformal grid of the HRRR), mapping a latitude/longitude to the {@code (i0, i1)} indices of the nearest cell for
+ * use with {@link Hypercube.D2#read(int, int)} and friends.
+ *
+ * <p>Cells are indexed in a balanced KD-tree over their positions on the unit sphere, so queries take {@code O(log n)}
+ * regardless of the projection and behave correctly across the antimeridian and near the poles. Cells with a NaN (or
+ * infinite) latitude or longitude are excluded from the index.
+ *
+ * <p>Building the index for a large grid takes a noticeable amount of time so indexes created from files via
+ * {@link #of(NetcdfFile, String, String)} are cached by a fingerprint of the grid's coordinates, files sharing a grid (e.g.
+ * successive runs of the same model) share an index.
+ *
+ * <p>Indexes are immutable and thread-safe.
+ */
+public final class GridIndex {
+
+    /**
+     * Indexes are large (~16 bytes per cell), so only a handful of distinct grids are retained and only softly.
+     */
+    private static final Cache<HashCode, GridIndex> CACHE = CacheBuilder.newBuilder().maximumSize(8).softValues().build();
+
+    private final int d0Max;
+
+    private final int d1Max;
+
+    /**
+     * Unit vector components of each indexed cell, in tree order.
+     */
+    private final float[] xs;
+
+    private final float[] ys;
+
+    private final float[] zs;
+
+    /**
+     * Row-major offset of each indexed cell in the grid, in tree order.
+     */
+    private final int[] offsets;
+
+    /**
+     * Split axis of the node at each position in the tree.
+     */
+    private final byte[] axes;
+
+    private GridIndex(int d0Max, int d1Max, float[] xs, float[] ys, float[] zs, int[] offsets, byte[] axes) {
+        this.d0Max = d0Max;
+        this.d1Max = d1Max;
+        this.xs = xs;
+        this.ys = ys;
+        this.zs = zs;
+        this.offsets = offsets;
+        this.axes = axes;
+    }
+
+    /**
+     * Returns the (possibly cached) index over the named 2D latitude and longitude variables of the file, both variables
+     * must share the same two dimensions in the same order.
+     *
+     * <p>The cache key covers every latitude and longitude value, so both variables are read in full on each call but the
+     * (much more expensive) tree is only built once per distinct grid.
+     *
+     * @param file      the file containing the coordinate variables
+     * @param latitude  the name of the 2D latitude variable, in degrees
+     * @param longitude the name of the 2D longitude variable, in degrees
+     */
+    public static GridIndex of(NetcdfFile file, String latitude, String longitude) {
+
+        Variable latitudes = findGridVariable(file, latitude);
+        Variable longitudes = findGridVariable(file, longitude);
+
+        if (!latitudes.getDimensions().equals(longitudes.getDimensions())) {
+            throw new IllegalArgumentException(String.format(
+                    "Latitude variable %s and longitude variable %s must share the same dimensions.", latitude, longitude
+            ));
+        }
+
+        double[] latitudeValues = doubles(SchemaBoundHyperCubes.read(latitudes));
+        double[] longitudeValues = doubles(SchemaBoundHyperCubes.read(longitudes));
+
+        try {
+            int[] shape = latitudes.getShape();
+            return CACHE.get(
+                    fingerprint(latitudeValues, longitudeValues, shape),
+                    () -> of(latitudeValues, longitudeValues, shape[0], shape[1])
+            );
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Error building grid index.", e.getCause());
+        }
+    }
+
+    /**
+     * Build a new (uncached) index over the provided row-major latitude and longitude values.
+     *
+     * @param latitudes  the latitude of each cell in degrees, in row-major order
+     * @param longitudes the longitude of each cell in degrees, in row-major order
+     * @param d0Max      the length of the outer dimension of the grid
+     * @param d1Max      the length of the inner dimension of the grid
+     */
+    public static GridIndex of(double[] latitudes, double[] longitudes, int d0Max, int d1Max) {
+
+        if (latitudes.length != longitudes.length || latitudes.length != (long) d0Max * d1Max) {
+            throw new IllegalArgumentException(String.format(
+                    "Expected %d latitudes and longitudes for a %dx%d grid, was %d and %d.",
+                    (long) d0Max * d1Max, d0Max, d1Max, latitudes.length, longitudes.length
+            ));
+        }
+
+        int count = 0;
+        for (int i = 0; i < latitudes.length; i++) {
+            if (Double.isFinite(latitudes[i]) && Double.isFinite(longitudes[i])) {
+                count++;
+            }
+        }
+
+        float[][] points = new float[3][count];
+        int[] offsets = new int[count];
+
+        for (int i = 0, p = 0; i < latitudes.length; i++) {
+            if (Double.isFinite(latitudes[i]) && Double.isFinite(longitudes[i])) {
+                double phi = Math.toRadians(latitudes[i]);
+                double lambda = Math.toRadians(longitudes[i]);
+                points[0][p] = (float) (Math.cos(phi) * Math.cos(lambda));
+                points[1][p] = (float) (Math.cos(phi) * Math.sin(lambda));
+                points[2][p] = (float) Math.sin(phi);
+                offsets[p++] = i;
+            }
+        }
+
+        return new Builder(points, offsets).build(d0Max, d1Max);
+    }
+
+    public int d0Max() {
+        return d0Max;
+    }
+
+    public int d1Max() {
+        return d1Max;
+    }
+
+    /**
+     * The row-major offset ({@code i0 * d1Max + i1}) of the cell nearest to the given position, or -1 if the index is empty.
+     *
+     * @param latitude  the latitude of the position in degrees, must be finite
+     * @param longitude the longitude of the position in degrees, must be finite
+     */
+    public int nearest(double latitude, double longitude) {
+
+        if (!Double.isFinite(latitude) || !Double.isFinite(longitude)) {
+            throw new IllegalArgumentException(String.format("Latitude and longitude must be finite, was: %s, %s", latitude, longitude));
+        }
+
+        if (offsets.length == 0) {
+            return -1;
+        }
+
+        double phi = Math.toRadians(latitude);
+        double lambda = Math.toRadians(longitude);
+
+        Search search = new Search(Math.cos(phi) * Math.cos(lambda), Math.cos(phi) * Math.sin(lambda), Math.sin(phi));
+        search(search, 0, offsets.length);
+
+        return offsets[search.best];
+    }
+
+    /**
+     * The indices of the cell nearest to the given position, or null if the index is empty.
+     *
+     * @param latitude  the latitude of the position in degrees, must be finite
+     * @param longitude the longitude of the position in degrees, must be finite
+     */
+    public Cell nearestCell(double latitude, double longitude) {
+        int offset = nearest(latitude, longitude);
+        return offset < 0 ? null : new Cell(offset / d1Max, offset % d1Max);
+    }
+
+    private void search(Search search, int lo, int hi) {
+
+        if (lo >= hi) {
+            return;
+        }
+
+        int mid = (lo + hi) >>> 1;
+
+        double dx = search.x - xs[mid];
+        double dy = search.y - ys[mid];
+        double dz = search.z - zs[mid];
+
+        double distance = dx * dx + dy * dy + dz * dz;
+        if (distance < search.distance) {
+            search.distance = distance;
+            search.best = mid;
+        }
+
+        double delta = switch (axes[mid]) {
+            case 0 -> dx;
+            case 1 -> dy;
+            default -> dz;
+        };
+
+        if (delta < 0) {
+            search(search, lo, mid);
+            if (delta * delta < search.distance) {
+                search(search, mid + 1, hi);
+            }
+        } else {
+            search(search, mid + 1, hi);
+            if (delta * delta < search.distance) {
+                search(search, lo, mid);
+            }
+        }
+    }
+
+    private static Variable findGridVariable(NetcdfFile file, String name) {
+        Variable variable = file.findVariable(requireNonNull(name));
+        if (variable == null) {
+            throw new IllegalArgumentException("Missing grid variable: " + name);
+        }
+        if (variable.getRank() != 2) {
+            throw new IllegalArgumentException(String.format("Grid variable %s must be 2D, was %dD.", name, variable.getRank()));
+        }
+        return variable;
+    }
+
+    private static double[] doubles(ucar.ma2.Array array) {
+        return (double[]) array.get1DJavaArray(DataType.DOUBLE);
+    }
+
+    /**
+     * Fingerprint of the grid, covering its shape and every one of its latitudes and longitudes.
+     */
+    private static HashCode fingerprint(double[] latitudes, double[] longitudes, int[] shape) {
+
+        Hasher hasher = Hashing.murmur3_128().newHasher()
+                .putInt(shape[0])
+                .putInt(shape[1]);
+
+        for (double[] values : new double[][]{latitudes, longitudes}) {
+            for (double value : values) {
+                hasher.putDouble(value);
+            }
+        }
+
+        return hasher.hash();
+    }
+
+    /**
+     * Indices of a cell in the grid.
+     */
+    public record Cell(int i0, int i1) {
+    }
+
+    /**
+     * Mutable state of a single nearest-neighbour search.
+     */
+    private static final class Search {
+
+        private final double x;
+
+        private final double y;
+
+        private final double z;
+
+        private double distance = Double.POSITIVE_INFINITY;
+
+        private int best = -1;
+
+        private Search(double x, double y, double z) {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+        }
+    }
+
+    /**
+     * Builds the implicit KD-tree, the node for range {@code [lo, hi)} sits at its midpoint and is split along the axis with
+     * the widest spread of the points in the range.
+     */
+    private static final class Builder {
+
+        private final float[][] points;
+
+        private final int[] offsets;
+
+        private final int[] order;
+
+        private final byte[] axes;
+
+        private Builder(float[][] points, int[] offsets) {
+            this.points = points;
+            this.order = new int[offsets.length];
+            this.axes = new byte[offsets.length];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            this.offsets = offsets;
+        }
+
+        GridIndex build(int d0Max, int d1Max) {
+
+            split(0, order.length);
+
+            float[] xs = new float[order.length];
+            float[] ys = new float[order.length];
+            float[] zs = new float[order.length];
+            int[] sorted = new int[order.length];
+
+            for (int i = 0; i < order.length; i++) {
+                xs[i] = points[0][order[i]];
+                ys[i] = points[1][order[i]];
+                zs[i] = points[2][order[i]];
+                sorted[i] = offsets[order[i]];
+            }
+
+            return new GridIndex(d0Max, d1Max, xs, ys, zs, sorted, axes);
+        }
+
+        private void split(int lo, int hi) {
+            while (hi - lo > 1) {
+                int mid = (lo + hi) >>> 1;
+                int axis = widestAxis(lo, hi);
+                select(points[axis], lo, hi - 1, mid);
+                axes[mid] = (byte) axis;
+                split(lo, mid);
+                lo = mid + 1;
+            }
+        }
+
+        private int widestAxis(int lo, int hi) {
+            int widest = 0;
+            float widestSpread = -1;
+            for (int axis = 0; axis < 3; axis++) {
+                float min = Float.POSITIVE_INFINITY;
+                float max = Float.NEGATIVE_INFINITY;
+                for (int i = lo; i < hi; i++) {
+                    float value = points[axis][order[i]];
+                    min = Math.min(min, value);
+                    max = Math.max(max, value);
+                }
+                if (max - min > widestSpread) {
+                    widestSpread = max - min;
+                    widest = axis;
+                }
+            }
+            return widest;
+        }
+
+        /**
+         * Quickselect, partially orders {@code order[left..right]} so the k-th smallest value along the axis is at k.
+         */
+        private void select(float[] values, int left, int right, int k) {
+            while (right > left) {
+                float pivot = values[order[(left + right) >>> 1]];
+                int i = left;
+                int j = right;
+                while (i <= j) {
+                    while (values[order[i]] < pivot) {
+                        i++;
+                    }
+                    while (values[order[j]] > pivot) {
+                        j--;
+                    }
+                    if (i <= j) {
+                        int swap = order[i];
+                        order[i++] = order[j];
+                        order[j--] = swap;
+                    }
+                }
+                if (k <= j) {
+                    right = j;
+                } else if (k >= i) {
+                    left = i;
+                } else {
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -2,10 +2,16 @@ package io.github.stellarsunset.netcdf;
 
 import ucar.nc2.NetcdfFile;
 
+import com.google.common.collect.Iterators;
+
 import java.io.IOException;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -23,7 +29,43 @@ public sealed interface Hypercube<T> extends AutoCloseable {
      * @param binding the binding to use to generate objects from the underlying data
      */
     static <T> Hypercube<T> schemaBound(NetcdfFile file, SchemaBinding<T> binding) {
-        return SchemaBoundHyperCubes.make(ValidatedBinding.validate(file, binding));
+        return schemaBound(file, binding, ReadOptions.defaults());
+    }
+
+    /**
+     * Creates a new {@link Hypercube} backed by data in the provided {@link NetcdfFile} and generating objects based on
+     * the field bindings provided by the {@link SchemaBinding}, reading the data as configured by the {@link ReadOptions}.
+     *
+     * @param file    the netcdf file to read values from
+     * @param binding the binding to use to generate objects from the underlying data
+     * @param options options controlling how variable data is read from the file, e.g. in streaming slabs
+     */
+    static <T> Hypercube<T> schemaBound(NetcdfFile file, SchemaBinding<T> binding, ReadOptions options) {
+        return SchemaBoundHyperCubes.make(ValidatedBinding.validate(file, binding, options), options);
+    }
+
+    /**
+     * Creates a new {@link Hypercube} backed by data in the provided {@link NetcdfFile} constructing immutable records
+     * directly from the variable data as described by the {@link RecordBinding}.
+     *
+     * @param file    the netcdf file to read values from
+     * @param binding the binding of variables in the file to the components of the record
+     */
+    static <R> Hypercube<R> recordBound(NetcdfFile file, RecordBinding<R> binding) {
+        return recordBound(file, binding, ReadOptions.defaults());
+    }
+
+    /**
+     * Creates a new {@link Hypercube} backed by data in the provided {@link NetcdfFile} constructing immutable records
+     * directly from the variable data as described by the {@link RecordBinding}, reading the data as configured by the
+     * {@link ReadOptions}.
+     *
+     * @param file    the netcdf file to read values from
+     * @param binding the binding of variables in the file to the components of the record
+     * @param options options controlling how variable data is read from the file, e.g. in streaming slabs
+     */
+    static <R> Hypercube<R> recordBound(NetcdfFile file, RecordBinding<R> binding, ReadOptions options) {
+        return RecordBoundHyperCubes.make(file, binding, options);
     }
 
     /**
@@ -44,6 +86,29 @@ public sealed interface Hypercube<T> extends AutoCloseable {
      */
     <U> Hypercube<U> transform(Function<T, U> transformer);
 
+    /**
+     * Whether the cube reads its data from the file a slab of its outermost dimension at a time as it's traversed (keeping
+     * only the current slab in memory) rather than holding it all in memory, see {@link ReadOptions#streaming()}.
+     *
+     * <p>Random access to streaming cubes is only efficient when it visits indices of the outermost dimension in order.
+     */
+    default boolean streaming() {
+        return false;
+    }
+
+    /**
+     * Whether the records of the cube can be read in a different order than they're returned without it being observable,
+     * i.e. reading a record has no side effects and returns a new instance rather than one shared between reads.
+     *
+     * <p>This holds for cubes of {@link RecordBinding}s, whose factories create a new record per cell. It doesn't in
+     * general for cubes of {@link SchemaBinding}s (whose initializer may return a shared instance and whose finalizer may
+     * write the record somewhere) or cubes transformed by arbitrary functions, so those read records strictly in the order
+     * they're returned.
+     */
+    default boolean reorderable() {
+        return false;
+    }
+
     /**
      * Stream all records out of the associated {@link Hypercube} traversing each dimension in order.
      *
@@ -51,7 +116,53 @@ public sealed interface Hypercube<T> extends AutoCloseable {
      * this if they know the shape of the iterator.
      */
     default Stream<T> stream() {
-        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator(), Spliterator.SORTED), false);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED), false);
+    }
+
+    /**
+     * Publish all records out of the associated {@link Hypercube} to reactive subscribers, traversing each dimension in
+     * canonical order.
+     *
+     * <p>Each subscriber gets its own traversal of the cube, records are only read and bound as the subscriber requests them
+     * and are emitted on the thread calling {@link Flow.Subscription#request(long)}. Pair this with a streaming cube (see
+     * {@link ReadOptions.Builder#slabSize(int)}) to keep memory bounded by subscriber demand rather than grid size.
+     */
+    default Flow.Publisher<T> publisher() {
+        return new HypercubePublisher<>(this::iterator);
+    }
+
+    /**
+     * Publish all records out of the associated {@link Hypercube} in batches of (at most) the provided size, each unit of
+     * demand requested by a subscriber is one batch.
+     *
+     * <p>See {@link #publisher()} for details.
+     *
+     * @param batchSize the maximum number of records in each published batch, the final batch may be smaller
+     */
+    default Flow.Publisher<List<T>> publisher(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive, was: " + batchSize);
+        }
+        return new HypercubePublisher<>(() -> Iterators.partition(iterator(), batchSize));
+    }
+
+    /**
+     * Drain all records out of the associated {@link Hypercube} into the provided {@link RecordSink} in batches of the given
+     * size, traversing each dimension in canonical order.
+     *
+     * <p>The sink is flushed at the end of each slab of the outermost dimension (for cubes that know their shape) and once
+     * all records have been handed over, it is not closed. See {@link RecordSink} for the full contract.
+     *
+     * @param sink      the sink to hand batches of records to
+     * @param batchSize the maximum number of records in each batch
+     */
+    default void drainTo(RecordSink<T> sink, int batchSize) throws IOException {
+        RecordBatcher<T> batcher = new RecordBatcher<>(sink, batchSize);
+        Iterator<T> iterator = iterator();
+        while (iterator.hasNext()) {
+            batcher.add(iterator.next());
+        }
+        batcher.endSlab();
     }
 
     non-sealed interface D1<T> extends Hypercube<T> {
@@ -66,7 +177,35 @@ public sealed interface Hypercube<T> extends AutoCloseable {
 
         @Override
         default Stream<T> stream() {
-            return StreamSupport.stream(Spliterators.spliterator(iterator(), max(), Spliterator.SORTED), false);
+            return StreamSupport.stream(new Iter<>(this), false);
+        }
+
+        /**
+         * Read the records at each of the given points, returned in the order requested.
+         *
+         * <p>Points are read in storage order rather than request order, so for streaming cubes only the slabs containing
+         * a requested point are read (each at most once) and I/O scales with the number of distinct slabs rather than the
+         * number of points.
+         *
+         * @param indices the index of each point
+         */
+        default List<T> readAll(int[] indices) {
+            long[] offsets = new long[indices.length];
+            for (int q = 0; q < indices.length; q++) {
+                offsets[q] = indices[q];
+            }
+            return PointQueries.readAll(offsets, q -> read(indices[q]));
+        }
+
+        /**
+         * A view of the indices {@code [from, to)} of this cube, re-indexed from zero, sharing this cube's data.
+         *
+         * @param from the first index of the view, inclusive
+         * @param to   the last index of the view, exclusive
+         */
+        default D1<T> range(int from, int to) {
+            SubCubes.checkRange(from, to, max());
+            return new SubCubes.RangeD1<>(this, from, to);
         }
 
         @Override
@@ -74,26 +213,97 @@ public sealed interface Hypercube<T> extends AutoCloseable {
             return new Transformed<>(this, transformer);
         }
 
-        final class Iter<T> implements Iterator<T> {
+        /**
+         * Iterates the cube in canonical order, also serving as the exactly-sized {@link Spliterator} behind {@link #stream()}.
+         *
+         * <p>The shape of the cube is read once up front, and {@link #forEachRemaining(Consumer)} traverses the remaining
+         * records in a single loop rather than advancing one record at a time.
+         */
+        final class Iter<T> implements Iterator<T>, Spliterator<T> {
 
             private final D1<T> cube;
+            private final int max;
+
             private int index = 0;
+            private long remaining;
+
+            private JfrEvents.IterationComplete event = new JfrEvents.IterationComplete();
 
             private Iter(D1<T> cube) {
                 this.cube = cube;
+                this.max = cube.max();
+                this.remaining = max;
+                this.event.begin();
             }
 
             @Override
             public boolean hasNext() {
-                return index < cube.max();
+                boolean hasNext = remaining > 0;
+                if (!hasNext) {
+                    complete();
+                }
+                return hasNext;
             }
 
             @Override
             public T next() {
                 T t = cube.read(index);
-                index++;
+                advance();
                 return t;
             }
+
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                if (remaining == 0) {
+                    complete();
+                    return false;
+                }
+                action.accept(cube.read(index));
+                advance();
+                return true;
+            }
+
+            @Override
+            public void forEachRemaining(Consumer<? super T> action) {
+                if (remaining > 0) {
+                    int from = index;
+
+                    index = max;
+                    remaining = 0;
+
+                    for (int i = from; i < max; i++) {
+                        action.accept(cube.read(i));
+                    }
+                }
+                complete();
+            }
+
+            @Override
+            public Spliterator<T> trySplit() {
+                return null;
+            }
+
+            @Override
+            public long estimateSize() {
+                return remaining;
+            }
+
+            @Override
+            public int characteristics() {
+                return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+            }
+
+            private void advance() {
+                remaining--;
+                index++;
+            }
+
+            private void complete() {
+                if (event != null) {
+                    JfrEvents.commit(event, max);
+                    event = null;
+                }
+            }
         }
 
         record Transformed<T, U>(D1<T> delegate, Function<T, U> transformer) implements D1<U> {
@@ -107,6 +317,11 @@ public sealed interface Hypercube<T> extends AutoCloseable {
                 return delegate.max();
             }
 
+            @Override
+            public boolean streaming() {
+                return delegate.streaming();
+            }
+
             @Override
             public void close() throws Exception {
                 delegate.close();
@@ -128,9 +343,94 @@ public sealed interface Hypercube<T> extends AutoCloseable {
 
         @Override
         default Stream<T> stream() {
-            return StreamSupport.stream(
-                    Spliterators.spliterator(iterator(), (long) d0Max() * d1Max(), Spliterator.SORTED), false
-            );
+            return StreamSupport.stream(new Iter<>(this), false);
+        }
+
+        /**
+         * Stream the records of the cube traversing its dimensions in the given order, outermost first, e.g. {@code {1, 0}}
+         * to visit every index of the first dimension for each index of the second (column-major).
+         *
+         * <p>Records are read in the given order, so initializers and finalizers run in it too. Only {@link #reorderable()}
+         * cubes read orders not ending with the innermost dimension in bounded tiles so reads along it stay sequential,
+         * reading the records of each tile in storage order before returning them in the given one.
+         *
+         * <p>{@link #streaming()} cubes only support orders starting with the outermost dimension (axis 0), so each slab is
+         * read from the file once, other orders would re-read the file many times over. Note cubes created with a
+         * {@link MemoryBudget} may stream without it being requested explicitly.
+         *
+         * @param order a permutation of the axes {@code 0, 1}
+         * @throws IllegalArgumentException if the order isn't a permutation of the axes, or doesn't start with axis 0 and
+         *                                  the cube is streaming
+         */
+        default Stream<T> stream(int[] order) {
+            return Permutations.stream(new int[]{d0Max(), d1Max()}, order, streaming(), reorderable(), index -> read(index[0], index[1]));
+        }
+
+        @Override
+        default void drainTo(RecordSink<T> sink, int batchSize) throws IOException {
+            RecordBatcher<T> batcher = new RecordBatcher<>(sink, batchSize);
+
+            int d0Max = d0Max();
+            int d1Max = d1Max();
+
+            for (int i0 = 0; i0 < d0Max; i0++) {
+                for (int i1 = 0; i1 < d1Max; i1++) {
+                    batcher.add(read(i0, i1));
+                }
+                batcher.endSlab();
+            }
+
+            // an empty cube has no slabs, but sinks should still see the final flush
+            if (d0Max == 0) {
+                batcher.endSlab();
+            }
+        }
+
+        /**
+         * Read the records at each of the given points, returned in the order requested.
+         *
+         * <p>Points are read in storage order rather than request order, so for streaming cubes only the slabs containing
+         * a requested point are read (each at most once) and I/O scales with the number of distinct slabs rather than the
+         * number of points.
+         *
+         * @param i0 the index of each point along the first dimension
+         * @param i1 the index of each point along the second dimension
+         */
+        default List<T> readAll(int[] i0, int[] i1) {
+            PointQueries.checkLengths(i0, i1);
+            long d1Max = d1Max();
+            long[] offsets = new long[i0.length];
+            for (int q = 0; q < i0.length; q++) {
+                offsets[q] = i0[q] * d1Max + i1[q];
+            }
+            return PointQueries.readAll(offsets, q -> read(i0[q], i1[q]));
+        }
+
+        /**
+         * A 1D view of this cube with the index along the given axis fixed, e.g. a single row of a grid, sharing this cube's
+         * data.
+         *
+         * @param axis  the axis to fix, 0 or 1
+         * @param index the index along the axis
+         */
+        default D1<T> slice(int axis, int index) {
+            SubCubes.checkAxis(axis, 2);
+            Objects.checkIndex(index, axis == 0 ? d0Max() : d1Max());
+            return new SubCubes.SliceD2<>(this, axis, index);
+        }
+
+        /**
+         * A view of this cube with the given axis restricted to the indices {@code [from, to)}, re-indexed from zero,
+         * sharing this cube's data.
+         *
+         * @param axis the axis to restrict, 0 or 1
+         * @param from the first index of the view along the axis, inclusive
+         * @param to   the last index of the view along the axis, exclusive
+         */
+        default D2<T> range(int axis, int from, int to) {
+            SubCubes.checkAxis(axis, 2);
+            SubCubes.checkRange(from, to, axis == 0 ? d0Max() : d1Max());
+            return new SubCubes.RangeD2<>(this, axis, from, to);
         }
 
         @Override
@@ -138,30 +438,112 @@ public sealed interface Hypercube<T> extends AutoCloseable {
             return new Transformed<>(this, transformer);
         }
 
-        final class Iter<T> implements Iterator<T> {
+        /**
+         * Iterates the cube in canonical order, also serving as the exactly-sized {@link Spliterator} behind {@link #stream()}.
+         *
+         * <p>The shape of the cube is read once up front, and {@link #forEachRemaining(Consumer)} traverses the remaining
+         * records in nested loops rather than advancing one record at a time.
+         */
+        final class Iter<T> implements Iterator<T>, Spliterator<T> {
 
             private final D2<T> cube;
+            private final int d0Max;
+            private final int d1Max;
+
             private int i0 = 0;
             private int i1 = 0;
+            private long remaining;
+
+            private JfrEvents.IterationComplete event = new JfrEvents.IterationComplete();
 
             private Iter(D2<T> cube) {
                 this.cube = cube;
+                this.d0Max = cube.d0Max();
+                this.d1Max = cube.d1Max();
+                this.remaining = (long) d0Max * d1Max;
+                this.event.begin();
             }
 
             @Override
             public boolean hasNext() {
-                return i0 < cube.d0Max() && i1 < cube.d1Max();
+                boolean hasNext = remaining > 0;
+                if (!hasNext) {
+                    complete();
+                }
+                return hasNext;
             }
 
             @Override
             public T next() {
                 T t = cube.read(i0, i1);
-                i1++;
-                if (i1 >= cube.d1Max()) {
-                    i0++;
+                advance();
+                return t;
+            }
+
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                if (remaining == 0) {
+                    complete();
+                    return false;
+                }
+                action.accept(cube.read(i0, i1));
+                advance();
+                return true;
+            }
+
+            @Override
+            public void forEachRemaining(Consumer<? super T> action) {
+                if (remaining > 0) {
+                    D2<T> cube = this.cube;
+                    int d0Max = this.d0Max;
+                    int d1Max = this.d1Max;
+
+                    int j1 = i1;
+                    int from = i0;
+
+                    // mark everything consumed up front, the action may throw part way through
+                    i0 = d0Max;
                     i1 = 0;
+                    remaining = 0;
+
+                    for (int j0 = from; j0 < d0Max; j0++) {
+                        for (; j1 < d1Max; j1++) {
+                            action.accept(cube.read(j0, j1));
+                        }
+                        j1 = 0;
+                    }
+                }
+                complete();
+            }
+
+            @Override
+            public Spliterator<T> trySplit() {
+                return null;
+            }
+
+            @Override
+            public long estimateSize() {
+                return remaining;
+            }
+
+            @Override
+            public int characteristics() {
+                return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+            }
+
+            private void advance() {
+                remaining--;
+                if (++i1 == d1Max) {
+                    i1 = 0;
+                    i0++;
+                }
+            }
+
+            private void complete() {
+                if (event != null) {
+                    JfrEvents.commit(event, d0Max, d1Max);
+                    event = null;
                 }
-                return t;
             }
         }
 
@@ -181,6 +563,11 @@ public sealed interface Hypercube<T> extends AutoCloseable {
                 return delegate.d1Max();
             }
 
+            @Override
+            public boolean streaming() {
+                return delegate.streaming();
+            }
+
             @Override
             public void close() throws Exception {
                 delegate.close();
@@ -204,9 +591,107 @@ public sealed interface Hypercube<T> extends AutoCloseable {
 
         @Override
         default Stream<T> stream() {
-            return StreamSupport.stream(
-                    Spliterators.spliterator(iterator(), (long) d0Max() * d1Max() * d2Max(), Spliterator.SORTED), false
-            );
+            return StreamSupport.stream(new Iter<>(this), false);
+        }
+
+        /**
+         * Stream the records of the cube traversing its dimensions in the given order, outermost first, e.g. {@code {2, 0, 1}}
+         * to visit every grid point of a level before moving on to the next level.
+         *
+         * <p>Records are read in the given order, so initializers and finalizers run in it too. Only {@link #reorderable()}
+         * cubes read orders not ending with the innermost dimension in bounded tiles so reads along it stay sequential,
+         * reading the records of each tile in storage order before returning them in the given one.
+         *
+         * <p>{@link #streaming()} cubes only support orders starting with the outermost dimension (axis 0), so each slab is
+         * read from the file once, other orders would re-read the file many times over. Note cubes created with a
+         * {@link MemoryBudget} may stream without it being requested explicitly.
+         *
+         * @param order a permutation of the axes {@code 0, 1, 2}
+         * @throws IllegalArgumentException if the order isn't a permutation of the axes, or doesn't start with axis 0 and
+         *                                  the cube is streaming
+         */
+        default Stream<T> stream(int[] order) {
+            return Permutations.stream(new int[]{d0Max(), d1Max(), d2Max()}, order, streaming(), reorderable(), index -> read(index[0], index[1], index[2]));
+        }
+
+        @Override
+        default void drainTo(RecordSink<T> sink, int batchSize) throws IOException {
+            RecordBatcher<T> batcher = new RecordBatcher<>(sink, batchSize);
+
+            int d0Max = d0Max();
+            int d1Max = d1Max();
+            int d2Max = d2Max();
+
+            for (int i0 = 0; i0 < d0Max; i0++) {
+                for (int i1 = 0; i1 < d1Max; i1++) {
+                    for (int i2 = 0; i2 < d2Max; i2++) {
+                        batcher.add(read(i0, i1, i2));
+                    }
+                }
+                batcher.endSlab();
+            }
+
+            // an empty cube has no slabs, but sinks should still see the final flush
+            if (d0Max == 0) {
+                batcher.endSlab();
+            }
+        }
+
+        /**
+         * Read the records at each of the given points, returned in the order requested.
+         *
+         * <p>Points are read in storage order rather than request order, so for streaming cubes only the slabs containing
+         * a requested point are read (each at most once) and I/O scales with the number of distinct slabs rather than the
+         * number of points.
+         *
+         * @param i0 the index of each point along the first dimension
+         * @param i1 the index of each point along the second dimension
+         * @param i2 the index of each point along the third dimension
+         */
+        default List<T> readAll(int[] i0, int[] i1, int[] i2) {
+            PointQueries.checkLengths(i0, i1, i2);
+            long d1Max = d1Max();
+            long d2Max = d2Max();
+            long[] offsets = new long[i0.length];
+            for (int q = 0; q < i0.length; q++) {
+                offsets[q] = (i0[q] * d1Max + i1[q]) * d2Max + i2[q];
+            }
+            return PointQueries.readAll(offsets, q -> read(i0[q], i1[q], i2[q]));
+        }
+
+        /**
+         * A 2D view of this cube with the index along the given axis fixed, e.g. a single level, sharing this cube's data.
+         * The remaining axes keep their relative order.
+         *
+         * @param axis  the axis to fix, 0 to 2
+         * @param index the index along the axis
+         */
+        default D2<T> slice(int axis, int index) {
+            SubCubes.checkAxis(axis, 3);
+            Objects.checkIndex(index, switch (axis) {
+                case 0 -> d0Max();
+                case 1 -> d1Max();
+                default -> d2Max();
+            });
+            return new SubCubes.SliceD3<>(this, axis, index);
+        }
+
+        /**
+         * A view of this cube with the given axis restricted to the indices {@code [from, to)}, re-indexed from zero,
+         * sharing this cube's data.
+         *
+         * @param axis the axis to restrict, 0 to 2
+         * @param from the first index of the view along the axis, inclusive
+         * @param to   the last index of the view along the axis, exclusive
+         */
+        default D3<T> range(int axis, int from, int to) {
+            SubCubes.checkAxis(axis, 3);
+            SubCubes.checkRange(from, to, switch (axis) {
+                case 0 -> d0Max();
+                case 1 -> d1Max();
+                default -> d2Max();
+            });
+            return new SubCubes.RangeD3<>(this, axis, from, to);
         }
 
         @Override
@@ -214,35 +699,124 @@ public sealed interface Hypercube<T> extends AutoCloseable {
             return new Transformed<>(this, transformer);
         }
 
-        final class Iter<T> implements Iterator<T> {
+        /**
+         * Iterates the cube in canonical order, also serving as the exactly-sized {@link Spliterator} behind {@link #stream()}.
+         *
+         * <p>The shape of the cube is read once up front, and {@link #forEachRemaining(Consumer)} traverses the remaining
+         * records in nested loops rather than advancing one record at a time.
+         */
+        final class Iter<T> implements Iterator<T>, Spliterator<T> {
 
             private final D3<T> cube;
+            private final int d0Max;
+            private final int d1Max;
+            private final int d2Max;
+
             private int i0 = 0;
             private int i1 = 0;
             private int i2 = 0;
+            private long remaining;
+
+            private JfrEvents.IterationComplete event = new JfrEvents.IterationComplete();
 
             private Iter(D3<T> cube) {
                 this.cube = cube;
+                this.d0Max = cube.d0Max();
+                this.d1Max = cube.d1Max();
+                this.d2Max = cube.d2Max();
+                this.remaining = (long) d0Max * d1Max * d2Max;
+                this.event.begin();
             }
 
             @Override
             public boolean hasNext() {
-                return i0 < cube.d0Max() && i1 < cube.d1Max() && i2 < cube.d2Max();
+                boolean hasNext = remaining > 0;
+                if (!hasNext) {
+                    complete();
+                }
+                return hasNext;
             }
 
             @Override
             public T next() {
                 T t = cube.read(i0, i1, i2);
-                i2++;
-                if (i2 >= cube.d2Max()) {
-                    i1++;
-                    i2 = 0;
+                advance();
+                return t;
+            }
+
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                if (remaining == 0) {
+                    complete();
+                    return false;
                 }
-                if (i1 >= cube.d1Max()) {
-                    i0++;
+                action.accept(cube.read(i0, i1, i2));
+                advance();
+                return true;
+            }
+
+            @Override
+            public void forEachRemaining(Consumer<? super T> action) {
+                if (remaining > 0) {
+                    D3<T> cube = this.cube;
+                    int d0Max = this.d0Max;
+                    int d1Max = this.d1Max;
+                    int d2Max = this.d2Max;
+
+                    int j1 = i1;
+                    int j2 = i2;
+                    int from = i0;
+
+                    // mark everything consumed up front, the action may throw part way through
+                    i0 = d0Max;
                     i1 = 0;
+                    i2 = 0;
+                    remaining = 0;
+
+                    for (int j0 = from; j0 < d0Max; j0++) {
+                        for (; j1 < d1Max; j1++) {
+                            for (; j2 < d2Max; j2++) {
+                                action.accept(cube.read(j0, j1, j2));
+                            }
+                            j2 = 0;
+                        }
+                        j1 = 0;
+                    }
+                }
+                complete();
+            }
+
+            @Override
+            public Spliterator<T> trySplit() {
+                return null;
+            }
+
+            @Override
+            public long estimateSize() {
+                return remaining;
+            }
+
+            @Override
+            public int characteristics() {
+                return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+            }
+
+            private void advance() {
+                remaining--;
+                if (++i2 == d2Max) {
+                    i2 = 0;
+                    if (++i1 == d1Max) {
+                        i1 = 0;
+                        i0++;
+                    }
+                }
+            }
+
+            private void complete() {
+                if (event != null) {
+                    JfrEvents.commit(event, d0Max, d1Max, d2Max);
+                    event = null;
                 }
-                return t;
             }
         }
 
@@ -267,6 +841,11 @@ public sealed interface Hypercube<T> extends AutoCloseable {
                 return delegate.d2Max();
             }
 
+            @Override
+            public boolean streaming() {
+                return delegate.streaming();
+            }
+
             @Override
             public void close() throws Exception {
                 delegate.close();
@@ -292,9 +871,114 @@ public sealed interface Hypercube<T> extends AutoCloseable {
 
         @Override
         default Stream<T> stream() {
-            return StreamSupport.stream(
-                    Spliterators.spliterator(iterator(), (long) d0Max() * d1Max() * d2Max() * d3Max(), Spliterator.SORTED), false
-            );
+            return StreamSupport.stream(new Iter<>(this), false);
+        }
+
+        /**
+         * Stream the records of the cube traversing its dimensions in the given order, outermost first, e.g. {@code {1, 0, 2, 3}}
+         * to visit every time for a level before moving on to the next level.
+         *
+         * <p>Records are read in the given order, so initializers and finalizers run in it too. Only {@link #reorderable()}
+         * cubes read orders not ending with the innermost dimension in bounded tiles so reads along it stay sequential,
+         * reading the records of each tile in storage order before returning them in the given one.
+         *
+         * <p>{@link #streaming()} cubes only support orders starting with the outermost dimension (axis 0), so each slab is
+         * read from the file once, other orders would re-read the file many times over. Note cubes created with a
+         * {@link MemoryBudget} may stream without it being requested explicitly.
+         *
+         * @param order a permutation of the axes {@code 0, 1, 2, 3}
+         * @throws IllegalArgumentException if the order isn't a permutation of the axes, or doesn't start with axis 0 and
+         *                                  the cube is streaming
+         */
+        default Stream<T> stream(int[] order) {
+            return Permutations.stream(new int[]{d0Max(), d1Max(), d2Max(), d3Max()}, order, streaming(), reorderable(), index -> read(index[0], index[1], index[2], index[3]));
+        }
+
+        @Override
+        default void drainTo(RecordSink<T> sink, int batchSize) throws IOException {
+            RecordBatcher<T> batcher = new RecordBatcher<>(sink, batchSize);
+
+            int d0Max = d0Max();
+            int d1Max = d1Max();
+            int d2Max = d2Max();
+            int d3Max = d3Max();
+
+            for (int i0 = 0; i0 < d0Max; i0++) {
+                for (int i1 = 0; i1 < d1Max; i1++) {
+                    for (int i2 = 0; i2 < d2Max; i2++) {
+                        for (int i3 = 0; i3 < d3Max; i3++) {
+                            batcher.add(read(i0, i1, i2, i3));
+                        }
+                    }
+                }
+                batcher.endSlab();
+            }
+
+            // an empty cube has no slabs, but sinks should still see the final flush
+            if (d0Max == 0) {
+                batcher.endSlab();
+            }
+        }
+
+        /**
+         * Read the records at each of the given points, returned in the order requested.
+         *
+         * <p>Points are read in storage order rather than request order, so for streaming cubes only the slabs containing
+         * a requested point are read (each at most once) and I/O scales with the number of distinct slabs rather than the
+         * number of points.
+         *
+         * @param i0 the index of each point along the first dimension
+         * @param i1 the index of each point along the second dimension
+         * @param i2 the index of each point along the third dimension
+         * @param i3 the index of each point along the fourth dimension
+         */
+        default List<T> readAll(int[] i0, int[] i1, int[] i2, int[] i3) {
+            PointQueries.checkLengths(i0, i1, i2, i3);
+            long d1Max = d1Max();
+            long d2Max = d2Max();
+            long d3Max = d3Max();
+            long[] offsets = new long[i0.length];
+            for (int q = 0; q < i0.length; q++) {
+                offsets[q] = ((i0[q] * d1Max + i1[q]) * d2Max + i2[q]) * d3Max + i3[q];
+            }
+            return PointQueries.readAll(offsets, q -> read(i0[q], i1[q], i2[q], i3[q]));
+        }
+
+        /**
+         * A 3D view of this cube with the index along the given axis fixed, e.g. a single time step, sharing this cube's
+         * data. The remaining axes keep their relative order, chain calls to fix several, e.g. {@code slice(0, t).slice(0, z)}.
+         *
+         * @param axis  the axis to fix, 0 to 3
+         * @param index the index along the axis
+         */
+        default D3<T> slice(int axis, int index) {
+            SubCubes.checkAxis(axis, 4);
+            Objects.checkIndex(index, switch (axis) {
+                case 0 -> d0Max();
+                case 1 -> d1Max();
+                case 2 -> d2Max();
+                default -> d3Max();
+            });
+            return new SubCubes.SliceD4<>(this, axis, index);
+        }
+
+        /**
+         * A view of this cube with the given axis restricted to the indices {@code [from, to)}, re-indexed from zero,
+         * sharing this cube's data.
+         *
+         * @param axis the axis to restrict, 0 to 3
+         * @param from the first index of the view along the axis, inclusive
+         * @param to   the last index of the view along the axis, exclusive
+         */
+        default D4<T> range(int axis, int from, int to) {
+            SubCubes.checkAxis(axis, 4);
+            SubCubes.checkRange(from, to, switch (axis) {
+                case 0 -> d0Max();
+                case 1 -> d1Max();
+                case 2 -> d2Max();
+                default -> d3Max();
+            });
+            return new SubCubes.RangeD4<>(this, axis, from, to);
         }
 
         @Override
@@ -302,40 +986,136 @@ public sealed interface Hypercube<T> extends AutoCloseable {
             return new Transformed<>(this, transformer);
         }
 
-        final class Iter<T> implements Iterator<T> {
+        /**
+         * Iterates the cube in canonical order, also serving as the exactly-sized {@link Spliterator} behind {@link #stream()}.
+         *
+         * <p>The shape of the cube is read once up front, and {@link #forEachRemaining(Consumer)} traverses the remaining
+         * records in nested loops rather than advancing one record at a time.
+         */
+        final class Iter<T> implements Iterator<T>, Spliterator<T> {
 
             private final D4<T> cube;
+            private final int d0Max;
+            private final int d1Max;
+            private final int d2Max;
+            private final int d3Max;
+
             private int i0 = 0;
             private int i1 = 0;
             private int i2 = 0;
             private int i3 = 0;
+            private long remaining;
+
+            private JfrEvents.IterationComplete event = new JfrEvents.IterationComplete();
 
             private Iter(D4<T> cube) {
                 this.cube = cube;
+                this.d0Max = cube.d0Max();
+                this.d1Max = cube.d1Max();
+                this.d2Max = cube.d2Max();
+                this.d3Max = cube.d3Max();
+                this.remaining = (long) d0Max * d1Max * d2Max * d3Max;
+                this.event.begin();
             }
 
             @Override
             public boolean hasNext() {
-                return i0 < cube.d0Max() && i1 < cube.d1Max() && i2 < cube.d2Max() && i3 < cube.d3Max();
+                boolean hasNext = remaining > 0;
+                if (!hasNext) {
+                    complete();
+                }
+                return hasNext;
             }
 
             @Override
             public T next() {
                 T t = cube.read(i0, i1, i2, i3);
-                i3++;
-                if (i3 >= cube.d3Max()) {
-                    i2++;
-                    i3 = 0;
+                advance();
+                return t;
+            }
+
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                if (remaining == 0) {
+                    complete();
+                    return false;
                 }
-                if (i2 >= cube.d2Max()) {
-                    i1++;
+                action.accept(cube.read(i0, i1, i2, i3));
+                advance();
+                return true;
+            }
+
+            @Override
+            public void forEachRemaining(Consumer<? super T> action) {
+                if (remaining > 0) {
+                    D4<T> cube = this.cube;
+                    int d0Max = this.d0Max;
+                    int d1Max = this.d1Max;
+                    int d2Max = this.d2Max;
+                    int d3Max = this.d3Max;
+
+                    int j1 = i1;
+                    int j2 = i2;
+                    int j3 = i3;
+                    int from = i0;
+
+                    // mark everything consumed up front, the action may throw part way through
+                    i0 = d0Max;
+                    i1 = 0;
                     i2 = 0;
+                    i3 = 0;
+                    remaining = 0;
+
+                    for (int j0 = from; j0 < d0Max; j0++) {
+                        for (; j1 < d1Max; j1++) {
+                            for (; j2 < d2Max; j2++) {
+                                for (; j3 < d3Max; j3++) {
+                                    action.accept(cube.read(j0, j1, j2, j3));
+                                }
+                                j3 = 0;
+                            }
+                            j2 = 0;
+                        }
+                        j1 = 0;
+                    }
                 }
-                if (i1 >= cube.d1Max()) {
-                    i0++;
-                    i1 = 0;
+                complete();
+            }
+
+            @Override
+            public Spliterator<T> trySplit() {
+                return null;
+            }
+
+            @Override
+            public long estimateSize() {
+                return remaining;
+            }
+
+            @Override
+            public int characteristics() {
+                return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+            }
+
+            private void advance() {
+                remaining--;
+                if (++i3 == d3Max) {
+                    i3 = 0;
+                    if (++i2 == d2Max) {
+                        i2 = 0;
+                        if (++i1 == d1Max) {
+                            i1 = 0;
+                            i0++;
+                        }
+                    }
+                }
+            }
+
+            private void complete() {
+                if (event != null) {
+                    JfrEvents.commit(event, d0Max, d1Max, d2Max, d3Max);
+                    event = null;
                 }
-                return t;
             }
         }
 
@@ -365,6 +1145,11 @@ public sealed interface Hypercube<T> extends AutoCloseable {
                 return delegate.d3Max();
             }
 
+            @Override
+            public boolean streaming() {
+                return delegate.streaming();
+            }
+
             @Override
             public void close() throws Exception {
                 delegate.close();
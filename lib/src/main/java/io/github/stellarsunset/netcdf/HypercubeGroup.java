@@ -0,0 +1,172 @@
+package io.github.stellarsunset.netcdf;
+
+import ucar.nc2.NetcdfFile;
+import ucar.nc2.Variable;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A group of {@link Hypercube}s over the same {@link NetcdfFile} built from several {@link SchemaBinding}s in a single
+ * planning step, e.g. surface, upper-air and metadata records bound from one file.
+ *
+ * <p>Each variable required by any of the bindings is read from the file exactly once and its data is shared by the
+ * {@link IndexBinding}s of every cube binding it, so the I/O and heap used scale with the number of distinct variables
+ * rather than the number of bindings.
+ *
+ * <pre>{@code
+ * HypercubeGroup group = HypercubeGroup.schemaBound(file, List.of(surface, upperAir));
+ *
+ * Hypercube<Surface> surfaceCube = group.get(surface);
+ * Hypercube<UpperAir> upperAirCube = group.get(upperAir);
+ * }</pre>
+ *
+ * <p>When streaming only the variables read in full are shared (dimension variables and coordinate variables not varying
+ * over the outermost dimension), slabs are still read separately by each cube.
+ *
+ * <p>With a {@link MemoryBudget} configured the group reserves the bytes of all its cubes at once, counting shared
+ * variables once, and releases them when every cube has been closed. Unlike a single cube the read mode isn't adapted to
+ * fit, a group too large for the budget is rejected.
+ */
+public final class HypercubeGroup {
+
+    private final Map<SchemaBinding<?>, Hypercube<?>> cubes;
+
+    private final List<String> variables;
+
+    private final Map<String, ucar.ma2.Array> data;
+
+    private HypercubeGroup(Map<SchemaBinding<?>, Hypercube<?>> cubes, Map<String, ucar.ma2.Array> data) {
+        this.cubes = cubes;
+        this.variables = List.copyOf(data.keySet());
+        this.data = data;
+    }
+
+    /**
+     * Creates a group of {@link Hypercube}s backed by data in the provided {@link NetcdfFile}, one per binding, reading
+     * every variable they share only once.
+     *
+     * @param file     the netcdf file to read values from
+     * @param bindings the bindings to create cubes for
+     */
+    public static HypercubeGroup schemaBound(NetcdfFile file, List<? extends SchemaBinding<?>> bindings) {
+        return schemaBound(file, bindings, ReadOptions.defaults());
+    }
+
+    /**
+     * Creates a group of {@link Hypercube}s backed by data in the provided {@link NetcdfFile}, one per binding, reading
+     * every variable they share only once as configured by the {@link ReadOptions}.
+     *
+     * @param file     the netcdf file to read values from
+     * @param bindings the bindings to create cubes for
+     * @param options  options controlling how variable data is read from the file, e.g. in streaming slabs
+     */
+    public static HypercubeGroup schemaBound(NetcdfFile file, List<? extends SchemaBinding<?>> bindings, ReadOptions options) {
+
+        requireNonNull(file);
+        requireNonNull(options);
+
+        List<? extends ValidatedBinding<?>> validated = bindings.stream()
+                .map(binding -> ValidatedBinding.validate(file, binding, options))
+                .toList();
+
+        Set<String> names = new LinkedHashSet<>();
+        validated.forEach(binding -> names.addAll(SchemaBoundHyperCubes.fullyReadVariables(binding, options)));
+
+        // shared variables are only counted once, slabs are held by each cube
+        MemoryBudget.Reservation reservation = options.memoryBudget()
+                .map(budget -> budget.reserve(MemoryBudget.bytes(file, names) + validated.stream()
+                        .mapToLong(binding -> MemoryBudget.Estimate.of(binding, options).bytesPerIndex() * options.slabSize())
+                        .sum()))
+                .orElse(null);
+
+        try {
+            Map<String, ucar.ma2.Array> data = new LinkedHashMap<>();
+            return new HypercubeGroup(make(file, bindings, validated, names, options, reservation, data), data);
+        } finally {
+            if (reservation != null) {
+                // every cube holds the reservation by now, the bytes are released once they've all been closed
+                reservation.close();
+            }
+        }
+    }
+
+    private static Map<SchemaBinding<?>, Hypercube<?>> make(NetcdfFile file, List<? extends SchemaBinding<?>> bindings,
+                                                            List<? extends ValidatedBinding<?>> validated, Set<String> names,
+                                                            ReadOptions options, MemoryBudget.Reservation reservation,
+                                                            Map<String, ucar.ma2.Array> shared) {
+
+        // materialized views are only consulted when variables are read in full, streaming reads go to the file
+        Function<Variable, ucar.ma2.Array> source = options.viewCache()
+                .filter(cache -> !options.streaming())
+                .map(cache -> cache.reader(file, names, options))
+                .orElseGet(() -> VariableLoader.reader(file, names, options));
+
+        Map<Variable, ucar.ma2.Array> data = new HashMap<>();
+        for (String name : names) {
+            Variable variable = requireNonNull(file.findVariable(name), "Missing required variable, check validation logic.");
+            shared.put(name, data.computeIfAbsent(variable, source));
+        }
+
+        Function<Variable, ucar.ma2.Array> reader = variable -> data.computeIfAbsent(variable, source);
+
+        Map<SchemaBinding<?>, Hypercube<?>> cubes = new IdentityHashMap<>();
+        for (int i = 0; i < bindings.size(); i++) {
+            Hypercube<?> cube = SchemaBoundHyperCubes.make(validated.get(i), options, reader);
+            cubes.put(bindings.get(i), reservation == null ? cube : MemoryBudget.bind(cube, reservation.retain()));
+        }
+
+        return cubes;
+    }
+
+    /**
+     * The cube created for the provided binding, the binding must be one of those (by identity) the group was created from.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Hypercube<T> get(SchemaBinding<T> binding) {
+        Hypercube<?> cube = cubes.get(requireNonNull(binding));
+        if (cube == null) {
+            throw new IllegalArgumentException("Binding isn't one of those the group was created from.");
+        }
+        return (Hypercube<T>) cube;
+    }
+
+    /**
+     * The number of cubes in the group, one per distinct binding.
+     */
+    public int size() {
+        return cubes.size();
+    }
+
+    /**
+     * The names of the distinct variables read in full from the file and shared between the cubes of the group.
+     */
+    public List<String> variables() {
+        return variables;
+    }
+
+    /**
+     * Primitive access to one of the {@link #variables()} of the group, sharing the data already read for its cubes
+     * rather than reading the variable again.
+     *
+     * <p>The accessor keeps the data reachable after the cubes are closed, but doesn't hold any {@link MemoryBudget}
+     * reservation made for them.
+     *
+     * @param variable the name of a numeric variable read in full by the group
+     */
+    public VariableAccessor accessor(String variable) {
+        ucar.ma2.Array array = data.get(requireNonNull(variable));
+        if (array == null) {
+            throw new IllegalArgumentException(String.format("Variable %s isn't one of those read in full by the group: %s", variable, variables));
+        }
+        return PrimitiveArray.accessor(variable, array);
+    }
+}
@@ -0,0 +1,155 @@
+package io.github.stellarsunset.netcdf;
+
+import java.util.Iterator;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@link Flow.Publisher} implementation emitting the elements of a fresh iterator over a {@link Hypercube} to each of its
+ * subscribers, honoring the demand they signal via {@link Flow.Subscription#request(long)}.
+ *
+ * <p>Elements are produced synchronously on the thread calling {@code request(n)}, and only as many elements are pulled
+ * from the iterator as have been requested. Since records are bound lazily by the cube's iterator this means cells (and in
+ * streaming mode, slabs of the file) are only read as fast as the subscriber can consume them.
+ *
+ * <p>Prefer instantiation via {@link Hypercube#publisher()} or {@link Hypercube#publisher(int)}.
+ */
+final class HypercubePublisher<E> implements Flow.Publisher<E> {
+
+    private final Supplier<Iterator<E>> iterators;
+
+    HypercubePublisher(Supplier<Iterator<E>> iterators) {
+        this.iterators = requireNonNull(iterators);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super E> subscriber) {
+        requireNonNull(subscriber);
+
+        Iterator<E> iterator;
+        try {
+            iterator = iterators.get();
+        } catch (RuntimeException e) {
+            subscriber.onSubscribe(new Cancelled());
+            subscriber.onError(e);
+            return;
+        }
+
+        subscriber.onSubscribe(new IteratorSubscription<>(subscriber, iterator));
+    }
+
+    /**
+     * Subscription draining an iterator into a subscriber, the thread which moves the outstanding demand off of zero owns
+     * the emission loop until the demand is exhausted, re-entrant calls to {@code request(n)} from within {@code onNext}
+     * simply add to the outstanding demand.
+     */
+    static final class IteratorSubscription<E> implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super E> subscriber;
+
+        private final Iterator<E> iterator;
+
+        private final AtomicLong requested = new AtomicLong();
+
+        private volatile boolean done;
+
+        IteratorSubscription(Flow.Subscriber<? super E> subscriber, Iterator<E> iterator) {
+            this.subscriber = subscriber;
+            this.iterator = iterator;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                if (!done) {
+                    done = true;
+                    subscriber.onError(new IllegalArgumentException("Requested demand must be positive, was: " + n));
+                }
+                return;
+            }
+            if (requested.getAndAccumulate(n, IteratorSubscription::addCapped) == 0) {
+                drain();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            done = true;
+        }
+
+        private void drain() {
+            long outstanding = requested.get();
+            while (true) {
+
+                long emitted = 0;
+                while (emitted != outstanding) {
+
+                    if (done) {
+                        return;
+                    }
+
+                    E next;
+                    try {
+                        if (!iterator.hasNext()) {
+                            done = true;
+                            subscriber.onComplete();
+                            return;
+                        }
+                        next = iterator.next();
+                    } catch (RuntimeException e) {
+                        done = true;
+                        subscriber.onError(e);
+                        return;
+                    }
+
+                    subscriber.onNext(next);
+                    emitted++;
+                }
+
+                // signal completion eagerly rather than waiting for demand that will never be fulfilled
+                if (!done) {
+                    boolean exhausted;
+                    try {
+                        exhausted = !iterator.hasNext();
+                    } catch (RuntimeException e) {
+                        done = true;
+                        subscriber.onError(e);
+                        return;
+                    }
+                    if (exhausted) {
+                        done = true;
+                        subscriber.onComplete();
+                        return;
+                    }
+                }
+
+                outstanding = requested.addAndGet(-emitted);
+                if (outstanding == 0) {
+                    return;
+                }
+            }
+        }
+
+        private static long addCapped(long current, long n) {
+            long sum = current + n;
+            return sum < 0 ? Long.MAX_VALUE : sum;
+        }
+    }
+
+    /**
+     * Subscription handed to subscribers when the publisher fails before any elements could be produced.
+     */
+    record Cancelled() implements Flow.Subscription {
+
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    }
+}
@@ -0,0 +1,336 @@
+package io.github.stellarsunset.netcdf;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import ucar.nc2.NetcdfFile;
+import ucar.nc2.NetcdfFiles;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A size-bounded on-disk cache for the index files NetCDF-Java writes alongside formats like GRIB2 ({@code .gbx9} and
+ * {@code .ncx4}), so they're built once per distinct file rather than once per process, even when the data lives on a
+ * read-only mount.
+ *
+ * <p>Each file opened through the cache gets an entry directory named by a fingerprint of its contents, containing a
+ * symbolic link to the original file. The file is opened via the link so the IOSP writes (and on later opens finds) its
+ * indexes inside the entry. Copies of the same file at different paths share an entry, and entries outlive the process
+ * so restarts re-use them.
+ *
+ * <p>The fingerprint is a hash of the full contents of the file, so files sharing an entry (and so its indexes) really
+ * are the same file. Hashing reads the whole file once, fingerprints are remembered in a small {@code .stamp} file in the
+ * cache directory keyed by the file's real path, size and modification time, so re-opening an unchanged file (in this
+ * process or after a restart) doesn't read it again.
+ *
+ * <p>Entries are evicted least-recently-opened first once the total size of the indexes in the cache exceeds the configured
+ * maximum. Caches over the same directory may be shared by multiple processes, though eviction is best-effort as entries
+ * in use by another process may be removed (open files are unaffected on POSIX file systems).
+ */
+public final class IndexCache {
+
+    private static final long DEFAULT_MAXIMUM_BYTES = 1L << 30;
+
+    private static final int BUFFER_BYTES = 1 << 20;
+
+    private static final String STAMP_EXTENSION = ".stamp";
+
+    private static final Pattern FINGERPRINT = Pattern.compile("[0-9a-f]{32}");
+
+    private final Path directory;
+
+    private final long maximumBytes;
+
+    private final Map<Stamp, String> fingerprints = new ConcurrentHashMap<>();
+
+    private IndexCache(Builder builder) {
+        this.directory = requireNonNull(builder.directory, "Cache directory is required.").toAbsolutePath();
+        this.maximumBytes = builder.maximumBytes;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public Path directory() {
+        return directory;
+    }
+
+    public long maximumBytes() {
+        return maximumBytes;
+    }
+
+    /**
+     * The total size of the indexes in the cache in bytes, links to the original files aren't counted.
+     */
+    public long sizeBytes() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return 0;
+        }
+        try (Stream<Path> paths = Files.list(directory)) {
+            long total = 0;
+            for (Path path : paths.toList()) {
+                if (Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS)) {
+                    total += bytes(path);
+                }
+            }
+            return total;
+        }
+    }
+
+    /**
+     * Open the file, re-using any indexes built by a previous open of a file with the same contents.
+     *
+     * @param file the path of the file to open, it doesn't need to be writable
+     */
+    public NetcdfFile open(Path file) throws IOException {
+        Path link = link(file);
+        evict(link.getParent());
+        return NetcdfFiles.open(link.toString());
+    }
+
+    /**
+     * The link to the file within its cache entry, creating the entry if this is the first time the file's contents have
+     * been seen and marking it as the most recently used.
+     */
+    Path link(Path file) throws IOException {
+
+        Path target = file.toRealPath();
+
+        Path entry = directory.resolve(remembered(target));
+        Files.createDirectories(entry);
+
+        Path link = entry.resolve(target.getFileName());
+        if (Files.isSymbolicLink(link) && !Files.readSymbolicLink(link).equals(target)) {
+            // same contents at a new path, e.g. the original was moved or deleted
+            Files.deleteIfExists(link);
+        }
+        try {
+            Files.createSymbolicLink(link, target);
+        } catch (FileAlreadyExistsException e) {
+            // created by a previous open, possibly in another process
+        }
+
+        Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+        return link;
+    }
+
+    /**
+     * Delete the least recently used entries until the cache fits within its maximum size, never deleting the provided one,
+     * along with the stamps remembering the fingerprints of the deleted entries.
+     */
+    void evict(Path keep) throws IOException {
+
+        record Entry(Path path, FileTime lastUsed, long bytes) {
+        }
+
+        List<Entry> entries = new ArrayList<>();
+        long total = 0;
+
+        try (Stream<Path> paths = Files.list(directory)) {
+            for (Path path : paths.toList()) {
+                if (Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS)) {
+                    Entry entry = new Entry(path, Files.getLastModifiedTime(path, LinkOption.NOFOLLOW_LINKS), bytes(path));
+                    entries.add(entry);
+                    total += entry.bytes();
+                }
+            }
+        }
+
+        entries.sort(Comparator.comparing(Entry::lastUsed));
+
+        Set<String> evicted = new HashSet<>();
+
+        for (Entry entry : entries) {
+            if (total <= maximumBytes) {
+                break;
+            }
+            if (!entry.path().equals(keep)) {
+                delete(entry.path());
+                evicted.add(entry.path().getFileName().toString());
+                total -= entry.bytes();
+            }
+        }
+
+        if (!evicted.isEmpty()) {
+            deleteStamps(evicted);
+        }
+    }
+
+    private void deleteStamps(Set<String> fingerprints) throws IOException {
+        try (Stream<Path> paths = Files.list(directory)) {
+            for (Path path : paths.filter(path -> path.getFileName().toString().endsWith(STAMP_EXTENSION)).toList()) {
+                if (fingerprints.contains(readStamp(path))) {
+                    Files.deleteIfExists(path);
+                }
+            }
+        }
+    }
+
+    private static long bytes(Path entry) throws IOException {
+        try (Stream<Path> files = Files.list(entry)) {
+            return files.filter(file -> Files.isRegularFile(file, LinkOption.NOFOLLOW_LINKS))
+                    .mapToLong(file -> {
+                        try {
+                            return Files.size(file);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    })
+                    .sum();
+        } catch (NoSuchFileException e) {
+            // evicted concurrently by another process
+            return 0;
+        }
+    }
+
+    private static void delete(Path entry) throws IOException {
+        try (Stream<Path> files = Files.list(entry)) {
+            for (Path file : files.toList()) {
+                Files.deleteIfExists(file);
+            }
+        } catch (NoSuchFileException e) {
+            return;
+        }
+        Files.deleteIfExists(entry);
+    }
+
+    /**
+     * The fingerprint of the file, hashing it only if it's changed (or moved) since it was last fingerprinted by any cache
+     * over the directory.
+     */
+    private String remembered(Path target) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(target, BasicFileAttributes.class);
+        Stamp stamp = new Stamp(target, attributes.size(), attributes.lastModifiedTime());
+
+        String fingerprint = fingerprints.get(stamp);
+        if (fingerprint == null) {
+            Path path = directory.resolve(stamp.key() + STAMP_EXTENSION);
+            fingerprint = readStamp(path);
+            if (fingerprint == null) {
+                fingerprint = fingerprint(target);
+                writeStamp(path, fingerprint);
+            }
+            fingerprints.put(stamp, fingerprint);
+        }
+        return fingerprint;
+    }
+
+    /**
+     * The fingerprint remembered by the stamp, or null if there isn't one (or it's been corrupted).
+     */
+    private static String readStamp(Path path) throws IOException {
+        try {
+            String fingerprint = Files.readString(path, StandardCharsets.US_ASCII);
+            return FINGERPRINT.matcher(fingerprint).matches() ? fingerprint : null;
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    private void writeStamp(Path path, String fingerprint) throws IOException {
+
+        Files.createDirectories(directory);
+
+        Path temp = Files.createTempFile(directory, "stamp", ".tmp");
+        try {
+            Files.writeString(temp, fingerprint, StandardCharsets.US_ASCII);
+            Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * A hex fingerprint of the length and full contents of the file.
+     */
+    static String fingerprint(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+
+            Hasher hasher = Hashing.murmur3_128().newHasher();
+            hasher.putLong(channel.size());
+
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_BYTES);
+            while (channel.read(buffer.clear()) >= 0) {
+                hasher.putBytes(buffer.flip());
+            }
+
+            return hasher.hash().toString();
+        }
+    }
+
+    /**
+     * Identifies a version of a file by its location, size and modification time.
+     */
+    private record Stamp(Path path, long size, FileTime modified) {
+
+        /**
+         * A hex key for the stamp, used to name the file remembering its fingerprint.
+         */
+        String key() {
+            return Hashing.murmur3_128().newHasher()
+                    .putString(path.toString(), StandardCharsets.UTF_8)
+                    .putLong(size)
+                    .putLong(modified.to(TimeUnit.NANOSECONDS))
+                    .hash()
+                    .toString();
+        }
+    }
+
+    public static final class Builder {
+
+        private Path directory;
+
+        private long maximumBytes = DEFAULT_MAXIMUM_BYTES;
+
+        private Builder() {
+        }
+
+        /**
+         * The directory to store cached indexes in, created if it doesn't exist. Required.
+         */
+        public Builder directory(Path directory) {
+            this.directory = requireNonNull(directory);
+            return this;
+        }
+
+        /**
+         * The maximum total size of the cached indexes in bytes, 1GiB by default.
+         */
+        public Builder maximumBytes(long maximumBytes) {
+            if (maximumBytes <= 0) {
+                throw new IllegalArgumentException("Maximum bytes must be positive, was: " + maximumBytes);
+            }
+            this.maximumBytes = maximumBytes;
+            return this;
+        }
+
+        public IndexCache build() {
+            return new IndexCache(this);
+        }
+    }
+}
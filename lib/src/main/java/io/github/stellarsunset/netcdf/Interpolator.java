@@ -0,0 +1,362 @@
+package io.github.stellarsunset.netcdf;
+
+import ucar.ma2.DataType;
+import ucar.nc2.NetcdfFile;
+import ucar.nc2.Variable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Bilinear and trilinear interpolation of numeric coordinate variables sharing a 2D or 3D grid, sampling the decoded
+ * variable data directly rather than reading whole records out of a {@link Hypercube}.
+ *
+ * <p>Queries are batched, each call interpolates every variable at {@code count} fractional grid positions and writes the
+ * results into caller-provided arrays, {@code out[variable][query]}. Scratch space is allocated once per batch, never per
+ * query. When consecutive queries fall within the same grid cell (as they do for spatially sorted inputs, e.g. points
+ * along a flight path) the corner values loaded for the previous query are re-used and only the weights are recomputed.
+ *
+ * <p>Positions are fractional indices into the grid, e.g. {@code (1.5, 2.25)} lies between rows 1 and 2 and a quarter of
+ * the way between columns 2 and 3. Positions outside the grid produce {@link Double#NaN}. Geographic positions on a
+ * projected grid can be interpolated via {@link #bilinear(ProjectedGrid, double[], double[], int, double[][])}.
+ *
+ * <p>Interpolators are immutable and thread-safe, the variable data is held in memory in its native precision.
+ */
+public final class Interpolator {
+
+    private final int[] shape;
+
+    private final List<String> variables;
+
+    /**
+     * Data for each variable, exactly one of the float and double arrays is non-null.
+     */
+    private final float[][] floats;
+
+    private final double[][] doubles;
+
+    private Interpolator(Builder builder) {
+        if (builder.variables.isEmpty()) {
+            throw new IllegalArgumentException("At least one variable is required for interpolation.");
+        }
+        this.shape = requireNonNull(builder.shape, "Shape is required.");
+        this.variables = List.copyOf(builder.variables);
+        this.floats = builder.floats.toArray(float[][]::new);
+        this.doubles = builder.doubles.toArray(double[][]::new);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create an interpolator over the named numeric variables of the file, which must share the same 2D or 3D dimensions.
+     *
+     * <p>Float variables are held as floats, all other numeric types are widened to doubles.
+     *
+     * @param file      the file to read the variables from
+     * @param variables the names of the variables to interpolate
+     */
+    public static Interpolator of(NetcdfFile file, String... variables) {
+
+        Builder builder = builder();
+
+        for (String name : variables) {
+
+            Variable variable = file.findVariable(requireNonNull(name));
+            if (variable == null) {
+                throw new IllegalArgumentException("Missing variable: " + name);
+            }
+            if (!variable.getDataType().isNumeric()) {
+                throw new IllegalArgumentException(String.format("Variable %s must be numeric, was: %s", name, variable.getDataType()));
+            }
+
+            if (builder.shape == null) {
+                builder.shape(variable.getShape());
+            } else if (!Arrays.equals(builder.shape, variable.getShape())) {
+                throw new IllegalArgumentException(String.format("Variable %s's shape doesn't match the other variables.", name));
+            }
+
+            ucar.ma2.Array data = SchemaBoundHyperCubes.read(variable);
+            if (variable.getDataType() == DataType.FLOAT) {
+                builder.variable(name, (float[]) data.get1DJavaArray(DataType.FLOAT));
+            } else {
+                builder.variable(name, (double[]) data.get1DJavaArray(DataType.DOUBLE));
+            }
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * The names of the interpolated variables, in the order their results are written to the output arrays.
+     */
+    public List<String> variables() {
+        return variables;
+    }
+
+    public int[] shape() {
+        return shape.clone();
+    }
+
+    /**
+     * Bilinearly interpolate every variable of a 2D grid at each of the fractional positions {@code (f0[q], f1[q])}.
+     *
+     * @param f0    the fractional index of each query along the first axis
+     * @param f1    the fractional index of each query along the second axis
+     * @param count the number of queries to interpolate
+     * @param out   receives the interpolated value of variable {@code v} for query {@code q} at {@code out[v][q]}
+     */
+    public void bilinear(double[] f0, double[] f1, int count, double[][] out) {
+
+        checkRank(2);
+        checkQueries(count, out, f0, f1);
+
+        int d0 = shape[0];
+        int d1 = shape[1];
+
+        double[] corners = new double[variables.size() * 4];
+        int cached = -1;
+
+        for (int q = 0; q < count; q++) {
+
+            int c0 = cell(f0[q], d0);
+            int c1 = cell(f1[q], d1);
+
+            if (c0 < 0 || c1 < 0) {
+                fill(out, q, Double.NaN);
+                continue;
+            }
+
+            int base = c0 * d1 + c1;
+            if (base != cached) {
+                for (int v = 0, c = 0; v < variables.size(); v++, c += 4) {
+                    corners[c] = value(v, base);
+                    corners[c + 1] = value(v, base + 1);
+                    corners[c + 2] = value(v, base + d1);
+                    corners[c + 3] = value(v, base + d1 + 1);
+                }
+                cached = base;
+            }
+
+            double t = f0[q] - c0;
+            double u = f1[q] - c1;
+
+            double w00 = (1. - t) * (1. - u);
+            double w01 = (1. - t) * u;
+            double w10 = t * (1. - u);
+            double w11 = t * u;
+
+            for (int v = 0, c = 0; v < variables.size(); v++, c += 4) {
+                out[v][q] = w00 * corners[c] + w01 * corners[c + 1] + w10 * corners[c + 2] + w11 * corners[c + 3];
+            }
+        }
+    }
+
+    /**
+     * Trilinearly interpolate every variable of a 3D grid at each of the fractional positions {@code (f0[q], f1[q], f2[q])}.
+     *
+     * @param f0    the fractional index of each query along the first axis
+     * @param f1    the fractional index of each query along the second axis
+     * @param f2    the fractional index of each query along the third axis
+     * @param count the number of queries to interpolate
+     * @param out   receives the interpolated value of variable {@code v} for query {@code q} at {@code out[v][q]}
+     */
+    public void trilinear(double[] f0, double[] f1, double[] f2, int count, double[][] out) {
+
+        checkRank(3);
+        checkQueries(count, out, f0, f1, f2);
+
+        int d0 = shape[0];
+        int d1 = shape[1];
+        int d2 = shape[2];
+        int plane = d1 * d2;
+
+        double[] corners = new double[variables.size() * 8];
+        int cached = -1;
+
+        for (int q = 0; q < count; q++) {
+
+            int c0 = cell(f0[q], d0);
+            int c1 = cell(f1[q], d1);
+            int c2 = cell(f2[q], d2);
+
+            if (c0 < 0 || c1 < 0 || c2 < 0) {
+                fill(out, q, Double.NaN);
+                continue;
+            }
+
+            int base = (c0 * d1 + c1) * d2 + c2;
+            if (base != cached) {
+                for (int v = 0, c = 0; v < variables.size(); v++, c += 8) {
+                    corners[c] = value(v, base);
+                    corners[c + 1] = value(v, base + 1);
+                    corners[c + 2] = value(v, base + d2);
+                    corners[c + 3] = value(v, base + d2 + 1);
+                    corners[c + 4] = value(v, base + plane);
+                    corners[c + 5] = value(v, base + plane + 1);
+                    corners[c + 6] = value(v, base + plane + d2);
+                    corners[c + 7] = value(v, base + plane + d2 + 1);
+                }
+                cached = base;
+            }
+
+            double t = f0[q] - c0;
+            double u = f1[q] - c1;
+            double w = f2[q] - c2;
+
+            for (int v = 0, c = 0; v < variables.size(); v++, c += 8) {
+                double lower = (1. - u) * ((1. - w) * corners[c] + w * corners[c + 1]) + u * ((1. - w) * corners[c + 2] + w * corners[c + 3]);
+                double upper = (1. - u) * ((1. - w) * corners[c + 4] + w * corners[c + 5]) + u * ((1. - w) * corners[c + 6] + w * corners[c + 7]);
+                out[v][q] = (1. - t) * lower + t * upper;
+            }
+        }
+    }
+
+    /**
+     * Bilinearly interpolate every variable of a 2D projected grid at each of the geographic positions
+     * {@code (latitudes[q], longitudes[q])}, positions are converted to fractional indices analytically via the grid.
+     *
+     * @param grid       the projected grid the variables are defined on
+     * @param latitudes  the latitude of each query in degrees
+     * @param longitudes the longitude of each query in degrees
+     * @param count      the number of queries to interpolate
+     * @param out        receives the interpolated value of variable {@code v} for query {@code q} at {@code out[v][q]}
+     */
+    public void bilinear(ProjectedGrid grid, double[] latitudes, double[] longitudes, int count, double[][] out) {
+
+        checkRank(2);
+        if (grid.yMax() != shape[0] || grid.xMax() != shape[1]) {
+            throw new IllegalArgumentException(String.format("Grid (%d, %d) doesn't match the variables' shape %s.", grid.yMax(), grid.xMax(), Arrays.toString(shape)));
+        }
+        checkQueries(count, out, latitudes, longitudes);
+
+        double[] f0 = new double[count];
+        double[] f1 = new double[count];
+
+        double[] indices = new double[2];
+        for (int q = 0; q < count; q++) {
+            grid.fractionalIndex(latitudes[q], longitudes[q], indices);
+            f0[q] = indices[0];
+            f1[q] = indices[1];
+        }
+
+        bilinear(f0, f1, count, out);
+    }
+
+    /**
+     * The lower index of the cell containing the fractional index along an axis, or -1 if it's outside the axis. The last
+     * index along the axis belongs to the final cell.
+     */
+    private static int cell(double f, int length) {
+        if (!(f >= 0.) || f > length - 1) {
+            return -1;
+        }
+        return Math.min((int) f, length - 2);
+    }
+
+    private double value(int variable, int offset) {
+        float[] f = floats[variable];
+        return f != null ? f[offset] : doubles[variable][offset];
+    }
+
+    private static void fill(double[][] out, int query, double value) {
+        for (double[] values : out) {
+            values[query] = value;
+        }
+    }
+
+    private void checkRank(int rank) {
+        if (shape.length != rank) {
+            throw new IllegalStateException(String.format("Expected %dD variables for interpolation, was %dD.", rank, shape.length));
+        }
+    }
+
+    private void checkQueries(int count, double[][] out, double[]... positions) {
+        if (out.length != variables.size()) {
+            throw new IllegalArgumentException(String.format("Expected an output array for each of the %d variables, was %d.", variables.size(), out.length));
+        }
+        for (double[] position : positions) {
+            if (position.length < count) {
+                throw new IllegalArgumentException("Query arrays must have at least " + count + " elements.");
+            }
+        }
+        for (double[] values : out) {
+            if (values.length < count) {
+                throw new IllegalArgumentException("Output arrays must have at least " + count + " elements.");
+            }
+        }
+    }
+
+    public static final class Builder {
+
+        private int[] shape;
+
+        private final List<String> variables = new ArrayList<>();
+
+        private final List<float[]> floats = new ArrayList<>();
+
+        private final List<double[]> doubles = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * The shape of the grid the variables are defined on, each axis must have at least two indices.
+         */
+        public Builder shape(int... shape) {
+            if (shape.length < 2 || shape.length > 3) {
+                throw new IllegalArgumentException("Only 2D and 3D grids can be interpolated, was: " + shape.length + "D");
+            }
+            for (int length : shape) {
+                if (length < 2) {
+                    throw new IllegalArgumentException("Each axis must have at least two indices to interpolate, was: " + Arrays.toString(shape));
+                }
+            }
+            this.shape = shape.clone();
+            return this;
+        }
+
+        /**
+         * Add a float variable with the given row-major data.
+         */
+        public Builder variable(String name, float[] data) {
+            checkLength(data.length);
+            variables.add(requireNonNull(name));
+            floats.add(data);
+            doubles.add(null);
+            return this;
+        }
+
+        /**
+         * Add a double variable with the given row-major data.
+         */
+        public Builder variable(String name, double[] data) {
+            checkLength(data.length);
+            variables.add(requireNonNull(name));
+            floats.add(null);
+            doubles.add(data);
+            return this;
+        }
+
+        private void checkLength(int length) {
+            if (shape == null) {
+                throw new IllegalStateException("Shape must be configured before variables.");
+            }
+            long expected = 1;
+            for (int d : shape) {
+                expected *= d;
+            }
+            if (length != expected) {
+                throw new IllegalArgumentException(String.format("Expected %d values for shape %s, was %d.", expected, Arrays.toString(shape), length));
+            }
+        }
+
+        public Interpolator build() {
+            return new Interpolator(this);
+        }
+    }
+}
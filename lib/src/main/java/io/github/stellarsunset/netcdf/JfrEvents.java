@@ -0,0 +1,146 @@
+package io.github.stellarsunset.netcdf;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import ucar.nc2.NetcdfFile;
+import ucar.nc2.Variable;
+
+import java.util.Arrays;
+
+/**
+ * Java Flight Recorder events emitted while validating schemas and reading variable data, so slow reads can be correlated
+ * with GC and I/O activity in a recording.
+ *
+ * <p>All events are disabled by default and must be switched on explicitly in the recording settings, e.g.:
+ * <pre>{@code
+ * java -XX:StartFlightRecording:settings=profile,+io.github.stellarsunset.netcdf.VariableRead#enabled=true ...
+ * }</pre>
+ *
+ * <p>Events are begun unconditionally but only populated and committed when {@link Event#shouldCommit()} is true, when
+ * no recording has them enabled that check is a constant and the JIT eliminates the work (and for method-scoped events the
+ * allocation) entirely. No events are emitted per record, only per validation, variable read, slab and full iteration.
+ */
+final class JfrEvents {
+
+    private JfrEvents() {
+    }
+
+    static void commit(Validation event, NetcdfFile file, SchemaBinding<?> schema, boolean valid) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.location = file.getLocation();
+            event.dimensionVariables = schema.dimensionVariables().size();
+            event.coordinateVariables = schema.coordinateVariables().size();
+            event.valid = valid;
+            event.commit();
+        }
+    }
+
+    static void commit(VariableRead event, Variable variable, ucar.ma2.Array data) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.variable = variable.getFullName();
+            event.dataType = data.getDataType().toString();
+            event.shape = Arrays.toString(data.getShape());
+            event.bytes = data.getSizeBytes();
+            event.commit();
+        }
+    }
+
+    static void commit(SlabLoad event, int origin, int length) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.origin = origin;
+            event.length = length;
+            event.commit();
+        }
+    }
+
+    static void commit(IterationComplete event, int... shape) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.shape = Arrays.toString(shape);
+            event.records = Arrays.stream(shape).asLongStream().reduce(1, (a, b) -> a * b);
+            event.commit();
+        }
+    }
+
+    @Name("io.github.stellarsunset.netcdf.Validation")
+    @Label("Schema Validation")
+    @Description("Validation of a SchemaBinding against the variables in a file")
+    @Category({"NetCDF"})
+    @Enabled(false)
+    @StackTrace(false)
+    static final class Validation extends Event {
+
+        @Label("Location")
+        String location;
+
+        @Label("Dimension Variables")
+        int dimensionVariables;
+
+        @Label("Coordinate Variables")
+        int coordinateVariables;
+
+        @Label("Valid")
+        boolean valid;
+    }
+
+    @Name("io.github.stellarsunset.netcdf.VariableRead")
+    @Label("Variable Read")
+    @Description("Read and decode of (a slab of) a variable from a file")
+    @Category({"NetCDF"})
+    @Enabled(false)
+    @StackTrace(false)
+    static final class VariableRead extends Event {
+
+        @Label("Variable")
+        String variable;
+
+        @Label("Data Type")
+        String dataType;
+
+        @Label("Shape")
+        String shape;
+
+        @Label("Bytes")
+        @DataAmount
+        long bytes;
+    }
+
+    @Name("io.github.stellarsunset.netcdf.SlabLoad")
+    @Label("Slab Load")
+    @Description("Load of a slab of coordinate variables by a streaming hypercube")
+    @Category({"NetCDF"})
+    @Enabled(false)
+    @StackTrace(false)
+    static final class SlabLoad extends Event {
+
+        @Label("Origin")
+        int origin;
+
+        @Label("Length")
+        int length;
+    }
+
+    @Name("io.github.stellarsunset.netcdf.IterationComplete")
+    @Label("Iteration Complete")
+    @Description("Full traversal of a hypercube via its iterator or stream, spanning from the creation of the iterator")
+    @Category({"NetCDF"})
+    @Enabled(false)
+    @StackTrace(false)
+    static final class IterationComplete extends Event {
+
+        @Label("Shape")
+        String shape;
+
+        @Label("Records")
+        long records;
+    }
+}
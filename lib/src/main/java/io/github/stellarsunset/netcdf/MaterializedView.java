@@ -0,0 +1,300 @@
+package io.github.stellarsunset.netcdf;
+
+import ucar.ma2.DataType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compact columnar file format for the decoded data of a set of variables, see {@link ViewCache}.
+ *
+ * <p>Files are little-endian and contain a header followed by the raw primitive data of each variable (column) in
+ * row-major order, each column starts on an 8-byte boundary so it can be mapped and bulk-copied into a Java array without
+ * any decoding.
+ *
+ * <pre>
+ * int   magic ("NCMV")
+ * int   version
+ * int   column count
+ * per column:
+ *   short  name length, UTF-8 name bytes
+ *   short  type length, UTF-8 {@link DataType} name bytes
+ *   int    rank, int[rank] shape
+ *   long   data offset, long data length (bytes)
+ * column data...
+ * </pre>
+ */
+final class MaterializedView {
+
+    static final int MAGIC = 0x564D434E;
+
+    static final int VERSION = 1;
+
+    /**
+     * The maximum number of bytes transferred between the file and an array at once, a multiple of every element size.
+     */
+    private static final int CHUNK_BYTES = 1 << 23;
+
+    private MaterializedView() {
+    }
+
+    /**
+     * Write the provided variables to a new file, the arrays must be of a type supported by {@link Kind}.
+     *
+     * @param path    the path of the file to write, it must not exist
+     * @param columns the decoded data of each variable keyed by variable name
+     */
+    static void write(Path path, Map<String, ucar.ma2.Array> columns) throws IOException {
+
+        ByteBuffer header = header(columns);
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+
+            writeFully(channel, header.flip(), 0);
+
+            long offset = align(header.limit());
+            ByteBuffer buffer = ByteBuffer.allocate(CHUNK_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+
+            for (ucar.ma2.Array data : columns.values()) {
+                Kind kind = Kind.of(data.getDataType());
+                Object storage = data.get1DJavaArray(data.getDataType());
+                int count = (int) data.getSize();
+
+                for (int i = 0; i < count; ) {
+                    int n = Math.min(count - i, CHUNK_BYTES / kind.width);
+                    buffer.clear();
+                    kind.put(buffer, storage, i, n);
+                    buffer.limit(n * kind.width);
+                    writeFully(channel, buffer, offset + (long) i * kind.width);
+                    i += n;
+                }
+
+                offset = align(offset + data.getSize() * kind.width);
+            }
+        }
+    }
+
+    /**
+     * Read all the columns of the view into memory, returning null if the file isn't a (complete) view in this format so
+     * callers can rebuild it.
+     */
+    static Map<String, ucar.ma2.Array> read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+
+            long size = channel.size();
+            if (size < 12) {
+                return null;
+            }
+
+            ByteBuffer prefix = ByteBuffer.allocate(12).order(ByteOrder.LITTLE_ENDIAN);
+            readFully(channel, prefix, 0);
+
+            if (prefix.getInt(0) != MAGIC || prefix.getInt(4) != VERSION) {
+                return null;
+            }
+
+            int count = prefix.getInt(8);
+            long headerEnd = Math.min(size, Integer.MAX_VALUE);
+
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 12, headerEnd - 12).order(ByteOrder.LITTLE_ENDIAN);
+
+            Map<String, ucar.ma2.Array> columns = new LinkedHashMap<>();
+            for (int c = 0; c < count; c++) {
+
+                String name = readString(header);
+                DataType type = DataType.valueOf(readString(header));
+
+                int[] shape = new int[header.getInt()];
+                for (int d = 0; d < shape.length; d++) {
+                    shape[d] = header.getInt();
+                }
+
+                long offset = header.getLong();
+                long length = header.getLong();
+
+                if (offset + length > size) {
+                    return null;
+                }
+
+                Kind kind = Kind.of(type);
+                int elements = (int) (length / kind.width);
+                Object storage = kind.allocate(elements);
+
+                for (int i = 0; i < elements; ) {
+                    int n = Math.min(elements - i, CHUNK_BYTES / kind.width);
+                    MappedByteBuffer chunk = channel.map(FileChannel.MapMode.READ_ONLY, offset + (long) i * kind.width, (long) n * kind.width);
+                    kind.get(chunk.order(ByteOrder.LITTLE_ENDIAN), storage, i, n);
+                    i += n;
+                }
+
+                columns.put(name, ucar.ma2.Array.factory(type, shape, storage));
+            }
+
+            return columns;
+        }
+    }
+
+    private static ByteBuffer header(Map<String, ucar.ma2.Array> columns) {
+
+        int headerBytes = 12;
+        for (Map.Entry<String, ucar.ma2.Array> entry : columns.entrySet()) {
+            headerBytes += 2 + utf8(entry.getKey()).length
+                    + 2 + utf8(entry.getValue().getDataType().name()).length
+                    + 4 + 4 * entry.getValue().getRank()
+                    + 16;
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(headerBytes).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC).putInt(VERSION).putInt(columns.size());
+
+        long offset = align(headerBytes);
+        for (Map.Entry<String, ucar.ma2.Array> entry : columns.entrySet()) {
+
+            ucar.ma2.Array data = entry.getValue();
+            long length = data.getSize() * Kind.of(data.getDataType()).width;
+
+            putString(header, entry.getKey());
+            putString(header, data.getDataType().name());
+
+            header.putInt(data.getRank());
+            for (int d : data.getShape()) {
+                header.putInt(d);
+            }
+
+            header.putLong(offset).putLong(length);
+            offset = align(offset + length);
+        }
+
+        return header;
+    }
+
+    private static long align(long offset) {
+        return (offset + 7) & ~7L;
+    }
+
+    private static byte[] utf8(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void putString(ByteBuffer buffer, String s) {
+        byte[] bytes = utf8(s);
+        buffer.putShort((short) bytes.length).put(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                return;
+            }
+            position += read;
+        }
+    }
+
+    /**
+     * The Java storage type of a column, unsigned and enum types are stored as their signed equivalents.
+     */
+    enum Kind {
+        BOOLEAN(1), BYTE(1), CHAR(2), SHORT(2), INT(4), LONG(8), FLOAT(4), DOUBLE(8);
+
+        final int width;
+
+        Kind(int width) {
+            this.width = width;
+        }
+
+        /**
+         * True if variables of the given type can be stored in a view.
+         */
+        static boolean supports(DataType type) {
+            return switch (type) {
+                case BOOLEAN, BYTE, UBYTE, ENUM1, CHAR, SHORT, USHORT, ENUM2, INT, UINT, ENUM4, LONG, ULONG, FLOAT,
+                     DOUBLE -> true;
+                default -> false;
+            };
+        }
+
+        static Kind of(DataType type) {
+            return switch (type) {
+                case BOOLEAN -> BOOLEAN;
+                case BYTE, UBYTE, ENUM1 -> BYTE;
+                case CHAR -> CHAR;
+                case SHORT, USHORT, ENUM2 -> SHORT;
+                case INT, UINT, ENUM4 -> INT;
+                case LONG, ULONG -> LONG;
+                case FLOAT -> FLOAT;
+                case DOUBLE -> DOUBLE;
+                default -> throw new IllegalArgumentException("Unsupported type for materialized views: " + type);
+            };
+        }
+
+        Object allocate(int count) {
+            return switch (this) {
+                case BOOLEAN -> new boolean[count];
+                case BYTE -> new byte[count];
+                case CHAR -> new char[count];
+                case SHORT -> new short[count];
+                case INT -> new int[count];
+                case LONG -> new long[count];
+                case FLOAT -> new float[count];
+                case DOUBLE -> new double[count];
+            };
+        }
+
+        void put(ByteBuffer buffer, Object storage, int from, int count) {
+            switch (this) {
+                case BOOLEAN -> {
+                    boolean[] values = (boolean[]) storage;
+                    for (int i = 0; i < count; i++) {
+                        buffer.put(i, values[from + i] ? (byte) 1 : (byte) 0);
+                    }
+                }
+                case BYTE -> buffer.put(0, (byte[]) storage, from, count);
+                case CHAR -> buffer.asCharBuffer().put((char[]) storage, from, count);
+                case SHORT -> buffer.asShortBuffer().put((short[]) storage, from, count);
+                case INT -> buffer.asIntBuffer().put((int[]) storage, from, count);
+                case LONG -> buffer.asLongBuffer().put((long[]) storage, from, count);
+                case FLOAT -> buffer.asFloatBuffer().put((float[]) storage, from, count);
+                case DOUBLE -> buffer.asDoubleBuffer().put((double[]) storage, from, count);
+            }
+        }
+
+        void get(ByteBuffer buffer, Object storage, int from, int count) {
+            switch (this) {
+                case BOOLEAN -> {
+                    boolean[] values = (boolean[]) storage;
+                    for (int i = 0; i < count; i++) {
+                        values[from + i] = buffer.get(i) != 0;
+                    }
+                }
+                case BYTE -> buffer.get(0, (byte[]) storage, from, count);
+                case CHAR -> buffer.asCharBuffer().get((char[]) storage, from, count);
+                case SHORT -> buffer.asShortBuffer().get((short[]) storage, from, count);
+                case INT -> buffer.asIntBuffer().get((int[]) storage, from, count);
+                case LONG -> buffer.asLongBuffer().get((long[]) storage, from, count);
+                case FLOAT -> buffer.asFloatBuffer().get((float[]) storage, from, count);
+                case DOUBLE -> buffer.asDoubleBuffer().get((double[]) storage, from, count);
+            }
+        }
+    }
+}
@@ -0,0 +1,449 @@
+package io.github.stellarsunset.netcdf;
+
+import ucar.nc2.NetcdfFile;
+import ucar.nc2.Variable;
+
+import java.lang.ref.Cleaner;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A budget of heap bytes shared by the {@link Hypercube}s created with it, so many concurrent reads in one JVM can't
+ * together (or one oversized file alone) exhaust the heap. Configure via {@link ReadOptions.Builder#memoryBudget(MemoryBudget)}.
+ *
+ * <p>The bytes a cube needs are estimated from the shapes and {@link ucar.ma2.DataType}s of the variables it binds once
+ * the binding is validated, before any data is read. Cubes whose variables fit within the budget are read in full as
+ * usual, larger ones are read in streaming slabs sized to fit instead (an explicitly configured slab size is shrunk if
+ * needed). Creating a cube blocks until its bytes can be reserved, waiting cubes are served in arrival order.
+ *
+ * <p>Reservations are released when the cube is closed, or failing that once it's garbage collected. Hosts can use
+ * {@link #reservedBytes()} and {@link #waiting()} for admission control, or reserve bytes directly for work of their own
+ * via {@link #reserve(long)}.
+ */
+public final class MemoryBudget {
+
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private final long maximumBytes;
+
+    private final ArrayDeque<Object> queue = new ArrayDeque<>();
+
+    private long reservedBytes;
+
+    private MemoryBudget(Builder builder) {
+        this.maximumBytes = builder.maximumBytes;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public long maximumBytes() {
+        return maximumBytes;
+    }
+
+    /**
+     * The number of bytes currently reserved by cubes (or other holders of a {@link Reservation}).
+     */
+    public synchronized long reservedBytes() {
+        return reservedBytes;
+    }
+
+    /**
+     * The number of bytes that can currently be reserved without waiting.
+     */
+    public synchronized long availableBytes() {
+        return maximumBytes - reservedBytes;
+    }
+
+    /**
+     * The number of reservations currently waiting for bytes to be released.
+     */
+    public synchronized int waiting() {
+        return queue.size();
+    }
+
+    /**
+     * Reserve the given number of bytes, blocking until they're available.
+     *
+     * @param bytes the number of bytes to reserve, at most the maximum of the budget
+     */
+    public Reservation reserve(long bytes) {
+        checkBytes(bytes);
+
+        Object ticket = new Object();
+        synchronized (this) {
+            queue.addLast(ticket);
+            try {
+                while (queue.peekFirst() != ticket || reservedBytes + bytes > maximumBytes) {
+                    wait();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(String.format("Interrupted waiting to reserve %d bytes.", bytes), e);
+            } finally {
+                queue.remove(ticket);
+                notifyAll();
+            }
+            reservedBytes += bytes;
+        }
+        return new Reservation(this, bytes);
+    }
+
+    /**
+     * Reserve the given number of bytes if they're available immediately and no other reservation is waiting.
+     *
+     * @param bytes the number of bytes to reserve, at most the maximum of the budget
+     */
+    public synchronized Optional<Reservation> tryReserve(long bytes) {
+        checkBytes(bytes);
+        if (!queue.isEmpty() || reservedBytes + bytes > maximumBytes) {
+            return Optional.empty();
+        }
+        reservedBytes += bytes;
+        return Optional.of(new Reservation(this, bytes));
+    }
+
+    private void checkBytes(long bytes) {
+        if (bytes < 0 || bytes > maximumBytes) {
+            throw new IllegalArgumentException(String.format("Reservation must be in [0, %d] bytes, was: %d", maximumBytes, bytes));
+        }
+    }
+
+    private synchronized void release(long bytes) {
+        reservedBytes -= bytes;
+        notifyAll();
+    }
+
+    /**
+     * Reserve the bytes the cube created from the binding will need, adapting the options so they fit the budget, then
+     * create the cube releasing the reservation when it's closed.
+     *
+     * @param binding the validated binding to estimate the size of the cube from
+     * @param options the options the cube would otherwise be created with
+     * @param maker   creates the cube given the (possibly adapted) options
+     */
+    <T> Hypercube<T> govern(ValidatedBinding<?> binding, ReadOptions options, Function<ReadOptions, Hypercube<T>> maker) {
+        return govern(binding, options, 0, maker);
+    }
+
+    /**
+     * As {@link #govern(ValidatedBinding, ReadOptions, Function)} for a cube over only the indices {@code [start, max)} of
+     * the outermost dimension of the binding, e.g. the tail of a file polled by a {@link TailReader}.
+     */
+    <T> Hypercube<T> govern(ValidatedBinding<?> binding, ReadOptions options, int start, Function<ReadOptions, Hypercube<T>> maker) {
+
+        Estimate estimate = Estimate.of(binding, options, start);
+        int slabSize = slabSize(estimate, options);
+
+        ReadOptions adapted = slabSize == options.slabSize() ? options : options.withSlabSize(slabSize);
+        Reservation reservation = reserve(estimate.bytes(slabSize));
+
+        try {
+            return bind(maker.apply(adapted), reservation);
+        } catch (RuntimeException e) {
+            reservation.close();
+            throw e;
+        }
+    }
+
+    /**
+     * The slab size to read the cube in to fit the budget, zero to read it in full.
+     */
+    private int slabSize(Estimate estimate, ReadOptions options) {
+
+        if (!options.streaming() && estimate.bytes(0) <= maximumBytes || estimate.outerMax() == 0) {
+            return options.slabSize();
+        }
+
+        long room = maximumBytes - estimate.fixedBytes();
+        long fit = estimate.bytesPerIndex() == 0 ? estimate.outerMax() : room / estimate.bytesPerIndex();
+
+        if (room < 0 || fit < 1) {
+            throw new IllegalArgumentException(String.format(
+                    "Cube needs at least %d bytes, a single slab of the outermost dimension, which exceeds the memory budget of %d bytes.",
+                    estimate.bytes(1), maximumBytes));
+        }
+
+        int slabSize = (int) Math.min(Math.max(1, estimate.outerMax()), fit);
+        return options.streaming() ? Math.min(options.slabSize(), slabSize) : slabSize;
+    }
+
+    /**
+     * The heap bytes needed to read the named variables of the file in full.
+     */
+    static long bytes(NetcdfFile file, Collection<String> names) {
+        long bytes = 0;
+        for (String name : names) {
+            bytes += bytes(requireNonNull(file.findVariable(name), "Missing required variable, check validation logic."));
+        }
+        return bytes;
+    }
+
+    static long bytes(Variable variable) {
+        return variable.getSize() * variable.getElementSize();
+    }
+
+    /**
+     * Wrap the cube so closing it (or it becoming unreachable) closes the reservation.
+     */
+    static <T> Hypercube<T> bind(Hypercube<T> cube, Reservation reservation) {
+        Cleaner.Cleanable release = CLEANER.register(cube, reservation::close);
+        return switch (cube) {
+            case Hypercube.D1<T> d1 -> new ReservedD1<>(d1, release);
+            case Hypercube.D2<T> d2 -> new ReservedD2<>(d2, release);
+            case Hypercube.D3<T> d3 -> new ReservedD3<>(d3, release);
+            case Hypercube.D4<T> d4 -> new ReservedD4<>(d4, release);
+        };
+    }
+
+    /**
+     * The estimated heap bytes of a cube, the variables read in full whatever the slab size (dimension variables and
+     * coordinate variables not varying over the outermost dimension) plus those read per index of the outermost dimension.
+     */
+    record Estimate(long fixedBytes, long bytesPerIndex, int outerMax) {
+
+        static Estimate of(ValidatedBinding<?> binding, ReadOptions options) {
+            return of(binding, options, 0);
+        }
+
+        /**
+         * The estimated heap bytes of a cube over the indices {@code [start, max)} of the outermost dimension.
+         */
+        static Estimate of(ValidatedBinding<?> binding, ReadOptions options, int start) {
+
+            NetcdfFile file = binding.context();
+            int max = binding.shape().length == 0 ? 0 : binding.shape()[0];
+
+            ReadOptions streaming = options.streaming() ? options : options.withSlabSize(1);
+            long fixed = MemoryBudget.bytes(file, SchemaBoundHyperCubes.fullyReadVariables(binding, streaming));
+
+            long perIndex = 0;
+            for (String name : binding.schema().coordinateVariables().keySet()) {
+                Variable variable = requireNonNull(file.findVariable(name), "Missing required variable, check validation logic.");
+                if (max > 0 && variable.getRank() > 0 && variable.getDimension(0).equals(binding.dimensions().getFirst())) {
+                    perIndex += MemoryBudget.bytes(variable) / max;
+                }
+            }
+
+            return new Estimate(fixed, perIndex, max - start);
+        }
+
+        /**
+         * The bytes needed to read the cube in slabs of the given size, zero to read it in full.
+         */
+        long bytes(int slabSize) {
+            return fixedBytes + bytesPerIndex * (slabSize == 0 ? outerMax : Math.min(slabSize, outerMax));
+        }
+    }
+
+    /**
+     * A number of bytes reserved from a {@link MemoryBudget}, returned to it when closed.
+     */
+    public static final class Reservation implements AutoCloseable {
+
+        private final MemoryBudget budget;
+
+        private final long bytes;
+
+        private final AtomicInteger holders = new AtomicInteger(1);
+
+        private Reservation(MemoryBudget budget, long bytes) {
+            this.budget = budget;
+            this.bytes = bytes;
+        }
+
+        public long bytes() {
+            return bytes;
+        }
+
+        /**
+         * Add a holder of the reservation, the bytes are only released once every holder has closed it.
+         */
+        Reservation retain() {
+            holders.incrementAndGet();
+            return this;
+        }
+
+        @Override
+        public void close() {
+            if (holders.decrementAndGet() == 0) {
+                budget.release(bytes);
+            }
+        }
+    }
+
+    public static final class Builder {
+
+        private long maximumBytes = Runtime.getRuntime().maxMemory() / 2;
+
+        private Builder() {
+        }
+
+        /**
+         * The maximum number of bytes reserved at once, half of the maximum heap size by default.
+         */
+        public Builder maximumBytes(long maximumBytes) {
+            if (maximumBytes <= 0) {
+                throw new IllegalArgumentException("Maximum bytes must be positive, was: " + maximumBytes);
+            }
+            this.maximumBytes = maximumBytes;
+            return this;
+        }
+
+        public MemoryBudget build() {
+            return new MemoryBudget(this);
+        }
+    }
+
+    record ReservedD1<T>(Hypercube.D1<T> delegate, Cleaner.Cleanable release) implements Hypercube.D1<T> {
+
+        @Override
+        public T read(int i) {
+            return delegate.read(i);
+        }
+
+        @Override
+        public int max() {
+            return delegate.max();
+        }
+
+        @Override
+        public boolean streaming() {
+            return delegate.streaming();
+        }
+
+        @Override
+        public boolean reorderable() {
+            return delegate.reorderable();
+        }
+
+        @Override
+        public void close() throws Exception {
+            release.clean();
+            delegate.close();
+        }
+    }
+
+    record ReservedD2<T>(Hypercube.D2<T> delegate, Cleaner.Cleanable release) implements Hypercube.D2<T> {
+
+        @Override
+        public T read(int i0, int i1) {
+            return delegate.read(i0, i1);
+        }
+
+        @Override
+        public int d0Max() {
+            return delegate.d0Max();
+        }
+
+        @Override
+        public int d1Max() {
+            return delegate.d1Max();
+        }
+
+        @Override
+        public boolean streaming() {
+            return delegate.streaming();
+        }
+
+        @Override
+        public boolean reorderable() {
+            return delegate.reorderable();
+        }
+
+        @Override
+        public void close() throws Exception {
+            release.clean();
+            delegate.close();
+        }
+    }
+
+    record ReservedD3<T>(Hypercube.D3<T> delegate, Cleaner.Cleanable release) implements Hypercube.D3<T> {
+
+        @Override
+        public T read(int i0, int i1, int i2) {
+            return delegate.read(i0, i1, i2);
+        }
+
+        @Override
+        public int d0Max() {
+            return delegate.d0Max();
+        }
+
+        @Override
+        public int d1Max() {
+            return delegate.d1Max();
+        }
+
+        @Override
+        public int d2Max() {
+            return delegate.d2Max();
+        }
+
+        @Override
+        public boolean streaming() {
+            return delegate.streaming();
+        }
+
+        @Override
+        public boolean reorderable() {
+            return delegate.reorderable();
+        }
+
+        @Override
+        public void close() throws Exception {
+            release.clean();
+            delegate.close();
+        }
+    }
+
+    record ReservedD4<T>(Hypercube.D4<T> delegate, Cleaner.Cleanable release) implements Hypercube.D4<T> {
+
+        @Override
+        public T read(int i0, int i1, int i2, int i3) {
+            return delegate.read(i0, i1, i2, i3);
+        }
+
+        @Override
+        public int d0Max() {
+            return delegate.d0Max();
+        }
+
+        @Override
+        public int d1Max() {
+            return delegate.d1Max();
+        }
+
+        @Override
+        public int d2Max() {
+            return delegate.d2Max();
+        }
+
+        @Override
+        public int d3Max() {
+            return delegate.d3Max();
+        }
+
+        @Override
+        public boolean streaming() {
+            return delegate.streaming();
+        }
+
+        @Override
+        public boolean reorderable() {
+            return delegate.reorderable();
+        }
+
+        @Override
+        public void close() throws Exception {
+            release.clean();
+            delegate.close();
+        }
+    }
+}
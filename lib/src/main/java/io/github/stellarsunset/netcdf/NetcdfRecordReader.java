@@ -3,6 +3,10 @@ package io.github.stellarsunset.netcdf;
 import ucar.nc2.NetcdfFile;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Path;
 import java.util.stream.Stream;
 
 @FunctionalInterface
@@ -18,5 +22,101 @@ public interface NetcdfRecordReader<T> {
         return file -> Hypercube.schemaBound(file, binding).stream();
     }
 
+    /**
+     * Record reader implementation generating a stream of POJOs via a {@link SchemaBinding}, reading the variable data as
+     * configured by the provided {@link ReadOptions}.
+     *
+     * @param binding the schema to use when reading variables from the files in to POJO fields
+     * @param options options controlling how variable data is read from the file, e.g. in streaming slabs
+     */
+    static <T> NetcdfRecordReader<T> schemaBound(SchemaBinding<T> binding, ReadOptions options) {
+        return file -> Hypercube.schemaBound(file, binding, options).stream();
+    }
+
+    /**
+     * Record reader implementation generating a stream of immutable records via a {@link RecordBinding}, constructing each
+     * record directly from the variable data without an intermediate builder.
+     *
+     * @param binding the binding of variables in the file to the components of the record
+     */
+    static <R> NetcdfRecordReader<R> recordBound(RecordBinding<R> binding) {
+        return file -> Hypercube.recordBound(file, binding).stream();
+    }
+
+    /**
+     * Record reader implementation generating a stream of immutable records via a {@link RecordBinding}, reading the
+     * variable data as configured by the provided {@link ReadOptions}.
+     *
+     * @param binding the binding of variables in the file to the components of the record
+     * @param options options controlling how variable data is read from the file, e.g. in streaming slabs
+     */
+    static <R> NetcdfRecordReader<R> recordBound(RecordBinding<R> binding, ReadOptions options) {
+        return file -> Hypercube.recordBound(file, binding, options).stream();
+    }
+
     Stream<T> read(NetcdfFile file) throws IOException;
+
+    /**
+     * Read records out of the file contained in the provided bytes without writing them to disk, see {@link NetcdfSources}.
+     *
+     * <p>The in-memory file is closed when the returned stream is, so the stream should be used in a try-with-resources.
+     *
+     * @param data the full contents of the file
+     */
+    default Stream<T> read(byte[] data) throws IOException {
+        return readAndClose(NetcdfSources.open(data));
+    }
+
+    /**
+     * Read records out of the file contained in the remaining bytes of the provided buffer without writing them to disk,
+     * see {@link NetcdfSources#open(ByteBuffer)}.
+     *
+     * <p>The in-memory file is closed when the returned stream is, so the stream should be used in a try-with-resources.
+     *
+     * @param data a buffer whose remaining bytes are the full contents of the file
+     */
+    default Stream<T> read(ByteBuffer data) throws IOException {
+        return readAndClose(NetcdfSources.open(data));
+    }
+
+    /**
+     * Read records out of the file contained in the remaining bytes of the provided channel without writing them to disk,
+     * see {@link NetcdfSources#open(SeekableByteChannel)}.
+     *
+     * <p>The in-memory file is closed when the returned stream is, so the stream should be used in a try-with-resources.
+     * The channel itself is left open.
+     *
+     * @param channel a channel whose remaining bytes are the full contents of the file
+     */
+    default Stream<T> read(SeekableByteChannel channel) throws IOException {
+        return readAndClose(NetcdfSources.open(channel));
+    }
+
+    /**
+     * Read records out of the file at the provided path, re-using any indexes (e.g. GRIB2 {@code .gbx9} files) built by a
+     * previous read of a file with the same contents, see {@link IndexCache}.
+     *
+     * <p>The file is closed when the returned stream is, so the stream should be used in a try-with-resources.
+     *
+     * @param file  the path of the file to read
+     * @param cache the cache to find or build the file's indexes in
+     */
+    default Stream<T> read(Path file, IndexCache cache) throws IOException {
+        return readAndClose(cache.open(file));
+    }
+
+    private Stream<T> readAndClose(NetcdfFile file) throws IOException {
+        try {
+            return read(file).onClose(() -> {
+                try {
+                    file.close();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (IOException | RuntimeException e) {
+            file.close();
+            throw e;
+        }
+    }
 }
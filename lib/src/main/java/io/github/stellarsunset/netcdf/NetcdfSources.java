@@ -0,0 +1,121 @@
+package io.github.stellarsunset.netcdf;
+
+import ucar.nc2.NetcdfFile;
+import ucar.nc2.NetcdfFiles;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Opens {@link NetcdfFile}s directly from bytes already in memory, e.g. payloads received from a message queue, rather than
+ * writing them to a temporary file first.
+ *
+ * <p>Files are backed by NetCDF-Java's in-memory {@code RandomAccessFile} so any format with an IOSP on the classpath
+ * (NetCDF-3/4, GRIB, etc.) can be opened. The returned files should be closed like any other, and can be handed to
+ * {@link Hypercube#schemaBound(NetcdfFile, SchemaBinding)} and friends as usual.
+ *
+ * <p>The byte array overloads wrap the provided array without copying it, so it must not be modified while the file is
+ * open. See {@link NetcdfRecordReader#read(byte[])} for reading records out of in-memory data in one step.
+ */
+public final class NetcdfSources {
+
+    /**
+     * The location reported by in-memory files when no name is provided, IOSPs only use it in error messages.
+     */
+    static final String DEFAULT_NAME = "in-memory";
+
+    private NetcdfSources() {
+    }
+
+    /**
+     * Open the file contained in the provided bytes.
+     *
+     * @param data the full contents of the file
+     */
+    public static NetcdfFile open(byte[] data) throws IOException {
+        return open(DEFAULT_NAME, data);
+    }
+
+    /**
+     * Open the file contained in the provided bytes, reporting the given name as its location.
+     *
+     * @param name the name of the file, e.g. the key of the message it was received in
+     * @param data the full contents of the file
+     */
+    public static NetcdfFile open(String name, byte[] data) throws IOException {
+        return NetcdfFiles.openInMemory(requireNonNull(name), requireNonNull(data));
+    }
+
+    /**
+     * Open the file contained in the remaining bytes of the provided buffer, the buffer's position is not modified.
+     *
+     * <p>Heap buffers wrapping the whole of their backing array are used without copying, otherwise the remaining bytes are
+     * copied once into a new array.
+     *
+     * @param data a buffer whose remaining bytes are the full contents of the file
+     */
+    public static NetcdfFile open(ByteBuffer data) throws IOException {
+        return open(DEFAULT_NAME, data);
+    }
+
+    /**
+     * Open the file contained in the remaining bytes of the provided buffer, reporting the given name as its location.
+     *
+     * @param name the name of the file, e.g. the key of the message it was received in
+     * @param data a buffer whose remaining bytes are the full contents of the file
+     */
+    public static NetcdfFile open(String name, ByteBuffer data) throws IOException {
+        return open(name, bytes(data));
+    }
+
+    /**
+     * Open the file contained in the bytes of the channel from its current position to its end, the channel is read in
+     * full but not closed.
+     *
+     * @param channel a channel whose remaining bytes are the full contents of the file
+     */
+    public static NetcdfFile open(SeekableByteChannel channel) throws IOException {
+        return open(DEFAULT_NAME, channel);
+    }
+
+    /**
+     * Open the file contained in the bytes of the channel from its current position to its end, reporting the given name
+     * as its location.
+     *
+     * @param name    the name of the file, e.g. the key of the message it was received in
+     * @param channel a channel whose remaining bytes are the full contents of the file
+     */
+    public static NetcdfFile open(String name, SeekableByteChannel channel) throws IOException {
+        return open(name, bytes(channel));
+    }
+
+    static byte[] bytes(ByteBuffer data) {
+        if (data.hasArray() && data.arrayOffset() == 0 && data.position() == 0 && data.remaining() == data.array().length) {
+            return data.array();
+        }
+        byte[] bytes = new byte[data.remaining()];
+        data.duplicate().get(bytes);
+        return bytes;
+    }
+
+    static byte[] bytes(SeekableByteChannel channel) throws IOException {
+
+        long remaining = channel.size() - channel.position();
+        if (remaining > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Channel is too large to be read into memory, was: " + remaining + " bytes");
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate((int) remaining);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException(String.format("Channel ended after %d of %d bytes.", buffer.position(), buffer.capacity()));
+            }
+        }
+
+        return buffer.array();
+    }
+}
@@ -0,0 +1,246 @@
+package io.github.stellarsunset.netcdf;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Traversal of a {@link Hypercube} with its dimensions in an arbitrary order, e.g. {@link Hypercube.D3#stream(int[])}.
+ *
+ * <p>Cubes store their data in canonical (row-major) order so the innermost dimension of the cube is the contiguous one.
+ * When the requested order doesn't end with it, visiting records in that order directly would jump through the storage
+ * by the stride of the innermost requested dimension on every record. Instead records are read in tiles spanning a run of
+ * indices along the cube's innermost dimension (so each run is contiguous) and all the dimensions ordered after it, then
+ * emitted from the tile in the requested order. At most {@link #TILE_RECORDS} records are buffered at once, rather than
+ * the whole cube as sorting would.
+ *
+ * <p>Tiling reads records in a different order than it returns them, so is only used for {@link Hypercube#reorderable()}
+ * cubes. Other cubes (e.g. those whose finalizer writes each record out, or whose initializer returns a shared instance)
+ * are visited directly in the requested order.
+ *
+ * <p>Streaming cubes only keep one slab of their outermost dimension in memory, so orders not starting with it would load
+ * slabs over and over (once per tile, or nearly once per record) and are rejected. Orders starting with it visit each slab
+ * once, as both traversals keep every axis ordered before the tiled one fixed while a tile is read.
+ */
+final class Permutations {
+
+    /**
+     * The maximum number of records held in a tile.
+     */
+    static final int TILE_RECORDS = 1 << 16;
+
+    private Permutations() {
+    }
+
+    /**
+     * Stream the records of a cube of the given shape traversing the dimensions in the given order, outermost first.
+     *
+     * @param shape       the length of each dimension of the cube
+     * @param order       a permutation of the axes of the cube
+     * @param streaming   whether the cube is {@link Hypercube#streaming()}
+     * @param reorderable whether the cube is {@link Hypercube#reorderable()}, i.e. can be read in tiles
+     * @param reader      reads the record at an index, the index array is reused so shouldn't be retained
+     */
+    static <T> Stream<T> stream(int[] shape, int[] order, boolean streaming, boolean reorderable, Function<int[], T> reader) {
+        checkOrder(order, shape.length);
+        if (streaming && order[0] != 0) {
+            throw new IllegalArgumentException(String.format(
+                    "Streaming cubes can only be traversed in orders starting with the outermost dimension, was: %s. Read the cube in full to traverse it in this order.",
+                    Arrays.toString(order)));
+        }
+
+        long size = 1;
+        for (int length : shape) {
+            size *= length;
+        }
+
+        int axis = shape.length - 1;
+        int position = positionOf(order, axis);
+
+        long innerCount = 1;
+        for (int j = position + 1; j < order.length; j++) {
+            innerCount *= shape[order[j]];
+        }
+
+        int tile = (int) Math.min(shape[axis], TILE_RECORDS / Math.max(1, innerCount));
+
+        Iterator<T> iterator = !reorderable || position == axis || tile < 2
+                ? new Direct<>(shape, order, reader, size)
+                : new Tiled<>(shape, order, reader, size, position, tile, (int) innerCount);
+
+        return StreamSupport.stream(Spliterators.spliterator(iterator, size, Spliterator.ORDERED), false);
+    }
+
+    static void checkOrder(int[] order, int rank) {
+        if (order.length != rank) {
+            throw new IllegalArgumentException(String.format("Order must list each of the %d axes of the cube, was: %d axes", rank, order.length));
+        }
+        boolean[] seen = new boolean[rank];
+        for (int axis : order) {
+            if (axis < 0 || axis >= rank || seen[axis]) {
+                throw new IllegalArgumentException(String.format("Order must be a permutation of the axes [0, %d), found: %d", rank, axis));
+            }
+            seen[axis] = true;
+        }
+    }
+
+    private static int positionOf(int[] order, int axis) {
+        for (int j = 0; j < order.length; j++) {
+            if (order[j] == axis) {
+                return j;
+            }
+        }
+        throw new IllegalStateException("Order should have already been checked...");
+    }
+
+    /**
+     * Visits records directly in the requested order, used when that order already ends with the contiguous dimension, its
+     * tiles would be too small to help or the cube isn't reorderable.
+     */
+    private static final class Direct<T> implements Iterator<T> {
+
+        private final int[] shape;
+
+        private final int[] order;
+
+        private final Function<int[], T> reader;
+
+        private final int[] index;
+
+        private long remaining;
+
+        private Direct(int[] shape, int[] order, Function<int[], T> reader, long size) {
+            this.shape = shape;
+            this.order = order;
+            this.reader = reader;
+            this.index = new int[shape.length];
+            this.remaining = size;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public T next() {
+            T t = reader.apply(index);
+            remaining--;
+            for (int j = order.length - 1; j >= 0; j--) {
+                int axis = order[j];
+                if (++index[axis] < shape[axis]) {
+                    break;
+                }
+                index[axis] = 0;
+            }
+            return t;
+        }
+    }
+
+    /**
+     * Fills a tile with the records of a run of indices along the contiguous dimension and every combination of the indices
+     * of the dimensions ordered after it, reading each run in storage order, then emits the tile in the requested order.
+     */
+    private static final class Tiled<T> implements Iterator<T> {
+
+        private final int[] shape;
+
+        private final int[] order;
+
+        private final Function<int[], T> reader;
+
+        private final int axis;
+
+        private final int position;
+
+        private final int tile;
+
+        private final int innerCount;
+
+        private final Object[] buffer;
+
+        private final int[] index;
+
+        private int start = 0;
+
+        private int filled = 0;
+
+        private int emitted = 0;
+
+        private long remaining;
+
+        private Tiled(int[] shape, int[] order, Function<int[], T> reader, long size, int position, int tile, int innerCount) {
+            this.shape = shape;
+            this.order = order;
+            this.reader = reader;
+            this.axis = shape.length - 1;
+            this.position = position;
+            this.tile = tile;
+            this.innerCount = innerCount;
+            this.buffer = new Object[tile * innerCount];
+            this.index = new int[shape.length];
+            this.remaining = size;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (emitted == filled) {
+                fill();
+            }
+            remaining--;
+            T t = (T) buffer[emitted];
+            buffer[emitted++] = null;
+            return t;
+        }
+
+        private void fill() {
+
+            int length = Math.min(tile, shape[axis] - start);
+
+            // the indices of the dimensions ordered after the contiguous one start from zero in every tile
+            for (int j = position + 1; j < order.length; j++) {
+                index[order[j]] = 0;
+            }
+
+            for (int q = 0; q < innerCount; q++) {
+                for (int s = 0; s < length; s++) {
+                    index[axis] = start + s;
+                    buffer[s * innerCount + q] = reader.apply(index);
+                }
+                for (int j = order.length - 1; j > position; j--) {
+                    int a = order[j];
+                    if (++index[a] < shape[a]) {
+                        break;
+                    }
+                    index[a] = 0;
+                }
+            }
+
+            filled = length * innerCount;
+            emitted = 0;
+
+            // move on to the next run along the contiguous dimension, or the next combination of the outer dimensions
+            start += length;
+            if (start == shape[axis]) {
+                start = 0;
+                for (int j = position - 1; j >= 0; j--) {
+                    int a = order[j];
+                    if (++index[a] < shape[a]) {
+                        break;
+                    }
+                    index[a] = 0;
+                }
+            }
+        }
+    }
+}
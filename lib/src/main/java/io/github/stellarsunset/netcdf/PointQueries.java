@@ -0,0 +1,94 @@
+package io.github.stellarsunset.netcdf;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * Support for the batched point queries of the {@link Hypercube} subtypes, e.g. {@link Hypercube.D2#readAll(int[], int[])}.
+ *
+ * <p>Points are read in storage (row-major) order rather than the order they were requested, so each slab of a streaming
+ * cube is loaded at most once and reads against in-memory cubes walk the underlying arrays front to back. Results are then
+ * returned in the caller's original order.
+ */
+final class PointQueries {
+
+    private PointQueries() {
+    }
+
+    /**
+     * Read each of the points, in order of their row-major offsets into the cube, returning the results in the original
+     * order of the points.
+     *
+     * @param offsets the row-major offset of each point in the cube
+     * @param reader  reads the point at the given position in the batch
+     */
+    static <T> List<T> readAll(long[] offsets, IntFunction<T> reader) {
+
+        Object[] results = new Object[offsets.length];
+
+        for (int position : storageOrder(offsets)) {
+            results[position] = reader.apply(position);
+        }
+
+        @SuppressWarnings("unchecked")
+        List<T> list = (List<T>) Arrays.asList(results);
+        return Collections.unmodifiableList(list);
+    }
+
+    /**
+     * The positions of the provided offsets sorted by offset, ties are broken by position.
+     */
+    static int[] storageOrder(long[] offsets) {
+
+        long max = 0;
+        for (long offset : offsets) {
+            if (offset < 0) {
+                throw new IndexOutOfBoundsException("Point offsets must be non-negative, was: " + offset);
+            }
+            max = Math.max(max, offset);
+        }
+
+        int[] order = new int[offsets.length];
+
+        // pack the offset and position into a single long so the sort is primitive, the usual case for all but huge 4D cubes
+        if (max <= Integer.MAX_VALUE) {
+
+            long[] packed = new long[offsets.length];
+            for (int i = 0; i < offsets.length; i++) {
+                packed[i] = (offsets[i] << 32) | i;
+            }
+
+            Arrays.sort(packed);
+
+            for (int i = 0; i < packed.length; i++) {
+                order[i] = (int) packed[i];
+            }
+
+            return order;
+        }
+
+        Integer[] boxed = new Integer[offsets.length];
+        for (int i = 0; i < boxed.length; i++) {
+            boxed[i] = i;
+        }
+
+        Arrays.sort(boxed, Comparator.comparingLong((Integer i) -> offsets[i]).thenComparingInt(i -> i));
+
+        for (int i = 0; i < boxed.length; i++) {
+            order[i] = boxed[i];
+        }
+
+        return order;
+    }
+
+    static void checkLengths(int[]... indices) {
+        for (int[] index : indices) {
+            if (index.length != indices[0].length) {
+                throw new IllegalArgumentException("Expected the same number of indices along each axis.");
+            }
+        }
+    }
+}
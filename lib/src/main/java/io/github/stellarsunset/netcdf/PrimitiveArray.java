@@ -0,0 +1,268 @@
+package io.github.stellarsunset.netcdf;
+
+import ucar.ma2.DataType;
+
+import java.util.Arrays;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * The flat (row-major) primitive storage of a numeric variable backing a {@link VariableAccessor}.
+ *
+ * <p>Values can be read as any type they widen to without loss of range per the usual Java rules, e.g. a short as an
+ * int, long, float or double, reading them as a narrower type throws an {@link IllegalStateException}. Values are read
+ * as stored (i.e. signed) matching the typed {@link FieldBinding}s.
+ */
+sealed interface PrimitiveArray {
+
+    /**
+     * Unwrap the storage of the provided UCAR array, this is a copy only if the array isn't already a canonical view of
+     * its own storage (e.g. is a section).
+     */
+    static PrimitiveArray of(ucar.ma2.Array data) {
+        DataType type = data.getDataType();
+        return switch (type) {
+            case BYTE, UBYTE, ENUM1 -> new Bytes((byte[]) data.get1DJavaArray(type));
+            case SHORT, USHORT, ENUM2 -> new Shorts((short[]) data.get1DJavaArray(type));
+            case INT, UINT, ENUM4 -> new Ints((int[]) data.get1DJavaArray(type));
+            case LONG, ULONG -> new Longs((long[]) data.get1DJavaArray(type));
+            case FLOAT -> new Floats((float[]) data.get1DJavaArray(type));
+            case DOUBLE -> new Doubles((double[]) data.get1DJavaArray(type));
+            default -> throw new IllegalArgumentException("Variable must be numeric, was: " + type);
+        };
+    }
+
+    /**
+     * Create an accessor over the already decoded data of the named variable, sharing rather than copying its storage
+     * where possible, e.g. for {@link VariableAccessor#of(ucar.nc2.NetcdfFile, String)} or {@link HypercubeGroup}.
+     */
+    static VariableAccessor accessor(String name, ucar.ma2.Array data) {
+        int[] shape = data.getShape();
+        PrimitiveArray values = of(data);
+        return switch (shape.length) {
+            case 1 -> new VariableAccessor.D1(name, values, shape[0]);
+            case 2 -> new VariableAccessor.D2(name, values, shape[0], shape[1]);
+            case 3 -> new VariableAccessor.D3(name, values, shape[0], shape[1], shape[2]);
+            case 4 -> new VariableAccessor.D4(name, values, shape[0], shape[1], shape[2], shape[3]);
+            default -> throw new IllegalArgumentException(String.format("Variable %s must have 1-4 dimensions, was: %d", name, shape.length));
+        };
+    }
+
+    DataType type();
+
+    int length();
+
+    default int intAt(int offset) {
+        throw narrowing("int");
+    }
+
+    default long longAt(int offset) {
+        throw narrowing("long");
+    }
+
+    default float floatAt(int offset) {
+        throw narrowing("float");
+    }
+
+    double doubleAt(int offset);
+
+    default IntStream ints() {
+        return IntStream.range(0, length()).map(this::intAt);
+    }
+
+    default LongStream longs() {
+        return IntStream.range(0, length()).mapToLong(this::longAt);
+    }
+
+    default DoubleStream doubles() {
+        return IntStream.range(0, length()).mapToDouble(this::doubleAt);
+    }
+
+    private IllegalStateException narrowing(String target) {
+        return new IllegalStateException(String.format("Values of type %s can't be read as %s without narrowing.", type(), target));
+    }
+
+    record Bytes(byte[] values) implements PrimitiveArray {
+
+        @Override
+        public DataType type() {
+            return DataType.BYTE;
+        }
+
+        @Override
+        public int length() {
+            return values.length;
+        }
+
+        @Override
+        public int intAt(int offset) {
+            return values[offset];
+        }
+
+        @Override
+        public long longAt(int offset) {
+            return values[offset];
+        }
+
+        @Override
+        public float floatAt(int offset) {
+            return values[offset];
+        }
+
+        @Override
+        public double doubleAt(int offset) {
+            return values[offset];
+        }
+    }
+
+    record Shorts(short[] values) implements PrimitiveArray {
+
+        @Override
+        public DataType type() {
+            return DataType.SHORT;
+        }
+
+        @Override
+        public int length() {
+            return values.length;
+        }
+
+        @Override
+        public int intAt(int offset) {
+            return values[offset];
+        }
+
+        @Override
+        public long longAt(int offset) {
+            return values[offset];
+        }
+
+        @Override
+        public float floatAt(int offset) {
+            return values[offset];
+        }
+
+        @Override
+        public double doubleAt(int offset) {
+            return values[offset];
+        }
+    }
+
+    record Ints(int[] values) implements PrimitiveArray {
+
+        @Override
+        public DataType type() {
+            return DataType.INT;
+        }
+
+        @Override
+        public int length() {
+            return values.length;
+        }
+
+        @Override
+        public int intAt(int offset) {
+            return values[offset];
+        }
+
+        @Override
+        public long longAt(int offset) {
+            return values[offset];
+        }
+
+        @Override
+        public float floatAt(int offset) {
+            return values[offset];
+        }
+
+        @Override
+        public double doubleAt(int offset) {
+            return values[offset];
+        }
+
+        @Override
+        public IntStream ints() {
+            return Arrays.stream(values);
+        }
+    }
+
+    record Longs(long[] values) implements PrimitiveArray {
+
+        @Override
+        public DataType type() {
+            return DataType.LONG;
+        }
+
+        @Override
+        public int length() {
+            return values.length;
+        }
+
+        @Override
+        public long longAt(int offset) {
+            return values[offset];
+        }
+
+        @Override
+        public float floatAt(int offset) {
+            return values[offset];
+        }
+
+        @Override
+        public double doubleAt(int offset) {
+            return values[offset];
+        }
+
+        @Override
+        public LongStream longs() {
+            return Arrays.stream(values);
+        }
+    }
+
+    record Floats(float[] values) implements PrimitiveArray {
+
+        @Override
+        public DataType type() {
+            return DataType.FLOAT;
+        }
+
+        @Override
+        public int length() {
+            return values.length;
+        }
+
+        @Override
+        public float floatAt(int offset) {
+            return values[offset];
+        }
+
+        @Override
+        public double doubleAt(int offset) {
+            return values[offset];
+        }
+    }
+
+    record Doubles(double[] values) implements PrimitiveArray {
+
+        @Override
+        public DataType type() {
+            return DataType.DOUBLE;
+        }
+
+        @Override
+        public int length() {
+            return values.length;
+        }
+
+        @Override
+        public double doubleAt(int offset) {
+            return values[offset];
+        }
+
+        @Override
+        public DoubleStream doubles() {
+            return Arrays.stream(values);
+        }
+    }
+}
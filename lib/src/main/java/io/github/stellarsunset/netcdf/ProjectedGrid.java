@@ -0,0 +1,285 @@
+package io.github.stellarsunset.netcdf;
+
+import ucar.ma2.DataType;
+import ucar.nc2.Attribute;
+import ucar.nc2.Dimension;
+import ucar.nc2.NetcdfFile;
+import ucar.nc2.Variable;
+
+import java.util.List;
+import java.util.Locale;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A regular grid in the projected coordinate space of a {@link Projection}, e.g. the 3km Lambert conformal grid of the
+ * HRRR, locating cells by latitude/longitude analytically rather than from (large) 2D latitude/longitude variables.
+ *
+ * <p>Following CF conventions the grid's outer index {@code i0} steps along the projected y axis and its inner index
+ * {@code i1} along the projected x axis, i.e. cell {@code (i0, i1)} is centered at {@code (x0 + i1 * dx, y0 + i0 * dy)}.
+ *
+ * <p>Grids support:
+ * <ul>
+ *     <li>{@code O(1)} point lookups via {@link #nearest(double, double)}, projecting the position and rounding to the
+ *     nearest cell</li>
+ *     <li>bulk computation of latitude/longitude per cell via {@link #fillRow(int, double[], double[])}</li>
+ *     <li>binding the latitude/longitude of each cell into records as if they were variables in the file via
+ *     {@link SchemaBinding.Builder#projectedGrid(ProjectedGrid, LatLonBinding)}</li>
+ * </ul>
+ */
+public final class ProjectedGrid {
+
+    private final Projection projection;
+
+    private final double x0;
+
+    private final double dx;
+
+    private final int xMax;
+
+    private final double y0;
+
+    private final double dy;
+
+    private final int yMax;
+
+    private ProjectedGrid(Projection projection, double x0, double dx, int xMax, double y0, double dy, int yMax) {
+        this.projection = requireNonNull(projection);
+        this.x0 = x0;
+        this.dx = dx;
+        this.xMax = xMax;
+        this.y0 = y0;
+        this.dy = dy;
+        this.yMax = yMax;
+    }
+
+    /**
+     * Create a grid from the projection and regularly-spaced projected coordinates of the grid's cells.
+     *
+     * @param projection the projection of the grid
+     * @param x0         the projected x coordinate of the first column of cells, in meters
+     * @param dx         the spacing between columns, in meters
+     * @param xMax       the number of columns
+     * @param y0         the projected y coordinate of the first row of cells, in meters
+     * @param dy         the spacing between rows, in meters
+     * @param yMax       the number of rows
+     */
+    public static ProjectedGrid of(Projection projection, double x0, double dx, int xMax, double y0, double dy, int yMax) {
+        if (dx == 0. || dy == 0. || xMax <= 0 || yMax <= 0) {
+            throw new IllegalArgumentException(String.format("Invalid grid, spacing (%s, %s) and size (%d, %d).", dx, dy, xMax, yMax));
+        }
+        return new ProjectedGrid(projection, x0, dx, xMax, y0, dy, yMax);
+    }
+
+    /**
+     * Create the grid of the named data variable from its CF {@code grid_mapping} attribute and the 1D coordinate variables
+     * of its last two dimensions, which are taken to be the projected y and x axes respectively.
+     *
+     * <p>Only the (small) 1D projected coordinate variables are read, their units may be meters or kilometers.
+     *
+     * @param file     the file containing the data variable
+     * @param variable the name of the data variable on the projected grid
+     * @throws IllegalArgumentException if the variable doesn't reference a supported grid mapping, or its projected
+     *                                  coordinates are missing or irregularly spaced
+     */
+    public static ProjectedGrid of(NetcdfFile file, String variable) {
+
+        Variable data = file.findVariable(requireNonNull(variable));
+        if (data == null) {
+            throw new IllegalArgumentException("Missing data variable: " + variable);
+        }
+
+        Attribute gridMappingName = data.findAttribute("grid_mapping");
+        if (gridMappingName == null || gridMappingName.getStringValue() == null) {
+            throw new IllegalArgumentException("Data variable has no grid_mapping attribute: " + variable);
+        }
+
+        Variable gridMapping = file.findVariable(gridMappingName.getStringValue());
+        if (gridMapping == null) {
+            throw new IllegalArgumentException("Missing grid mapping variable: " + gridMappingName.getStringValue());
+        }
+
+        List<Dimension> dimensions = data.getDimensions();
+        if (dimensions.size() < 2) {
+            throw new IllegalArgumentException(String.format("Data variable %s must be at least 2D, was %dD.", variable, dimensions.size()));
+        }
+
+        Axis y = axis(file, dimensions.get(dimensions.size() - 2));
+        Axis x = axis(file, dimensions.get(dimensions.size() - 1));
+
+        return of(Projection.of(gridMapping), x.origin(), x.spacing(), x.length(), y.origin(), y.spacing(), y.length());
+    }
+
+    private static Axis axis(NetcdfFile file, Dimension dimension) {
+
+        Variable coordinate = file.findVariable(dimension.getName());
+        if (coordinate == null || coordinate.getRank() != 1) {
+            throw new IllegalArgumentException("Missing 1D projected coordinate variable for dimension: " + dimension.getName());
+        }
+
+        double[] values = (double[]) SchemaBoundHyperCubes.read(coordinate).get1DJavaArray(DataType.DOUBLE);
+        double scale = unitScale(coordinate);
+
+        if (values.length < 2) {
+            return new Axis(values[0] * scale, scale, values.length);
+        }
+
+        double spacing = values[1] - values[0];
+        for (int i = 2; i < values.length; i++) {
+            if (Math.abs((values[i] - values[i - 1]) - spacing) > Math.abs(spacing) * 1e-4) {
+                throw new IllegalArgumentException("Projected coordinates must be regularly spaced: " + coordinate.getFullName());
+            }
+        }
+
+        // derive the spacing from the full extent to avoid accumulating the rounding error of the first step
+        return new Axis(values[0] * scale, (values[values.length - 1] - values[0]) / (values.length - 1) * scale, values.length);
+    }
+
+    private static double unitScale(Variable coordinate) {
+        String units = coordinate.getUnitsString();
+        if (units == null || units.isBlank()) {
+            return 1.;
+        }
+        return switch (units.trim().toLowerCase(Locale.ROOT)) {
+            case "m", "meter", "meters", "metre", "metres" -> 1.;
+            case "km", "kilometer", "kilometers", "kilometre", "kilometres" -> 1000.;
+            default -> throw new IllegalArgumentException(String.format("Unsupported projected coordinate units %s for %s.", units, coordinate.getFullName()));
+        };
+    }
+
+    public Projection projection() {
+        return projection;
+    }
+
+    /**
+     * The number of rows in the grid, i.e. the length of the projected y axis.
+     */
+    public int yMax() {
+        return yMax;
+    }
+
+    /**
+     * The number of columns in the grid, i.e. the length of the projected x axis.
+     */
+    public int xMax() {
+        return xMax;
+    }
+
+    /**
+     * Write the latitude and longitude of the center of cell {@code (i0, i1)} into the first two elements of the array.
+     */
+    public void latLon(int i0, int i1, double[] latLon) {
+        projection.unproject(x0 + i1 * dx, y0 + i0 * dy, latLon);
+    }
+
+    /**
+     * Fill the provided arrays with the latitude and longitude of each cell in row {@code i0} of the grid, both arrays must
+     * have at least {@link #xMax()} elements.
+     */
+    public void fillRow(int i0, double[] latitudes, double[] longitudes) {
+
+        if (latitudes.length < xMax || longitudes.length < xMax) {
+            throw new IllegalArgumentException("Arrays must have at least " + xMax + " elements to fill a row.");
+        }
+
+        double y = y0 + i0 * dy;
+        double[] latLon = new double[2];
+
+        for (int i1 = 0; i1 < xMax; i1++) {
+            projection.unproject(x0 + i1 * dx, y, latLon);
+            latitudes[i1] = latLon[0];
+            longitudes[i1] = latLon[1];
+        }
+    }
+
+    /**
+     * The row-major offset ({@code i0 * xMax + i1}) of the cell containing the given position, or -1 if the position falls
+     * outside the grid.
+     *
+     * @param latitude  the latitude of the position in degrees
+     * @param longitude the longitude of the position in degrees
+     */
+    public int nearest(double latitude, double longitude) {
+
+        double[] fractional = new double[2];
+        fractionalIndex(latitude, longitude, fractional);
+
+        long i0 = Math.round(fractional[0]);
+        long i1 = Math.round(fractional[1]);
+
+        if (i0 < 0 || i0 >= yMax || i1 < 0 || i1 >= xMax) {
+            return -1;
+        }
+
+        return (int) (i0 * xMax + i1);
+    }
+
+    /**
+     * Write the fractional grid indices {@code (i0, i1)} of the given position into the first two elements of the array,
+     * e.g. for interpolation, positions outside the grid produce indices outside {@code [0, yMax)} and {@code [0, xMax)}.
+     *
+     * @param latitude  the latitude of the position in degrees
+     * @param longitude the longitude of the position in degrees
+     */
+    public void fractionalIndex(double latitude, double longitude, double[] indices) {
+        projection.project(latitude, longitude, indices);
+        double x = indices[0];
+        indices[0] = (indices[1] - y0) / dy;
+        indices[1] = (x - x0) / dx;
+    }
+
+    /**
+     * The indices of the cell containing the given position, or null if the position falls outside the grid.
+     *
+     * @param latitude  the latitude of the position in degrees
+     * @param longitude the longitude of the position in degrees
+     */
+    public GridIndex.Cell nearestCell(double latitude, double longitude) {
+        int offset = nearest(latitude, longitude);
+        return offset < 0 ? null : new GridIndex.Cell(offset / xMax, offset % xMax);
+    }
+
+    /**
+     * Bind the latitude and longitude of each cell into records indexed by {@code (i0, i1)} over this grid, as though they
+     * were 2D variables in the file, see {@link SchemaBinding.Builder#projectedGrid(ProjectedGrid, LatLonBinding)}.
+     *
+     * <p>Cells are unprojected into a per-thread scratch array rather than allocating one per record.
+     *
+     * @param binding binding of each cell's latitude and longitude into the record
+     */
+    <T> IndexBinding.D2<T> bindIndex(LatLonBinding<T> binding) {
+        requireNonNull(binding);
+        ThreadLocal<double[]> scratch = ThreadLocal.withInitial(() -> new double[2]);
+        return (record, i0, i1) -> {
+            double[] latLon = scratch.get();
+            latLon(i0, i1, latLon);
+            return binding.apply(record, latLon[0], latLon[1]);
+        };
+    }
+
+    /**
+     * Check the trailing {@code (y, x)} axes of a cube match the shape of this grid.
+     */
+    void checkShape(int y, int x) {
+        if (y != yMax || x != xMax) {
+            throw new IllegalArgumentException(String.format("Cube's trailing axes (%d, %d) don't match the grid (%d, %d).", y, x, yMax, xMax));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ProjectedGrid[projection=%s, x0=%s, dx=%s, xMax=%d, y0=%s, dy=%s, yMax=%d]", projection, x0, dx, xMax, y0, dy, yMax);
+    }
+
+    /**
+     * Binding of a cell's latitude and longitude (in degrees) into a record, the two-valued equivalent of a
+     * {@link FieldBinding}.
+     */
+    @FunctionalInterface
+    public interface LatLonBinding<T> {
+        T apply(T record, double latitude, double longitude);
+    }
+
+    private record Axis(double origin, double spacing, int length) {
+    }
+}
@@ -0,0 +1,313 @@
+package io.github.stellarsunset.netcdf;
+
+import ucar.nc2.Attribute;
+import ucar.nc2.Variable;
+
+import java.util.Locale;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Analytic (spherical earth) map projection between latitude/longitude in degrees and projected x/y coordinates in meters,
+ * used to place the cells of projected grids without reading (or storing) 2D latitude/longitude arrays.
+ *
+ * <p>Projections are typically created from the CF grid-mapping variable referenced by a data variable's
+ * {@code grid_mapping} attribute via {@link #of(Variable)}, see {@link ProjectedGrid}. Formulas are those of Snyder's "Map
+ * Projections: A Working Manual" for the sphere.
+ *
+ * <p>Both directions write into a caller-provided two-element array so bulk transforms don't allocate.
+ */
+public sealed interface Projection {
+
+    /**
+     * Radius of the spherical earth assumed by NCEP GRIB products, used when the grid mapping doesn't specify one.
+     */
+    double DEFAULT_EARTH_RADIUS = 6371229.;
+
+    /**
+     * Project the given position, writing the projected {@code x} and {@code y} (in meters) into the first two elements of
+     * the output array.
+     */
+    void project(double latitude, double longitude, double[] xy);
+
+    /**
+     * Invert the projection at the given projected coordinates (in meters), writing the {@code latitude} and
+     * {@code longitude} (in degrees) into the first two elements of the output array.
+     */
+    void unproject(double x, double y, double[] latLon);
+
+    /**
+     * Creates the projection described by the attributes of the provided CF grid-mapping variable.
+     *
+     * <p>Supports the {@code lambert_conformal_conic}, {@code polar_stereographic} and {@code mercator} grid mappings.
+     *
+     * @throws IllegalArgumentException if the grid mapping is missing, unsupported or missing a required attribute
+     */
+    static Projection of(Variable gridMapping) {
+
+        requireNonNull(gridMapping);
+        String name = stringAttribute(gridMapping, "grid_mapping_name").toLowerCase(Locale.ROOT);
+
+        double radius = optionalAttribute(gridMapping, "earth_radius", DEFAULT_EARTH_RADIUS);
+        double falseEasting = optionalAttribute(gridMapping, "false_easting", 0.);
+        double falseNorthing = optionalAttribute(gridMapping, "false_northing", 0.);
+
+        return switch (name) {
+            case "lambert_conformal_conic" -> {
+                Attribute parallels = requiredAttribute(gridMapping, "standard_parallel");
+                yield new LambertConformal(
+                        parallels.getNumericValue(0).doubleValue(),
+                        parallels.getNumericValue(parallels.getLength() > 1 ? 1 : 0).doubleValue(),
+                        requiredAttribute(gridMapping, "latitude_of_projection_origin").getNumericValue().doubleValue(),
+                        requiredAttribute(gridMapping, "longitude_of_central_meridian").getNumericValue().doubleValue(),
+                        falseEasting,
+                        falseNorthing,
+                        radius
+                );
+            }
+            case "polar_stereographic" -> {
+                double origin = requiredAttribute(gridMapping, "latitude_of_projection_origin").getNumericValue().doubleValue();
+                double scale = gridMapping.findAttribute("standard_parallel") != null
+                        ? PolarStereographic.scaleAtStandardParallel(requiredAttribute(gridMapping, "standard_parallel").getNumericValue().doubleValue())
+                        : optionalAttribute(gridMapping, "scale_factor_at_projection_origin", 1.);
+                yield new PolarStereographic(
+                        origin > 0,
+                        requiredAttribute(gridMapping, "straight_vertical_longitude_from_pole").getNumericValue().doubleValue(),
+                        scale,
+                        falseEasting,
+                        falseNorthing,
+                        radius
+                );
+            }
+            case "mercator" -> new Mercator(
+                    optionalAttribute(gridMapping, "standard_parallel", 0.),
+                    requiredAttribute(gridMapping, "longitude_of_projection_origin").getNumericValue().doubleValue(),
+                    falseEasting,
+                    falseNorthing,
+                    radius
+            );
+            default -> throw new IllegalArgumentException("Unsupported grid mapping: " + name);
+        };
+    }
+
+    private static Attribute requiredAttribute(Variable variable, String name) {
+        Attribute attribute = variable.findAttribute(name);
+        if (attribute == null) {
+            throw new IllegalArgumentException(String.format("Grid mapping %s is missing required attribute: %s", variable.getFullName(), name));
+        }
+        return attribute;
+    }
+
+    private static String stringAttribute(Variable variable, String name) {
+        String value = requiredAttribute(variable, name).getStringValue();
+        if (value == null) {
+            throw new IllegalArgumentException(String.format("Grid mapping %s attribute %s must be a string.", variable.getFullName(), name));
+        }
+        return value;
+    }
+
+    private static double optionalAttribute(Variable variable, String name, double defaultValue) {
+        Attribute attribute = variable.findAttribute(name);
+        return attribute == null || attribute.getNumericValue() == null ? defaultValue : attribute.getNumericValue().doubleValue();
+    }
+
+    /**
+     * Normalizes a longitude difference in radians into {@code [-pi, pi]}.
+     */
+    private static double normalize(double lambda) {
+        return lambda - 2. * Math.PI * Math.floor((lambda + Math.PI) / (2. * Math.PI));
+    }
+
+    /**
+     * Lambert conformal conic projection with one or two standard parallels (Snyder 15-1 to 15-11), e.g. the HRRR and NAM
+     * grids.
+     */
+    final class LambertConformal implements Projection {
+
+        private final double standardParallel1;
+
+        private final double standardParallel2;
+
+        private final double originLatitude;
+
+        private final double centralMeridian;
+
+        private final double falseEasting;
+
+        private final double falseNorthing;
+
+        private final double radius;
+
+        /**
+         * Cone constant, the scaled radius {@code R * F} and the radius at the origin latitude, precomputed as they're
+         * shared by every point.
+         */
+        private final double n;
+
+        private final double rf;
+
+        private final double rho0;
+
+        /**
+         * @param standardParallel1 the first standard parallel in degrees
+         * @param standardParallel2 the second standard parallel in degrees, equal to the first for tangent cones
+         * @param originLatitude    the latitude of the projection origin in degrees
+         * @param centralMeridian   the longitude of the central meridian in degrees
+         * @param falseEasting      added to projected x coordinates, in meters
+         * @param falseNorthing     added to projected y coordinates, in meters
+         * @param radius            the radius of the earth in meters
+         */
+        public LambertConformal(double standardParallel1, double standardParallel2, double originLatitude,
+                                double centralMeridian, double falseEasting, double falseNorthing, double radius) {
+            this.standardParallel1 = standardParallel1;
+            this.standardParallel2 = standardParallel2;
+            this.originLatitude = originLatitude;
+            this.centralMeridian = centralMeridian;
+            this.falseEasting = falseEasting;
+            this.falseNorthing = falseNorthing;
+            this.radius = radius;
+
+            double phi1 = Math.toRadians(standardParallel1);
+            this.n = cone(standardParallel1, standardParallel2);
+            this.rf = radius * Math.cos(phi1) * Math.pow(Math.tan(Math.PI / 4. + phi1 / 2.), n) / n;
+            this.rho0 = rf / Math.pow(Math.tan(Math.PI / 4. + Math.toRadians(originLatitude) / 2.), n);
+        }
+
+        public double standardParallel1() {
+            return standardParallel1;
+        }
+
+        public double standardParallel2() {
+            return standardParallel2;
+        }
+
+        public double originLatitude() {
+            return originLatitude;
+        }
+
+        public double centralMeridian() {
+            return centralMeridian;
+        }
+
+        public double falseEasting() {
+            return falseEasting;
+        }
+
+        public double falseNorthing() {
+            return falseNorthing;
+        }
+
+        public double radius() {
+            return radius;
+        }
+
+        private static double cone(double standardParallel1, double standardParallel2) {
+            double phi1 = Math.toRadians(standardParallel1);
+            double phi2 = Math.toRadians(standardParallel2);
+            if (Math.abs(phi1 - phi2) < 1e-10) {
+                return Math.sin(phi1);
+            }
+            return Math.log(Math.cos(phi1) / Math.cos(phi2))
+                    / Math.log(Math.tan(Math.PI / 4. + phi2 / 2.) / Math.tan(Math.PI / 4. + phi1 / 2.));
+        }
+
+        @Override
+        public void project(double latitude, double longitude, double[] xy) {
+            double rho = rf / Math.pow(Math.tan(Math.PI / 4. + Math.toRadians(latitude) / 2.), n);
+            double theta = n * normalize(Math.toRadians(longitude - centralMeridian));
+            xy[0] = rho * Math.sin(theta) + falseEasting;
+            xy[1] = rho0 - rho * Math.cos(theta) + falseNorthing;
+        }
+
+        @Override
+        public void unproject(double x, double y, double[] latLon) {
+            double dx = x - falseEasting;
+            double dy = rho0 - (y - falseNorthing);
+
+            double rho = Math.copySign(Math.hypot(dx, dy), n);
+            double theta = n > 0 ? Math.atan2(dx, dy) : Math.atan2(-dx, -dy);
+
+            latLon[0] = rho == 0.
+                    ? Math.copySign(90., n)
+                    : Math.toDegrees(2. * Math.atan(Math.pow(rf / rho, 1. / n)) - Math.PI / 2.);
+            latLon[1] = Math.toDegrees(normalize(theta / n + Math.toRadians(centralMeridian)));
+        }
+
+        @Override
+        public String toString() {
+            return String.format("LambertConformal[standardParallel1=%s, standardParallel2=%s, originLatitude=%s, centralMeridian=%s, falseEasting=%s, falseNorthing=%s, radius=%s]",
+                    standardParallel1, standardParallel2, originLatitude, centralMeridian, falseEasting, falseNorthing, radius);
+        }
+    }
+
+    /**
+     * Polar stereographic projection about either pole (Snyder 21-1 to 21-39).
+     *
+     * @param north         whether the projection is centered on the north (or south) pole
+     * @param meridian      the straight vertical longitude from the pole in degrees
+     * @param scale         the scale factor at the pole, see {@link #scaleAtStandardParallel(double)}
+     * @param falseEasting  added to projected x coordinates, in meters
+     * @param falseNorthing added to projected y coordinates, in meters
+     * @param radius        the radius of the earth in meters
+     */
+    record PolarStereographic(boolean north, double meridian, double scale, double falseEasting, double falseNorthing,
+                              double radius) implements Projection {
+
+        /**
+         * The scale factor at the pole for which the projection is true to scale at the given standard parallel.
+         */
+        public static double scaleAtStandardParallel(double standardParallel) {
+            return (1. + Math.abs(Math.sin(Math.toRadians(standardParallel)))) / 2.;
+        }
+
+        @Override
+        public void project(double latitude, double longitude, double[] xy) {
+            double phi = Math.toRadians(latitude);
+            double lambda = normalize(Math.toRadians(longitude - meridian));
+            double rho = 2. * radius * scale * Math.tan(Math.PI / 4. - (north ? phi : -phi) / 2.);
+            xy[0] = rho * Math.sin(lambda) + falseEasting;
+            xy[1] = (north ? -rho : rho) * Math.cos(lambda) + falseNorthing;
+        }
+
+        @Override
+        public void unproject(double x, double y, double[] latLon) {
+            double dx = x - falseEasting;
+            double dy = y - falseNorthing;
+            double rho = Math.hypot(dx, dy);
+            double phi = Math.PI / 2. - 2. * Math.atan(rho / (2. * radius * scale));
+            latLon[0] = Math.toDegrees(north ? phi : -phi);
+            latLon[1] = Math.toDegrees(normalize(Math.toRadians(meridian) + (north ? Math.atan2(dx, -dy) : Math.atan2(dx, dy))));
+        }
+    }
+
+    /**
+     * Mercator projection, true to scale at the given standard parallel (Snyder 7-1 to 7-5).
+     *
+     * @param standardParallel the latitude of true scale in degrees
+     * @param centralMeridian  the longitude of the projection origin in degrees
+     * @param falseEasting     added to projected x coordinates, in meters
+     * @param falseNorthing    added to projected y coordinates, in meters
+     * @param radius           the radius of the earth in meters
+     */
+    record Mercator(double standardParallel, double centralMeridian, double falseEasting, double falseNorthing,
+                    double radius) implements Projection {
+
+        private double scaledRadius() {
+            return radius * Math.cos(Math.toRadians(standardParallel));
+        }
+
+        @Override
+        public void project(double latitude, double longitude, double[] xy) {
+            double r = scaledRadius();
+            xy[0] = r * normalize(Math.toRadians(longitude - centralMeridian)) + falseEasting;
+            xy[1] = r * Math.log(Math.tan(Math.PI / 4. + Math.toRadians(latitude) / 2.)) + falseNorthing;
+        }
+
+        @Override
+        public void unproject(double x, double y, double[] latLon) {
+            double r = scaledRadius();
+            latLon[0] = Math.toDegrees(Math.PI / 2. - 2. * Math.atan(Math.exp(-(y - falseNorthing) / r)));
+            latLon[1] = Math.toDegrees(normalize((x - falseEasting) / r + Math.toRadians(centralMeridian)));
+        }
+    }
+}
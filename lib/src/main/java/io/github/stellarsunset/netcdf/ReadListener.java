@@ -0,0 +1,81 @@
+package io.github.stellarsunset.netcdf;
+
+import ucar.nc2.NetcdfFile;
+import ucar.nc2.Variable;
+
+/**
+ * Listener notified as a {@link Hypercube} is created from a {@link SchemaBinding} and as records are read out of it,
+ * intended to be bridged into an application's own metrics system to see where time is going in a read.
+ *
+ * <p>Listeners are configured via {@link ReadOptions.Builder#listener(ReadListener)}. All callbacks default to no-ops so
+ * implementations only need to override the ones they care about. Durations are reported in nanoseconds as measured by
+ * {@link System#nanoTime()}.
+ *
+ * <p>The per-record callback {@link #recordEmitted(long)} is only wired into the cube when a listener other than
+ * {@link #noop()} is configured, so the default costs nothing on the per-cell read path.
+ *
+ * <p>Callbacks are invoked on the thread doing the read, implementations should be cheap and thread-safe if the cube is
+ * read concurrently (e.g. via a parallel stream). See {@link ReadMetrics} for a simple counter-based implementation.
+ */
+public interface ReadListener {
+
+    /**
+     * Returns the shared no-op listener, the default on {@link ReadOptions}.
+     */
+    static ReadListener noop() {
+        return Noop.INSTANCE;
+    }
+
+    /**
+     * Called once the {@link SchemaBinding} has been validated against the variables in the file.
+     *
+     * @param file  the file the binding was validated against
+     * @param nanos the time taken to validate the binding
+     */
+    default void validated(NetcdfFile file, long nanos) {
+    }
+
+    /**
+     * Called each time (a slab of) a variable is read and decoded from the underlying file.
+     *
+     * @param variable the variable that was read
+     * @param bytes    the size of the decoded data in memory
+     * @param nanos    the time taken to read and decode the data
+     */
+    default void variableRead(Variable variable, long bytes, long nanos) {
+    }
+
+    /**
+     * Called each time a streaming cube loads a new slab of coordinate variable data, see {@link ReadOptions#slabSize()}.
+     *
+     * @param origin the first index of the slab along the outermost dimension of the cube
+     * @param length the number of indices along the outermost dimension in the slab
+     * @param nanos  the time taken to read and bind the slab, including the individual variable reads
+     */
+    default void slabLoaded(int origin, int length, long nanos) {
+    }
+
+    /**
+     * Called once the cube has been created, i.e. all up-front variable reads have completed and have been bound to the
+     * fields of the schema.
+     *
+     * @param nanos the time taken to create the cube, excluding validation
+     */
+    default void cubeCreated(long nanos) {
+    }
+
+    /**
+     * Called each time a record is bound and finalized by the cube.
+     *
+     * @param finalizationNanos the time spent in the schema's {@link RecordFinalizer} for the record
+     */
+    default void recordEmitted(long finalizationNanos) {
+    }
+
+    /**
+     * Marker implementation, the cube skips per-record instrumentation entirely when configured with it.
+     */
+    enum Noop implements ReadListener {
+        INSTANCE
+    }
+}
@@ -0,0 +1,122 @@
+package io.github.stellarsunset.netcdf;
+
+import ucar.nc2.NetcdfFile;
+import ucar.nc2.Variable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Thread-safe {@link ReadListener} accumulating simple counters across all reads it's configured for, meant as a starting
+ * point for bridging into an application's own metrics system (e.g. by polling it periodically).
+ */
+public final class ReadMetrics implements ReadListener {
+
+    private final LongAdder validationNanos = new LongAdder();
+
+    private final LongAdder variableReads = new LongAdder();
+
+    private final LongAdder readNanos = new LongAdder();
+
+    private final Map<String, LongAdder> bytesRead = new ConcurrentHashMap<>();
+
+    private final LongAdder slabsLoaded = new LongAdder();
+
+    private final LongAdder slabNanos = new LongAdder();
+
+    private final LongAdder cubesCreated = new LongAdder();
+
+    private final LongAdder creationNanos = new LongAdder();
+
+    private final LongAdder recordsEmitted = new LongAdder();
+
+    private final LongAdder finalizationNanos = new LongAdder();
+
+    @Override
+    public void validated(NetcdfFile file, long nanos) {
+        validationNanos.add(nanos);
+    }
+
+    @Override
+    public void variableRead(Variable variable, long bytes, long nanos) {
+        variableReads.increment();
+        readNanos.add(nanos);
+        bytesRead.computeIfAbsent(variable.getFullName(), v -> new LongAdder()).add(bytes);
+    }
+
+    @Override
+    public void slabLoaded(int origin, int length, long nanos) {
+        slabsLoaded.increment();
+        slabNanos.add(nanos);
+    }
+
+    @Override
+    public void cubeCreated(long nanos) {
+        cubesCreated.increment();
+        creationNanos.add(nanos);
+    }
+
+    @Override
+    public void recordEmitted(long finalizationNanos) {
+        this.recordsEmitted.increment();
+        this.finalizationNanos.add(finalizationNanos);
+    }
+
+    public long validationNanos() {
+        return validationNanos.sum();
+    }
+
+    /**
+     * The number of (slabs of) variables read from files.
+     */
+    public long variableReads() {
+        return variableReads.sum();
+    }
+
+    /**
+     * The total time spent reading and decoding variable data from files.
+     */
+    public long readNanos() {
+        return readNanos.sum();
+    }
+
+    /**
+     * The total size of the decoded variable data read from files.
+     */
+    public long bytesRead() {
+        return bytesRead.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    /**
+     * The total size of the decoded data read for each variable, keyed by the full name of the variable.
+     */
+    public Map<String, Long> bytesReadPerVariable() {
+        return bytesRead.entrySet().stream().collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, e -> e.getValue().sum()));
+    }
+
+    public long slabsLoaded() {
+        return slabsLoaded.sum();
+    }
+
+    public long slabNanos() {
+        return slabNanos.sum();
+    }
+
+    public long cubesCreated() {
+        return cubesCreated.sum();
+    }
+
+    public long creationNanos() {
+        return creationNanos.sum();
+    }
+
+    public long recordsEmitted() {
+        return recordsEmitted.sum();
+    }
+
+    public long finalizationNanos() {
+        return finalizationNanos.sum();
+    }
+}
@@ -0,0 +1,218 @@
+package io.github.stellarsunset.netcdf;
+
+import ucar.nc2.NetcdfFile;
+
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Options controlling how a {@link Hypercube} reads variable data out of the underlying {@link NetcdfFile}.
+ *
+ * <p>The defaults match the historical behavior of the library, every bound variable is read into memory in full when the
+ * {@link Hypercube} is created.
+ */
+public final class ReadOptions {
+
+    private static final ReadOptions DEFAULTS = builder().build();
+
+    private final int slabSize;
+
+    private final ReadListener listener;
+
+    private final ValidationCache validationCache;
+
+    private final ViewCache viewCache;
+
+    private final Executor loadExecutor;
+
+    private final MemoryBudget memoryBudget;
+
+    private ReadOptions(Builder builder) {
+        this.slabSize = builder.slabSize;
+        this.listener = builder.listener;
+        this.validationCache = builder.validationCache;
+        this.viewCache = builder.viewCache;
+        this.loadExecutor = builder.loadExecutor;
+        this.memoryBudget = builder.memoryBudget;
+    }
+
+    public static ReadOptions defaults() {
+        return DEFAULTS;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * The number of indices along the outermost dimension of the cube to hold in memory at once, or zero if variables are
+     * read in full up front.
+     */
+    public int slabSize() {
+        return slabSize;
+    }
+
+    /**
+     * True if the cube should read its coordinate variables lazily, one slab of the outermost dimension at a time.
+     */
+    public boolean streaming() {
+        return slabSize > 0;
+    }
+
+    /**
+     * The listener notified of validation, variable reads and records emitted by the cube, {@link ReadListener#noop()} by
+     * default.
+     */
+    public ReadListener listener() {
+        return listener;
+    }
+
+    /**
+     * The cache to consult before validating the schema against the file, if any.
+     */
+    public Optional<ValidationCache> validationCache() {
+        return Optional.ofNullable(validationCache);
+    }
+
+    /**
+     * The cache of materialized variable data to serve non-streaming reads from, if any.
+     */
+    public Optional<ViewCache> viewCache() {
+        return Optional.ofNullable(viewCache);
+    }
+
+    /**
+     * The executor to read independent variables concurrently on when creating the cube, if any.
+     */
+    public Optional<Executor> loadExecutor() {
+        return Optional.ofNullable(loadExecutor);
+    }
+
+    /**
+     * The budget of heap bytes the cube reserves from before reading any data, if any.
+     */
+    public Optional<MemoryBudget> memoryBudget() {
+        return Optional.ofNullable(memoryBudget);
+    }
+
+    /**
+     * A copy of these options reading in slabs of the given size, e.g. as chosen to fit a {@link MemoryBudget}.
+     */
+    ReadOptions withSlabSize(int slabSize) {
+        Builder builder = builder()
+                .slabSize(slabSize)
+                .listener(listener);
+        builder.validationCache = validationCache;
+        builder.viewCache = viewCache;
+        builder.loadExecutor = loadExecutor;
+        builder.memoryBudget = memoryBudget;
+        return builder.build();
+    }
+
+    public static final class Builder {
+
+        private int slabSize = 0;
+
+        private ReadListener listener = ReadListener.noop();
+
+        private ValidationCache validationCache = null;
+
+        private ViewCache viewCache = null;
+
+        private Executor loadExecutor = null;
+
+        private MemoryBudget memoryBudget = null;
+
+        private Builder() {
+        }
+
+        /**
+         * Configure the cube to read coordinate variables lazily in slabs of the given number of indices along the outermost
+         * dimension (e.g. rows of a 2D grid, levels of a 3D one).
+         *
+         * <p>Only the slab containing the most recently read index is held in memory, so sequential traversal of the cube
+         * (e.g. via {@link Hypercube#stream()} or {@link Hypercube#publisher()}) is bounded by the slab size rather than the
+         * size of the grid. Random access across slabs re-reads data from the file, so this is a poor fit for point lookups.
+         *
+         * @param slabSize the number of outer-dimension indices per slab, zero to read all variables up front
+         */
+        public Builder slabSize(int slabSize) {
+            if (slabSize < 0) {
+                throw new IllegalArgumentException("Slab size must be non-negative, was: " + slabSize);
+            }
+            this.slabSize = slabSize;
+            return this;
+        }
+
+        /**
+         * Configure a listener to be notified as the cube is created and read from, e.g. to bridge timings and counters
+         * into an external metrics system.
+         *
+         * @param listener the listener to notify, see {@link ReadMetrics} for a simple implementation
+         */
+        public Builder listener(ReadListener listener) {
+            this.listener = requireNonNull(listener);
+            return this;
+        }
+
+        /**
+         * Configure a cache of validation outcomes to share across reads of files with the same header structure, e.g. the
+         * hourly files of a single weather product, so the schema is only validated once per distinct layout.
+         *
+         * @param validationCache the cache to share, typically one per long-lived schema binding
+         */
+        public Builder validationCache(ValidationCache validationCache) {
+            this.validationCache = requireNonNull(validationCache);
+            return this;
+        }
+
+        /**
+         * Configure a cache of materialized views to serve repeated reads of the same variables of the same file from,
+         * skipping the decoding of the variable data entirely after the first read.
+         *
+         * <p>Only consulted when variables are read in full, i.e. the cube isn't streaming.
+         *
+         * @param viewCache the cache to read views from and write new views to
+         */
+        public Builder viewCache(ViewCache viewCache) {
+            this.viewCache = requireNonNull(viewCache);
+            return this;
+        }
+
+        /**
+         * Configure an executor to read the variables the cube needs in full concurrently on, rather than one after the
+         * other, e.g. to decompress the variables of a NetCDF-4 file in parallel. Creation waits on all the reads.
+         *
+         * <p>The executor bounds the concurrency, e.g. {@code Executors.newFixedThreadPool(4)}, and each concurrent read
+         * opens its own handle on the file as the underlying readers aren't thread-safe. Files that can't be re-opened from
+         * their location (e.g. those opened from bytes in memory) are read sequentially. The {@link ReadListener} is notified
+         * from the executor's threads.
+         *
+         * @param loadExecutor the executor to read variables on, typically shared across reads
+         */
+        public Builder loadExecutor(Executor loadExecutor) {
+            this.loadExecutor = requireNonNull(loadExecutor);
+            return this;
+        }
+
+        /**
+         * Configure a budget of heap bytes shared with the other cubes created with it, the cube reserves the bytes it's
+         * estimated to need before reading any data, blocking until they're available, and releases them when closed.
+         *
+         * <p>Cubes too large to read in full within the budget are read in streaming slabs sized to fit instead, and an
+         * explicitly configured slab size is shrunk if needed.
+         *
+         * @param memoryBudget the budget to reserve bytes from, typically one per JVM
+         */
+        public Builder memoryBudget(MemoryBudget memoryBudget) {
+            this.memoryBudget = requireNonNull(memoryBudget);
+            return this;
+        }
+
+        public ReadOptions build() {
+            return new ReadOptions(this);
+        }
+    }
+}
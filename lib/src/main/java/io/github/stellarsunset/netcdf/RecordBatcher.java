@@ -0,0 +1,60 @@
+package io.github.stellarsunset.netcdf;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Accumulates records into a single re-used buffer and hands them to a {@link RecordSink} whenever the buffer is full or a
+ * slab of the cube ends.
+ *
+ * <p>Prefer use via {@link Hypercube#drainTo(RecordSink, int)}.
+ */
+final class RecordBatcher<T> {
+
+    private final RecordSink<T> sink;
+
+    private final int batchSize;
+
+    private final List<T> buffer;
+
+    private final List<T> view;
+
+    RecordBatcher(RecordSink<T> sink, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive, was: " + batchSize);
+        }
+        this.sink = requireNonNull(sink);
+        this.batchSize = batchSize;
+        this.buffer = new ArrayList<>(batchSize);
+        this.view = Collections.unmodifiableList(buffer);
+    }
+
+    void add(T record) throws IOException {
+        buffer.add(record);
+        if (buffer.size() == batchSize) {
+            handOver();
+        }
+    }
+
+    /**
+     * Hand over any partial batch and flush the sink, called at the end of each slab.
+     */
+    void endSlab() throws IOException {
+        if (!buffer.isEmpty()) {
+            handOver();
+        }
+        sink.flush();
+    }
+
+    private void handOver() throws IOException {
+        try {
+            sink.accept(view);
+        } finally {
+            buffer.clear();
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package io.github.stellarsunset.netcdf;
+
+import ucar.ma2.DataType;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Binding of dimension and coordinate variables directly to the components of an immutable record type {@code R}.
+ *
+ * <p>Where a {@link SchemaBinding} threads a mutable record (typically a builder) through one {@link FieldBinding} per
+ * variable for every cell, a record binding reads the primitive values for a cell straight out of the decoded variable
+ * data and passes them to the record's constructor in a single call. There are no intermediate builders, no per-field
+ * lambdas and no {@link Hypercube#transform(java.util.function.Function)} step.
+ *
+ * <p>Implementations are normally generated at compile time by the {@code netcdf-processor} annotation processor from
+ * records annotated with {@link CoordinateVariable} and {@link DimensionVariable}, e.g. a {@code MeasurementBinding} for:
+ * <pre>{@code
+ * record Measurement(
+ *   @DimensionVariable(dim = "x", variable = "latitude") double latitude,
+ *   @DimensionVariable(dim = "y", variable = "longitude") double longitude,
+ *   @CoordinateVariable("temperature") float temperature
+ * ) {}
+ *
+ * Hypercube<Measurement> cube = Hypercube.recordBound(file, new MeasurementBinding());
+ * }</pre>
+ *
+ * <p>Alternatively {@link #canonical(Class)} creates an equivalent binding at runtime from the same annotations, binding the
+ * record's canonical constructor once as a {@link java.lang.invoke.MethodHandle}.
+ *
+ * <p>Record bindings are validated against the file the same way schema bindings are.
+ */
+public interface RecordBinding<R> {
+
+    /**
+     * The variables bound into the record, in the order of the record's components.
+     */
+    List<Column> columns();
+
+    /**
+     * Create a factory for records over the decoded data for each of the {@link #columns()}, called once per cube.
+     *
+     * @param columns the decoded data of each column, indexed in the same order as {@link #columns()}
+     */
+    RecordFactory<R> factory(Columns columns);
+
+    /**
+     * Create a binding for the given record type from the {@link CoordinateVariable} and {@link DimensionVariable}
+     * annotations on its components, as the annotation processor would but without a compile-time step.
+     *
+     * <p>The canonical constructor is resolved via a private lookup in the record class, which requires the record's
+     * package be open to this library when running on the module path. Bindings should be created once and re-used.
+     *
+     * @throws IllegalArgumentException if any component isn't a primitive annotated with exactly one of
+     *                                  {@link CoordinateVariable} or {@link DimensionVariable}
+     */
+    static <R extends Record> RecordBinding<R> canonical(Class<R> type) {
+        try {
+            return canonical(type, MethodHandles.privateLookupIn(type, MethodHandles.lookup()));
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Record package isn't open to the library: " + type.getName(), e);
+        }
+    }
+
+    /**
+     * Create a binding for the given record type as {@link #canonical(Class)} does, resolving the canonical constructor
+     * with the provided lookup (e.g. the caller's {@code MethodHandles.lookup()}).
+     */
+    static <R extends Record> RecordBinding<R> canonical(Class<R> type, MethodHandles.Lookup lookup) {
+        return CanonicalRecordBinding.create(requireNonNull(type), requireNonNull(lookup));
+    }
+
+    /**
+     * Selects the index of a cell along the given axis, used to index into dimension variable data.
+     */
+    static int select(int axis, int i0, int i1, int i2, int i3) {
+        return switch (axis) {
+            case 0 -> i0;
+            case 1 -> i1;
+            case 2 -> i2;
+            case 3 -> i3;
+            default -> throw new IllegalArgumentException("Unsupported axis: " + axis);
+        };
+    }
+
+    /**
+     * Creates records for individual cells of a cube, unused trailing indices are zero.
+     *
+     * <p>Factories must return a new record per call without side effects, as records may be created in a different order
+     * than the cube returns them (see {@link Hypercube#reorderable()}).
+     */
+    @FunctionalInterface
+    interface RecordFactory<R> {
+
+        /**
+         * @param offset the offset of the cell in the (row-major) coordinate variable data
+         * @param i0     the index of the cell along the first dimension
+         * @param i1     the index of the cell along the second dimension
+         * @param i2     the index of the cell along the third dimension
+         * @param i3     the index of the cell along the fourth dimension
+         */
+        R create(int offset, int i0, int i1, int i2, int i3);
+    }
+
+    /**
+     * A variable bound to a single record component.
+     *
+     * @param variable  the name of the variable in the file
+     * @param dimension the dimension a dimension variable varies along, or null for coordinate variables
+     * @param type      the primitive type of the record component
+     */
+    record Column(String variable, String dimension, Type type) {
+
+        public Column {
+            requireNonNull(variable);
+            requireNonNull(type);
+        }
+
+        public static Column coordinate(String variable, Type type) {
+            return new Column(variable, null, type);
+        }
+
+        public static Column dimension(String dimension, String variable, Type type) {
+            return new Column(variable, requireNonNull(dimension), type);
+        }
+
+        public boolean isDimensionVariable() {
+            return dimension != null;
+        }
+    }
+
+    /**
+     * Primitive types of record components, each accepting the same NetCDF {@link DataType}s as the equivalent
+     * {@link FieldBinding}.
+     */
+    enum Type {
+        BOOLEAN,
+        BYTE,
+        CHAR,
+        SHORT,
+        INT,
+        LONG,
+        FLOAT,
+        DOUBLE;
+
+        /**
+         * A do-nothing field binding of the equivalent type, allowing record bindings to be validated as schemas.
+         */
+        <T> FieldBinding<T> placeholder() {
+            return switch (this) {
+                case BOOLEAN -> (FieldBinding.Bool<T>) (r, v) -> r;
+                case BYTE -> (FieldBinding.Byte<T>) (r, v) -> r;
+                case CHAR -> (FieldBinding.Char<T>) (r, v) -> r;
+                case SHORT -> (FieldBinding.Short<T>) (r, v) -> r;
+                case INT -> (FieldBinding.Int<T>) (r, v) -> r;
+                case LONG -> (FieldBinding.Long<T>) (r, v) -> r;
+                case FLOAT -> (FieldBinding.Float<T>) (r, v) -> r;
+                case DOUBLE -> (FieldBinding.Double<T>) (r, v) -> r;
+            };
+        }
+    }
+
+    /**
+     * The decoded data for each column as a flat primitive array, coordinate variables in row-major order.
+     */
+    final class Columns {
+
+        private final Object[] data;
+
+        private final int[] axes;
+
+        /**
+         * @param data the flat primitive array of decoded data for each column
+         * @param axes the axis each column varies along, -1 for coordinate variables
+         */
+        public Columns(Object[] data, int[] axes) {
+            if (data.length != axes.length) {
+                throw new IllegalArgumentException("Expected an axis for each column of data.");
+            }
+            this.data = data;
+            this.axes = axes;
+        }
+
+        /**
+         * The axis of the cube a dimension variable varies along, or -1 for coordinate variables.
+         */
+        public int axis(int column) {
+            return axes[column];
+        }
+
+        public boolean[] booleans(int column) {
+            return (boolean[]) data[column];
+        }
+
+        public byte[] bytes(int column) {
+            return (byte[]) data[column];
+        }
+
+        public char[] chars(int column) {
+            return (char[]) data[column];
+        }
+
+        public short[] shorts(int column) {
+            return (short[]) data[column];
+        }
+
+        public int[] ints(int column) {
+            return (int[]) data[column];
+        }
+
+        public long[] longs(int column) {
+            return (long[]) data[column];
+        }
+
+        public float[] floats(int column) {
+            return (float[]) data[column];
+        }
+
+        public double[] doubles(int column) {
+            return (double[]) data[column];
+        }
+
+        /**
+         * The data for the column as a primitive array, for implementations that don't know the type up front.
+         */
+        public Object array(int column) {
+            return data[column];
+        }
+    }
+}
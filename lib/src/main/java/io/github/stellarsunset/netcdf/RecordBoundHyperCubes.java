@@ -0,0 +1,322 @@
+package io.github.stellarsunset.netcdf;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import ucar.nc2.NetcdfFile;
+import ucar.nc2.Variable;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Container class for creating {@link Hypercube} instances from {@link RecordBinding}s.
+ *
+ * <p>Record bindings are validated by translating them into an equivalent {@link SchemaBinding} of placeholder field
+ * bindings, these are cached per record binding instance so a {@link ValidationCache} (which compares schemas by identity)
+ * is effective across files.
+ */
+class RecordBoundHyperCubes {
+
+    private static final Cache<RecordBinding<?>, SchemaBinding<Object>> SCHEMAS = CacheBuilder.newBuilder().weakKeys().build();
+
+    /**
+     * Creates a new {@link Hypercube} of records bound directly from the variable data in the file.
+     *
+     * @param file    the netcdf file to read values from
+     * @param binding the binding of variables to record components
+     * @param options the options controlling how (and when) variable data is read from the file
+     */
+    static <R> Hypercube<R> make(NetcdfFile file, RecordBinding<R> binding, ReadOptions options) {
+
+        ValidatedBinding<Object> validated = ValidatedBinding.validate(file, schema(binding), options);
+
+        return options.memoryBudget()
+                .map(budget -> budget.govern(validated, options, adapted -> make(file, binding, validated, adapted)))
+                .orElseGet(() -> make(file, binding, validated, options));
+    }
+
+    private static <R> Hypercube<R> make(NetcdfFile file, RecordBinding<R> binding, ValidatedBinding<Object> validated, ReadOptions options) {
+
+        long start = System.nanoTime();
+
+        int[] shape = validated.shape();
+        if (shape.length == 0) {
+            throw new IllegalArgumentException("D0 hypercubes aren't supported... why would you need one?");
+        }
+
+        List<RecordBinding.Column> columns = binding.columns();
+        ReadListener listener = options.listener();
+
+        Variable[] variables = new Variable[columns.size()];
+        int[] axes = new int[columns.size()];
+        Object[] data = new Object[columns.size()];
+
+        // dimension variables are small so are always read up front
+        List<String> names = columns.stream()
+                .filter(column -> column.isDimensionVariable() || !options.streaming())
+                .map(RecordBinding.Column::variable)
+                .distinct()
+                .toList();
+
+        // materialized views are only consulted when variables are read in full, streaming reads go to the file
+        Function<Variable, ucar.ma2.Array> reader = options.viewCache()
+                .filter(cache -> !options.streaming())
+                .map(cache -> cache.reader(file, names, options))
+                .orElseGet(() -> VariableLoader.reader(file, names, options));
+
+        for (int c = 0; c < columns.size(); c++) {
+            RecordBinding.Column column = columns.get(c);
+            variables[c] = requireNonNull(file.findVariable(column.variable()), "Missing required variable, check validation logic.");
+            if (!column.isDimensionVariable() && variables[c].getRank() != shape.length) {
+                throw new IllegalArgumentException(String.format("Record bindings don't support broadcasting coordinate variables, %s varies over %d of the cube's %d dimensions. Use a SchemaBinding instead.", column.variable(), variables[c].getRank(), shape.length));
+            }
+            axes[c] = column.isDimensionVariable() ? axisOf(validated, column.variable()) : -1;
+            data[c] = column.isDimensionVariable() || !options.streaming() ? storage(reader.apply(variables[c])) : null;
+        }
+
+        Hypercube<R> cube;
+
+        if (options.streaming()) {
+
+            var slabs = SchemaBoundHyperCubes.slabs(options.slabSize(), shape[0], listener, (origin, length) -> {
+                Object[] slab = data.clone();
+                for (int c = 0; c < slab.length; c++) {
+                    if (axes[c] < 0) {
+                        slab[c] = storage(SchemaBoundHyperCubes.readSlab(variables[c], origin, length, listener));
+                    }
+                }
+                return binding.factory(new RecordBinding.Columns(slab, axes));
+            });
+
+            cube = switch (shape.length) {
+                case 1 -> new StreamingD1<>(slabs, shape[0]);
+                case 2 -> new StreamingD2<>(slabs, shape[0], shape[1]);
+                case 3 -> new StreamingD3<>(slabs, shape[0], shape[1], shape[2]);
+                default -> new StreamingD4<>(slabs, shape[0], shape[1], shape[2], shape[3]);
+            };
+        } else {
+
+            RecordBinding.RecordFactory<R> factory = binding.factory(new RecordBinding.Columns(data, axes));
+
+            cube = switch (shape.length) {
+                case 1 -> new D1<>(factory, shape[0]);
+                case 2 -> new D2<>(factory, shape[0], shape[1]);
+                case 3 -> new D3<>(factory, shape[0], shape[1], shape[2]);
+                default -> new D4<>(factory, shape[0], shape[1], shape[2], shape[3]);
+            };
+        }
+
+        listener.cubeCreated(System.nanoTime() - start);
+        return cube;
+    }
+
+    /**
+     * The (cached) schema equivalent to the provided record binding, used for validation.
+     */
+    static SchemaBinding<Object> schema(RecordBinding<?> binding) {
+        try {
+            return SCHEMAS.get(requireNonNull(binding), () -> {
+                SchemaBinding.Builder<Object> builder = SchemaBinding.builder().recordInitializer(Object::new);
+                for (RecordBinding.Column column : binding.columns()) {
+                    if (column.isDimensionVariable()) {
+                        builder.dimensionVariable(column.dimension(), column.variable(), column.type().placeholder());
+                    } else {
+                        builder.coordinateVariable(column.variable(), column.type().placeholder());
+                    }
+                }
+                return builder.build();
+            });
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Error translating record binding to schema.", e.getCause());
+        }
+    }
+
+    private static int axisOf(ValidatedBinding<?> validated, String variable) {
+        for (int axis = 0; axis < validated.shape().length; axis++) {
+            if (validated.dimensionVariables(axis).containsKey(variable)) {
+                return axis;
+            }
+        }
+        throw new IllegalStateException("Binding should have already been validated...");
+    }
+
+    /**
+     * The 1D primitive Java array backing the provided array in canonical order, only copied if the array isn't already
+     * contiguous.
+     */
+    private static Object storage(ucar.ma2.Array array) {
+        return array.get1DJavaArray(array.getDataType());
+    }
+
+    record D1<R>(RecordBinding.RecordFactory<R> factory, int max) implements Hypercube.D1<R> {
+
+        @Override
+        public R read(int i) {
+            return factory.create(i, i, 0, 0, 0);
+        }
+
+        @Override
+        public boolean reorderable() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    record D2<R>(RecordBinding.RecordFactory<R> factory, int d0Max, int d1Max) implements Hypercube.D2<R> {
+
+        @Override
+        public R read(int i0, int i1) {
+            return factory.create(i0 * d1Max + i1, i0, i1, 0, 0);
+        }
+
+        @Override
+        public boolean reorderable() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    record D3<R>(RecordBinding.RecordFactory<R> factory, int d0Max, int d1Max, int d2Max) implements Hypercube.D3<R> {
+
+        @Override
+        public R read(int i0, int i1, int i2) {
+            return factory.create((i0 * d1Max + i1) * d2Max + i2, i0, i1, i2, 0);
+        }
+
+        @Override
+        public boolean reorderable() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    record D4<R>(RecordBinding.RecordFactory<R> factory, int d0Max, int d1Max, int d2Max,
+                 int d3Max) implements Hypercube.D4<R> {
+
+        @Override
+        public R read(int i0, int i1, int i2, int i3) {
+            return factory.create(((i0 * d1Max + i1) * d2Max + i2) * d3Max + i3, i0, i1, i2, i3);
+        }
+
+        @Override
+        public boolean reorderable() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    /**
+     * Streaming variant of {@link D1}, coordinate offsets are relative to the origin of the slab while the indices passed
+     * to the factory remain absolute as dimension variables are always read in full.
+     */
+    record StreamingD1<R>(SchemaBoundHyperCubes.Slabs<RecordBinding.RecordFactory<R>> slabs,
+                          int max) implements Hypercube.D1<R> {
+
+        @Override
+        public R read(int i) {
+            SchemaBoundHyperCubes.Slab<RecordBinding.RecordFactory<R>> slab = slabs.slabFor(i);
+            return slab.coordinatesSetter().create(i - slab.origin(), i, 0, 0, 0);
+        }
+
+        @Override
+        public boolean streaming() {
+            return true;
+        }
+
+        @Override
+        public boolean reorderable() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    record StreamingD2<R>(SchemaBoundHyperCubes.Slabs<RecordBinding.RecordFactory<R>> slabs, int d0Max,
+                          int d1Max) implements Hypercube.D2<R> {
+
+        @Override
+        public R read(int i0, int i1) {
+            SchemaBoundHyperCubes.Slab<RecordBinding.RecordFactory<R>> slab = slabs.slabFor(i0);
+            return slab.coordinatesSetter().create((i0 - slab.origin()) * d1Max + i1, i0, i1, 0, 0);
+        }
+
+        @Override
+        public boolean streaming() {
+            return true;
+        }
+
+        @Override
+        public boolean reorderable() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    record StreamingD3<R>(SchemaBoundHyperCubes.Slabs<RecordBinding.RecordFactory<R>> slabs, int d0Max, int d1Max,
+                          int d2Max) implements Hypercube.D3<R> {
+
+        @Override
+        public R read(int i0, int i1, int i2) {
+            SchemaBoundHyperCubes.Slab<RecordBinding.RecordFactory<R>> slab = slabs.slabFor(i0);
+            return slab.coordinatesSetter().create(((i0 - slab.origin()) * d1Max + i1) * d2Max + i2, i0, i1, i2, 0);
+        }
+
+        @Override
+        public boolean streaming() {
+            return true;
+        }
+
+        @Override
+        public boolean reorderable() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    record StreamingD4<R>(SchemaBoundHyperCubes.Slabs<RecordBinding.RecordFactory<R>> slabs, int d0Max, int d1Max,
+                          int d2Max, int d3Max) implements Hypercube.D4<R> {
+
+        @Override
+        public R read(int i0, int i1, int i2, int i3) {
+            SchemaBoundHyperCubes.Slab<RecordBinding.RecordFactory<R>> slab = slabs.slabFor(i0);
+            return slab.coordinatesSetter().create((((i0 - slab.origin()) * d1Max + i1) * d2Max + i2) * d3Max + i3, i0, i1, i2, i3);
+        }
+
+        @Override
+        public boolean streaming() {
+            return true;
+        }
+
+        @Override
+        public boolean reorderable() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
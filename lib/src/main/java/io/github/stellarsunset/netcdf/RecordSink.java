@@ -0,0 +1,43 @@
+package io.github.stellarsunset.netcdf;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Batch-oriented counterpart to {@link RecordFinalizer}, records are handed to the sink in fixed-size batches so sinks that
+ * write to sockets, files or databases can amortize their per-call overhead (e.g. one syscall or bulk insert per batch).
+ *
+ * <p>Sinks are driven by {@link Hypercube#drainTo(RecordSink, int)}, which guarantees:
+ * <ol>
+ *     <li>Each batch is handed over in full before any record of the next batch is created, so record initializers may
+ *     safely recycle a pool of {@code batchSize} mutable instances between batches</li>
+ *     <li>The batch list itself is reused between calls, sinks must copy anything they need to keep beyond the call to
+ *     {@link #accept(List)}</li>
+ *     <li>{@link #flush()} is called at the end of every slab of the outermost dimension of the cube, after the (possibly
+ *     partial) batch containing the final records of that slab has been handed over</li>
+ * </ol>
+ *
+ * <p>Sinks are not closed by the cube, by default closing a sink flushes it.
+ */
+public interface RecordSink<T> extends Closeable {
+
+    /**
+     * Accept a batch of records, the batch will contain at most the requested batch size records.
+     *
+     * @param batch an (unmodifiable) view of the current batch of records, only valid for the duration of the call
+     */
+    void accept(List<T> batch) throws IOException;
+
+    /**
+     * Hook called at the end of each slab of the outermost dimension of the cube and once all records have been drained,
+     * this is a natural point to flush buffered output or commit a transaction.
+     */
+    default void flush() throws IOException {
+    }
+
+    @Override
+    default void close() throws IOException {
+        flush();
+    }
+}
@@ -9,6 +9,7 @@ import java.io.Writer;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import static java.util.Objects.requireNonNull;
@@ -59,8 +60,11 @@ import static java.util.Optional.ofNullable;
  *     <li>Dimension variables match at least one of the shared coordinate variable dimensions</li>
  * </ol>
  *
+ * <p>Files on a regular projected grid (e.g. the HRRR) often omit the 2D latitude/longitude variables, schemas for them
+ * may bind each cell's position computed from a {@link ProjectedGrid} instead, as though it were a coordinate variable.
+ *
  * <p>Note this schema instance may also be used directly with an {@link OutputStream} template type to directly sink
- * records to some outbound data stream.
+ * records to some outbound data stream, see {@link TextRecordEncoder} for ready-made CSV and NDJSON encoders.
  */
 public final class SchemaBinding<T> {
 
@@ -72,6 +76,8 @@ public final class SchemaBinding<T> {
 
     private final Map<String, FieldBinding<T>> coordinateVariables;
 
+    private final ProjectedGridBinding<T> projectedGrid;
+
     private final RecordFinalizer<T> recordFinalizer;
 
     private SchemaBinding(Builder<T> builder) {
@@ -79,6 +85,7 @@ public final class SchemaBinding<T> {
         this.dimensionToVariables = ImmutableMultimap.copyOf(builder.dimensionToVariables);
         this.dimensionVariables = Map.copyOf(builder.dimensionVariables);
         this.coordinateVariables = Map.copyOf(builder.coordinateVariables);
+        this.projectedGrid = builder.projectedGrid;
         this.recordFinalizer = requireNonNull(builder.recordFinalizer);
     }
 
@@ -114,10 +121,26 @@ public final class SchemaBinding<T> {
         return ofNullable(coordinateVariables.get(variableName)).orElseGet(FieldBinding.Noop::new);
     }
 
+    public Optional<ProjectedGridBinding<T>> projectedGrid() {
+        return Optional.ofNullable(projectedGrid);
+    }
+
     public RecordFinalizer<T> recordFinalizer() {
         return recordFinalizer;
     }
 
+    /**
+     * Binding of the latitude/longitude of each cell of a {@link ProjectedGrid} spanning the trailing two axes of a cube
+     * into its records.
+     */
+    public record ProjectedGridBinding<T>(ProjectedGrid grid, ProjectedGrid.LatLonBinding<T> binding) {
+
+        public ProjectedGridBinding {
+            requireNonNull(grid);
+            requireNonNull(binding);
+        }
+    }
+
     public static final class Builder<T> {
 
         private RecordInitializer<T> recordInitializer;
@@ -128,6 +151,8 @@ public final class SchemaBinding<T> {
 
         private final Map<String, FieldBinding<T>> coordinateVariables = new HashMap<>();
 
+        private ProjectedGridBinding<T> projectedGrid;
+
         private RecordFinalizer<T> recordFinalizer = record -> {
         };
 
@@ -277,6 +302,21 @@ public final class SchemaBinding<T> {
             return coordinateVariable(name, setter);
         }
 
+        /**
+         * Bind the latitude and longitude of each cell of the grid into records as though they were 2D coordinate
+         * variables in the file, for files that only carry the grid's projection and projected x/y coordinates.
+         *
+         * <p>The grid must span the last two axes of the cube, e.g. the {@code (y, x)} dimensions of a {@code (time, y, x)}
+         * HRRR field, and is bound alongside the other coordinate variables, i.e. before the record is finalized.
+         *
+         * @param grid    the projected grid spanning the last two axes of the cube
+         * @param binding binding of each cell's latitude and longitude into the record
+         */
+        public Builder<T> projectedGrid(ProjectedGrid grid, ProjectedGrid.LatLonBinding<T> binding) {
+            this.projectedGrid = new ProjectedGridBinding<>(grid, binding);
+            return this;
+        }
+
         /**
          * Optional finalization operation that well be called under the hood before the record is made available in the
          * {@link Stream} output of the {@link NetcdfRecordReader}.
@@ -284,7 +324,7 @@ public final class SchemaBinding<T> {
          * <p>This hook is primarily useful when the template type of the schema is flavor of {@link OutputStream} or a
          * {@link Writer} implementation and data returned from the file is being directly re-written to that stream but
          * may need a record termination indicator, e.g. a closing brace for a JSON-based output stream or a newline for
-         * a plain text based one.
+         * a plain text based one (see {@link TextRecordEncoder#recordFinalizer()}).
          *
          * @param recordFinalizer "finalizer" operation to run after the various variable bindings have been invoked
          */
@@ -1,12 +1,20 @@
 package io.github.stellarsunset.netcdf;
 
+import ucar.ma2.InvalidRangeException;
+import ucar.nc2.Dimension;
 import ucar.nc2.NetcdfFile;
 import ucar.nc2.Variable;
 
 import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import static java.util.Objects.requireNonNull;
 
@@ -22,73 +30,347 @@ class SchemaBoundHyperCubes {
      * @param binding the validated schema binding containing the field bindings and paired {@link NetcdfFile}
      */
     static <T> Hypercube<T> make(ValidatedBinding<T> binding) {
-        return switch (binding) {
+        return make(binding, ReadOptions.defaults());
+    }
+
+    /**
+     * Creates a new {@link Hypercube} using the {@link ValidatedBinding}, reading the variable data from the file as the
+     * provided {@link ReadOptions} dictate.
+     *
+     * @param binding the validated schema binding containing the field bindings and paired {@link NetcdfFile}
+     * @param options the options controlling how (and when) variable data is read from the file
+     */
+    static <T> Hypercube<T> make(ValidatedBinding<T> binding, ReadOptions options) {
+        return options.memoryBudget()
+                .map(budget -> budget.govern(binding, options, adapted -> makeWithin(binding, adapted)))
+                .orElseGet(() -> makeWithin(binding, options));
+    }
+
+    private static <T> Hypercube<T> makeWithin(ValidatedBinding<T> binding, ReadOptions options) {
+
+        // materialized views are only consulted when variables are read in full, streaming reads go to the file
+        Function<Variable, ucar.ma2.Array> reader = options.viewCache()
+                .filter(cache -> !options.streaming())
+                .map(cache -> cache.reader(binding, options))
+                .orElseGet(() -> VariableLoader.reader(binding.context(), fullyReadVariables(binding, options), options));
+
+        return make(binding, options, reader);
+    }
+
+    /**
+     * Creates a new {@link Hypercube} using the {@link ValidatedBinding}, reading the variables it binds in full via the
+     * provided reader rather than from the file directly, e.g. to share variable data between cubes.
+     *
+     * <p>Streaming cubes still read slabs of the coordinate variables varying over the outermost dimension from the file,
+     * see {@link #fullyReadVariables(ValidatedBinding, ReadOptions)} for the variables passed to the reader.
+     *
+     * @param binding the validated schema binding containing the field bindings and paired {@link NetcdfFile}
+     * @param options the options controlling how (and when) variable data is read from the file
+     * @param reader  the function returning the full data of a variable
+     */
+    static <T> Hypercube<T> make(ValidatedBinding<T> binding, ReadOptions options, Function<Variable, ucar.ma2.Array> reader) {
+
+        long start = System.nanoTime();
+
+        Hypercube<T> cube = switch (binding) {
             case ValidatedBinding.D0<T> d0 ->
                     throw new IllegalArgumentException("D0 hypercubes aren't supported... why would you need one?");
-            case ValidatedBinding.D1<T> d1 -> makeD1(d1);
-            case ValidatedBinding.D2<T> d2 -> makeD2(d2);
-            case ValidatedBinding.D3<T> d3 -> makeD3(d3);
-            case ValidatedBinding.D4<T> d4 -> makeD4(d4);
+            case ValidatedBinding.D1<T> d1 -> options.streaming() ? makeStreamingD1(d1, options, reader, options.slabSize(), 0) : makeD1(d1, options, reader);
+            case ValidatedBinding.D2<T> d2 -> options.streaming() ? makeStreamingD2(d2, options, reader, options.slabSize(), 0) : makeD2(d2, options, reader);
+            case ValidatedBinding.D3<T> d3 -> options.streaming() ? makeStreamingD3(d3, options, reader, options.slabSize(), 0) : makeD3(d3, options, reader);
+            case ValidatedBinding.D4<T> d4 -> options.streaming() ? makeStreamingD4(d4, options, reader, options.slabSize(), 0) : makeD4(d4, options, reader);
         };
+
+        options.listener().cubeCreated(System.nanoTime() - start);
+        return cube;
     }
 
-    private static <T> Hypercube.D1<T> makeD1(ValidatedBinding.D1<T> binding) {
+    /**
+     * Creates a {@link Hypercube} over only the indices {@code [start, max)} of the outermost dimension of the binding,
+     * re-indexed so the first of them is at zero. Coordinate variables are read from the file starting at {@code start},
+     * the earlier indices are never read.
+     *
+     * <p>Reads are streamed in slabs of the configured size, or as a single slab covering the whole tail if the options
+     * aren't streaming. A configured {@link MemoryBudget} governs the tail like any other cube, estimating only the indices
+     * it covers.
+     *
+     * @param binding the validated schema binding containing the field bindings and paired {@link NetcdfFile}
+     * @param options the options controlling how variable data is read from the file
+     * @param start   the first index of the outermost dimension to include in the cube
+     */
+    static <T> Hypercube<T> makeTail(ValidatedBinding<T> binding, ReadOptions options, int start) {
+
+        int max = binding.shape().length == 0 ? 0 : binding.shape()[0];
+        if (start < 0 || start > max) {
+            throw new IllegalArgumentException(String.format("Tail start %d is outside the outermost dimension [0, %d].", start, max));
+        }
+
+        return options.memoryBudget()
+                .map(budget -> budget.govern(binding, options, start, adapted -> makeTailWithin(binding, adapted, start)))
+                .orElseGet(() -> makeTailWithin(binding, options, start));
+    }
+
+    private static <T> Hypercube<T> makeTailWithin(ValidatedBinding<T> binding, ReadOptions options, int start) {
+
+        int max = binding.shape().length == 0 ? 0 : binding.shape()[0];
+        int slabSize = options.streaming() ? options.slabSize() : Math.max(1, max - start);
+        long begin = System.nanoTime();
+
+        Function<Variable, ucar.ma2.Array> reader = variable -> read(variable, options.listener());
+
+        Hypercube<T> cube = switch (binding) {
+            case ValidatedBinding.D0<T> d0 ->
+                    throw new IllegalArgumentException("D0 hypercubes aren't supported... why would you need one?");
+            case ValidatedBinding.D1<T> d1 -> new TailD1<>(makeStreamingD1(d1, options, reader, slabSize, start), start);
+            case ValidatedBinding.D2<T> d2 -> new TailD2<>(makeStreamingD2(d2, options, reader, slabSize, start), start);
+            case ValidatedBinding.D3<T> d3 -> new TailD3<>(makeStreamingD3(d3, options, reader, slabSize, start), start);
+            case ValidatedBinding.D4<T> d4 -> new TailD4<>(makeStreamingD4(d4, options, reader, slabSize, start), start);
+        };
+
+        options.listener().cubeCreated(System.nanoTime() - begin);
+        return cube;
+    }
+
+    private static <T> Hypercube.D1<T> makeD1(ValidatedBinding.D1<T> binding, ReadOptions options, Function<Variable, ucar.ma2.Array> reader) {
 
         NetcdfFile file = binding.context();
         SchemaBinding<T> schema = binding.schema();
+        ReadListener listener = options.listener();
 
-        IndexBinding.D1<T> coordinates = schema.coordinateVariables().entrySet().stream()
-                .map(entry -> createD1Binding(
-                        requireNonNull(file.findVariable(entry.getKey()), "Missing required variable, check validation logic."),
-                        entry.getValue()))
-                .reduce(IndexBinding.D1.noop(), IndexBinding.D1::combine);
+        checkNoProjectedGrid(schema);
 
-        IndexBinding.D1<T> dimension = combineDimensionVariableBindings(file, schema.dimensionVariables());
+        IndexBinding.D1<T> coordinates = combineD1CoordinateVariableBindings(file, schema.coordinateVariables(), reader);
+        IndexBinding.D1<T> dimension = combineDimensionVariableBindings(file, schema.dimensionVariables(), reader);
 
         return new D1<>(
                 schema.recordInitializer().demoteExceptions(),
                 dimension,
                 binding.max(),
                 coordinates,
-                schema.recordFinalizer().demoteExceptions()
+                finalizer(schema, listener)
+        );
+    }
+
+    private static <T> Hypercube.D1<T> makeStreamingD1(ValidatedBinding.D1<T> binding, ReadOptions options, Function<Variable, ucar.ma2.Array> reader, int slabSize, int start) {
+
+        NetcdfFile file = binding.context();
+        SchemaBinding<T> schema = binding.schema();
+        ReadListener listener = options.listener();
+
+        checkNoProjectedGrid(schema);
+
+        // variables not varying over the outermost dimension are the same for every slab, so are read once up front
+        Map<String, FieldBinding<T>> sliced = coordinateVariables(binding, true);
+        IndexBinding.D1<T> broadcast = combineD1CoordinateVariableBindings(file, coordinateVariables(binding, false), reader);
+
+        int max = binding.max();
+        IndexBinding.D1<T> dimension = combineDimensionVariableBindings(file, schema.dimensionVariables(), reader);
+
+        return new StreamingD1<>(
+                schema.recordInitializer().demoteExceptions(),
+                dimension,
+                max,
+                slabs(slabSize, start, max, listener, (origin, length) ->
+                        IndexBinding.D1.combine(combineD1CoordinateVariableBindings(file, sliced, variable -> readSlab(variable, origin, length, listener)), broadcast)),
+                finalizer(schema, listener)
         );
     }
 
+    private static <T> IndexBinding.D1<T> combineD1CoordinateVariableBindings(
+            NetcdfFile file,
+            Map<String, FieldBinding<T>> coordinateVariables,
+            Function<Variable, ucar.ma2.Array> reader
+    ) {
+        return coordinateVariables.entrySet().stream()
+                .map(entry -> createD1CoordinateBinding(
+                        reader.apply(requireNonNull(file.findVariable(entry.getKey()), "Missing required variable, check validation logic.")),
+                        entry.getValue()))
+                .reduce(IndexBinding.D1.noop(), IndexBinding.D1::combine);
+    }
+
     private static <T> IndexBinding.D1<T> combineDimensionVariableBindings(
             NetcdfFile file,
-            Map<String, FieldBinding<T>> dimensionVariables
+            Map<String, FieldBinding<T>> dimensionVariables,
+            Function<Variable, ucar.ma2.Array> reader
     ) {
         return dimensionVariables.entrySet().stream()
                 .map(entry -> createD1Binding(
-                        requireNonNull(file.findVariable(entry.getKey()), "Missing required dimension, check validation logic."),
+                        reader.apply(requireNonNull(file.findVariable(entry.getKey()), "Missing required dimension, check validation logic.")),
                         entry.getValue()))
                 .reduce(IndexBinding.D1.noop(), IndexBinding.D1::combine);
     }
 
-    private static <T> IndexBinding.D1<T> createD1Binding(Variable variable, FieldBinding<T> fieldBinding) {
+    /**
+     * Bind the variable data to the cube, scalar variables are broadcast across its only axis.
+     */
+    private static <T> IndexBinding.D1<T> createD1CoordinateBinding(ucar.ma2.Array data, FieldBinding<T> fieldBinding) {
+        return switch (Array.wrap(data)) {
+            case Array.D1 array -> array.bindIndex(fieldBinding);
+            case Array.D0 array -> Broadcasts.d1(array.bindIndex(fieldBinding));
+            default -> throw new IllegalStateException("Binding should have already been validated...");
+        };
+    }
+
+    private static <T> IndexBinding.D1<T> createD1Binding(ucar.ma2.Array data, FieldBinding<T> fieldBinding) {
         try {
-            Array.D1 array = (Array.D1) Array.wrap(variable.read());
+            Array.D1 array = (Array.D1) Array.wrap(data);
             return array.bindIndex(fieldBinding);
         } catch (ClassCastException e) {
             throw new IllegalStateException("Binding should have already been validated...", e);
+        }
+    }
+
+    /**
+     * Binding of the latitude/longitude of the schema's {@link ProjectedGrid} into records, if it has one, the grid must
+     * match the trailing {@code (y, x)} axes of the cube.
+     */
+    private static <T> IndexBinding.D2<T> projectedGridBinding(SchemaBinding<T> schema, int yMax, int xMax) {
+        return schema.projectedGrid()
+                .map(projected -> {
+                    projected.grid().checkShape(yMax, xMax);
+                    return projected.grid().bindIndex(projected.binding());
+                })
+                .orElseGet(IndexBinding.D2::noop);
+    }
+
+    private static void checkNoProjectedGrid(SchemaBinding<?> schema) {
+        if (schema.projectedGrid().isPresent()) {
+            throw new IllegalArgumentException("Projected grids require at least a 2D cube.");
+        }
+    }
+
+    /**
+     * Wraps the schema's finalizer to report each emitted record to the listener, unless it's the no-op listener in which
+     * case the finalizer is returned as-is so there's no overhead on the per-cell path.
+     */
+    private static <T> Consumer<T> finalizer(SchemaBinding<T> schema, ReadListener listener) {
+        Consumer<T> finalizer = schema.recordFinalizer().demoteExceptions();
+        if (listener == ReadListener.noop()) {
+            return finalizer;
+        }
+        return record -> {
+            long start = System.nanoTime();
+            finalizer.accept(record);
+            listener.recordEmitted(System.nanoTime() - start);
+        };
+    }
+
+    /**
+     * The names of the variables a cube made from the binding with the given options reads in full, the dimension variables
+     * and either all the coordinate variables or, if streaming, those not varying over the outermost dimension.
+     */
+    static List<String> fullyReadVariables(ValidatedBinding<?> binding, ReadOptions options) {
+        Set<String> names = new LinkedHashSet<>(options.streaming() ? coordinateVariables(binding, false).keySet() : binding.schema().coordinateVariables().keySet());
+        names.addAll(binding.schema().dimensionVariables().keySet());
+        return List.copyOf(names);
+    }
+
+    /**
+     * The coordinate variables of the binding which do (or don't) vary over the outermost dimension of the cube.
+     */
+    private static <T> Map<String, FieldBinding<T>> coordinateVariables(ValidatedBinding<T> binding, boolean outermost) {
+        Dimension dimension = binding.dimensions().getFirst();
+        return binding.schema().coordinateVariables().entrySet().stream()
+                .filter(entry -> {
+                    Variable variable = requireNonNull(binding.context().findVariable(entry.getKey()), "Missing required variable, check validation logic.");
+                    return outermost == (variable.getRank() > 0 && variable.getDimension(0).equals(dimension));
+                })
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+    }
+
+    static <B> Slabs<B> slabs(int slabSize, int max, ReadListener listener, Slabs.SlabLoader<B> loader) {
+        return slabs(slabSize, 0, max, listener, loader);
+    }
+
+    /**
+     * Slabs aligned to multiples of the slab size from the given start index rather than zero, indices before the start
+     * are never read.
+     */
+    static <B> Slabs<B> slabs(int slabSize, int start, int max, ReadListener listener, Slabs.SlabLoader<B> loader) {
+        return new Slabs<>(slabSize, start, max, (origin, length) -> {
+            long begin = System.nanoTime();
+            B coordinates = loader.load(origin, length);
+            listener.slabLoaded(origin, length, System.nanoTime() - begin);
+            return coordinates;
+        });
+    }
+
+    /**
+     * Reads the full contents of the provided variable from the underlying file, reporting the read to the listener.
+     */
+    static ucar.ma2.Array read(Variable variable, ReadListener listener) {
+        long start = System.nanoTime();
+        ucar.ma2.Array data = read(variable);
+        listener.variableRead(variable, data.getSizeBytes(), System.nanoTime() - start);
+        return data;
+    }
+
+    /**
+     * Reads a slab of the provided variable from the underlying file, reporting the read to the listener.
+     */
+    static ucar.ma2.Array readSlab(Variable variable, int origin, int length, ReadListener listener) {
+        long start = System.nanoTime();
+        ucar.ma2.Array data = readSlab(variable, origin, length);
+        listener.variableRead(variable, data.getSizeBytes(), System.nanoTime() - start);
+        return data;
+    }
+
+    /**
+     * Reads the full contents of the provided variable from the underlying file.
+     */
+    static ucar.ma2.Array read(Variable variable) {
+
+        JfrEvents.VariableRead event = new JfrEvents.VariableRead();
+        event.begin();
+
+        try {
+            ucar.ma2.Array data = variable.read();
+            JfrEvents.commit(event, variable, data);
+            return data;
         } catch (IOException e) {
             throw new IllegalStateException(String.format("Error reading variable %s's data from underlying file.", variable.getFullName()), e);
         }
     }
 
-    private static <T> Hypercube.D2<T> makeD2(ValidatedBinding.D2<T> binding) {
+    /**
+     * Reads the slab of the provided variable covering indices {@code [origin, origin + length)} of its outermost dimension,
+     * the returned array has the same rank as the variable.
+     */
+    static ucar.ma2.Array readSlab(Variable variable, int origin, int length) {
+
+        int[] origins = new int[variable.getRank()];
+        origins[0] = origin;
+
+        int[] shape = variable.getShape();
+        shape[0] = length;
+
+        JfrEvents.VariableRead event = new JfrEvents.VariableRead();
+        event.begin();
+
+        try {
+            ucar.ma2.Array data = variable.read(origins, shape);
+            JfrEvents.commit(event, variable, data);
+            return data;
+        } catch (InvalidRangeException e) {
+            throw new IllegalStateException(String.format("Slab [%d, %d) is outside the bounds of variable %s.", origin, origin + length, variable.getFullName()), e);
+        } catch (IOException e) {
+            throw new IllegalStateException(String.format("Error reading variable %s's data from underlying file.", variable.getFullName()), e);
+        }
+    }
+
+    private static <T> Hypercube.D2<T> makeD2(ValidatedBinding.D2<T> binding, ReadOptions options, Function<Variable, ucar.ma2.Array> reader) {
 
         NetcdfFile file = binding.context();
         SchemaBinding<T> schema = binding.schema();
+        ReadListener listener = options.listener();
 
-        IndexBinding.D2<T> coordinates = schema.coordinateVariables().entrySet().stream()
-                .map(entry -> createD2Binding(
-                        requireNonNull(file.findVariable(entry.getKey()), "Missing required variable, check validation logic."),
-                        entry.getValue()))
-                .reduce(IndexBinding.D2.noop(), IndexBinding.D2::combine);
+        IndexBinding.D2<T> coordinates = IndexBinding.D2.combine(
+                combineD2CoordinateVariableBindings(file, schema.coordinateVariables(), binding.dimensions(), reader),
+                projectedGridBinding(schema, binding.d0Max(), binding.d1Max())
+        );
 
-        IndexBinding.D1<T> d0 = combineDimensionVariableBindings(file, binding.d0DimensionVariables());
-        IndexBinding.D1<T> d1 = combineDimensionVariableBindings(file, binding.d1DimensionVariables());
+        IndexBinding.D1<T> d0 = combineDimensionVariableBindings(file, binding.d0DimensionVariables(), reader);
+        IndexBinding.D1<T> d1 = combineDimensionVariableBindings(file, binding.d1DimensionVariables(), reader);
 
         return new D2<>(
                 schema.recordInitializer().demoteExceptions(),
@@ -97,34 +379,86 @@ class SchemaBoundHyperCubes {
                 d1,
                 binding.d1Max(),
                 coordinates,
-                schema.recordFinalizer().demoteExceptions()
+                finalizer(schema, listener)
         );
     }
 
-    private static <T> IndexBinding.D2<T> createD2Binding(Variable variable, FieldBinding<T> fieldBinding) {
-        try {
-            Array.D2 array = (Array.D2) Array.wrap(variable.read());
-            return array.bindIndex(fieldBinding);
-        } catch (ClassCastException e) {
-            throw new IllegalStateException("Binding should have already been validated...", e);
-        } catch (IOException e) {
-            throw new IllegalStateException(String.format("Error reading variable %s's data from underlying file.", variable.getFullName()), e);
-        }
+    private static <T> Hypercube.D2<T> makeStreamingD2(ValidatedBinding.D2<T> binding, ReadOptions options, Function<Variable, ucar.ma2.Array> reader, int slabSize, int start) {
+
+        NetcdfFile file = binding.context();
+        SchemaBinding<T> schema = binding.schema();
+        ReadListener listener = options.listener();
+
+        // variables not varying over the outermost dimension are the same for every slab, so are read once up front
+        List<Dimension> dimensions = binding.dimensions();
+        Map<String, FieldBinding<T>> sliced = coordinateVariables(binding, true);
+        IndexBinding.D2<T> broadcast = combineD2CoordinateVariableBindings(file, coordinateVariables(binding, false), dimensions, reader);
+
+        // the grid spans the outermost dimension, so is bound by absolute rather than slab-relative index
+        IndexBinding.D2<T> projected = projectedGridBinding(schema, binding.d0Max(), binding.d1Max());
+
+        IndexBinding.D1<T> d0 = combineDimensionVariableBindings(file, binding.d0DimensionVariables(), reader);
+        IndexBinding.D1<T> d1 = combineDimensionVariableBindings(file, binding.d1DimensionVariables(), reader);
+
+        return new StreamingD2<>(
+                schema.recordInitializer().demoteExceptions(),
+                d0,
+                binding.d0Max(),
+                d1,
+                binding.d1Max(),
+                slabs(slabSize, start, binding.d0Max(), listener, (origin, length) ->
+                        IndexBinding.D2.compose(List.of(
+                                combineD2CoordinateVariableBindings(file, sliced, dimensions, variable -> readSlab(variable, origin, length, listener)),
+                                broadcast,
+                                (record, i0, i1) -> projected.set(record, i0 + origin, i1)
+                        ))),
+                finalizer(schema, listener)
+        );
+    }
+
+    private static <T> IndexBinding.D2<T> combineD2CoordinateVariableBindings(
+            NetcdfFile file,
+            Map<String, FieldBinding<T>> coordinateVariables,
+            List<Dimension> dimensions,
+            Function<Variable, ucar.ma2.Array> reader
+    ) {
+        return coordinateVariables.entrySet().stream()
+                .map(entry -> {
+                    Variable variable = requireNonNull(file.findVariable(entry.getKey()), "Missing required variable, check validation logic.");
+                    int[] axes = ValidatedBinding.broadcastAxes(dimensions, variable.getDimensions());
+                    return createD2Binding(reader.apply(variable), entry.getValue(), axes);
+                })
+                .reduce(IndexBinding.D2.noop(), IndexBinding.D2::combine);
+    }
+
+    /**
+     * Bind the variable data to the cube, variables of lower rank than the cube are broadcast across the axes they don't
+     * vary over.
+     *
+     * @param axes the axis of the cube each dimension of the variable corresponds to
+     */
+    private static <T> IndexBinding.D2<T> createD2Binding(ucar.ma2.Array data, FieldBinding<T> fieldBinding, int[] axes) {
+        return switch (Array.wrap(data)) {
+            case Array.D2 array -> array.bindIndex(fieldBinding);
+            case Array.D1 array -> Broadcasts.d2(array.bindIndex(fieldBinding), axes);
+            case Array.D0 array -> Broadcasts.d2(array.bindIndex(fieldBinding));
+            default -> throw new IllegalStateException("Binding should have already been validated...");
+        };
     }
 
-    private static <T> Hypercube.D3<T> makeD3(ValidatedBinding.D3<T> binding) {
+    private static <T> Hypercube.D3<T> makeD3(ValidatedBinding.D3<T> binding, ReadOptions options, Function<Variable, ucar.ma2.Array> reader) {
         NetcdfFile file = binding.context();
         SchemaBinding<T> schema = binding.schema();
+        ReadListener listener = options.listener();
 
-        IndexBinding.D3<T> coordinates = schema.coordinateVariables().entrySet().stream()
-                .map(entry -> createD3Binding(
-                        requireNonNull(file.findVariable(entry.getKey()), "Missing required variable, check validation logic."),
-                        entry.getValue()))
-                .reduce(IndexBinding.D3.noop(), IndexBinding.D3::combine);
+        IndexBinding.D3<T> coordinates = IndexBinding.D3.combine(
+                combineD3CoordinateVariableBindings(file, schema.coordinateVariables(), binding.dimensions(), reader),
+                Broadcasts.d3(projectedGridBinding(schema, binding.d1Max(), binding.d2Max()), new int[]{1, 2})
+        );
 
-        IndexBinding.D1<T> d0 = combineDimensionVariableBindings(file, binding.d0DimensionVariables());
-        IndexBinding.D1<T> d1 = combineDimensionVariableBindings(file, binding.d1DimensionVariables());
-        IndexBinding.D1<T> d2 = combineDimensionVariableBindings(file, binding.d2DimensionVariables());
+        IndexBinding.D1<T> d0 = combineDimensionVariableBindings(file, binding.d0DimensionVariables(), reader);
+        IndexBinding.D1<T> d1 = combineDimensionVariableBindings(file, binding.d1DimensionVariables(), reader);
+        IndexBinding.D1<T> d2 = combineDimensionVariableBindings(file, binding.d2DimensionVariables(), reader);
 
         return new D3<>(
                 schema.recordInitializer().demoteExceptions(),
@@ -135,35 +469,87 @@ class SchemaBoundHyperCubes {
                 d2,
                 binding.d2Max(),
                 coordinates,
-                schema.recordFinalizer().demoteExceptions()
+                finalizer(schema, listener)
         );
     }
 
-    private static <T> IndexBinding.D3<T> createD3Binding(Variable variable, FieldBinding<T> fieldBinding) {
-        try {
-            Array.D3 array = (Array.D3) Array.wrap(variable.read());
-            return array.bindIndex(fieldBinding);
-        } catch (ClassCastException e) {
-            throw new IllegalStateException("Binding should have already been validated...", e);
-        } catch (IOException e) {
-            throw new IllegalStateException(String.format("Error reading variable %s's data from underlying file.", variable.getFullName()), e);
-        }
+    private static <T> Hypercube.D3<T> makeStreamingD3(ValidatedBinding.D3<T> binding, ReadOptions options, Function<Variable, ucar.ma2.Array> reader, int slabSize, int start) {
+
+        NetcdfFile file = binding.context();
+        SchemaBinding<T> schema = binding.schema();
+        ReadListener listener = options.listener();
+
+        // variables not varying over the outermost dimension are the same for every slab, so are read once up front
+        List<Dimension> dimensions = binding.dimensions();
+        Map<String, FieldBinding<T>> sliced = coordinateVariables(binding, true);
+        IndexBinding.D3<T> broadcast = IndexBinding.D3.combine(
+                combineD3CoordinateVariableBindings(file, coordinateVariables(binding, false), dimensions, reader),
+                Broadcasts.d3(projectedGridBinding(schema, binding.d1Max(), binding.d2Max()), new int[]{1, 2})
+        );
+
+        IndexBinding.D1<T> d0 = combineDimensionVariableBindings(file, binding.d0DimensionVariables(), reader);
+        IndexBinding.D1<T> d1 = combineDimensionVariableBindings(file, binding.d1DimensionVariables(), reader);
+        IndexBinding.D1<T> d2 = combineDimensionVariableBindings(file, binding.d2DimensionVariables(), reader);
+
+        return new StreamingD3<>(
+                schema.recordInitializer().demoteExceptions(),
+                d0,
+                binding.d0Max(),
+                d1,
+                binding.d1Max(),
+                d2,
+                binding.d2Max(),
+                slabs(slabSize, start, binding.d0Max(), listener, (origin, length) ->
+                        IndexBinding.D3.combine(combineD3CoordinateVariableBindings(file, sliced, dimensions, variable -> readSlab(variable, origin, length, listener)), broadcast)),
+                finalizer(schema, listener)
+        );
+    }
+
+    private static <T> IndexBinding.D3<T> combineD3CoordinateVariableBindings(
+            NetcdfFile file,
+            Map<String, FieldBinding<T>> coordinateVariables,
+            List<Dimension> dimensions,
+            Function<Variable, ucar.ma2.Array> reader
+    ) {
+        return coordinateVariables.entrySet().stream()
+                .map(entry -> {
+                    Variable variable = requireNonNull(file.findVariable(entry.getKey()), "Missing required variable, check validation logic.");
+                    int[] axes = ValidatedBinding.broadcastAxes(dimensions, variable.getDimensions());
+                    return createD3Binding(reader.apply(variable), entry.getValue(), axes);
+                })
+                .reduce(IndexBinding.D3.noop(), IndexBinding.D3::combine);
+    }
+
+    /**
+     * Bind the variable data to the cube, variables of lower rank than the cube are broadcast across the axes they don't
+     * vary over.
+     *
+     * @param axes the axis of the cube each dimension of the variable corresponds to
+     */
+    private static <T> IndexBinding.D3<T> createD3Binding(ucar.ma2.Array data, FieldBinding<T> fieldBinding, int[] axes) {
+        return switch (Array.wrap(data)) {
+            case Array.D3 array -> array.bindIndex(fieldBinding);
+            case Array.D2 array -> Broadcasts.d3(array.bindIndex(fieldBinding), axes);
+            case Array.D1 array -> Broadcasts.d3(array.bindIndex(fieldBinding), axes);
+            case Array.D0 array -> Broadcasts.d3(array.bindIndex(fieldBinding));
+            default -> throw new IllegalStateException("Binding should have already been validated...");
+        };
     }
 
-    private static <T> Hypercube.D4<T> makeD4(ValidatedBinding.D4<T> binding) {
+    private static <T> Hypercube.D4<T> makeD4(ValidatedBinding.D4<T> binding, ReadOptions options, Function<Variable, ucar.ma2.Array> reader) {
         NetcdfFile file = binding.context();
         SchemaBinding<T> schema = binding.schema();
+        ReadListener listener = options.listener();
 
-        IndexBinding.D4<T> coordinates = schema.coordinateVariables().entrySet().stream()
-                .map(entry -> createD4Binding(
-                        requireNonNull(file.findVariable(entry.getKey()), "Missing required variable, check validation logic."),
-                        entry.getValue()))
-                .reduce(IndexBinding.D4.noop(), IndexBinding.D4::combine);
+        IndexBinding.D4<T> coordinates = IndexBinding.D4.combine(
+                combineD4CoordinateVariableBindings(file, schema.coordinateVariables(), binding.dimensions(), reader),
+                Broadcasts.d4(projectedGridBinding(schema, binding.d2Max(), binding.d3Max()), new int[]{2, 3})
+        );
 
-        IndexBinding.D1<T> d0 = combineDimensionVariableBindings(file, binding.d0DimensionVariables());
-        IndexBinding.D1<T> d1 = combineDimensionVariableBindings(file, binding.d1DimensionVariables());
-        IndexBinding.D1<T> d2 = combineDimensionVariableBindings(file, binding.d2DimensionVariables());
-        IndexBinding.D1<T> d3 = combineDimensionVariableBindings(file, binding.d3DimensionVariables());
+        IndexBinding.D1<T> d0 = combineDimensionVariableBindings(file, binding.d0DimensionVariables(), reader);
+        IndexBinding.D1<T> d1 = combineDimensionVariableBindings(file, binding.d1DimensionVariables(), reader);
+        IndexBinding.D1<T> d2 = combineDimensionVariableBindings(file, binding.d2DimensionVariables(), reader);
+        IndexBinding.D1<T> d3 = combineDimensionVariableBindings(file, binding.d3DimensionVariables(), reader);
 
         return new D4<>(
                 schema.recordInitializer().demoteExceptions(),
@@ -176,19 +562,75 @@ class SchemaBoundHyperCubes {
                 d3,
                 binding.d3Max(),
                 coordinates,
-                schema.recordFinalizer().demoteExceptions()
+                finalizer(schema, listener)
         );
     }
 
-    private static <T> IndexBinding.D4<T> createD4Binding(Variable variable, FieldBinding<T> fieldBinding) {
-        try {
-            Array.D4 array = (Array.D4) Array.wrap(variable.read());
-            return array.bindIndex(fieldBinding);
-        } catch (ClassCastException e) {
-            throw new IllegalStateException("Binding should have already been validated...", e);
-        } catch (IOException e) {
-            throw new IllegalStateException(String.format("Error reading variable %s's data from underlying file.", variable.getFullName()), e);
-        }
+    private static <T> Hypercube.D4<T> makeStreamingD4(ValidatedBinding.D4<T> binding, ReadOptions options, Function<Variable, ucar.ma2.Array> reader, int slabSize, int start) {
+
+        NetcdfFile file = binding.context();
+        SchemaBinding<T> schema = binding.schema();
+        ReadListener listener = options.listener();
+
+        // variables not varying over the outermost dimension are the same for every slab, so are read once up front
+        List<Dimension> dimensions = binding.dimensions();
+        Map<String, FieldBinding<T>> sliced = coordinateVariables(binding, true);
+        IndexBinding.D4<T> broadcast = IndexBinding.D4.combine(
+                combineD4CoordinateVariableBindings(file, coordinateVariables(binding, false), dimensions, reader),
+                Broadcasts.d4(projectedGridBinding(schema, binding.d2Max(), binding.d3Max()), new int[]{2, 3})
+        );
+
+        IndexBinding.D1<T> d0 = combineDimensionVariableBindings(file, binding.d0DimensionVariables(), reader);
+        IndexBinding.D1<T> d1 = combineDimensionVariableBindings(file, binding.d1DimensionVariables(), reader);
+        IndexBinding.D1<T> d2 = combineDimensionVariableBindings(file, binding.d2DimensionVariables(), reader);
+        IndexBinding.D1<T> d3 = combineDimensionVariableBindings(file, binding.d3DimensionVariables(), reader);
+
+        return new StreamingD4<>(
+                schema.recordInitializer().demoteExceptions(),
+                d0,
+                binding.d0Max(),
+                d1,
+                binding.d1Max(),
+                d2,
+                binding.d2Max(),
+                d3,
+                binding.d3Max(),
+                slabs(slabSize, start, binding.d0Max(), listener, (origin, length) ->
+                        IndexBinding.D4.combine(combineD4CoordinateVariableBindings(file, sliced, dimensions, variable -> readSlab(variable, origin, length, listener)), broadcast)),
+                finalizer(schema, listener)
+        );
+    }
+
+    private static <T> IndexBinding.D4<T> combineD4CoordinateVariableBindings(
+            NetcdfFile file,
+            Map<String, FieldBinding<T>> coordinateVariables,
+            List<Dimension> dimensions,
+            Function<Variable, ucar.ma2.Array> reader
+    ) {
+        return coordinateVariables.entrySet().stream()
+                .map(entry -> {
+                    Variable variable = requireNonNull(file.findVariable(entry.getKey()), "Missing required variable, check validation logic.");
+                    int[] axes = ValidatedBinding.broadcastAxes(dimensions, variable.getDimensions());
+                    return createD4Binding(reader.apply(variable), entry.getValue(), axes);
+                })
+                .reduce(IndexBinding.D4.noop(), IndexBinding.D4::combine);
+    }
+
+    /**
+     * Bind the variable data to the cube, variables of lower rank than the cube are broadcast across the axes they don't
+     * vary over.
+     *
+     * @param axes the axis of the cube each dimension of the variable corresponds to
+     */
+    private static <T> IndexBinding.D4<T> createD4Binding(ucar.ma2.Array data, FieldBinding<T> fieldBinding, int[] axes) {
+        return switch (Array.wrap(data)) {
+            case Array.D4 array -> array.bindIndex(fieldBinding);
+            case Array.D3 array -> Broadcasts.d4(array.bindIndex(fieldBinding), axes);
+            case Array.D2 array -> Broadcasts.d4(array.bindIndex(fieldBinding), axes);
+            case Array.D1 array -> Broadcasts.d4(array.bindIndex(fieldBinding), axes);
+            case Array.D0 array -> Broadcasts.d4(array.bindIndex(fieldBinding));
+            default -> throw new IllegalStateException("Binding should have already been validated...");
+        };
     }
 
     /**
@@ -257,4 +699,280 @@ class SchemaBoundHyperCubes {
         public void close() {
         }
     }
+
+    /**
+     * Streaming variant of {@link D1} which reads coordinate variables from the file a slab at a time, see {@link Slabs}.
+     */
+    record StreamingD1<T>(Supplier<T> initializer, IndexBinding.D1<T> d0Setter, int max,
+                          Slabs<IndexBinding.D1<T>> coordinates, Consumer<T> finalizer) implements Hypercube.D1<T> {
+
+        @Override
+        public T read(int i) {
+            Slab<IndexBinding.D1<T>> slab = coordinates.slabFor(i);
+            T r = slab.coordinatesSetter().set(d0Setter.set(initializer.get(), i), i - slab.origin());
+            finalizer.accept(r);
+            return r;
+        }
+
+        @Override
+        public boolean streaming() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    record StreamingD2<T>(Supplier<T> initializer, IndexBinding.D1<T> d0Setter, int d0Max, IndexBinding.D1<T> d1Setter,
+                          int d1Max, Slabs<IndexBinding.D2<T>> coordinates,
+                          Consumer<T> finalizer) implements Hypercube.D2<T> {
+
+        @Override
+        public T read(int i0, int i1) {
+            Slab<IndexBinding.D2<T>> slab = coordinates.slabFor(i0);
+            T r = slab.coordinatesSetter().set(d0Setter.set(d1Setter.set(initializer.get(), i1), i0), i0 - slab.origin(), i1);
+            finalizer.accept(r);
+            return r;
+        }
+
+        @Override
+        public boolean streaming() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    record StreamingD3<T>(Supplier<T> initializer, IndexBinding.D1<T> d0Setter, int d0Max, IndexBinding.D1<T> d1Setter,
+                          int d1Max, IndexBinding.D1<T> d2Setter, int d2Max, Slabs<IndexBinding.D3<T>> coordinates,
+                          Consumer<T> finalizer) implements Hypercube.D3<T> {
+
+        @Override
+        public T read(int i0, int i1, int i2) {
+            Slab<IndexBinding.D3<T>> slab = coordinates.slabFor(i0);
+            T r = slab.coordinatesSetter().set(d0Setter.set(d1Setter.set(d2Setter.set(initializer.get(), i2), i1), i0), i0 - slab.origin(), i1, i2);
+            finalizer.accept(r);
+            return r;
+        }
+
+        @Override
+        public boolean streaming() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    record StreamingD4<T>(Supplier<T> initializer, IndexBinding.D1<T> d0Setter, int d0Max, IndexBinding.D1<T> d1Setter,
+                          int d1Max, IndexBinding.D1<T> d2Setter, int d2Max, IndexBinding.D1<T> d3Setter, int d3Max,
+                          Slabs<IndexBinding.D4<T>> coordinates, Consumer<T> finalizer) implements Hypercube.D4<T> {
+
+        @Override
+        public T read(int x, int y, int z, int t) {
+            Slab<IndexBinding.D4<T>> slab = coordinates.slabFor(x);
+            T r = slab.coordinatesSetter().set(d0Setter.set(d1Setter.set(d2Setter.set(d3Setter.set(initializer.get(), t), z), y), x), x - slab.origin(), y, z, t);
+            finalizer.accept(r);
+            return r;
+        }
+
+        @Override
+        public boolean streaming() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    /**
+     * View of the indices {@code [start, max)} of the outermost dimension of a cube, see {@link #makeTail}.
+     */
+    record TailD1<T>(Hypercube.D1<T> delegate, int start) implements Hypercube.D1<T> {
+
+        @Override
+        public T read(int i) {
+            return delegate.read(i + start);
+        }
+
+        @Override
+        public int max() {
+            return delegate.max() - start;
+        }
+
+        @Override
+        public boolean streaming() {
+            return delegate.streaming();
+        }
+
+        @Override
+        public void close() throws Exception {
+            delegate.close();
+        }
+    }
+
+    record TailD2<T>(Hypercube.D2<T> delegate, int start) implements Hypercube.D2<T> {
+
+        @Override
+        public T read(int i0, int i1) {
+            return delegate.read(i0 + start, i1);
+        }
+
+        @Override
+        public int d0Max() {
+            return delegate.d0Max() - start;
+        }
+
+        @Override
+        public int d1Max() {
+            return delegate.d1Max();
+        }
+
+        @Override
+        public boolean streaming() {
+            return delegate.streaming();
+        }
+
+        @Override
+        public void close() throws Exception {
+            delegate.close();
+        }
+    }
+
+    record TailD3<T>(Hypercube.D3<T> delegate, int start) implements Hypercube.D3<T> {
+
+        @Override
+        public T read(int i0, int i1, int i2) {
+            return delegate.read(i0 + start, i1, i2);
+        }
+
+        @Override
+        public int d0Max() {
+            return delegate.d0Max() - start;
+        }
+
+        @Override
+        public int d1Max() {
+            return delegate.d1Max();
+        }
+
+        @Override
+        public int d2Max() {
+            return delegate.d2Max();
+        }
+
+        @Override
+        public boolean streaming() {
+            return delegate.streaming();
+        }
+
+        @Override
+        public void close() throws Exception {
+            delegate.close();
+        }
+    }
+
+    record TailD4<T>(Hypercube.D4<T> delegate, int start) implements Hypercube.D4<T> {
+
+        @Override
+        public T read(int i0, int i1, int i2, int i3) {
+            return delegate.read(i0 + start, i1, i2, i3);
+        }
+
+        @Override
+        public int d0Max() {
+            return delegate.d0Max() - start;
+        }
+
+        @Override
+        public int d1Max() {
+            return delegate.d1Max();
+        }
+
+        @Override
+        public int d2Max() {
+            return delegate.d2Max();
+        }
+
+        @Override
+        public int d3Max() {
+            return delegate.d3Max();
+        }
+
+        @Override
+        public boolean streaming() {
+            return delegate.streaming();
+        }
+
+        @Override
+        public void close() throws Exception {
+            delegate.close();
+        }
+    }
+
+    /**
+     * Lazily-loaded slabs of coordinate variable data along the outermost dimension of a cube, only the most recently
+     * accessed slab is retained.
+     *
+     * <p>Slabs are aligned to multiples of the slab size (offset from the start index) so sequential traversal of the cube
+     * loads each slab exactly once.
+     * Concurrent readers may redundantly load the same slab but will always see a consistent one.
+     */
+    static final class Slabs<B> {
+
+        private final int slabSize;
+
+        private final int start;
+
+        private final int max;
+
+        private final SlabLoader<B> loader;
+
+        private volatile Slab<B> current;
+
+        Slabs(int slabSize, int start, int max, SlabLoader<B> loader) {
+            this.slabSize = slabSize;
+            this.start = start;
+            this.max = max;
+            this.loader = requireNonNull(loader);
+        }
+
+        Slab<B> slabFor(int i0) {
+            Slab<B> slab = current;
+            if (slab == null || !slab.contains(i0)) {
+                int origin = i0 - (i0 - start) % slabSize;
+                int length = Math.min(slabSize, max - origin);
+
+                JfrEvents.SlabLoad event = new JfrEvents.SlabLoad();
+                event.begin();
+
+                slab = new Slab<>(origin, length, loader.load(origin, length));
+                JfrEvents.commit(event, origin, length);
+
+                current = slab;
+            }
+            return slab;
+        }
+
+        @FunctionalInterface
+        interface SlabLoader<B> {
+            B load(int origin, int length);
+        }
+    }
+
+    /**
+     * Coordinate variable bindings for the indices {@code [origin, origin + slabSize)} of the outermost dimension of a cube,
+     * the bindings themselves are indexed relative to the origin of the slab.
+     */
+    record Slab<B>(int origin, int length, B coordinatesSetter) {
+
+        boolean contains(int i0) {
+            return i0 >= origin && i0 - origin < length;
+        }
+    }
 }
@@ -0,0 +1,287 @@
+package io.github.stellarsunset.netcdf;
+
+import java.util.Objects;
+
+/**
+ * Views over part of a {@link Hypercube}, either fixing the index of one dimension (yielding a cube of one less dimension)
+ * or restricting a dimension to a range of indices, e.g. {@link Hypercube.D4#slice(int, int)}.
+ *
+ * <p>Views translate their indices and delegate to the cube they were created from, so they share its variable data and
+ * bindings, nothing is copied or re-read. Closing a view doesn't close the underlying cube.
+ */
+final class SubCubes {
+
+    private SubCubes() {
+    }
+
+    static void checkAxis(int axis, int rank) {
+        if (axis < 0 || axis >= rank) {
+            throw new IllegalArgumentException(String.format("Axis must be in [0, %d), was: %d", rank, axis));
+        }
+    }
+
+    static void checkRange(int from, int to, int max) {
+        Objects.checkFromToIndex(from, to, max);
+    }
+
+    record RangeD1<T>(Hypercube.D1<T> delegate, int from, int to) implements Hypercube.D1<T> {
+
+        @Override
+        public T read(int i) {
+            return delegate.read(from + i);
+        }
+
+        @Override
+        public int max() {
+            return to - from;
+        }
+
+        @Override
+        public boolean streaming() {
+            return delegate.streaming();
+        }
+
+        @Override
+        public boolean reorderable() {
+            return delegate.reorderable();
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    /**
+     * A 2D cube with the index along one axis fixed.
+     */
+    record SliceD2<T>(Hypercube.D2<T> delegate, int axis, int index) implements Hypercube.D1<T> {
+
+        @Override
+        public T read(int i) {
+            return axis == 0 ? delegate.read(index, i) : delegate.read(i, index);
+        }
+
+        @Override
+        public int max() {
+            return axis == 0 ? delegate.d1Max() : delegate.d0Max();
+        }
+
+        @Override
+        public boolean streaming() {
+            return axis != 0 && delegate.streaming();
+        }
+
+        @Override
+        public boolean reorderable() {
+            return delegate.reorderable();
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    record RangeD2<T>(Hypercube.D2<T> delegate, int axis, int from, int to) implements Hypercube.D2<T> {
+
+        @Override
+        public T read(int i0, int i1) {
+            return axis == 0 ? delegate.read(from + i0, i1) : delegate.read(i0, from + i1);
+        }
+
+        @Override
+        public int d0Max() {
+            return axis == 0 ? to - from : delegate.d0Max();
+        }
+
+        @Override
+        public int d1Max() {
+            return axis == 1 ? to - from : delegate.d1Max();
+        }
+
+        @Override
+        public boolean streaming() {
+            return delegate.streaming();
+        }
+
+        @Override
+        public boolean reorderable() {
+            return delegate.reorderable();
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    /**
+     * A 3D cube with the index along one axis fixed, the remaining axes keep their relative order.
+     */
+    record SliceD3<T>(Hypercube.D3<T> delegate, int axis, int index) implements Hypercube.D2<T> {
+
+        @Override
+        public T read(int i0, int i1) {
+            return switch (axis) {
+                case 0 -> delegate.read(index, i0, i1);
+                case 1 -> delegate.read(i0, index, i1);
+                default -> delegate.read(i0, i1, index);
+            };
+        }
+
+        @Override
+        public int d0Max() {
+            return axis == 0 ? delegate.d1Max() : delegate.d0Max();
+        }
+
+        @Override
+        public int d1Max() {
+            return axis == 2 ? delegate.d1Max() : delegate.d2Max();
+        }
+
+        @Override
+        public boolean streaming() {
+            return axis != 0 && delegate.streaming();
+        }
+
+        @Override
+        public boolean reorderable() {
+            return delegate.reorderable();
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    record RangeD3<T>(Hypercube.D3<T> delegate, int axis, int from, int to) implements Hypercube.D3<T> {
+
+        @Override
+        public T read(int i0, int i1, int i2) {
+            return switch (axis) {
+                case 0 -> delegate.read(from + i0, i1, i2);
+                case 1 -> delegate.read(i0, from + i1, i2);
+                default -> delegate.read(i0, i1, from + i2);
+            };
+        }
+
+        @Override
+        public int d0Max() {
+            return axis == 0 ? to - from : delegate.d0Max();
+        }
+
+        @Override
+        public int d1Max() {
+            return axis == 1 ? to - from : delegate.d1Max();
+        }
+
+        @Override
+        public int d2Max() {
+            return axis == 2 ? to - from : delegate.d2Max();
+        }
+
+        @Override
+        public boolean streaming() {
+            return delegate.streaming();
+        }
+
+        @Override
+        public boolean reorderable() {
+            return delegate.reorderable();
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    /**
+     * A 4D cube with the index along one axis fixed, the remaining axes keep their relative order.
+     */
+    record SliceD4<T>(Hypercube.D4<T> delegate, int axis, int index) implements Hypercube.D3<T> {
+
+        @Override
+        public T read(int i0, int i1, int i2) {
+            return switch (axis) {
+                case 0 -> delegate.read(index, i0, i1, i2);
+                case 1 -> delegate.read(i0, index, i1, i2);
+                case 2 -> delegate.read(i0, i1, index, i2);
+                default -> delegate.read(i0, i1, i2, index);
+            };
+        }
+
+        @Override
+        public int d0Max() {
+            return axis == 0 ? delegate.d1Max() : delegate.d0Max();
+        }
+
+        @Override
+        public int d1Max() {
+            return axis <= 1 ? delegate.d2Max() : delegate.d1Max();
+        }
+
+        @Override
+        public int d2Max() {
+            return axis == 3 ? delegate.d2Max() : delegate.d3Max();
+        }
+
+        @Override
+        public boolean streaming() {
+            return axis != 0 && delegate.streaming();
+        }
+
+        @Override
+        public boolean reorderable() {
+            return delegate.reorderable();
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    record RangeD4<T>(Hypercube.D4<T> delegate, int axis, int from, int to) implements Hypercube.D4<T> {
+
+        @Override
+        public T read(int i0, int i1, int i2, int i3) {
+            return switch (axis) {
+                case 0 -> delegate.read(from + i0, i1, i2, i3);
+                case 1 -> delegate.read(i0, from + i1, i2, i3);
+                case 2 -> delegate.read(i0, i1, from + i2, i3);
+                default -> delegate.read(i0, i1, i2, from + i3);
+            };
+        }
+
+        @Override
+        public int d0Max() {
+            return axis == 0 ? to - from : delegate.d0Max();
+        }
+
+        @Override
+        public int d1Max() {
+            return axis == 1 ? to - from : delegate.d1Max();
+        }
+
+        @Override
+        public int d2Max() {
+            return axis == 2 ? to - from : delegate.d2Max();
+        }
+
+        @Override
+        public int d3Max() {
+            return axis == 3 ? to - from : delegate.d3Max();
+        }
+
+        @Override
+        public boolean streaming() {
+            return delegate.streaming();
+        }
+
+        @Override
+        public boolean reorderable() {
+            return delegate.reorderable();
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package io.github.stellarsunset.netcdf;
+
+import ucar.nc2.Dimension;
+import ucar.nc2.NetcdfFile;
+import ucar.nc2.Variable;
+
+import java.io.IOException;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Incrementally reads the records appended along the unlimited dimension of a growing NetCDF-3 file, e.g. one an
+ * observation system or model is still writing to.
+ *
+ * <p>The reader remembers how many indices of the unlimited dimension have been consumed, each call to {@link #poll()}
+ * syncs the file with its current length on disk and returns a {@link Hypercube} over only the indices appended since the
+ * previous poll. Coordinate variables are read starting at the first new index, so the cost of a poll scales with the
+ * number of new records rather than the size of the file.
+ *
+ * <p>The unlimited dimension must be the outermost dimension of the bound coordinate variables, as is always the case for
+ * NetCDF-3 record variables. Dimension variables are re-read in full on each poll.
+ *
+ * <p>Readers are not thread-safe, and the cubes returned by a poll are only valid until the next poll.
+ */
+public final class TailReader<T> {
+
+    private final NetcdfFile file;
+
+    private final SchemaBinding<T> schema;
+
+    private final ReadOptions options;
+
+    private int consumed;
+
+    private TailReader(NetcdfFile file, SchemaBinding<T> schema, ReadOptions options, int consumed) {
+        this.file = requireNonNull(file);
+        this.schema = requireNonNull(schema);
+        this.options = requireNonNull(options);
+        this.consumed = consumed;
+    }
+
+    /**
+     * Create a reader over the records of the file bound by the {@link SchemaBinding}, the first poll returns all the
+     * records currently in the file.
+     *
+     * @param file    the growing file to read records from, it should be opened in a mode that supports syncing
+     * @param binding the binding to use to generate objects from the underlying data
+     */
+    public static <T> TailReader<T> schemaBound(NetcdfFile file, SchemaBinding<T> binding) {
+        return schemaBound(file, binding, ReadOptions.defaults());
+    }
+
+    /**
+     * Create a reader over the records of the file bound by the {@link SchemaBinding} reading the data as configured by
+     * the {@link ReadOptions}, the first poll returns all the records currently in the file.
+     *
+     * @param file    the growing file to read records from, it should be opened in a mode that supports syncing
+     * @param binding the binding to use to generate objects from the underlying data
+     * @param options options controlling how variable data is read from the file, e.g. in streaming slabs
+     */
+    public static <T> TailReader<T> schemaBound(NetcdfFile file, SchemaBinding<T> binding, ReadOptions options) {
+        return schemaBound(file, binding, options, 0);
+    }
+
+    /**
+     * Create a reader over the records of the file bound by the {@link SchemaBinding}, treating the first {@code consumed}
+     * indices of the unlimited dimension as already read, e.g. to resume tailing a file after a restart.
+     *
+     * @param file     the growing file to read records from, it should be opened in a mode that supports syncing
+     * @param binding  the binding to use to generate objects from the underlying data
+     * @param options  options controlling how variable data is read from the file, e.g. in streaming slabs
+     * @param consumed the number of indices of the unlimited dimension which have already been read
+     */
+    public static <T> TailReader<T> schemaBound(NetcdfFile file, SchemaBinding<T> binding, ReadOptions options, int consumed) {
+        if (consumed < 0) {
+            throw new IllegalArgumentException("Consumed records must be non-negative, was: " + consumed);
+        }
+        return new TailReader<>(file, binding, options, consumed);
+    }
+
+    /**
+     * The number of indices of the unlimited dimension returned by previous polls.
+     */
+    public int consumed() {
+        return consumed;
+    }
+
+    /**
+     * Sync the file with its current length on disk and return a cube over the indices of the unlimited dimension appended
+     * since the previous poll, the cube is empty if nothing has been appended.
+     *
+     * <p>The returned cube shares the reader's file handle, closing it has no effect on the reader.
+     */
+    public Hypercube<T> poll() throws IOException {
+
+        file.syncExtend();
+        invalidateCachedData();
+
+        ValidatedBinding<T> binding = ValidatedBinding.validate(file, schema, options);
+        checkUnlimited(binding);
+
+        int length = binding.shape()[0];
+        if (length < consumed) {
+            throw new IllegalStateException(String.format("Unlimited dimension shrank from %d to %d, was the file rewritten?", consumed, length));
+        }
+
+        Hypercube<T> cube = SchemaBoundHyperCubes.makeTail(binding, options, consumed);
+        consumed = length;
+        return cube;
+    }
+
+    /**
+     * Variables without an unlimited dimension may have been cached in full on a previous read, but a sync can still change
+     * the data backing them (e.g. the values of a coordinate variable of the unlimited dimension).
+     */
+    private void invalidateCachedData() {
+        Stream.concat(schema.coordinateVariables().keySet().stream(), schema.dimensionVariables().keySet().stream())
+                .map(file::findVariable)
+                .filter(variable -> variable != null)
+                .forEach(Variable::invalidateCache);
+    }
+
+    private void checkUnlimited(ValidatedBinding<T> binding) {
+        if (binding instanceof ValidatedBinding.D0<T>) {
+            throw new IllegalArgumentException("Tailing requires coordinate variables with at least one dimension.");
+        }
+
+        Dimension outermost = binding.dimensions().getFirst();
+        if (!outermost.isUnlimited()) {
+            throw new IllegalArgumentException(String.format("Outermost dimension %s of the binding isn't unlimited, it can't be tailed.", outermost.getShortName()));
+        }
+    }
+}
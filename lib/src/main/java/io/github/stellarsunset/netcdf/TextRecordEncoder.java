@@ -0,0 +1,506 @@
+package io.github.stellarsunset.netcdf;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Record "template" for the {@link OutputStream}-as-record pattern described on {@link SchemaBinding}, encoding each record
+ * bound out of a file as a line of CSV or newline-delimited JSON (NDJSON).
+ *
+ * <p>Values are formatted straight into re-usable byte buffers, integral values digit-by-digit and floating point values
+ * in their shortest round-tripping representation (via the JDK's Schubfach implementation), without creating intermediate
+ * {@link String}s. Encoded records are accumulated in a block buffer which is only written to the underlying stream once
+ * full, so the per-record cost is a handful of array copies.
+ *
+ * <pre>{@code
+ * TextRecordEncoder csv = TextRecordEncoder.csv(outputStream, List.of("latitude", "longitude", "temperature"));
+ * csv.writeHeader();
+ *
+ * var binding = SchemaBinding.<TextRecordEncoder>builder()
+ *         .recordInitializer(csv.recordInitializer())
+ *         .doubleDimensionVariable("x", "latitude", csv.doubleField("latitude"))
+ *         .doubleDimensionVariable("y", "longitude", csv.doubleField("longitude"))
+ *         .floatCoordinateVariable("temperature", csv.floatField("temperature"))
+ *         .recordFinalizer(csv.recordFinalizer())
+ *         .build();
+ *
+ * try (csv; Hypercube<TextRecordEncoder> cube = Hypercube.schemaBound(file, binding)) {
+ *     cube.stream().forEach(encoder -> {});
+ * }
+ * }</pre>
+ *
+ * <p>Fields are written in the order of the columns provided when the encoder is created, regardless of the order the
+ * bindings are invoked in. Columns without a value in a record are left empty in CSV and omitted in NDJSON. Non-finite
+ * floating point values are written as {@code NaN}/{@code Infinity} in CSV and as {@code null} in NDJSON.
+ *
+ * <p>Encoders hold the state of the record currently being bound so aren't thread-safe, they can't be used with parallel
+ * streams. Callers must {@link #flush()} or {@link #close()} the encoder once all records are written.
+ */
+public final class TextRecordEncoder implements Flushable, Closeable {
+
+    private static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+    private static final byte[] TRUE = ascii("true");
+    private static final byte[] FALSE = ascii("false");
+    private static final byte[] NULL = ascii("null");
+
+    private final Format format;
+
+    private final OutputStream out;
+
+    private final List<String> columns;
+
+    private final Map<String, Integer> columnIndices = new HashMap<>();
+
+    /**
+     * Per-column bytes written ahead of the value in NDJSON, i.e. the quoted field name and colon.
+     */
+    private final byte[][] prefixes;
+
+    /**
+     * Encoded values of the current record, column {@code i} occupies {@code [starts[i], ends[i])} or is unset if the end
+     * is negative.
+     */
+    private byte[] values = new byte[256];
+
+    private int valuesLength;
+
+    private final int[] starts;
+
+    private final int[] ends;
+
+    private final StringBuilder decimal = new StringBuilder(32);
+
+    private final byte[] buffer;
+
+    private int position;
+
+    private TextRecordEncoder(Format format, OutputStream out, List<String> columns, int bufferSize) {
+        this.format = format;
+        this.out = requireNonNull(out);
+        this.columns = List.copyOf(columns);
+
+        if (this.columns.isEmpty()) {
+            throw new IllegalArgumentException("At least one column must be provided.");
+        }
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Buffer size must be positive, was: " + bufferSize);
+        }
+
+        this.prefixes = new byte[this.columns.size()][];
+        for (int i = 0; i < this.columns.size(); i++) {
+            String column = this.columns.get(i);
+            if (columnIndices.put(column, i) != null) {
+                throw new IllegalArgumentException("Duplicate column: " + column);
+            }
+            this.prefixes[i] = format == Format.NDJSON ? (jsonString(column) + ":").getBytes(StandardCharsets.UTF_8) : new byte[0];
+        }
+
+        this.starts = new int[this.columns.size()];
+        this.ends = new int[this.columns.size()];
+        this.buffer = new byte[bufferSize];
+
+        startRecord();
+    }
+
+    /**
+     * Create a new encoder writing one comma-separated line per record to the provided stream.
+     *
+     * @param out     the stream to write encoded records to
+     * @param columns the names of the columns, in the order they should be written
+     */
+    public static TextRecordEncoder csv(OutputStream out, List<String> columns) {
+        return csv(out, columns, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Create a new encoder writing one comma-separated line per record to the provided stream.
+     *
+     * @param out        the stream to write encoded records to
+     * @param columns    the names of the columns, in the order they should be written
+     * @param bufferSize the size (in bytes) of the blocks of encoded records written to the stream
+     */
+    public static TextRecordEncoder csv(OutputStream out, List<String> columns, int bufferSize) {
+        return new TextRecordEncoder(Format.CSV, out, columns, bufferSize);
+    }
+
+    /**
+     * Create a new encoder writing one JSON object per line per record to the provided stream.
+     *
+     * @param out    the stream to write encoded records to
+     * @param fields the names of the fields, in the order they should be written in each object
+     */
+    public static TextRecordEncoder ndjson(OutputStream out, List<String> fields) {
+        return ndjson(out, fields, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Create a new encoder writing one JSON object per line per record to the provided stream.
+     *
+     * @param out        the stream to write encoded records to
+     * @param fields     the names of the fields, in the order they should be written in each object
+     * @param bufferSize the size (in bytes) of the blocks of encoded records written to the stream
+     */
+    public static TextRecordEncoder ndjson(OutputStream out, List<String> fields, int bufferSize) {
+        return new TextRecordEncoder(Format.NDJSON, out, fields, bufferSize);
+    }
+
+    /**
+     * Write the CSV header line containing the column names, should be called before any records are bound.
+     */
+    public void writeHeader() throws IOException {
+        if (format != Format.CSV) {
+            throw new IllegalStateException("Only CSV output has a header line.");
+        }
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                put((byte) ',');
+            }
+            put(csvString(columns.get(i)).getBytes(StandardCharsets.UTF_8));
+        }
+        put((byte) '\n');
+    }
+
+    /**
+     * Initializer clearing the values of the previous record and returning this encoder as the next record.
+     */
+    public RecordInitializer<TextRecordEncoder> recordInitializer() {
+        return this::startRecord;
+    }
+
+    /**
+     * Finalizer terminating the current record and appending it to the output buffer.
+     */
+    public RecordFinalizer<TextRecordEncoder> recordFinalizer() {
+        return TextRecordEncoder::endRecord;
+    }
+
+    public FieldBinding.Bool<TextRecordEncoder> boolField(String column) {
+        int index = column(column);
+        return (encoder, value) -> encoder.putBool(index, value);
+    }
+
+    public FieldBinding.Byte<TextRecordEncoder> byteField(String column) {
+        int index = column(column);
+        return (encoder, value) -> encoder.putLong(index, value);
+    }
+
+    public FieldBinding.Char<TextRecordEncoder> charField(String column) {
+        int index = column(column);
+        return (encoder, value) -> encoder.putChar(index, value);
+    }
+
+    public FieldBinding.Short<TextRecordEncoder> shortField(String column) {
+        int index = column(column);
+        return (encoder, value) -> encoder.putLong(index, value);
+    }
+
+    public FieldBinding.Int<TextRecordEncoder> intField(String column) {
+        int index = column(column);
+        return (encoder, value) -> encoder.putLong(index, value);
+    }
+
+    public FieldBinding.Long<TextRecordEncoder> longField(String column) {
+        int index = column(column);
+        return (encoder, value) -> encoder.putLong(index, value);
+    }
+
+    public FieldBinding.Float<TextRecordEncoder> floatField(String column) {
+        int index = column(column);
+        return (encoder, value) -> encoder.putFloat(index, value);
+    }
+
+    public FieldBinding.Double<TextRecordEncoder> doubleField(String column) {
+        int index = column(column);
+        return (encoder, value) -> encoder.putDouble(index, value);
+    }
+
+    /**
+     * Write any buffered records to the underlying stream and flush it.
+     */
+    @Override
+    public void flush() throws IOException {
+        if (position > 0) {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+        out.flush();
+    }
+
+    /**
+     * Flush any buffered records and close the underlying stream.
+     */
+    @Override
+    public void close() throws IOException {
+        try (out) {
+            flush();
+        }
+    }
+
+    private int column(String column) {
+        Integer index = columnIndices.get(requireNonNull(column));
+        if (index == null) {
+            throw new IllegalArgumentException(String.format("Unknown column %s, expected one of: %s", column, columns));
+        }
+        return index;
+    }
+
+    private TextRecordEncoder startRecord() {
+        Arrays.fill(ends, -1);
+        valuesLength = 0;
+        return this;
+    }
+
+    private void endRecord() throws IOException {
+        switch (format) {
+            case CSV -> {
+                for (int i = 0; i < ends.length; i++) {
+                    if (i > 0) {
+                        put((byte) ',');
+                    }
+                    if (ends[i] >= 0) {
+                        put(values, starts[i], ends[i] - starts[i]);
+                    }
+                }
+            }
+            case NDJSON -> {
+                put((byte) '{');
+                boolean first = true;
+                for (int i = 0; i < ends.length; i++) {
+                    if (ends[i] >= 0) {
+                        if (!first) {
+                            put((byte) ',');
+                        }
+                        put(prefixes[i], 0, prefixes[i].length);
+                        put(values, starts[i], ends[i] - starts[i]);
+                        first = false;
+                    }
+                }
+                put((byte) '}');
+            }
+        }
+        put((byte) '\n');
+    }
+
+    private TextRecordEncoder putBool(int column, boolean value) {
+        byte[] bytes = value ? TRUE : FALSE;
+        ensureValuesCapacity(bytes.length);
+        starts[column] = valuesLength;
+        System.arraycopy(bytes, 0, values, valuesLength, bytes.length);
+        valuesLength += bytes.length;
+        ends[column] = valuesLength;
+        return this;
+    }
+
+    /**
+     * Writes the digits of the value directly into the value buffer, negative values are handled in the negative domain so
+     * {@link Long#MIN_VALUE} doesn't overflow.
+     */
+    private TextRecordEncoder putLong(int column, long value) {
+        ensureValuesCapacity(20);
+        starts[column] = valuesLength;
+
+        long remaining = value;
+        if (value < 0) {
+            values[valuesLength++] = '-';
+        } else {
+            remaining = -value;
+        }
+
+        int digitsStart = valuesLength;
+        do {
+            values[valuesLength++] = (byte) ('0' - (remaining % 10));
+            remaining /= 10;
+        } while (remaining != 0);
+
+        // digits were written least-significant first
+        for (int i = digitsStart, j = valuesLength - 1; i < j; i++, j--) {
+            byte tmp = values[i];
+            values[i] = values[j];
+            values[j] = tmp;
+        }
+
+        ends[column] = valuesLength;
+        return this;
+    }
+
+    private TextRecordEncoder putFloat(int column, float value) {
+        if (format == Format.NDJSON && !Float.isFinite(value)) {
+            return putNull(column);
+        }
+        decimal.setLength(0);
+        decimal.append(value);
+        return putDecimal(column);
+    }
+
+    private TextRecordEncoder putDouble(int column, double value) {
+        if (format == Format.NDJSON && !Double.isFinite(value)) {
+            return putNull(column);
+        }
+        decimal.setLength(0);
+        decimal.append(value);
+        return putDecimal(column);
+    }
+
+    private TextRecordEncoder putNull(int column) {
+        ensureValuesCapacity(NULL.length);
+        starts[column] = valuesLength;
+        System.arraycopy(NULL, 0, values, valuesLength, NULL.length);
+        valuesLength += NULL.length;
+        ends[column] = valuesLength;
+        return this;
+    }
+
+    /**
+     * Copies the (all ASCII) formatted floating point value out of the re-used {@link StringBuilder}.
+     */
+    private TextRecordEncoder putDecimal(int column) {
+        int length = decimal.length();
+        ensureValuesCapacity(length);
+        starts[column] = valuesLength;
+        for (int i = 0; i < length; i++) {
+            values[valuesLength++] = (byte) decimal.charAt(i);
+        }
+        ends[column] = valuesLength;
+        return this;
+    }
+
+    private TextRecordEncoder putChar(int column, char value) {
+        // worst case a quoted and escaped unicode code unit
+        ensureValuesCapacity(8);
+        starts[column] = valuesLength;
+
+        boolean quote = switch (format) {
+            case CSV -> value == ',' || value == '"' || value == '\n' || value == '\r';
+            case NDJSON -> true;
+        };
+
+        if (quote) {
+            values[valuesLength++] = '"';
+        }
+
+        if (value == '"') {
+            values[valuesLength++] = format == Format.CSV ? (byte) '"' : (byte) '\\';
+            values[valuesLength++] = '"';
+        } else if (format == Format.NDJSON && (value == '\\' || value < 0x20)) {
+            putJsonEscape(value);
+        } else if (value < 0x80) {
+            values[valuesLength++] = (byte) value;
+        } else if (value < 0x800) {
+            values[valuesLength++] = (byte) (0xC0 | (value >> 6));
+            values[valuesLength++] = (byte) (0x80 | (value & 0x3F));
+        } else if (Character.isSurrogate(value)) {
+            // a lone surrogate can't be encoded on its own
+            values[valuesLength++] = '?';
+        } else {
+            values[valuesLength++] = (byte) (0xE0 | (value >> 12));
+            values[valuesLength++] = (byte) (0x80 | ((value >> 6) & 0x3F));
+            values[valuesLength++] = (byte) (0x80 | (value & 0x3F));
+        }
+
+        if (quote) {
+            values[valuesLength++] = '"';
+        }
+
+        ends[column] = valuesLength;
+        return this;
+    }
+
+    private void putJsonEscape(char value) {
+        values[valuesLength++] = '\\';
+        switch (value) {
+            case '\\' -> values[valuesLength++] = '\\';
+            case '\n' -> values[valuesLength++] = 'n';
+            case '\r' -> values[valuesLength++] = 'r';
+            case '\t' -> values[valuesLength++] = 't';
+            default -> {
+                values[valuesLength++] = 'u';
+                values[valuesLength++] = '0';
+                values[valuesLength++] = '0';
+                values[valuesLength++] = (byte) Character.forDigit(value >> 4, 16);
+                values[valuesLength++] = (byte) Character.forDigit(value & 0xF, 16);
+            }
+        }
+    }
+
+    private void ensureValuesCapacity(int additional) {
+        if (valuesLength + additional > values.length) {
+            values = Arrays.copyOf(values, Math.max(values.length * 2, valuesLength + additional));
+        }
+    }
+
+    private void put(byte b) throws IOException {
+        if (position == buffer.length) {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+        buffer[position++] = b;
+    }
+
+    private void put(byte[] bytes) throws IOException {
+        put(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Appends the bytes to the block buffer, writing the buffer out first if they don't fit and bypassing it entirely if
+     * they'd never fit.
+     */
+    private void put(byte[] bytes, int offset, int length) throws IOException {
+        if (position + length > buffer.length) {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+        if (length > buffer.length) {
+            out.write(bytes, offset, length);
+        } else {
+            System.arraycopy(bytes, offset, buffer, position, length);
+            position += length;
+        }
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static String csvString(String value) {
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
+    private static String jsonString(String value) {
+        StringBuilder builder = new StringBuilder(value.length() + 2).append('"');
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                case '\t' -> builder.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        builder.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        builder.append(c);
+                    }
+                }
+            }
+        }
+        return builder.append('"').toString();
+    }
+
+    private enum Format {
+        CSV,
+        NDJSON
+    }
+}
@@ -34,7 +34,38 @@ sealed interface ValidatedBinding<T> extends AutoCloseable {
      * for a validated schema downstream classes can have good expectations against (simplifying their logic).
      */
     static <T> ValidatedBinding<T> validate(NetcdfFile file, SchemaBinding<T> schema) {
-        return new Validator<>(file, schema).validate().orThrowRight(Validator.Error::asException);
+        return tryValidate(file, schema).orThrowRight(Validator.Error::asException);
+    }
+
+    /**
+     * Validate the provided {@link SchemaBinding} against the file consulting the {@link ValidationCache} and notifying
+     * the {@link ReadListener} configured in the provided {@link ReadOptions}.
+     */
+    static <T> ValidatedBinding<T> validate(NetcdfFile file, SchemaBinding<T> schema, ReadOptions options) {
+
+        long start = System.nanoTime();
+
+        ValidatedBinding<T> validated = options.validationCache()
+                .map(cache -> cache.validate(file, schema))
+                .orElseGet(() -> validate(file, schema));
+
+        options.listener().validated(file, System.nanoTime() - start);
+        return validated;
+    }
+
+    /**
+     * Validate the provided {@link SchemaBinding} against the data in the provided {@link NetcdfFile} returning either the
+     * validated binding or the {@link Validator.Error} describing why it's invalid.
+     */
+    static <T> Either<ValidatedBinding<T>, Validator.Error> tryValidate(NetcdfFile file, SchemaBinding<T> schema) {
+
+        JfrEvents.Validation event = new JfrEvents.Validation();
+        event.begin();
+
+        Either<ValidatedBinding<T>, Validator.Error> result = new Validator<>(file, schema).validate();
+        JfrEvents.commit(event, file, schema, result.left().isPresent());
+
+        return result;
     }
 
     /**
@@ -52,10 +83,69 @@ sealed interface ValidatedBinding<T> extends AutoCloseable {
         context().close();
     }
 
+    /**
+     * The lengths of each of the dimensions the validated coordinate variables vary over, in order.
+     */
+    default int[] shape() {
+        return switch (this) {
+            case D0<T> d0 -> new int[0];
+            default -> anyVariable(this).getShape();
+        };
+    }
+
+    /**
+     * The subset of dimension variables in the validated binding which vary along the dimension at the provided index.
+     *
+     * @param index the index of the dimension we want the variables for
+     */
+    default Map<String, FieldBinding<T>> dimensionVariables(int index) {
+        return ValidatedBinding.dimensionVariables(this, index);
+    }
+
+    /**
+     * The dimensions of the cube, those of its highest-rank coordinate variable. Coordinate variables of lower rank vary
+     * over a subset of these dimensions (in the same order) and are broadcast across the rest.
+     */
+    default List<Dimension> dimensions() {
+        return switch (this) {
+            case D0<T> d0 -> List.of();
+            default -> anyVariable(this).getDimensions();
+        };
+    }
+
+    /**
+     * The axis of the cube each dimension of the variable corresponds to, or null if the variable's dimensions aren't an
+     * order-preserving subset of the cube's and so can't be broadcast across it.
+     *
+     * @param cube     the dimensions of the cube
+     * @param variable the dimensions of the variable
+     */
+    static int[] broadcastAxes(List<Dimension> cube, List<Dimension> variable) {
+
+        int[] axes = new int[variable.size()];
+
+        int axis = 0;
+        for (int d = 0; d < variable.size(); d++) {
+            while (axis < cube.size() && !cube.get(axis).equals(variable.get(d))) {
+                axis++;
+            }
+            if (axis == cube.size()) {
+                return null;
+            }
+            axes[d] = axis++;
+        }
+
+        return axes;
+    }
+
+    /**
+     * The highest-rank coordinate variable of the binding, which defines the dimensions of the cube.
+     */
     private static <T> Variable anyVariable(ValidatedBinding<T> binding) {
-        Variable anyVariable = binding.context()
-                .findVariable(binding.schema().coordinateVariables().entrySet().iterator().next().getKey());
-        return requireNonNull(anyVariable, "Variable should always be present in a validated binding.");
+        return binding.schema().coordinateVariables().keySet().stream()
+                .map(name -> requireNonNull(binding.context().findVariable(name), "Variable should always be present in a validated binding."))
+                .max(Comparator.comparingInt(Variable::getRank))
+                .orElseThrow();
     }
 
     /**
@@ -288,8 +378,9 @@ sealed interface ValidatedBinding<T> extends AutoCloseable {
         private Either<ValidatedBinding<T>, Error> checkDimensions() {
 
             Multimap<String, String> dimensionsToCoordinateVariables = HashMultimap.create();
-            Set<String> dimensions = new HashSet<>();
 
+            // coordinate variables over a subset of the dimensions of the highest-rank variable are broadcast across the rest
+            List<Dimension> cubeDimensions = List.of();
             for (String variableName : schema.coordinateVariables().keySet()) {
 
                 Variable variable = requireNonNull(file.findVariable(variableName));
@@ -299,15 +390,21 @@ sealed interface ValidatedBinding<T> extends AutoCloseable {
                         variableName
                 );
 
-                variable.getDimensions().forEach(dimension -> dimensions.add(dimension.getName()));
+                if (variable.getDimensions().size() > cubeDimensions.size()) {
+                    cubeDimensions = variable.getDimensions();
+                }
             }
 
-            if (dimensionsToCoordinateVariables.keySet().size() > 1) {
-                return Either.ofRight(
-                        new Error.MismatchedCoordinateVariableDimensions(dimensionsToCoordinateVariables)
-                );
+            for (String variableName : schema.coordinateVariables().keySet()) {
+                if (broadcastAxes(cubeDimensions, requireNonNull(file.findVariable(variableName)).getDimensions()) == null) {
+                    return Either.ofRight(
+                            new Error.MismatchedCoordinateVariableDimensions(dimensionsToCoordinateVariables)
+                    );
+                }
             }
 
+            Set<String> dimensions = cubeDimensions.stream().map(Dimension::getName).collect(Collectors.toSet());
+
             Error.Combined.Builder builder = Error.Combined.builder();
 
             for (String variableName : schema.dimensionVariables().keySet()) {
@@ -456,7 +553,8 @@ sealed interface ValidatedBinding<T> extends AutoCloseable {
             }
 
             /**
-             * Indicates one or more coordinate variables do not vary over the same shared dimensions.
+             * Indicates one or more coordinate variables do not vary over the same shared dimensions, or over an ordered
+             * subset of the dimensions of the highest-rank coordinate variable they could be broadcast across.
              */
             record MismatchedCoordinateVariableDimensions(
                     Multimap<String, String> dimensionsToCoordinateVariables) implements Error {
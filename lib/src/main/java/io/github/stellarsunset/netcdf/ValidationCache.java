@@ -0,0 +1,171 @@
+package io.github.stellarsunset.netcdf;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import io.github.stellarsunset.commons.Either;
+import ucar.nc2.Dimension;
+import ucar.nc2.NetcdfFile;
+import ucar.nc2.Variable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Memoizes the outcome of validating a {@link SchemaBinding} against a file, keyed by a fingerprint of the structure of the
+ * file's header and the identity of the schema.
+ *
+ * <p>The outcome of validation only depends on the names, types and dimensions of the variables in a file, so files from
+ * the same product (e.g. the hourly output of a model) share a fingerprint and only the first one needs to be validated.
+ * The fingerprint covers the names and lengths of all dimensions and the names, types and dimensions of all variables in
+ * the file, so any change in layout between files is validated afresh.
+ *
+ * <p>Schemas are compared by identity and held weakly, so a cache should be shared across reads of the same long-lived
+ * {@link SchemaBinding} instance. Configure one via {@link ReadOptions.Builder#validationCache(ValidationCache)}.
+ *
+ * <p>Caches are thread-safe.
+ */
+public final class ValidationCache {
+
+    private static final int DEFAULT_MAXIMUM_SIZE = 64;
+
+    private final Cache<SchemaBinding<?>, Cache<HashCode, Outcome>> outcomes;
+
+    private final int maximumSize;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private ValidationCache(int maximumSize) {
+        this.outcomes = CacheBuilder.newBuilder().weakKeys().build();
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Create a new cache retaining a default number of distinct file layouts per schema.
+     */
+    public static ValidationCache create() {
+        return create(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Create a new cache retaining up to the given number of distinct file layouts per schema, least recently used layouts
+     * are evicted first.
+     *
+     * @param maximumSize the maximum number of validation outcomes to retain for each schema
+     */
+    public static ValidationCache create(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive, was: " + maximumSize);
+        }
+        return new ValidationCache(maximumSize);
+    }
+
+    /**
+     * The number of validations answered from the cache.
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * The number of validations that had to be run against the file.
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Validate the schema against the file as {@link ValidatedBinding#validate(NetcdfFile, SchemaBinding)} does, re-using
+     * the outcome of a previous validation of a file with the same header structure if there was one.
+     */
+    <T> ValidatedBinding<T> validate(NetcdfFile file, SchemaBinding<T> schema) {
+
+        HashCode fingerprint = fingerprint(file);
+        Outcome outcome = outcomesFor(schema).getIfPresent(fingerprint);
+
+        if (outcome == null) {
+            misses.increment();
+
+            Either<ValidatedBinding<T>, ValidatedBinding.Validator.Error> result = ValidatedBinding.tryValidate(file, schema);
+            outcomesFor(schema).put(fingerprint, new Outcome(
+                    result.left().map(binding -> binding.shape().length).orElse(-1),
+                    result.right().orElse(null)
+            ));
+
+            return result.orThrowRight(ValidatedBinding.Validator.Error::asException);
+        }
+
+        hits.increment();
+
+        if (outcome.error() != null) {
+            throw outcome.error().asException();
+        }
+
+        return switch (outcome.dimensions()) {
+            case 0 -> new ValidatedBinding.D0<>(file, schema);
+            case 1 -> new ValidatedBinding.D1<>(file, schema);
+            case 2 -> new ValidatedBinding.D2<>(file, schema);
+            case 3 -> new ValidatedBinding.D3<>(file, schema);
+            case 4 -> new ValidatedBinding.D4<>(file, schema);
+            default -> throw new IllegalStateException("Only valid outcomes should have been cached...");
+        };
+    }
+
+    private Cache<HashCode, Outcome> outcomesFor(SchemaBinding<?> schema) {
+        try {
+            return outcomes.get(requireNonNull(schema), () -> CacheBuilder.newBuilder().maximumSize(maximumSize).build());
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Cache creation can't fail.", e);
+        }
+    }
+
+    /**
+     * Fingerprint of the structure of the file's header, i.e. the name and length of every dimension and the name, type
+     * and dimensions of every variable in the file, in file order.
+     */
+    static HashCode fingerprint(NetcdfFile file) {
+
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+
+        hasher.putInt(file.getDimensions().size());
+        for (Dimension dimension : file.getDimensions()) {
+            putString(hasher, dimension.getName());
+            hasher.putInt(dimension.getLength());
+        }
+
+        hasher.putInt(file.getVariables().size());
+        for (Variable variable : file.getVariables()) {
+            putString(hasher, variable.getFullName());
+            putString(hasher, variable.getDataType().name());
+
+            hasher.putInt(variable.getDimensions().size());
+            for (Dimension dimension : variable.getDimensions()) {
+                putString(hasher, dimension.getName());
+                hasher.putInt(dimension.getLength());
+            }
+        }
+
+        return hasher.hash();
+    }
+
+    /**
+     * Length-prefixed so adjacent strings can't run into one another.
+     */
+    private static void putString(Hasher hasher, String value) {
+        String nonNull = value == null ? "" : value;
+        hasher.putInt(nonNull.length()).putString(nonNull, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * The dimensionality of the validated binding, or the error if validation failed.
+     */
+    private record Outcome(int dimensions, ValidatedBinding.Validator.Error error) {
+    }
+}
@@ -0,0 +1,394 @@
+package io.github.stellarsunset.netcdf;
+
+import ucar.ma2.DataType;
+import ucar.nc2.NetcdfFile;
+import ucar.nc2.Variable;
+
+import java.util.Objects;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Primitive random-access to the values of a single numeric variable, reading straight from its decoded data rather than
+ * initializing and binding a whole record via {@link Hypercube} to get at one value.
+ *
+ * <pre>{@code
+ * VariableAccessor.D2 temperature = (VariableAccessor.D2) VariableAccessor.of(file, "temperature");
+ * float t = temperature.floatAt(10, 20);
+ * double mean = temperature.doubles().average().orElse(Double.NaN);
+ * }</pre>
+ *
+ * <p>Indices are those of the variable's own dimensions. Values can be read as any type they widen to per the usual Java
+ * rules (e.g. a short as an int, long, float or double), reading them as a narrower type (e.g. a double as a float) throws
+ * an {@link IllegalStateException}. Streams visit values in canonical (row-major) order, the order {@link Hypercube#stream()}
+ * visits records.
+ *
+ * <p>Accessors are immutable and thread-safe, the variable data is held in memory in its native precision.
+ */
+public sealed interface VariableAccessor {
+
+    /**
+     * Read the named numeric variable of the file in full, the variable must have between one and four dimensions.
+     *
+     * @param file     the file to read the variable from
+     * @param variable the name of the variable
+     */
+    static VariableAccessor of(NetcdfFile file, String variable) {
+        Variable v = file.findVariable(requireNonNull(variable));
+        if (v == null) {
+            throw new IllegalArgumentException("Missing variable: " + variable);
+        }
+        if (!v.getDataType().isNumeric()) {
+            throw new IllegalArgumentException(String.format("Variable %s must be numeric, was: %s", variable, v.getDataType()));
+        }
+        return PrimitiveArray.accessor(variable, SchemaBoundHyperCubes.read(v));
+    }
+
+    /**
+     * The name of the variable.
+     */
+    String name();
+
+    /**
+     * The type the variable's values are stored as, unsigned types are reported as their signed equivalent.
+     */
+    DataType type();
+
+    /**
+     * The number of values, the product of the lengths of the variable's dimensions.
+     */
+    long size();
+
+    /**
+     * Stream the values of the variable as ints, it must be of type byte, short or int.
+     */
+    IntStream ints();
+
+    /**
+     * Stream the values of the variable as longs, it must be of an integral type.
+     */
+    LongStream longs();
+
+    /**
+     * Stream the values of the variable as doubles.
+     */
+    DoubleStream doubles();
+
+    final class D1 implements VariableAccessor {
+
+        private final String name;
+
+        private final PrimitiveArray values;
+
+        private final int max;
+
+        D1(String name, PrimitiveArray values, int max) {
+            this.name = name;
+            this.values = values;
+            this.max = max;
+        }
+
+        public int max() {
+            return max;
+        }
+
+        public int intAt(int i) {
+            return values.intAt(Objects.checkIndex(i, max));
+        }
+
+        public long longAt(int i) {
+            return values.longAt(Objects.checkIndex(i, max));
+        }
+
+        public float floatAt(int i) {
+            return values.floatAt(Objects.checkIndex(i, max));
+        }
+
+        public double doubleAt(int i) {
+            return values.doubleAt(Objects.checkIndex(i, max));
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public DataType type() {
+            return values.type();
+        }
+
+        @Override
+        public long size() {
+            return values.length();
+        }
+
+        @Override
+        public IntStream ints() {
+            return values.ints();
+        }
+
+        @Override
+        public LongStream longs() {
+            return values.longs();
+        }
+
+        @Override
+        public DoubleStream doubles() {
+            return values.doubles();
+        }
+    }
+
+    final class D2 implements VariableAccessor {
+
+        private final String name;
+
+        private final PrimitiveArray values;
+
+        private final int d0Max;
+
+        private final int d1Max;
+
+        D2(String name, PrimitiveArray values, int d0Max, int d1Max) {
+            this.name = name;
+            this.values = values;
+            this.d0Max = d0Max;
+            this.d1Max = d1Max;
+        }
+
+        public int d0Max() {
+            return d0Max;
+        }
+
+        public int d1Max() {
+            return d1Max;
+        }
+
+        public int intAt(int i0, int i1) {
+            return values.intAt(offset(i0, i1));
+        }
+
+        public long longAt(int i0, int i1) {
+            return values.longAt(offset(i0, i1));
+        }
+
+        public float floatAt(int i0, int i1) {
+            return values.floatAt(offset(i0, i1));
+        }
+
+        public double doubleAt(int i0, int i1) {
+            return values.doubleAt(offset(i0, i1));
+        }
+
+        private int offset(int i0, int i1) {
+            return Objects.checkIndex(i0, d0Max) * d1Max + Objects.checkIndex(i1, d1Max);
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public DataType type() {
+            return values.type();
+        }
+
+        @Override
+        public long size() {
+            return values.length();
+        }
+
+        @Override
+        public IntStream ints() {
+            return values.ints();
+        }
+
+        @Override
+        public LongStream longs() {
+            return values.longs();
+        }
+
+        @Override
+        public DoubleStream doubles() {
+            return values.doubles();
+        }
+    }
+
+    final class D3 implements VariableAccessor {
+
+        private final String name;
+
+        private final PrimitiveArray values;
+
+        private final int d0Max;
+
+        private final int d1Max;
+
+        private final int d2Max;
+
+        D3(String name, PrimitiveArray values, int d0Max, int d1Max, int d2Max) {
+            this.name = name;
+            this.values = values;
+            this.d0Max = d0Max;
+            this.d1Max = d1Max;
+            this.d2Max = d2Max;
+        }
+
+        public int d0Max() {
+            return d0Max;
+        }
+
+        public int d1Max() {
+            return d1Max;
+        }
+
+        public int d2Max() {
+            return d2Max;
+        }
+
+        public int intAt(int i0, int i1, int i2) {
+            return values.intAt(offset(i0, i1, i2));
+        }
+
+        public long longAt(int i0, int i1, int i2) {
+            return values.longAt(offset(i0, i1, i2));
+        }
+
+        public float floatAt(int i0, int i1, int i2) {
+            return values.floatAt(offset(i0, i1, i2));
+        }
+
+        public double doubleAt(int i0, int i1, int i2) {
+            return values.doubleAt(offset(i0, i1, i2));
+        }
+
+        private int offset(int i0, int i1, int i2) {
+            return (Objects.checkIndex(i0, d0Max) * d1Max + Objects.checkIndex(i1, d1Max)) * d2Max + Objects.checkIndex(i2, d2Max);
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public DataType type() {
+            return values.type();
+        }
+
+        @Override
+        public long size() {
+            return values.length();
+        }
+
+        @Override
+        public IntStream ints() {
+            return values.ints();
+        }
+
+        @Override
+        public LongStream longs() {
+            return values.longs();
+        }
+
+        @Override
+        public DoubleStream doubles() {
+            return values.doubles();
+        }
+    }
+
+    final class D4 implements VariableAccessor {
+
+        private final String name;
+
+        private final PrimitiveArray values;
+
+        private final int d0Max;
+
+        private final int d1Max;
+
+        private final int d2Max;
+
+        private final int d3Max;
+
+        D4(String name, PrimitiveArray values, int d0Max, int d1Max, int d2Max, int d3Max) {
+            this.name = name;
+            this.values = values;
+            this.d0Max = d0Max;
+            this.d1Max = d1Max;
+            this.d2Max = d2Max;
+            this.d3Max = d3Max;
+        }
+
+        public int d0Max() {
+            return d0Max;
+        }
+
+        public int d1Max() {
+            return d1Max;
+        }
+
+        public int d2Max() {
+            return d2Max;
+        }
+
+        public int d3Max() {
+            return d3Max;
+        }
+
+        public int intAt(int i0, int i1, int i2, int i3) {
+            return values.intAt(offset(i0, i1, i2, i3));
+        }
+
+        public long longAt(int i0, int i1, int i2, int i3) {
+            return values.longAt(offset(i0, i1, i2, i3));
+        }
+
+        public float floatAt(int i0, int i1, int i2, int i3) {
+            return values.floatAt(offset(i0, i1, i2, i3));
+        }
+
+        public double doubleAt(int i0, int i1, int i2, int i3) {
+            return values.doubleAt(offset(i0, i1, i2, i3));
+        }
+
+        private int offset(int i0, int i1, int i2, int i3) {
+            return ((Objects.checkIndex(i0, d0Max) * d1Max + Objects.checkIndex(i1, d1Max)) * d2Max
+                    + Objects.checkIndex(i2, d2Max)) * d3Max + Objects.checkIndex(i3, d3Max);
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public DataType type() {
+            return values.type();
+        }
+
+        @Override
+        public long size() {
+            return values.length();
+        }
+
+        @Override
+        public IntStream ints() {
+            return values.ints();
+        }
+
+        @Override
+        public LongStream longs() {
+            return values.longs();
+        }
+
+        @Override
+        public DoubleStream doubles() {
+            return values.doubles();
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package io.github.stellarsunset.netcdf;
+
+import ucar.nc2.NetcdfFile;
+import ucar.nc2.NetcdfFiles;
+import ucar.nc2.Variable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Reads the full contents of a set of variables up front, concurrently on the {@link ReadOptions#loadExecutor()} if one is
+ * configured, so the time to create a cube approaches that of reading (e.g. decompressing) its slowest variable.
+ *
+ * <p>The IOSPs backing a {@link NetcdfFile} aren't thread-safe, so concurrent reads each go through their own handle on
+ * the file, re-opened from its location. Handles are pooled for the duration of the load so at most one is opened per
+ * concurrently running read. Files that can't be re-opened (e.g. those opened from bytes in memory, or datasets) are read
+ * sequentially through the original handle, as are variables whose type or shape differ once re-opened.
+ */
+final class VariableLoader {
+
+    private VariableLoader() {
+    }
+
+    /**
+     * A reader serving the named variables from data loaded up front if a load executor is configured, or reading each
+     * variable from the file directly as it's requested if not.
+     */
+    static Function<Variable, ucar.ma2.Array> reader(NetcdfFile file, Collection<String> names, ReadOptions options) {
+
+        Function<Variable, ucar.ma2.Array> direct = variable -> SchemaBoundHyperCubes.read(variable, options.listener());
+
+        if (options.loadExecutor().isEmpty()) {
+            return direct;
+        }
+
+        Map<Variable, ucar.ma2.Array> loaded = new HashMap<>();
+        load(file, names, options).forEach((name, data) -> loaded.put(variable(file, name), data));
+
+        return variable -> {
+            ucar.ma2.Array data = loaded.get(variable);
+            return data != null ? data : direct.apply(variable);
+        };
+    }
+
+    /**
+     * Read the named variables of the file in full, keyed by name in the order provided.
+     */
+    static Map<String, ucar.ma2.Array> load(NetcdfFile file, Collection<String> names, ReadOptions options) {
+
+        ReadListener listener = options.listener();
+
+        Map<String, ucar.ma2.Array> loaded = new LinkedHashMap<>();
+        Executor executor = options.loadExecutor().orElse(null);
+
+        Path path = reopenablePath(file);
+        if (executor == null || path == null || names.size() < 2) {
+            for (String name : names) {
+                loaded.put(name, SchemaBoundHyperCubes.read(variable(file, name), listener));
+            }
+            return loaded;
+        }
+
+        // resolved up front so the original handle isn't touched by concurrent reads
+        Map<String, Variable> originals = new LinkedHashMap<>();
+        for (String name : names) {
+            originals.put(name, variable(file, name));
+        }
+
+        ConcurrentLinkedQueue<NetcdfFile> handles = new ConcurrentLinkedQueue<>();
+        Map<String, CompletableFuture<ucar.ma2.Array>> futures = new LinkedHashMap<>();
+
+        try {
+            for (Map.Entry<String, Variable> original : originals.entrySet()) {
+                futures.put(original.getKey(), CompletableFuture.supplyAsync(() -> read(path, handles, original.getKey(), original.getValue(), listener), executor));
+            }
+
+            awaitAll(futures.values());
+
+            for (Map.Entry<String, CompletableFuture<ucar.ma2.Array>> entry : futures.entrySet()) {
+                ucar.ma2.Array data = entry.getValue().join();
+                // variables which didn't match the original once re-opened are read through the original handle instead
+                loaded.put(entry.getKey(), data != null ? data : SchemaBoundHyperCubes.read(originals.get(entry.getKey()), listener));
+            }
+            return loaded;
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        } finally {
+            // wait on every submitted read, even if one failed or a submission was rejected, so no read is still using a
+            // handle as they're closed
+            awaitAll(futures.values());
+            close(handles);
+        }
+    }
+
+    /**
+     * Read the variable through a pooled handle on the file, re-opening the file if none is free. Returns null if the
+     * re-opened variable's type or shape doesn't match the original, e.g. if the file at the path has since been replaced
+     * or appended to.
+     */
+    private static ucar.ma2.Array read(Path path, Queue<NetcdfFile> handles, String name, Variable original, ReadListener listener) {
+        NetcdfFile handle = handles.poll();
+        try {
+            if (handle == null) {
+                handle = NetcdfFiles.open(path.toString());
+            }
+            Variable variable = handle.findVariable(name);
+            if (variable == null
+                    || variable.getDataType() != original.getDataType()
+                    || !Arrays.equals(variable.getShape(), original.getShape())) {
+                return null;
+            }
+            return SchemaBoundHyperCubes.read(variable, listener);
+        } catch (IOException e) {
+            throw new IllegalStateException(String.format("Error opening %s to read variable %s.", path, name), e);
+        } finally {
+            if (handle != null) {
+                handles.offer(handle);
+            }
+        }
+    }
+
+    private static void awaitAll(Collection<CompletableFuture<ucar.ma2.Array>> futures) {
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).exceptionally(e -> null).join();
+    }
+
+    private static Variable variable(NetcdfFile file, String name) {
+        return requireNonNull(file.findVariable(name), "Missing required variable, check validation logic.");
+    }
+
+    /**
+     * The local path the file was opened from if it can be opened again for concurrent reads, otherwise null.
+     *
+     * <p>Only plain files are re-opened, re-opening a subclass like an (enhanced or NcML) {@code NetcdfDataset} from its
+     * location would return the raw rather than the enhanced variables.
+     */
+    private static Path reopenablePath(NetcdfFile file) {
+        if (file.getClass() != NetcdfFile.class) {
+            return null;
+        }
+        try {
+            Path path = Path.of(requireNonNull(file.getLocation(), "location"));
+            return Files.isRegularFile(path) ? path : null;
+        } catch (InvalidPathException | NullPointerException e) {
+            return null;
+        }
+    }
+
+    private static void close(Collection<NetcdfFile> handles) {
+        for (NetcdfFile handle : handles) {
+            try {
+                handle.close();
+            } catch (IOException e) {
+                // handles are read-only, nothing to lose
+            }
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package io.github.stellarsunset.netcdf;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import ucar.nc2.NetcdfFile;
+import ucar.nc2.Variable;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A size-bounded on-disk cache of materialized views, the decoded data of the variables bound by a {@link SchemaBinding}
+ * (or {@link RecordBinding}) for a particular file, so repeated reads of the same variables of the same file skip decoding (e.g. GRIB2 unpacking or
+ * NetCDF-4 decompression) entirely.
+ *
+ * <p>Views are written on the first read of a file and served on later ones by mapping the view and bulk-copying each
+ * column into the arrays backing the {@link Hypercube}. Views are keyed by the path, length and modification time of the
+ * file, its header structure and the names of the bound variables, so a file modified in place gets a new view.
+ *
+ * <p>Views are evicted least-recently-read first once the total size of the cache exceeds the configured maximum. Only
+ * files opened from a local path are cached, in-memory or remote files are always read directly. Configure via
+ * {@link ReadOptions.Builder#viewCache(ViewCache)}.
+ *
+ * <p>Caches are thread-safe and may be shared by multiple processes, views are written to a temporary file and atomically
+ * moved into place.
+ */
+public final class ViewCache {
+
+    private static final long DEFAULT_MAXIMUM_BYTES = 4L << 30;
+
+    private static final String EXTENSION = ".ncmv";
+
+    private final Path directory;
+
+    private final long maximumBytes;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private ViewCache(Builder builder) {
+        this.directory = requireNonNull(builder.directory, "Cache directory is required.").toAbsolutePath();
+        this.maximumBytes = builder.maximumBytes;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public Path directory() {
+        return directory;
+    }
+
+    public long maximumBytes() {
+        return maximumBytes;
+    }
+
+    /**
+     * The number of cubes served from a materialized view.
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * The number of cubes whose variables had to be decoded from the file.
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * The total size of the views in the cache in bytes.
+     */
+    public long sizeBytes() throws IOException {
+        return views().stream().mapToLong(View::bytes).sum();
+    }
+
+    /**
+     * A reader serving the coordinate and dimension variables of the binding from their materialized view, materializing
+     * one from the file first if there isn't one.
+     */
+    Function<Variable, ucar.ma2.Array> reader(ValidatedBinding<?> binding, ReadOptions options) {
+        return reader(binding.context(), variables(binding.schema()), options);
+    }
+
+    /**
+     * A reader serving the named variables of the file from their materialized view, e.g. the union of the variables of
+     * several bindings read together by a {@link HypercubeGroup} or the columns of a {@link RecordBinding}.
+     */
+    Function<Variable, ucar.ma2.Array> reader(NetcdfFile file, Collection<String> variables, ReadOptions options) {
+
+        Function<Variable, ucar.ma2.Array> direct = variable -> SchemaBoundHyperCubes.read(variable, options.listener());
+        List<String> names = List.copyOf(new TreeSet<>(variables));
+
+        if (names.stream().anyMatch(name -> !MaterializedView.Kind.supports(file.findVariable(name).getDataType()))) {
+            return direct;
+        }
+
+        return key(file, names).map(key -> {
+            try {
+                Map<Variable, ucar.ma2.Array> columns = load(file, names, directory.resolve(key + EXTENSION), options);
+                return (Function<Variable, ucar.ma2.Array>) variable -> {
+                    ucar.ma2.Array data = columns.get(variable);
+                    return data != null ? data : direct.apply(variable);
+                };
+            } catch (IOException e) {
+                throw new IllegalStateException(String.format("Error reading materialized view of %s from %s.", file.getLocation(), directory), e);
+            }
+        }).orElse(direct);
+    }
+
+    private Map<Variable, ucar.ma2.Array> load(NetcdfFile file, List<String> names, Path view, ReadOptions options) throws IOException {
+
+        Map<String, ucar.ma2.Array> columns = Files.exists(view) ? MaterializedView.read(view) : null;
+
+        if (columns != null && columns.keySet().containsAll(names)) {
+            hits.increment();
+            Files.setLastModifiedTime(view, FileTime.fromMillis(System.currentTimeMillis()));
+        } else {
+            misses.increment();
+            columns = VariableLoader.load(file, names, options);
+            materialize(view, columns);
+        }
+
+        Map<Variable, ucar.ma2.Array> byVariable = new HashMap<>();
+        for (String name : names) {
+            byVariable.put(file.findVariable(name), columns.get(name));
+        }
+        return byVariable;
+    }
+
+    private void materialize(Path view, Map<String, ucar.ma2.Array> columns) throws IOException {
+
+        Files.createDirectories(directory);
+
+        Path temp = Files.createTempFile(directory, "view", ".tmp");
+        try {
+            Files.delete(temp);
+            MaterializedView.write(temp, columns);
+            Files.move(temp, view, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+
+        evict(view);
+    }
+
+    /**
+     * Delete the least recently read views until the cache fits within its maximum size, never deleting the provided one.
+     */
+    void evict(Path keep) throws IOException {
+
+        List<View> views = views();
+        views.sort(Comparator.comparing(View::lastUsed));
+
+        long total = views.stream().mapToLong(View::bytes).sum();
+        for (View view : views) {
+            if (total <= maximumBytes) {
+                return;
+            }
+            if (!view.path().equals(keep)) {
+                Files.deleteIfExists(view.path());
+                total -= view.bytes();
+            }
+        }
+    }
+
+    private List<View> views() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return new ArrayList<>();
+        }
+        try (Stream<Path> paths = Files.list(directory)) {
+            List<View> views = new ArrayList<>();
+            for (Path path : paths.filter(path -> path.getFileName().toString().endsWith(EXTENSION)).toList()) {
+                try {
+                    views.add(new View(path, Files.getLastModifiedTime(path), Files.size(path)));
+                } catch (IOException e) {
+                    // evicted concurrently by another process
+                }
+            }
+            return views;
+        }
+    }
+
+    private record View(Path path, FileTime lastUsed, long bytes) {
+    }
+
+    /**
+     * The names of the variables the schema reads, coordinate and dimension variables alike, in a stable order.
+     */
+    private static List<String> variables(SchemaBinding<?> schema) {
+        TreeSet<String> names = new TreeSet<>(schema.coordinateVariables().keySet());
+        names.addAll(schema.dimensionVariables().keySet());
+        return List.copyOf(names);
+    }
+
+    /**
+     * The key of the view of the named variables of the file, empty if the file wasn't opened from a local path.
+     */
+    static Optional<String> key(NetcdfFile file, List<String> names) {
+
+        Path path;
+        try {
+            path = Path.of(requireNonNull(file.getLocation(), "location"));
+        } catch (InvalidPathException | NullPointerException e) {
+            return Optional.empty();
+        }
+
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+
+        try {
+            Hasher hasher = Hashing.murmur3_128().newHasher();
+
+            hasher.putString(path.toRealPath().toString(), StandardCharsets.UTF_8);
+            hasher.putLong(Files.size(path));
+            hasher.putLong(Files.getLastModifiedTime(path).toMillis());
+            hasher.putBytes(ValidationCache.fingerprint(file).asBytes());
+
+            for (String name : names) {
+                hasher.putString(name, StandardCharsets.UTF_8).putByte((byte) 0);
+            }
+
+            return Optional.of(hasher.hash().toString());
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    public static final class Builder {
+
+        private Path directory;
+
+        private long maximumBytes = DEFAULT_MAXIMUM_BYTES;
+
+        private Builder() {
+        }
+
+        /**
+         * The directory to store views in, created if it doesn't exist. Required.
+         */
+        public Builder directory(Path directory) {
+            this.directory = requireNonNull(directory);
+            return this;
+        }
+
+        /**
+         * The maximum total size of the views in bytes, 4GiB by default.
+         */
+        public Builder maximumBytes(long maximumBytes) {
+            if (maximumBytes <= 0) {
+                throw new IllegalArgumentException("Maximum bytes must be positive, was: " + maximumBytes);
+            }
+            this.maximumBytes = maximumBytes;
+            return this;
+        }
+
+        public ViewCache build() {
+            return new ViewCache(this);
+        }
+    }
+}
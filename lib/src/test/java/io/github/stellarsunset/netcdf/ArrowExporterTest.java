@@ -0,0 +1,184 @@
+package io.github.stellarsunset.netcdf;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.Float4Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowFileReader;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.util.ByteArrayReadableSeekableByteChannel;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ucar.ma2.DataType;
+import ucar.nc2.NetcdfFile;
+import ucar.nc2.NetcdfFiles;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ArrowExporterTest {
+
+    private static File FILE;
+
+    private static final SchemaBinding<Object> BINDING = SchemaBinding.<Object>builder()
+            .recordInitializer(Object::new)
+            .intDimensionVariable("x", (o, v) -> o)
+            .intDimensionVariable("y", (o, v) -> o)
+            .floatCoordinateVariable("float", (o, v) -> o)
+            .intCoordinateVariable("int", (o, v) -> o)
+            .build();
+
+    @BeforeAll
+    static void setup(@TempDir Path temp) {
+        FILE = temp.resolve("test-data.nc").toFile();
+
+        var generator = new NetcdfFileGenerator.XY(10, 7);
+
+        generator.writeVariables(
+                FILE,
+                NetcdfFileGenerator.varSpec("float", DataType.FLOAT),
+                NetcdfFileGenerator.varSpec("int", DataType.INT)
+        );
+    }
+
+    @Test
+    void testArrowSchema() throws IOException {
+        try (NetcdfFile file = NetcdfFiles.open(FILE.getAbsolutePath())) {
+
+            List<String> names = ArrowExporter.of(BINDING).arrowSchema(file).getFields().stream()
+                    .map(Field::getName)
+                    .toList();
+
+            assertEquals(List.of("x", "y", "float", "int"), names, "Column Names");
+        }
+    }
+
+    @Test
+    void testExport() throws IOException {
+        try (NetcdfFile file = NetcdfFiles.open(FILE.getAbsolutePath());
+             BufferAllocator allocator = new RootAllocator()) {
+
+            List<Integer> rowCounts = new ArrayList<>();
+            List<Integer> xs = new ArrayList<>();
+            List<Integer> ys = new ArrayList<>();
+
+            // 3 rows of x per batch, with a remainder of 1 row in the last batch
+            ArrowExporter.of(BINDING, 21).export(file, allocator, root -> {
+                rowCounts.add(root.getRowCount());
+
+                IntVector x = (IntVector) root.getVector("x");
+                IntVector y = (IntVector) root.getVector("y");
+
+                for (int i = 0; i < root.getRowCount(); i++) {
+                    xs.add(x.get(i));
+                    ys.add(y.get(i));
+                }
+            });
+
+            assertAll(
+                    () -> assertEquals(List.of(21, 21, 21, 7), rowCounts, "Row Counts"),
+                    () -> assertEquals(70, xs.size(), "Total Rows"),
+                    () -> assertEquals(0, xs.get(6), "X of Row 6"),
+                    () -> assertEquals(6, ys.get(6), "Y of Row 6"),
+                    () -> assertEquals(1, xs.get(7), "X of Row 7"),
+                    () -> assertEquals(0, ys.get(7), "Y of Row 7"),
+                    () -> assertEquals(9, xs.get(69), "X of Last Row"),
+                    () -> assertEquals(6, ys.get(69), "Y of Last Row")
+            );
+        }
+    }
+
+    @Test
+    void testExport_Broadcast() throws IOException {
+
+        // the 1D x and y variables are broadcast across the dimensions of the 2D float variable they don't vary over
+        var binding = SchemaBinding.<Object>builder()
+                .recordInitializer(Object::new)
+                .intCoordinateVariable("x", (o, v) -> o)
+                .intCoordinateVariable("y", (o, v) -> o)
+                .floatCoordinateVariable("float", (o, v) -> o)
+                .build();
+
+        try (NetcdfFile file = NetcdfFiles.open(FILE.getAbsolutePath());
+             BufferAllocator allocator = new RootAllocator()) {
+
+            List<Integer> xs = new ArrayList<>();
+            List<Integer> ys = new ArrayList<>();
+
+            ArrowExporter.of(binding, 21).export(file, allocator, root -> {
+
+                IntVector x = (IntVector) root.getVector("x");
+                IntVector y = (IntVector) root.getVector("y");
+
+                for (int i = 0; i < root.getRowCount(); i++) {
+                    xs.add(x.get(i));
+                    ys.add(y.get(i));
+                }
+            });
+
+            List<Integer> expectedXs = new ArrayList<>();
+            List<Integer> expectedYs = new ArrayList<>();
+            for (int x = 0; x < 10; x++) {
+                for (int y = 0; y < 7; y++) {
+                    expectedXs.add(x);
+                    expectedYs.add(y);
+                }
+            }
+
+            assertAll(
+                    () -> assertEquals(expectedXs, xs, "Sliced X"),
+                    () -> assertEquals(expectedYs, ys, "Broadcast Y")
+            );
+        }
+    }
+
+    @Test
+    void testWriteIpc() throws IOException {
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (NetcdfFile file = NetcdfFiles.open(FILE.getAbsolutePath());
+             BufferAllocator allocator = new RootAllocator()) {
+            ArrowExporter.of(BINDING).writeIpc(file, allocator, Channels.newChannel(bytes));
+        }
+
+        try (BufferAllocator allocator = new RootAllocator();
+             ArrowFileReader reader = new ArrowFileReader(new ByteArrayReadableSeekableByteChannel(bytes.toByteArray()), allocator)) {
+
+            VectorSchemaRoot root = reader.getVectorSchemaRoot();
+
+            int rows = 0;
+            float fill = Float.NaN;
+
+            while (reader.loadNextBatch()) {
+                rows += root.getRowCount();
+                fill = ((Float4Vector) root.getVector("float")).get(0);
+            }
+
+            int totalRows = rows;
+            float firstFloat = fill;
+
+            assertAll(
+                    () -> assertEquals(1, reader.getRecordBlocks().size(), "Batches"),
+                    () -> assertEquals(70, totalRows, "Rows"),
+                    () -> assertEquals(9.96921e36f, firstFloat, "Default Fill Value")
+            );
+        }
+    }
+
+    @Test
+    void testBadBatchSize() {
+        assertThrows(IllegalArgumentException.class, () -> ArrowExporter.of(BINDING, 0));
+    }
+}
@@ -0,0 +1,73 @@
+package io.github.stellarsunset.netcdf;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CanonicalRecordBindingTest {
+
+    @Test
+    void testColumns() {
+
+        RecordBinding<Measurement> binding = RecordBinding.canonical(Measurement.class);
+
+        assertEquals(List.of(
+                RecordBinding.Column.dimension("x", "latitude", RecordBinding.Type.DOUBLE),
+                RecordBinding.Column.dimension("y", "y", RecordBinding.Type.INT),
+                RecordBinding.Column.dimension("z", "level", RecordBinding.Type.SHORT),
+                RecordBinding.Column.coordinate("temperature", RecordBinding.Type.FLOAT),
+                RecordBinding.Column.coordinate("valid", RecordBinding.Type.BOOLEAN)
+        ), binding.columns(), "Columns");
+    }
+
+    @Test
+    void testFactory() {
+
+        RecordBinding<Measurement> binding = RecordBinding.canonical(Measurement.class);
+
+        RecordBinding.Columns columns = new RecordBinding.Columns(
+                new Object[]{
+                        new double[]{10., 20.},
+                        new int[]{0, 1, 2},
+                        new short[]{100, 200},
+                        new float[]{0f, 1f, 2f, 3f, 4f, 5f, 6f, 7f, 8f, 9f, 10f, 11f},
+                        new boolean[]{true, false, true, false, true, false, true, false, true, false, true, false}
+                },
+                new int[]{0, 1, 2, -1, -1}
+        );
+
+        RecordBinding.RecordFactory<Measurement> factory = binding.factory(columns);
+
+        assertAll(
+                () -> assertEquals(new Measurement(10., 0, (short) 100, 0f, true), factory.create(0, 0, 0, 0, 0), "First"),
+                () -> assertEquals(new Measurement(20., 2, (short) 200, 11f, false), factory.create(11, 1, 2, 1, 0), "Last")
+        );
+    }
+
+    @Test
+    void testUnannotatedComponent() {
+        assertThrows(IllegalArgumentException.class, () -> RecordBinding.canonical(Unannotated.class));
+    }
+
+    @Test
+    void testNonPrimitiveComponent() {
+        assertThrows(IllegalArgumentException.class, () -> RecordBinding.canonical(Boxed.class));
+    }
+
+    record Measurement(@DimensionVariable(dim = "x", variable = "latitude") double latitude,
+                       @DimensionVariable(dim = "y") int y,
+                       @DimensionVariable(dim = "z", variable = "level") short level,
+                       @CoordinateVariable("temperature") float temperature,
+                       @CoordinateVariable("valid") boolean valid) {
+    }
+
+    record Unannotated(@CoordinateVariable("value") int value, int other) {
+    }
+
+    record Boxed(@CoordinateVariable("value") Integer value) {
+    }
+}
@@ -0,0 +1,137 @@
+package io.github.stellarsunset.netcdf;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GridIndexTest {
+
+    /**
+     * A rotated, sheared grid roughly the shape of a regional Lambert conformal grid.
+     */
+    private static final int D0 = 60;
+
+    private static final int D1 = 80;
+
+    private static final double[] LATITUDES = new double[D0 * D1];
+
+    private static final double[] LONGITUDES = new double[D0 * D1];
+
+    static {
+        for (int i0 = 0; i0 < D0; i0++) {
+            for (int i1 = 0; i1 < D1; i1++) {
+                LATITUDES[i0 * D1 + i1] = 20. + 0.5 * i0 + 0.05 * i1;
+                LONGITUDES[i0 * D1 + i1] = -130. + 0.7 * i1 - 0.1 * i0;
+            }
+        }
+    }
+
+    @Test
+    void testNearest_ExactCells() {
+
+        GridIndex index = GridIndex.of(LATITUDES, LONGITUDES, D0, D1);
+
+        assertAll(
+                () -> assertEquals(new GridIndex.Cell(0, 0), index.nearestCell(20., -130.), "First"),
+                () -> assertEquals(new GridIndex.Cell(D0 - 1, D1 - 1), index.nearestCell(LATITUDES[D0 * D1 - 1], LONGITUDES[D0 * D1 - 1]), "Last"),
+                () -> assertEquals(17 * D1 + 33, index.nearest(LATITUDES[17 * D1 + 33], LONGITUDES[17 * D1 + 33]), "Middle")
+        );
+    }
+
+    @Test
+    void testNearest_MatchesBruteForce() {
+
+        GridIndex index = GridIndex.of(LATITUDES, LONGITUDES, D0, D1);
+        Random random = new Random(42);
+
+        for (int i = 0; i < 1_000; i++) {
+            double latitude = 15. + 40. * random.nextDouble();
+            double longitude = -135. + 65. * random.nextDouble();
+            assertEquals(bruteForce(latitude, longitude), index.nearest(latitude, longitude), "Query " + latitude + ", " + longitude);
+        }
+    }
+
+    @Test
+    void testNearest_Antimeridian() {
+
+        double[] latitudes = {0., 0., 0., 0.};
+        double[] longitudes = {179., 179.9, -179.9, -179.};
+
+        GridIndex index = GridIndex.of(latitudes, longitudes, 1, 4);
+
+        assertAll(
+                () -> assertEquals(1, index.nearest(0., 179.95), "West"),
+                () -> assertEquals(2, index.nearest(0., -179.95), "East"),
+                () -> assertEquals(2, index.nearest(0., 180.1), "Wrapped")
+        );
+    }
+
+    @Test
+    void testNearest_SkipsNaN() {
+
+        double[] latitudes = {Double.NaN, 10.};
+        double[] longitudes = {0., 10.};
+
+        GridIndex index = GridIndex.of(latitudes, longitudes, 1, 2);
+        GridIndex empty = GridIndex.of(new double[]{Double.NaN}, new double[]{Double.NaN}, 1, 1);
+
+        assertAll(
+                () -> assertEquals(1, index.nearest(0., 0.), "Skipped"),
+                () -> assertEquals(-1, empty.nearest(0., 0.), "Empty"),
+                () -> assertNull(empty.nearestCell(0., 0.), "Empty Cell")
+        );
+    }
+
+    @Test
+    void testNearest_NonFinite() {
+
+        GridIndex index = GridIndex.of(LATITUDES, LONGITUDES, D0, D1);
+
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> index.nearest(Double.NaN, -130.), "NaN Latitude"),
+                () -> assertThrows(IllegalArgumentException.class, () -> index.nearest(20., Double.NaN), "NaN Longitude"),
+                () -> assertThrows(IllegalArgumentException.class, () -> index.nearestCell(Double.POSITIVE_INFINITY, -130.), "Infinite Latitude"),
+                () -> assertThrows(IllegalArgumentException.class, () -> index.nearestCell(20., Double.NEGATIVE_INFINITY), "Infinite Longitude")
+        );
+    }
+
+    @Test
+    void testNearest_SkipsInfinite() {
+
+        GridIndex index = GridIndex.of(new double[]{Double.POSITIVE_INFINITY, 10.}, new double[]{0., 10.}, 1, 2);
+
+        assertEquals(1, index.nearest(0., 0.), "Skipped");
+    }
+
+    @Test
+    void testOf_MismatchedShape() {
+        assertThrows(IllegalArgumentException.class, () -> GridIndex.of(new double[4], new double[4], 3, 2));
+    }
+
+    private static int bruteForce(double latitude, double longitude) {
+        int best = -1;
+        double bestDistance = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < LATITUDES.length; i++) {
+            double distance = chord(latitude, longitude, LATITUDES[i], LONGITUDES[i]);
+            if (distance < bestDistance) {
+                bestDistance = distance;
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    private static double chord(double lat0, double lon0, double lat1, double lon1) {
+        double p0 = Math.toRadians(lat0), l0 = Math.toRadians(lon0);
+        double p1 = Math.toRadians(lat1), l1 = Math.toRadians(lon1);
+        double dx = Math.cos(p0) * Math.cos(l0) - Math.cos(p1) * Math.cos(l1);
+        double dy = Math.cos(p0) * Math.sin(l0) - Math.cos(p1) * Math.sin(l1);
+        double dz = Math.sin(p0) - Math.sin(p1);
+        return dx * dx + dy * dy + dz * dz;
+    }
+}
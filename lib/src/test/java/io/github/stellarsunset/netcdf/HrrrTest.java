@@ -2,12 +2,19 @@ package io.github.stellarsunset.netcdf;
 
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import ucar.nc2.NetcdfFile;
 import ucar.nc2.NetcdfFiles;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.stream.Stream;
 
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 /**
@@ -42,6 +49,43 @@ class HrrrTest {
         }
     }
 
+    @Test
+    void testReadFile_IndexCache(@TempDir Path temp) throws IOException {
+
+        var binding = SchemaBinding.<Vil.Builder>builder()
+                .recordInitializer(Vil::builder)
+                .floatDimensionVariable("x", Vil.Builder::x)
+                .floatDimensionVariable("y", Vil.Builder::y)
+                .floatCoordinateVariable("Vertically_integrated_liquid_water_VIL_entire_atmosphere", Vil.Builder::vil)
+                .build();
+
+        var reader = NetcdfRecordReader.schemaBound(binding);
+        IndexCache cache = IndexCache.builder().directory(temp).build();
+
+        Path entry = cache.directory().resolve(IndexCache.fingerprint(Path.of(file)));
+        Path index = entry.resolve("hrrr.grib2.gbx9");
+
+        long first;
+        try (Stream<Vil.Builder> records = reader.read(Path.of(file), cache)) {
+            first = records.count();
+        }
+
+        assertTrue(Files.isRegularFile(index), "Index written inside the entry");
+        FileTime written = Files.getLastModifiedTime(index);
+
+        long second;
+        try (Stream<Vil.Builder> records = reader.read(Path.of(file), cache)) {
+            second = records.count();
+        }
+
+        assertAll(
+                () -> assertEquals(1059 * 1799, first, "First Read"),
+                () -> assertEquals(first, second, "Second Read"),
+                () -> assertEquals(written, Files.getLastModifiedTime(index), "Index re-used rather than re-written"),
+                () -> assertTrue(cache.sizeBytes() > 0, "Index counted")
+        );
+    }
+
     record Vil(float x, float y, float vil) {
 
         private Vil(Builder builder) {
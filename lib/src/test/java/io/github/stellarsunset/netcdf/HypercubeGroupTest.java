@@ -0,0 +1,127 @@
+package io.github.stellarsunset.netcdf;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ucar.ma2.DataType;
+import ucar.nc2.NetcdfFile;
+import ucar.nc2.NetcdfFiles;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HypercubeGroupTest {
+
+    private static File FILE;
+
+    private static final SchemaBinding<double[]> SURFACE = SchemaBinding.<double[]>builder()
+            .recordInitializer(() -> new double[3])
+            .intDimensionVariable("x", (o, v) -> {
+                o[0] = v;
+                return o;
+            })
+            .intDimensionVariable("y", (o, v) -> {
+                o[1] = v;
+                return o;
+            })
+            .doubleCoordinateVariable("double", (o, v) -> {
+                o[2] = v;
+                return o;
+            })
+            .build();
+
+    private static final SchemaBinding<int[]> METADATA = SchemaBinding.<int[]>builder()
+            .recordInitializer(() -> new int[2])
+            .intDimensionVariable("x", (o, v) -> {
+                o[0] = v;
+                return o;
+            })
+            .intCoordinateVariable("int", (o, v) -> {
+                o[1] = v;
+                return o;
+            })
+            .build();
+
+    @BeforeAll
+    static void setup(@TempDir Path temp) {
+        FILE = temp.resolve("test-data.nc").toFile();
+        new NetcdfFileGenerator.XY(10, 20).writeVariables(
+                FILE,
+                NetcdfFileGenerator.varSpec("double", DataType.DOUBLE),
+                NetcdfFileGenerator.varSpec("int", DataType.INT)
+        );
+    }
+
+    @Test
+    void testSharedReads() throws IOException {
+        try (NetcdfFile file = NetcdfFiles.open(FILE.getAbsolutePath())) {
+
+            ReadMetrics metrics = new ReadMetrics();
+            HypercubeGroup group = HypercubeGroup.schemaBound(file, List.of(SURFACE, METADATA), ReadOptions.builder().listener(metrics).build());
+
+            List<double[]> surface = group.get(SURFACE).stream().map(double[]::clone).toList();
+            List<int[]> metadata = group.get(METADATA).stream().map(int[]::clone).toList();
+
+            List<double[]> expected = Hypercube.schemaBound(file, SURFACE).stream().map(double[]::clone).toList();
+
+            assertAll(
+                    () -> assertEquals(2, group.size(), "Cubes"),
+                    () -> assertEquals(Set.of("double", "x", "y", "int"), Set.copyOf(group.variables()), "Distinct Variables"),
+                    () -> assertEquals(4, metrics.variableReads(), "Each variable read once"),
+                    () -> assertEquals(200, surface.size(), "Surface Records"),
+                    () -> assertEquals(200, metadata.size(), "Metadata Records"),
+                    () -> assertArrayEquals(expected.get(57), surface.get(57), "Same as a standalone cube"),
+                    () -> assertArrayEquals(new int[]{2, metadata.get(57)[1]}, metadata.get(57), "Shared X")
+            );
+        }
+    }
+
+    @Test
+    void testSharedReads_Streaming() throws IOException {
+        try (NetcdfFile file = NetcdfFiles.open(FILE.getAbsolutePath())) {
+
+            ReadOptions options = ReadOptions.builder().slabSize(5).build();
+            HypercubeGroup group = HypercubeGroup.schemaBound(file, List.of(SURFACE, METADATA), options);
+
+            List<double[]> expected = Hypercube.schemaBound(file, SURFACE).stream().map(double[]::clone).toList();
+            List<double[]> streamed = group.get(SURFACE).stream().map(double[]::clone).toList();
+
+            assertAll(
+                    () -> assertEquals(Set.of("x", "y"), Set.copyOf(group.variables()), "Only dimension variables are read in full"),
+                    () -> assertArrayEquals(expected.get(57), streamed.get(57), "Same as a standalone cube"),
+                    () -> assertArrayEquals(expected.get(199), streamed.get(199), "Last Record")
+            );
+        }
+    }
+
+    @Test
+    void testGet_UnknownBinding() throws IOException {
+        try (NetcdfFile file = NetcdfFiles.open(FILE.getAbsolutePath())) {
+            HypercubeGroup group = HypercubeGroup.schemaBound(file, List.of(SURFACE));
+            assertThrows(IllegalArgumentException.class, () -> group.get(METADATA));
+        }
+    }
+
+    @Test
+    void testAccessor() throws IOException {
+        try (NetcdfFile file = NetcdfFiles.open(FILE.getAbsolutePath())) {
+
+            ReadMetrics metrics = new ReadMetrics();
+            HypercubeGroup group = HypercubeGroup.schemaBound(file, List.of(SURFACE), ReadOptions.builder().listener(metrics).build());
+
+            VariableAccessor.D2 accessor = (VariableAccessor.D2) group.accessor("double");
+            double[] record = Hypercube.schemaBound(file, SURFACE).stream().skip(57).findFirst().orElseThrow();
+
+            assertAll(
+                    () -> assertEquals(3, metrics.variableReads(), "Data shared with the cube"),
+                    () -> assertEquals(record[2], accessor.doubleAt(2, 17), "Same as the record"),
+                    () -> assertThrows(IllegalArgumentException.class, () -> group.accessor("int"), "Not read by the group")
+            );
+        }
+    }
+}
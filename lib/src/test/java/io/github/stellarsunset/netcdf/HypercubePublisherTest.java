@@ -0,0 +1,213 @@
+package io.github.stellarsunset.netcdf;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HypercubePublisherTest {
+
+    @Test
+    void testPublisher_HonorsDemand() {
+
+        CountingCube cube = new CountingCube(3, 4);
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+
+        cube.publisher().subscribe(subscriber);
+        assertEquals(0, cube.reads().get(), "No reads before demand");
+
+        subscriber.subscription.request(5);
+        assertAll(
+                () -> assertEquals(5, cube.reads().get(), "Reads after first request"),
+                () -> assertEquals(List.of(0, 1, 2, 3, 10), subscriber.received, "Received after first request"),
+                () -> assertFalse(subscriber.completed, "Not complete")
+        );
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertAll(
+                () -> assertEquals(12, cube.reads().get(), "Reads after unbounded request"),
+                () -> assertEquals(12, subscriber.received.size(), "Received all"),
+                () -> assertTrue(subscriber.completed, "Complete")
+        );
+    }
+
+    @Test
+    void testPublisher_CompletesEagerly() {
+
+        CountingCube cube = new CountingCube(1, 2);
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+
+        cube.publisher().subscribe(subscriber);
+        subscriber.subscription.request(2);
+
+        assertAll(
+                () -> assertEquals(List.of(0, 1), subscriber.received, "Received"),
+                () -> assertTrue(subscriber.completed, "Complete")
+        );
+    }
+
+    @Test
+    void testPublisher_ReentrantRequest() {
+
+        CountingCube cube = new CountingCube(10, 10);
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>() {
+            @Override
+            public void onNext(Integer item) {
+                super.onNext(item);
+                subscription.request(1);
+            }
+        };
+
+        cube.publisher().subscribe(subscriber);
+        subscriber.subscription.request(1);
+
+        assertAll(
+                () -> assertEquals(100, subscriber.received.size(), "Received all"),
+                () -> assertTrue(subscriber.completed, "Complete")
+        );
+    }
+
+    @Test
+    void testPublisher_Cancel() {
+
+        CountingCube cube = new CountingCube(10, 10);
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+
+        cube.publisher().subscribe(subscriber);
+        subscriber.subscription.request(3);
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(3);
+
+        assertAll(
+                () -> assertEquals(3, cube.reads().get(), "Reads"),
+                () -> assertFalse(subscriber.completed, "Not complete")
+        );
+    }
+
+    @Test
+    void testPublisher_NonPositiveDemand() {
+
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+
+        new CountingCube(2, 2).publisher().subscribe(subscriber);
+        subscriber.subscription.request(0);
+
+        assertInstanceOf(IllegalArgumentException.class, subscriber.error, "Error");
+    }
+
+    @Test
+    void testPublisher_FailingHasNext() {
+
+        AtomicInteger calls = new AtomicInteger();
+        Iterator<Integer> iterator = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                if (calls.incrementAndGet() > 1) {
+                    throw new IllegalStateException("Failed");
+                }
+                return true;
+            }
+
+            @Override
+            public Integer next() {
+                return 0;
+            }
+        };
+
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+
+        new HypercubePublisher<>(() -> iterator).subscribe(subscriber);
+        subscriber.subscription.request(1);
+
+        assertAll(
+                () -> assertEquals(List.of(0), subscriber.received, "Received"),
+                () -> assertInstanceOf(IllegalStateException.class, subscriber.error, "Signalled on eager completion check"),
+                () -> assertFalse(subscriber.completed, "Not complete")
+        );
+    }
+
+    @Test
+    void testBatchedPublisher() {
+
+        CountingCube cube = new CountingCube(2, 5);
+        RecordingSubscriber<List<Integer>> subscriber = new RecordingSubscriber<>();
+
+        cube.publisher(4).subscribe(subscriber);
+        subscriber.subscription.request(1);
+
+        assertAll(
+                () -> assertEquals(4, cube.reads().get(), "Reads after first batch"),
+                () -> assertEquals(List.of(List.of(0, 1, 2, 3)), subscriber.received, "First batch")
+        );
+
+        subscriber.subscription.request(5);
+
+        assertAll(
+                () -> assertEquals(List.of(List.of(0, 1, 2, 3), List.of(4, 10, 11, 12), List.of(13, 14)), subscriber.received, "All batches"),
+                () -> assertTrue(subscriber.completed, "Complete")
+        );
+    }
+
+    @Test
+    void testBatchedPublisher_BadBatchSize() {
+        assertThrows(IllegalArgumentException.class, () -> new CountingCube(1, 1).publisher(0));
+    }
+
+    record CountingCube(int d0Max, int d1Max, AtomicInteger reads) implements Hypercube.D2<Integer> {
+
+        CountingCube(int d0Max, int d1Max) {
+            this(d0Max, d1Max, new AtomicInteger());
+        }
+
+        @Override
+        public Integer read(int i0, int i1) {
+            reads.incrementAndGet();
+            return i0 * 10 + i1;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    static class RecordingSubscriber<T> implements Flow.Subscriber<T> {
+
+        Flow.Subscription subscription;
+
+        final List<T> received = new ArrayList<>();
+
+        boolean completed;
+
+        Throwable error;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(T item) {
+            received.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+        }
+    }
+}
@@ -2,10 +2,18 @@ package io.github.stellarsunset.netcdf;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class HypercubeTest {
 
@@ -177,4 +185,336 @@ class HypercubeTest {
         public void close() {
         }
     }
+
+    @Test
+    void testReadAll() {
+
+        Integer[][][] elements = new Integer[3][4][5];
+        for (int i0 = 0; i0 < 3; i0++) {
+            for (int i1 = 0; i1 < 4; i1++) {
+                for (int i2 = 0; i2 < 5; i2++) {
+                    elements[i0][i1][i2] = (i0 * 4 + i1) * 5 + i2;
+                }
+            }
+        }
+
+        List<Integer> reads = new ArrayList<>();
+
+        Hypercube.D3<Integer> cube = new D3Cube<>(elements).transform(i -> {
+            reads.add(i);
+            return i;
+        });
+
+        List<Integer> results = cube.readAll(new int[]{2, 0, 1, 0}, new int[]{3, 1, 0, 0}, new int[]{4, 2, 3, 2});
+
+        assertAll(
+                () -> assertEquals(List.of(59, 7, 23, 2), results, "Results"),
+                () -> assertEquals(List.of(2, 7, 23, 59), reads, "Storage Order")
+        );
+    }
+
+    @Test
+    void testReadAll_Lengths() {
+        Hypercube.D2<Integer> cube = new D2Cube<>(new Integer[][]{new Integer[]{0, 1}});
+        assertThrows(IllegalArgumentException.class, () -> cube.readAll(new int[]{0}, new int[]{0, 1}));
+    }
+
+    @Test
+    void testStorageOrder() {
+        assertAll(
+                () -> assertArrayEquals(new int[]{1, 3, 0, 2}, PointQueries.storageOrder(new long[]{5, 1, 7, 1}), "Packed"),
+                () -> assertArrayEquals(new int[]{1, 0, 2}, PointQueries.storageOrder(new long[]{Integer.MAX_VALUE + 10L, 3, Integer.MAX_VALUE + 11L}), "Boxed")
+        );
+    }
+
+    @Test
+    void testSlice() {
+
+        Integer[][][][] elements = new Integer[2][3][4][5];
+        for (int i0 = 0; i0 < 2; i0++) {
+            for (int i1 = 0; i1 < 3; i1++) {
+                for (int i2 = 0; i2 < 4; i2++) {
+                    for (int i3 = 0; i3 < 5; i3++) {
+                        elements[i0][i1][i2][i3] = ((i0 * 3 + i1) * 4 + i2) * 5 + i3;
+                    }
+                }
+            }
+        }
+
+        Hypercube.D4<Integer> cube = new D4Cube<>(elements);
+
+        Hypercube.D3<Integer> level = cube.slice(1, 2);
+        Hypercube.D2<Integer> plane = cube.slice(0, 1).slice(2, 3);
+        Hypercube.D1<Integer> column = cube.slice(3, 4).slice(2, 1).slice(0, 0);
+
+        assertAll(
+                () -> assertArrayEquals(new int[]{2, 4, 5}, new int[]{level.d0Max(), level.d1Max(), level.d2Max()}, "Level Shape"),
+                () -> assertEquals(elements[1][2][3][4], level.read(1, 3, 4), "Level Read"),
+                () -> assertEquals(40, level.stream().count(), "Level Stream"),
+                () -> assertArrayEquals(new int[]{3, 4}, new int[]{plane.d0Max(), plane.d1Max()}, "Plane Shape"),
+                () -> assertEquals(elements[1][2][1][3], plane.read(2, 1), "Plane Read"),
+                () -> assertEquals(List.of(elements[0][0][1][4], elements[0][1][1][4], elements[0][2][1][4]), column.stream().toList(), "Column")
+        );
+    }
+
+    @Test
+    void testRange() {
+
+        Integer[][][] elements = new Integer[3][4][5];
+        for (int i0 = 0; i0 < 3; i0++) {
+            for (int i1 = 0; i1 < 4; i1++) {
+                for (int i2 = 0; i2 < 5; i2++) {
+                    elements[i0][i1][i2] = (i0 * 4 + i1) * 5 + i2;
+                }
+            }
+        }
+
+        Hypercube.D3<Integer> cube = new D3Cube<>(elements).range(1, 1, 3).range(2, 2, 5);
+
+        assertAll(
+                () -> assertArrayEquals(new int[]{3, 2, 3}, new int[]{cube.d0Max(), cube.d1Max(), cube.d2Max()}, "Shape"),
+                () -> assertEquals(elements[2][2][4], cube.read(2, 1, 2), "Read"),
+                () -> assertEquals(18, cube.stream().spliterator().getExactSizeIfKnown(), "Stream Size"),
+                () -> assertEquals(List.of(7, 8, 9, 12, 13, 14), cube.slice(0, 0).stream().toList(), "Slice of Range"),
+                () -> assertEquals(List.of("b", "c"), new D1Cube<>(new String[]{"a", "b", "c", "d"}).range(1, 3).stream().toList(), "D1 Range")
+        );
+    }
+
+    @Test
+    void testSlice_Bounds() {
+        Hypercube.D2<Integer> cube = new D2Cube<>(new Integer[][]{new Integer[]{0, 1}});
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> cube.slice(2, 0), "Axis"),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> cube.slice(0, 1), "Index"),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> cube.range(1, 1, 3), "Range")
+        );
+    }
+
+    @Test
+    void testSpliterator() {
+        Integer[][][] elements = new Integer[][][]{
+                new Integer[][]{new Integer[]{0, 1, 2}, new Integer[]{3, 4, 5}},
+                new Integer[][]{new Integer[]{6, 7, 8}, new Integer[]{9, 10, 11}}
+        };
+
+        AtomicInteger reads = new AtomicInteger();
+        Hypercube.D3<Integer> cube = new D3Cube<>(elements).transform(i -> {
+            reads.incrementAndGet();
+            return i;
+        });
+
+        @SuppressWarnings("unchecked")
+        Spliterator<Integer> spliterator = (Spliterator<Integer>) cube.iterator();
+
+        List<Integer> first = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            spliterator.tryAdvance(first::add);
+        }
+
+        long remaining = spliterator.estimateSize();
+
+        List<Integer> rest = new ArrayList<>();
+        spliterator.forEachRemaining(rest::add);
+
+        assertAll(
+                () -> assertEquals(List.of(0, 1, 2, 3), first, "Advanced"),
+                () -> assertEquals(8, remaining, "Exact Remaining"),
+                () -> assertEquals(List.of(4, 5, 6, 7, 8, 9, 10, 11), rest, "Nested Loops Resume Mid-Row"),
+                () -> assertFalse(spliterator.tryAdvance(first::add), "Exhausted"),
+                () -> assertEquals(12, cube.stream().spliterator().getExactSizeIfKnown(), "Sized")
+        );
+
+        reads.set(0);
+        assertAll(
+                () -> assertEquals(12, cube.stream().count(), "Count"),
+                () -> assertEquals(0, reads.get(), "No records read to count")
+        );
+    }
+
+    @Test
+    void testSpliterator_Empty() {
+        Hypercube.D2<Integer> cube = new D2Cube<>(new Integer[][]{new Integer[0], new Integer[0]});
+        assertAll(
+                () -> assertEquals(List.of(), cube.stream().toList(), "Stream"),
+                () -> assertFalse(cube.iterator().hasNext(), "Iterator")
+        );
+    }
+
+    @Test
+    void testStreamInOrder_D2() {
+        Integer[][] elements = new Integer[][]{new Integer[]{0, 1, 2}, new Integer[]{3, 4, 5}};
+
+        Hypercube.D2<Integer> cube = new D2Cube<>(elements);
+        assertAll(
+                () -> assertEquals(List.of(0, 1, 2, 3, 4, 5), cube.stream(new int[]{0, 1}).toList(), "Canonical"),
+                () -> assertEquals(List.of(0, 3, 1, 4, 2, 5), cube.stream(new int[]{1, 0}).toList(), "Transposed"),
+                () -> assertEquals(6, cube.stream(new int[]{1, 0}).spliterator().getExactSizeIfKnown(), "Sized")
+        );
+    }
+
+    @Test
+    void testStreamInOrder_D3() {
+        Integer[][][] elements = new Integer[2][3][4];
+        for (int i0 = 0; i0 < 2; i0++) {
+            for (int i1 = 0; i1 < 3; i1++) {
+                for (int i2 = 0; i2 < 4; i2++) {
+                    elements[i0][i1][i2] = (i0 * 3 + i1) * 4 + i2;
+                }
+            }
+        }
+
+        Hypercube.D3<Integer> cube = new D3Cube<>(elements);
+
+        int[][] orders = {{0, 1, 2}, {0, 2, 1}, {1, 0, 2}, {1, 2, 0}, {2, 0, 1}, {2, 1, 0}};
+        for (int[] order : orders) {
+            List<Integer> expected = new ArrayList<>();
+            int[] shape = {2, 3, 4};
+            int[] index = new int[3];
+            for (int a = 0; a < shape[order[0]]; a++) {
+                for (int b = 0; b < shape[order[1]]; b++) {
+                    for (int c = 0; c < shape[order[2]]; c++) {
+                        index[order[0]] = a;
+                        index[order[1]] = b;
+                        index[order[2]] = c;
+                        expected.add(elements[index[0]][index[1]][index[2]]);
+                    }
+                }
+            }
+            assertEquals(expected, cube.stream(order).toList(), "Order " + Arrays.toString(order));
+        }
+    }
+
+    @Test
+    void testStreamInOrder_D4() {
+        Integer[][][][] elements = new Integer[][][][]{
+                new Integer[][][]{new Integer[][]{new Integer[]{0, 1}}, new Integer[][]{new Integer[]{2, 3}}},
+                new Integer[][][]{new Integer[][]{new Integer[]{4, 5}}, new Integer[][]{new Integer[]{6, 7}}}
+        };
+
+        Hypercube.D4<Integer> cube = new D4Cube<>(elements);
+        assertAll(
+                () -> assertEquals(List.of(0, 1, 4, 5, 2, 3, 6, 7), cube.stream(new int[]{1, 0, 2, 3}).toList(), "Swap Outer"),
+                () -> assertEquals(List.of(0, 2, 4, 6, 1, 3, 5, 7), cube.stream(new int[]{3, 2, 0, 1}).toList(), "Innermost First")
+        );
+    }
+
+    @Test
+    void testStreamInOrder_Tiles() {
+        int size = 300;
+        Integer[][] elements = new Integer[size][size];
+        for (int i0 = 0; i0 < size; i0++) {
+            for (int i1 = 0; i1 < size; i1++) {
+                elements[i0][i1] = i0 * size + i1;
+            }
+        }
+
+        List<Integer> reads = new ArrayList<>();
+        Hypercube.D2<Integer> cube = new RecordingD2Cube<>(elements, reads, true);
+
+        List<Integer> transposed = cube.stream(new int[]{1, 0}).toList();
+
+        assertAll(
+                () -> assertEquals(size * size, transposed.size(), "Records"),
+                () -> assertEquals(size * size, reads.size(), "Each Record Read Once"),
+                () -> assertEquals(List.of(0, 1, 2), reads.subList(0, 3), "Read Along Rows"),
+                () -> assertEquals(elements[0][1], transposed.get(size), "First Of Second Column"),
+                () -> assertEquals(elements[7][250], transposed.get(250 * size + 7), "Second Tile"),
+                () -> assertEquals(elements[size - 1][size - 1], transposed.getLast(), "Last")
+        );
+    }
+
+    @Test
+    void testStreamInOrder_Invalid() {
+        Hypercube.D3<Integer> cube = new D3Cube<>(new Integer[1][1][1]);
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> cube.stream(new int[]{0, 1}), "Too Few Axes"),
+                () -> assertThrows(IllegalArgumentException.class, () -> cube.stream(new int[]{0, 1, 1}), "Repeated Axis"),
+                () -> assertThrows(IllegalArgumentException.class, () -> cube.stream(new int[]{0, 1, 3}), "Unknown Axis")
+        );
+    }
+
+    @Test
+    void testStreamInOrder_NotReorderable() {
+        Integer[][] elements = {{0, 1, 2}, {3, 4, 5}};
+
+        List<Integer> reads = new ArrayList<>();
+        Hypercube.D2<Integer> cube = new RecordingD2Cube<>(elements, reads, false);
+
+        List<Integer> transposed = cube.stream(new int[]{1, 0}).toList();
+
+        assertAll(
+                () -> assertEquals(List.of(0, 3, 1, 4, 2, 5), transposed, "Transposed"),
+                () -> assertEquals(transposed, reads, "Read In The Requested Order")
+        );
+    }
+
+    @Test
+    void testStreamInOrder_Streaming() {
+        Integer[][][] elements = new Integer[2][3][4];
+        Hypercube.D3<Integer> cube = new StreamingD3Cube<>(new D3Cube<>(elements)).transform(i -> i);
+
+        assertAll(
+                () -> assertTrue(cube.streaming(), "Forwarded"),
+                () -> assertEquals(24, cube.stream(new int[]{0, 2, 1}).count(), "Led by axis 0"),
+                () -> assertThrows(IllegalArgumentException.class, () -> cube.stream(new int[]{2, 0, 1}), "Not led by axis 0"),
+                () -> assertFalse(cube.slice(0, 1).streaming(), "Slice of one outermost index"),
+                () -> assertTrue(cube.slice(1, 1).streaming(), "Slice along another axis")
+        );
+    }
+
+    /**
+     * Cube recording the records it reads, in the order it reads them.
+     */
+    record RecordingD2Cube<T>(T[][] array, List<T> reads, boolean reorderable) implements Hypercube.D2<T> {
+        @Override
+        public T read(int i, int j) {
+            reads.add(array[i][j]);
+            return array[i][j];
+        }
+
+        @Override
+        public int d0Max() {
+            return array.length;
+        }
+
+        @Override
+        public int d1Max() {
+            return array[0].length;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    record StreamingD3Cube<T>(Hypercube.D3<T> delegate) implements Hypercube.D3<T> {
+        @Override
+        public T read(int i0, int i1, int i2) {
+            return delegate.read(i0, i1, i2);
+        }
+
+        @Override
+        public int d0Max() {
+            return delegate.d0Max();
+        }
+
+        @Override
+        public int d1Max() {
+            return delegate.d1Max();
+        }
+
+        @Override
+        public int d2Max() {
+            return delegate.d2Max();
+        }
+
+        @Override
+        public boolean streaming() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
 }
@@ -0,0 +1,174 @@
+package io.github.stellarsunset.netcdf;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndexCacheTest {
+
+    @Test
+    void testFingerprint_SameContents(@TempDir Path temp) throws IOException {
+
+        byte[] data = randomBytes(1 << 20, 1);
+
+        Path a = Files.write(temp.resolve("a.grib2"), data);
+        Path b = Files.write(temp.resolve("b.grib2"), data);
+
+        assertEquals(IndexCache.fingerprint(a), IndexCache.fingerprint(b), "Same contents, different paths");
+    }
+
+    @Test
+    void testFingerprint_DifferentContents(@TempDir Path temp) throws IOException {
+
+        byte[] data = randomBytes(1 << 20, 1);
+        Path a = Files.write(temp.resolve("a.grib2"), data);
+
+        data[data.length - 1]++;
+        Path b = Files.write(temp.resolve("b.grib2"), data);
+
+        Path c = Files.write(temp.resolve("c.grib2"), new byte[]{1, 2, 3});
+
+        assertAll(
+                () -> assertNotEquals(IndexCache.fingerprint(a), IndexCache.fingerprint(b), "Different Tail"),
+                () -> assertNotEquals(IndexCache.fingerprint(a), IndexCache.fingerprint(c), "Different Length")
+        );
+    }
+
+    @Test
+    void testFingerprint_EveryByte(@TempDir Path temp) throws IOException {
+
+        byte[] data = randomBytes(4 << 20, 1);
+        Path a = Files.write(temp.resolve("a.grib2"), data);
+
+        // same length, differing in a single byte away from the start, end or any evenly spaced position
+        data[100_003]++;
+        Path b = Files.write(temp.resolve("b.grib2"), data);
+
+        assertNotEquals(IndexCache.fingerprint(a), IndexCache.fingerprint(b));
+    }
+
+    @Test
+    void testLink_ModifiedFile(@TempDir Path temp) throws IOException {
+
+        IndexCache cache = IndexCache.builder().directory(temp.resolve("cache")).build();
+
+        byte[] data = randomBytes(1024, 2);
+        Path a = Files.write(temp.resolve("a.grib2"), data);
+        Path before = cache.link(a);
+
+        data[512]++;
+        Files.write(a, data);
+        Files.setLastModifiedTime(a, FileTime.fromMillis(Files.getLastModifiedTime(a).toMillis() + 1000));
+
+        assertNotEquals(before.getParent(), cache.link(a).getParent(), "New Entry");
+    }
+
+    @Test
+    void testLink(@TempDir Path temp) throws IOException {
+
+        IndexCache cache = IndexCache.builder().directory(temp.resolve("cache")).build();
+
+        byte[] data = randomBytes(1024, 2);
+        Path a = Files.write(temp.resolve("a.grib2"), data);
+
+        Path link = cache.link(a);
+        Path again = cache.link(a);
+
+        assertAll(
+                () -> assertEquals(link, again, "Same Link"),
+                () -> assertEquals(a.toRealPath(), Files.readSymbolicLink(link), "Link Target"),
+                () -> assertEquals(cache.directory().resolve(IndexCache.fingerprint(a)), link.getParent(), "Entry"),
+                () -> assertEquals(0, cache.sizeBytes(), "Links aren't counted")
+        );
+    }
+
+    @Test
+    void testLink_Restart(@TempDir Path temp) throws IOException {
+
+        Path a = Files.write(temp.resolve("a.grib2"), randomBytes(1024, 7));
+
+        Path link = IndexCache.builder().directory(temp.resolve("cache")).build().link(a);
+
+        // a fingerprint that isn't the file's own, only found if the new cache reads the stamp rather than re-hashing
+        String remembered = "0123456789abcdef0123456789abcdef";
+        try (Stream<Path> stamps = stamps(temp.resolve("cache"))) {
+            Files.writeString(stamps.findFirst().orElseThrow(), remembered);
+        }
+
+        IndexCache restarted = IndexCache.builder().directory(temp.resolve("cache")).build();
+
+        assertAll(
+                () -> assertEquals(IndexCache.fingerprint(a), link.getParent().getFileName().toString(), "Hashed On First Link"),
+                () -> assertEquals(remembered, restarted.link(a).getParent().getFileName().toString(), "Remembered Across Caches")
+        );
+    }
+
+    @Test
+    void testLink_MovedFile(@TempDir Path temp) throws IOException {
+
+        IndexCache cache = IndexCache.builder().directory(temp.resolve("cache")).build();
+
+        Path original = Files.write(temp.resolve("a.grib2"), randomBytes(1024, 3));
+        Path link = cache.link(original);
+
+        Files.createDirectories(temp.resolve("moved"));
+        Path moved = Files.move(original, temp.resolve("moved").resolve("a.grib2"));
+
+        assertAll(
+                () -> assertEquals(link, cache.link(moved), "Same Entry"),
+                () -> assertEquals(moved.toRealPath(), Files.readSymbolicLink(link), "Re-pointed Link")
+        );
+    }
+
+    @Test
+    void testEvict(@TempDir Path temp) throws IOException {
+
+        IndexCache cache = IndexCache.builder().directory(temp.resolve("cache")).maximumBytes(250).build();
+
+        Path first = cache.link(Files.write(temp.resolve("a.grib2"), randomBytes(1024, 4))).getParent();
+        Path second = cache.link(Files.write(temp.resolve("b.grib2"), randomBytes(1024, 5))).getParent();
+        Path third = cache.link(Files.write(temp.resolve("c.grib2"), randomBytes(1024, 6))).getParent();
+
+        // fake some indexes, and make the access order explicit rather than relying on timestamp resolution
+        Files.write(first.resolve("a.grib2.gbx9"), new byte[100]);
+        Files.write(second.resolve("b.grib2.gbx9"), new byte[100]);
+        Files.write(third.resolve("c.grib2.gbx9"), new byte[100]);
+
+        Files.setLastModifiedTime(first, FileTime.fromMillis(1_000));
+        Files.setLastModifiedTime(second, FileTime.fromMillis(3_000));
+        Files.setLastModifiedTime(third, FileTime.fromMillis(2_000));
+
+        cache.evict(first);
+
+        assertAll(
+                () -> assertTrue(Files.exists(first), "Kept, even though least recently used"),
+                () -> assertTrue(Files.exists(second), "Most recently used"),
+                () -> assertFalse(Files.exists(third), "Evicted"),
+                () -> assertEquals(200, cache.sizeBytes(), "Size"),
+                () -> assertEquals(2, stamps(cache.directory()).count(), "Evicted Stamp")
+        );
+    }
+
+    @Test
+    void testMaximumBytes() {
+        assertThrows(IllegalArgumentException.class, () -> IndexCache.builder().maximumBytes(0));
+    }
+
+    private static Stream<Path> stamps(Path directory) throws IOException {
+        return Files.list(directory).filter(path -> path.getFileName().toString().endsWith(".stamp"));
+    }
+
+    private static byte[] randomBytes(int length, long seed) {
+        byte[] data = new byte[length];
+        new Random(seed).nextBytes(data);
+        return data;
+    }
+}
@@ -0,0 +1,145 @@
+package io.github.stellarsunset.netcdf;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class InterpolatorTest {
+
+    /**
+     * Linear fields are reproduced exactly by (bi/tri)linear interpolation.
+     */
+    private static Interpolator linear2D() {
+
+        int d0 = 4, d1 = 5;
+        float[] a = new float[d0 * d1];
+        double[] b = new double[d0 * d1];
+
+        for (int i0 = 0; i0 < d0; i0++) {
+            for (int i1 = 0; i1 < d1; i1++) {
+                a[i0 * d1 + i1] = 2f * i0 + 3f * i1;
+                b[i0 * d1 + i1] = -i0 + 0.5 * i1 + 10.;
+            }
+        }
+
+        return Interpolator.builder().shape(d0, d1).variable("a", a).variable("b", b).build();
+    }
+
+    @Test
+    void testBilinear() {
+
+        Interpolator interpolator = linear2D();
+
+        double[] f0 = {0., 1.5, 3., 2.25, 2.5, -0.1, 1., Double.NaN};
+        double[] f1 = {0., 2.5, 4., 1.75, 1.8, 1., 4.1, 1.};
+        double[][] out = new double[2][f0.length];
+
+        interpolator.bilinear(f0, f1, f0.length, out);
+
+        assertAll(
+                () -> assertEquals(List.of("a", "b"), interpolator.variables(), "Variables"),
+                () -> assertEquals(0., out[0][0], 1e-9, "Origin A"),
+                () -> assertEquals(10., out[1][0], 1e-9, "Origin B"),
+                () -> assertEquals(10.5, out[0][1], 1e-9, "Middle A"),
+                () -> assertEquals(9.75, out[1][1], 1e-9, "Middle B"),
+                () -> assertEquals(18., out[0][2], 1e-9, "Last Corner A"),
+                () -> assertEquals(2. * 2.25 + 3. * 1.75, out[0][3], 1e-9, "Arbitrary A"),
+                () -> assertEquals(2. * 2.5 + 3. * 1.8, out[0][4], 1e-9, "Same Cell A"),
+                () -> assertEquals(-2.5 + 0.9 + 10., out[1][4], 1e-9, "Same Cell B"),
+                () -> assertEquals(Double.NaN, out[0][5], "Below"),
+                () -> assertEquals(Double.NaN, out[1][6], "Beyond"),
+                () -> assertEquals(Double.NaN, out[0][7], "NaN")
+        );
+    }
+
+    @Test
+    void testBilinear_NonLinearCell() {
+
+        Interpolator interpolator = Interpolator.builder()
+                .shape(2, 2)
+                .variable("v", new double[]{0., 1., 2., 7.})
+                .build();
+
+        double[][] out = new double[1][1];
+        interpolator.bilinear(new double[]{0.5}, new double[]{0.5}, 1, out);
+
+        assertEquals(2.5, out[0][0], 1e-9, "Center");
+    }
+
+    @Test
+    void testTrilinear() {
+
+        int d0 = 3, d1 = 4, d2 = 5;
+        double[] data = new double[d0 * d1 * d2];
+        for (int i0 = 0; i0 < d0; i0++) {
+            for (int i1 = 0; i1 < d1; i1++) {
+                for (int i2 = 0; i2 < d2; i2++) {
+                    data[(i0 * d1 + i1) * d2 + i2] = 100. * i0 + 10. * i1 + i2;
+                }
+            }
+        }
+
+        Interpolator interpolator = Interpolator.builder().shape(d0, d1, d2).variable("v", data).build();
+
+        double[] f0 = {0., 1.5, 2., 0.25};
+        double[] f1 = {0., 2.5, 3., 0.5};
+        double[] f2 = {0., 3.5, 4., 5.};
+        double[][] out = new double[1][4];
+
+        interpolator.trilinear(f0, f1, f2, 4, out);
+
+        assertAll(
+                () -> assertEquals(0., out[0][0], 1e-9, "Origin"),
+                () -> assertEquals(178.5, out[0][1], 1e-9, "Middle"),
+                () -> assertEquals(234., out[0][2], 1e-9, "Last Corner"),
+                () -> assertEquals(Double.NaN, out[0][3], "Outside")
+        );
+    }
+
+    @Test
+    void testBilinear_ProjectedGrid() {
+
+        Projection projection = new Projection.Mercator(0., 0., 0., 0., 6371229.);
+        ProjectedGrid grid = ProjectedGrid.of(projection, 0., 1000., 5, 0., 1000., 4);
+
+        double[] latLon = new double[2];
+        grid.latLon(2, 3, latLon);
+
+        double[] latitudes = {latLon[0]};
+        double[] longitudes = {latLon[1]};
+        double[][] out = new double[2][1];
+
+        Interpolator interpolator = linear2D();
+        interpolator.bilinear(grid, latitudes, longitudes, 1, out);
+
+        double[][] again = new double[2][1];
+        interpolator.bilinear(grid, latitudes, longitudes, 1, again);
+
+        assertAll(
+                () -> assertEquals(13., out[0][0], 1e-6, "A"),
+                () -> assertEquals(9.5, out[1][0], 1e-6, "B"),
+                () -> assertEquals(latLon[0], latitudes[0], "Latitudes Untouched"),
+                () -> assertEquals(latLon[1], longitudes[0], "Longitudes Untouched"),
+                () -> assertArrayEquals(out[0], again[0], "Batch Re-used")
+        );
+    }
+
+    @Test
+    void testInvalid() {
+
+        Interpolator interpolator = linear2D();
+
+        assertAll(
+                () -> assertThrows(IllegalStateException.class, () -> interpolator.trilinear(new double[1], new double[1], new double[1], 1, new double[2][1]), "Wrong Rank"),
+                () -> assertThrows(IllegalArgumentException.class, () -> interpolator.bilinear(new double[1], new double[1], 1, new double[1][1]), "Missing Output"),
+                () -> assertThrows(IllegalArgumentException.class, () -> interpolator.bilinear(new double[1], new double[1], 2, new double[2][2]), "Short Queries"),
+                () -> assertThrows(IllegalArgumentException.class, () -> Interpolator.builder().shape(1, 5), "Degenerate Axis"),
+                () -> assertThrows(IllegalArgumentException.class, () -> Interpolator.builder().shape(2, 2).variable("v", new float[3]), "Wrong Length")
+        );
+    }
+}
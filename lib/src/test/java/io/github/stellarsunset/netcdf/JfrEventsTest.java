@@ -0,0 +1,59 @@
+package io.github.stellarsunset.netcdf;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JfrEventsTest {
+
+    private static final String ITERATION_COMPLETE = "io.github.stellarsunset.netcdf.IterationComplete";
+
+    @Test
+    void testIterationComplete(@TempDir Path temp) throws IOException {
+
+        List<RecordedEvent> events = record(temp, true);
+
+        assertAll(
+                () -> assertEquals(1, events.size(), "Events"),
+                () -> assertEquals("[2, 3]", events.getFirst().getString("shape"), "Shape"),
+                () -> assertEquals(6, events.getFirst().getLong("records"), "Records")
+        );
+    }
+
+    @Test
+    void testDisabledByDefault(@TempDir Path temp) throws IOException {
+        assertTrue(record(temp, false).isEmpty(), "No events unless explicitly enabled");
+    }
+
+    private static List<RecordedEvent> record(Path temp, boolean enable) throws IOException {
+
+        Path dump = temp.resolve("recording.jfr");
+
+        try (Recording recording = new Recording()) {
+            if (enable) {
+                recording.enable(ITERATION_COMPLETE);
+            }
+            recording.start();
+
+            var cube = new HypercubeTest.D2Cube<>(new Integer[][]{{1, 2, 3}, {4, 5, 6}});
+            assertEquals(6, cube.stream().toList().size(), "Records");
+
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        return RecordingFile.readAllEvents(dump).stream()
+                .filter(event -> event.getEventType().getName().equals(ITERATION_COMPLETE))
+                .toList();
+    }
+}
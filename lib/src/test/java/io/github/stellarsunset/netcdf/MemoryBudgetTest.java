@@ -0,0 +1,147 @@
+package io.github.stellarsunset.netcdf;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ucar.ma2.DataType;
+import ucar.nc2.NetcdfFile;
+import ucar.nc2.NetcdfFiles;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemoryBudgetTest {
+
+    private static File FILE;
+
+    private static final SchemaBinding<double[]> BINDING = SchemaBinding.<double[]>builder()
+            .recordInitializer(() -> new double[3])
+            .intDimensionVariable("x", (o, v) -> {
+                o[0] = v;
+                return o;
+            })
+            .intDimensionVariable("y", (o, v) -> {
+                o[1] = v;
+                return o;
+            })
+            .doubleCoordinateVariable("double", (o, v) -> {
+                o[2] = v;
+                return o;
+            })
+            .build();
+
+    @BeforeAll
+    static void setup(@TempDir Path temp) {
+        FILE = temp.resolve("test-data.nc").toFile();
+        new NetcdfFileGenerator.XY(10, 20).writeVariables(FILE, NetcdfFileGenerator.varSpec("double", DataType.DOUBLE));
+    }
+
+    @Test
+    void testReserve() {
+
+        MemoryBudget budget = MemoryBudget.builder().maximumBytes(100).build();
+
+        MemoryBudget.Reservation first = budget.reserve(60);
+
+        assertAll(
+                () -> assertEquals(60, budget.reservedBytes(), "Reserved"),
+                () -> assertEquals(40, budget.availableBytes(), "Available"),
+                () -> assertTrue(budget.tryReserve(50).isEmpty(), "Exhausted"),
+                () -> assertThrows(IllegalArgumentException.class, () -> budget.reserve(101), "Never Satisfiable")
+        );
+
+        first.close();
+        assertEquals(0, budget.reservedBytes(), "Released");
+    }
+
+    @Test
+    void testReserve_Blocks() throws Exception {
+
+        MemoryBudget budget = MemoryBudget.builder().maximumBytes(100).build();
+        MemoryBudget.Reservation first = budget.reserve(80);
+
+        CompletableFuture<MemoryBudget.Reservation> second = CompletableFuture.supplyAsync(() -> budget.reserve(50));
+
+        while (budget.waiting() == 0) {
+            Thread.onSpinWait();
+        }
+
+        assertAll(
+                () -> assertFalse(second.isDone(), "Waiting"),
+                () -> assertTrue(budget.tryReserve(10).isEmpty(), "Queued behind the waiting reservation")
+        );
+
+        first.close();
+
+        assertAll(
+                () -> assertEquals(50, second.get(5, TimeUnit.SECONDS).bytes(), "Granted"),
+                () -> assertEquals(50, budget.reservedBytes(), "Reserved"),
+                () -> assertEquals(0, budget.waiting(), "Waiting")
+        );
+    }
+
+    @Test
+    void testSchemaBound_Fits() throws Exception {
+        try (NetcdfFile file = NetcdfFiles.open(FILE.getAbsolutePath())) {
+
+            MemoryBudget budget = MemoryBudget.builder().maximumBytes(10_000).build();
+            ReadMetrics metrics = new ReadMetrics();
+
+            Hypercube<double[]> cube = Hypercube.schemaBound(file, BINDING, ReadOptions.builder().memoryBudget(budget).listener(metrics).build());
+
+            assertAll(
+                    () -> assertEquals(1720, budget.reservedBytes(), "Every variable"),
+                    () -> assertEquals(200, cube.stream().count(), "Records"),
+                    () -> assertEquals(0, metrics.slabsLoaded(), "Read in full")
+            );
+
+            cube.close();
+            assertEquals(0, budget.reservedBytes(), "Released");
+        }
+    }
+
+    @Test
+    void testSchemaBound_Streams() throws Exception {
+        try (NetcdfFile file = NetcdfFiles.open(FILE.getAbsolutePath())) {
+
+            MemoryBudget budget = MemoryBudget.builder().maximumBytes(1_000).build();
+            ReadMetrics metrics = new ReadMetrics();
+
+            Hypercube<double[]> cube = Hypercube.schemaBound(file, BINDING, ReadOptions.builder().memoryBudget(budget).listener(metrics).build());
+            List<double[]> expected = Hypercube.schemaBound(file, BINDING).stream().map(double[]::clone).toList();
+
+            assertAll(
+                    () -> assertEquals(920, budget.reservedBytes(), "Dimension variables and a slab of five rows"),
+                    () -> assertArrayEquals(expected.get(123), cube.stream().map(double[]::clone).toList().get(123), "Record"),
+                    () -> assertEquals(2, metrics.slabsLoaded(), "Slabs")
+            );
+
+            cube.close();
+            assertEquals(0, budget.reservedBytes(), "Released");
+        }
+    }
+
+    @Test
+    void testSchemaBound_TooLarge() throws Exception {
+        try (NetcdfFile file = NetcdfFiles.open(FILE.getAbsolutePath())) {
+
+            MemoryBudget budget = MemoryBudget.builder().maximumBytes(200).build();
+            ReadOptions options = ReadOptions.builder().memoryBudget(budget).build();
+
+            assertAll(
+                    () -> assertThrows(IllegalArgumentException.class, () -> Hypercube.schemaBound(file, BINDING, options)),
+                    () -> assertEquals(0, budget.reservedBytes(), "Nothing Reserved")
+            );
+        }
+    }
+
+    @Test
+    void testMaximumBytes() {
+        assertThrows(IllegalArgumentException.class, () -> MemoryBudget.builder().maximumBytes(0));
+    }
+}
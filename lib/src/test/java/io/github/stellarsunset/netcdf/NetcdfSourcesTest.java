@@ -0,0 +1,154 @@
+package io.github.stellarsunset.netcdf;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ucar.ma2.DataType;
+import ucar.nc2.NetcdfFile;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NetcdfSourcesTest {
+
+    private static byte[] DATA;
+
+    private static final SchemaBinding<Object> BINDING = SchemaBinding.<Object>builder()
+            .recordInitializer(Object::new)
+            .intDimensionVariable("x", (o, v) -> o)
+            .intDimensionVariable("y", (o, v) -> o)
+            .doubleCoordinateVariable("double", (o, v) -> o)
+            .build();
+
+    @BeforeAll
+    static void setup(@TempDir Path temp) throws IOException {
+        Path file = temp.resolve("test-data.nc");
+
+        new NetcdfFileGenerator.XY(10, 20).writeVariables(
+                file.toFile(),
+                NetcdfFileGenerator.varSpec("double", DataType.DOUBLE)
+        );
+
+        DATA = Files.readAllBytes(file);
+    }
+
+    @Test
+    void testOpen_Bytes() throws IOException {
+        try (NetcdfFile file = NetcdfSources.open("message-1", DATA)) {
+            assertAll(
+                    () -> assertEquals("message-1", file.getLocation(), "Location"),
+                    () -> assertEquals(200, Hypercube.schemaBound(file, BINDING).stream().count(), "Records")
+            );
+        }
+    }
+
+    @Test
+    void testRead_ByteBuffer() throws IOException {
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(DATA.length).put(DATA).flip();
+
+        try (Stream<Object> records = NetcdfRecordReader.schemaBound(BINDING).read(direct)) {
+            assertEquals(200, records.count(), "Records");
+        }
+    }
+
+    @Test
+    void testRead_Channel(@TempDir Path temp) throws IOException {
+
+        Path file = Files.write(temp.resolve("copy.nc"), DATA);
+
+        try (SeekableByteChannel channel = Files.newByteChannel(file, StandardOpenOption.READ);
+             Stream<Object> records = NetcdfRecordReader.schemaBound(BINDING).read(channel)) {
+            assertEquals(200, records.count(), "Records");
+        }
+    }
+
+    @Test
+    void testBytes_WholeHeapBuffer() {
+        byte[] data = {1, 2, 3};
+        assertSame(data, NetcdfSources.bytes(ByteBuffer.wrap(data)), "Heap buffers over their whole array aren't copied");
+    }
+
+    @Test
+    void testBytes_Remaining() {
+
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[]{1, 2, 3, 4}).position(1).limit(3);
+
+        assertAll(
+                () -> assertArrayEquals(new byte[]{2, 3}, NetcdfSources.bytes(buffer), "Remaining Bytes"),
+                () -> assertEquals(1, buffer.position(), "Position Unchanged")
+        );
+    }
+
+    @Test
+    void testBytes_Channel(@TempDir Path temp) throws IOException {
+
+        Path file = Files.write(temp.resolve("bytes"), new byte[]{1, 2, 3, 4, 5});
+
+        try (SeekableByteChannel channel = Files.newByteChannel(file, StandardOpenOption.READ)) {
+            channel.position(2);
+            assertArrayEquals(new byte[]{3, 4, 5}, NetcdfSources.bytes(channel), "Remaining Bytes");
+        }
+    }
+
+    @Test
+    void testBytes_TruncatedChannel(@TempDir Path temp) throws IOException {
+
+        Path file = Files.write(temp.resolve("bytes"), new byte[]{1, 2, 3});
+
+        try (SeekableByteChannel channel = Files.newByteChannel(file, StandardOpenOption.READ)) {
+            SeekableByteChannel lying = new ForwardingChannel(channel, 10);
+            assertThrows(EOFException.class, () -> NetcdfSources.bytes(lying));
+        }
+    }
+
+    /**
+     * Channel reporting a larger size than it actually has, e.g. a file truncated while it's being read.
+     */
+    private record ForwardingChannel(SeekableByteChannel delegate, long size) implements SeekableByteChannel {
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            return delegate.read(dst);
+        }
+
+        @Override
+        public int write(ByteBuffer src) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long position() throws IOException {
+            return delegate.position();
+        }
+
+        @Override
+        public SeekableByteChannel position(long newPosition) throws IOException {
+            delegate.position(newPosition);
+            return this;
+        }
+
+        @Override
+        public SeekableByteChannel truncate(long size) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean isOpen() {
+            return delegate.isOpen();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.stellarsunset.netcdf;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ProjectedGridTest {
+
+    private static final Projection PROJECTION = new Projection.LambertConformal(38.5, 38.5, 38.5, -97.5, 0., 0., Projection.DEFAULT_EARTH_RADIUS);
+
+    private static final ProjectedGrid GRID = ProjectedGrid.of(PROJECTION, -30_000., 3000., 20, -15_000., 3000., 10);
+
+    @Test
+    void testNearest_RoundTrip() {
+
+        double[] latLon = new double[2];
+
+        for (int i0 = 0; i0 < GRID.yMax(); i0++) {
+            for (int i1 = 0; i1 < GRID.xMax(); i1++) {
+                GRID.latLon(i0, i1, latLon);
+                assertEquals(new GridIndex.Cell(i0, i1), GRID.nearestCell(latLon[0], latLon[1]), "Cell " + i0 + ", " + i1);
+            }
+        }
+    }
+
+    @Test
+    void testNearest_OutsideGrid() {
+        assertAll(
+                () -> assertEquals(-1, GRID.nearest(10., -97.5), "South"),
+                () -> assertNull(GRID.nearestCell(38.5, -60.), "East")
+        );
+    }
+
+    @Test
+    void testFillRow() {
+
+        double[] latitudes = new double[GRID.xMax()];
+        double[] longitudes = new double[GRID.xMax()];
+
+        GRID.fillRow(5, latitudes, longitudes);
+
+        double[] latLon = new double[2];
+        GRID.latLon(5, 10, latLon);
+
+        assertAll(
+                () -> assertEquals(latLon[0], latitudes[10], "Latitude"),
+                () -> assertEquals(latLon[1], longitudes[10], "Longitude"),
+                () -> assertEquals(38.5, latitudes[10], 1e-6, "Origin Latitude"),
+                () -> assertEquals(-97.5, longitudes[10], 1e-6, "Origin Longitude"),
+                () -> assertThrows(IllegalArgumentException.class, () -> GRID.fillRow(0, new double[1], new double[1]), "Too Short")
+        );
+    }
+
+    @Test
+    void testBindIndex() {
+
+        IndexBinding.D2<double[]> binding = GRID.bindIndex((r, lat, lon) -> {
+            r[0] = lat;
+            r[1] = lon;
+            return r;
+        });
+
+        double[] latLon = new double[2];
+        GRID.latLon(3, 4, latLon);
+
+        double[] record = binding.set(new double[2], 3, 4);
+
+        assertAll(
+                () -> assertEquals(latLon[0], record[0], "Latitude"),
+                () -> assertEquals(latLon[1], record[1], "Longitude"),
+                () -> assertDoesNotThrow(() -> GRID.checkShape(GRID.yMax(), GRID.xMax()), "Matching Shape"),
+                () -> assertThrows(IllegalArgumentException.class, () -> GRID.checkShape(GRID.xMax(), GRID.yMax()), "Mismatched Shape")
+        );
+    }
+}
@@ -0,0 +1,113 @@
+package io.github.stellarsunset.netcdf;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ProjectionTest {
+
+    /**
+     * The HRRR CONUS grid, tangent at 38.5N.
+     */
+    private static final Projection HRRR = new Projection.LambertConformal(38.5, 38.5, 38.5, -97.5, 0., 0., Projection.DEFAULT_EARTH_RADIUS);
+
+    @Test
+    void testLambertConformal_Origin() {
+
+        double[] xy = new double[2];
+        HRRR.project(38.5, -97.5, xy);
+
+        assertAll(
+                () -> assertEquals(0., xy[0], 1e-6, "X"),
+                () -> assertEquals(0., xy[1], 1e-6, "Y")
+        );
+    }
+
+    @Test
+    void testLambertConformal_HrrrCorners() {
+
+        double[] xy = new double[2];
+        HRRR.project(21.138123, -122.719528, xy);
+
+        ProjectedGrid grid = ProjectedGrid.of(HRRR, xy[0], 3000., 1799, xy[1], 3000., 1059);
+
+        double[] latLon = new double[2];
+        grid.latLon(1058, 1798, latLon);
+
+        assertAll(
+                () -> assertEquals(47.842195, latLon[0], 1e-3, "Last Latitude"),
+                () -> assertEquals(-60.917173, latLon[1], 1e-3, "Last Longitude")
+        );
+    }
+
+    @Test
+    void testRoundTrip() {
+
+        List<Projection> projections = List.of(
+                HRRR,
+                new Projection.LambertConformal(25., 45., 35., -100., 1000., -2000., 6371000.),
+                new Projection.LambertConformal(-30., -60., -45., 140., 0., 0., 6371000.),
+                new Projection.PolarStereographic(true, -105., Projection.PolarStereographic.scaleAtStandardParallel(60.), 0., 0., 6371229.),
+                new Projection.PolarStereographic(false, 0., 1., 500., 500., 6371229.),
+                new Projection.Mercator(20., -150., 0., 0., 6371229.)
+        );
+
+        double[][] positions = {{40., -100.}, {60., -150.}, {-60., 150.}, {10., 170.}, {-20., -10.}};
+
+        double[] xy = new double[2];
+        double[] latLon = new double[2];
+
+        for (Projection projection : projections) {
+            for (double[] position : positions) {
+                // skip positions on the far side of the projection's pole
+                if (projection instanceof Projection.PolarStereographic p && p.north() != position[0] > 0) {
+                    continue;
+                }
+
+                projection.project(position[0], position[1], xy);
+                projection.unproject(xy[0], xy[1], latLon);
+
+                assertAll(
+                        () -> assertEquals(position[0], latLon[0], 1e-8, projection + " Latitude"),
+                        () -> assertEquals(position[1], latLon[1], 1e-8, projection + " Longitude")
+                );
+            }
+        }
+    }
+
+    @Test
+    void testPolarStereographic_Pole() {
+
+        Projection projection = new Projection.PolarStereographic(true, -105., 1., 0., 0., 6371229.);
+
+        double[] xy = new double[2];
+        projection.project(90., 0., xy);
+
+        double[] below = new double[2];
+        projection.project(80., -105., below);
+
+        assertAll(
+                () -> assertEquals(0., xy[0], 1e-6, "Pole X"),
+                () -> assertEquals(0., xy[1], 1e-6, "Pole Y"),
+                () -> assertEquals(0., below[0], 1e-6, "Meridian X"),
+                () -> assertEquals(true, below[1] < 0, "Meridian Points Down")
+        );
+    }
+
+    @Test
+    void testMercator_Equator() {
+
+        Projection projection = new Projection.Mercator(0., 0., 0., 0., 6371229.);
+
+        double[] xy = new double[2];
+        projection.project(0., 1., xy);
+
+        assertAll(
+                () -> assertEquals(6371229. * Math.toRadians(1.), xy[0], 1e-6, "X"),
+                () -> assertEquals(0., xy[1], 1e-6, "Y")
+        );
+    }
+}
@@ -0,0 +1,98 @@
+package io.github.stellarsunset.netcdf;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ucar.ma2.DataType;
+import ucar.nc2.NetcdfFile;
+import ucar.nc2.NetcdfFiles;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReadMetricsTest {
+
+    private static File FILE;
+
+    private static final SchemaBinding<Object> BINDING = SchemaBinding.<Object>builder()
+            .recordInitializer(Object::new)
+            .intDimensionVariable("x", (o, v) -> o)
+            .intDimensionVariable("y", (o, v) -> o)
+            .doubleCoordinateVariable("double", (o, v) -> o)
+            .build();
+
+    @BeforeAll
+    static void setup(@TempDir Path temp) {
+        FILE = temp.resolve("test-data.nc").toFile();
+
+        var generator = new NetcdfFileGenerator.XY(10, 20);
+
+        generator.writeVariables(
+                FILE,
+                NetcdfFileGenerator.varSpec("double", DataType.DOUBLE)
+        );
+    }
+
+    @Test
+    void testMetrics() throws IOException {
+
+        ReadMetrics metrics = new ReadMetrics();
+
+        try (NetcdfFile file = NetcdfFiles.open(FILE.getAbsolutePath())) {
+            long records = Hypercube.schemaBound(file, BINDING, ReadOptions.builder().listener(metrics).build()).stream().count();
+            assertEquals(200, records, "Records");
+        }
+
+        assertAll(
+                () -> assertEquals(3, metrics.variableReads(), "Variable Reads"),
+                () -> assertEquals(Map.of("x", 40L, "y", 80L, "double", 1600L), metrics.bytesReadPerVariable(), "Bytes Read"),
+                () -> assertEquals(1720, metrics.bytesRead(), "Total Bytes Read"),
+                () -> assertEquals(1, metrics.cubesCreated(), "Cubes Created"),
+                () -> assertEquals(0, metrics.slabsLoaded(), "Slabs Loaded"),
+                () -> assertEquals(200, metrics.recordsEmitted(), "Records Emitted"),
+                () -> assertTrue(metrics.validationNanos() > 0, "Validation Time")
+        );
+    }
+
+    @Test
+    void testMetrics_Streaming() throws IOException {
+
+        ReadMetrics metrics = new ReadMetrics();
+        ReadOptions options = ReadOptions.builder().slabSize(4).listener(metrics).build();
+
+        try (NetcdfFile file = NetcdfFiles.open(FILE.getAbsolutePath())) {
+            Hypercube.schemaBound(file, BINDING, options).stream().count();
+        }
+
+        assertAll(
+                () -> assertEquals(2 + 3, metrics.variableReads(), "Variable Reads"),
+                () -> assertEquals(3, metrics.slabsLoaded(), "Slabs Loaded"),
+                () -> assertEquals(1600, metrics.bytesReadPerVariable().get("double"), "Bytes Read"),
+                () -> assertEquals(200, metrics.recordsEmitted(), "Records Emitted")
+        );
+    }
+
+    @Test
+    void testMetrics_StreamingPointQueries() throws IOException {
+
+        ReadMetrics metrics = new ReadMetrics();
+        ReadOptions options = ReadOptions.builder().slabSize(2).listener(metrics).build();
+
+        // alternate between the first and last slabs, read in request order this would load a slab per point
+        int[] i0 = {9, 0, 8, 1, 9, 0};
+        int[] i1 = {0, 1, 2, 3, 4, 5};
+
+        try (NetcdfFile file = NetcdfFiles.open(FILE.getAbsolutePath())) {
+            Hypercube.D2<Object> cube = (Hypercube.D2<Object>) Hypercube.schemaBound(file, BINDING, options);
+            assertEquals(6, cube.readAll(i0, i1).size(), "Records");
+        }
+
+        assertEquals(2, metrics.slabsLoaded(), "Slabs Loaded");
+    }
+}
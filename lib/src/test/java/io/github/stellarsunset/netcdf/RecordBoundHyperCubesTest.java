@@ -0,0 +1,185 @@
+package io.github.stellarsunset.netcdf;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ucar.ma2.DataType;
+import ucar.nc2.NetcdfFile;
+import ucar.nc2.NetcdfFiles;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RecordBoundHyperCubesTest {
+
+    private static File FILE;
+
+    @BeforeAll
+    static void setup(@TempDir Path temp) {
+        FILE = temp.resolve("test-data.nc").toFile();
+        new NetcdfFileGenerator.XY(10, 20).writeVariables(FILE, NetcdfFileGenerator.varSpec("double", DataType.DOUBLE));
+    }
+
+    @Test
+    void testRecordBound() throws IOException {
+        try (NetcdfFile file = NetcdfFiles.open(FILE.getAbsolutePath())) {
+
+            Hypercube<Cell> cube = Hypercube.recordBound(file, new CellBinding());
+            Hypercube.D2<Cell> d2 = assertInstanceOf(Hypercube.D2.class, cube, "D2");
+
+            assertAll(
+                    () -> assertEquals(10, d2.d0Max(), "D0 Max"),
+                    () -> assertEquals(20, d2.d1Max(), "D1 Max"),
+                    () -> assertEquals(3, d2.read(3, 7).x(), "X"),
+                    () -> assertEquals(7, d2.read(3, 7).y(), "Y"),
+                    () -> assertEquals(200, d2.stream().toList().size(), "Records")
+            );
+        }
+    }
+
+    @Test
+    void testRecordBound_Streaming() throws IOException {
+        try (NetcdfFile file = NetcdfFiles.open(FILE.getAbsolutePath())) {
+
+            ReadOptions options = ReadOptions.builder().slabSize(3).build();
+            Hypercube.D2<Cell> d2 = (Hypercube.D2<Cell>) Hypercube.recordBound(file, new CellBinding(), options);
+
+            List<Cell> cells = d2.stream().toList();
+
+            assertAll(
+                    () -> assertEquals(200, cells.size(), "Records"),
+                    () -> assertEquals(new Cell(9, 19, cells.getLast().value()), cells.getLast(), "Last"),
+                    () -> assertEquals(5, d2.read(5, 2).x(), "X"),
+                    () -> assertEquals(2, d2.read(5, 2).y(), "Y")
+            );
+        }
+    }
+
+    @Test
+    void testRecordBound_ViewCache(@TempDir Path temp) throws IOException {
+
+        ViewCache cache = ViewCache.builder().directory(temp).build();
+
+        ReadMetrics first = new ReadMetrics();
+        ReadMetrics second = new ReadMetrics();
+
+        List<Cell> materialized = read(ReadOptions.builder().viewCache(cache).listener(first).build());
+        List<Cell> cached = read(ReadOptions.builder().viewCache(cache).listener(second).build());
+
+        assertAll(
+                () -> assertEquals(read(ReadOptions.defaults()), cached, "Records"),
+                () -> assertEquals(materialized, cached, "Same as materialized"),
+                () -> assertEquals(1, cache.missCount(), "Misses"),
+                () -> assertEquals(1, cache.hitCount(), "Hits"),
+                () -> assertEquals(3, first.variableReads(), "Decoded on the first read"),
+                () -> assertEquals(0, second.variableReads(), "Served from the view")
+        );
+    }
+
+    @Test
+    void testRecordBound_Canonical() throws IOException {
+        try (NetcdfFile file = NetcdfFiles.open(FILE.getAbsolutePath())) {
+
+            Hypercube.D2<AnnotatedCell> d2 = (Hypercube.D2<AnnotatedCell>) Hypercube.recordBound(file, RecordBinding.canonical(AnnotatedCell.class));
+
+            assertAll(
+                    () -> assertEquals(4, d2.read(4, 11).x(), "X"),
+                    () -> assertEquals(11, d2.read(4, 11).y(), "Y"),
+                    () -> assertEquals(200, d2.stream().toList().size(), "Records")
+            );
+        }
+    }
+
+    @Test
+    void testRecordBound_MissingVariable() throws IOException {
+        try (NetcdfFile file = NetcdfFiles.open(FILE.getAbsolutePath())) {
+
+            RecordBinding<Cell> binding = new CellBinding() {
+                @Override
+                public List<Column> columns() {
+                    return List.of(
+                            Column.dimension("x", "x", Type.INT),
+                            Column.dimension("y", "y", Type.INT),
+                            Column.coordinate("missing", Type.DOUBLE)
+                    );
+                }
+            };
+
+            assertThrows(IllegalArgumentException.class, () -> Hypercube.recordBound(file, binding));
+        }
+    }
+
+    @Test
+    void testRecordBound_Broadcast() throws IOException {
+        try (NetcdfFile file = NetcdfFiles.open(FILE.getAbsolutePath())) {
+
+            RecordBinding<Cell> binding = new CellBinding() {
+                @Override
+                public List<Column> columns() {
+                    return List.of(
+                            Column.coordinate("x", Type.INT),
+                            Column.dimension("y", "y", Type.INT),
+                            Column.coordinate("double", Type.DOUBLE)
+                    );
+                }
+            };
+
+            assertThrows(IllegalArgumentException.class, () -> Hypercube.recordBound(file, binding));
+        }
+    }
+
+    @Test
+    void testSchema_Cached() {
+        CellBinding binding = new CellBinding();
+        assertEquals(RecordBoundHyperCubes.schema(binding), RecordBoundHyperCubes.schema(binding), "Same Schema");
+    }
+
+    private static List<Cell> read(ReadOptions options) throws IOException {
+        try (NetcdfFile file = NetcdfFiles.open(FILE.getAbsolutePath())) {
+            return Hypercube.recordBound(file, new CellBinding(), options).stream().toList();
+        }
+    }
+
+    record Cell(int x, int y, double value) {
+    }
+
+    record AnnotatedCell(@DimensionVariable(dim = "x") int x, @DimensionVariable(dim = "y") int y,
+                         @CoordinateVariable("double") double value) {
+    }
+
+    /**
+     * Hand-written equivalent of what the annotation processor generates.
+     */
+    static class CellBinding implements RecordBinding<Cell> {
+
+        @Override
+        public List<Column> columns() {
+            return List.of(
+                    Column.dimension("x", "x", Type.INT),
+                    Column.dimension("y", "y", Type.INT),
+                    Column.coordinate("double", Type.DOUBLE)
+            );
+        }
+
+        @Override
+        public RecordFactory<Cell> factory(Columns columns) {
+            int[] x = columns.ints(0);
+            int ax = columns.axis(0);
+            int[] y = columns.ints(1);
+            int ay = columns.axis(1);
+            double[] value = columns.doubles(2);
+            return (offset, i0, i1, i2, i3) -> new Cell(
+                    x[RecordBinding.select(ax, i0, i1, i2, i3)],
+                    y[RecordBinding.select(ay, i0, i1, i2, i3)],
+                    value[offset]
+            );
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package io.github.stellarsunset.netcdf;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RecordSinkTest {
+
+    @Test
+    void testDrainD1() throws IOException {
+
+        Hypercube.D1<String> cube = new HypercubeTest.D1Cube<>(new String[]{"a", "b", "c", "d", "e"});
+
+        RecordingSink<String> sink = new RecordingSink<>();
+        cube.drainTo(sink, 2);
+
+        assertEquals(List.of("[a, b]", "[c, d]", "[e]", "flush"), sink.events, "Events");
+    }
+
+    @Test
+    void testDrainD2_FlushPerSlab() throws IOException {
+
+        Integer[][] elements = new Integer[][]{new Integer[]{0, 1, 2}, new Integer[]{2, 4, 6}};
+        Hypercube.D2<Integer> cube = new HypercubeTest.D2Cube<>(elements);
+
+        RecordingSink<Integer> sink = new RecordingSink<>();
+        cube.drainTo(sink, 2);
+
+        assertEquals(List.of("[0, 1]", "[2]", "flush", "[2, 4]", "[6]", "flush"), sink.events, "Events");
+    }
+
+    @Test
+    void testDrainD3_FullBatches() throws IOException {
+
+        Integer[][][] elements = new Integer[][][]{
+                new Integer[][]{new Integer[]{1, 2}, new Integer[]{3, 4}},
+                new Integer[][]{new Integer[]{5, 6}, new Integer[]{7, 8}}
+        };
+        Hypercube.D3<Integer> cube = new HypercubeTest.D3Cube<>(elements);
+
+        RecordingSink<Integer> sink = new RecordingSink<>();
+        cube.drainTo(sink, 4);
+
+        assertEquals(List.of("[1, 2, 3, 4]", "flush", "[5, 6, 7, 8]", "flush"), sink.events, "Events");
+    }
+
+    @Test
+    void testBatchIsReadOnly() {
+
+        Hypercube.D1<String> cube = new HypercubeTest.D1Cube<>(new String[]{"a"});
+
+        RecordSink<String> sink = batch -> batch.add("b");
+        assertThrows(UnsupportedOperationException.class, () -> cube.drainTo(sink, 1));
+    }
+
+    @Test
+    void testCloseFlushes() throws IOException {
+
+        RecordingSink<String> sink = new RecordingSink<>();
+        sink.close();
+
+        assertAll(
+                () -> assertEquals(List.of("flush"), sink.events, "Events"),
+                () -> assertThrows(IllegalArgumentException.class, () -> new HypercubeTest.D1Cube<>(new String[0]).drainTo(sink, 0), "Bad Batch Size")
+        );
+    }
+
+    static final class RecordingSink<T> implements RecordSink<T> {
+
+        private final List<String> events = new ArrayList<>();
+
+        @Override
+        public void accept(List<T> batch) {
+            events.add(batch.toString());
+        }
+
+        @Override
+        public void flush() {
+            events.add("flush");
+        }
+    }
+}
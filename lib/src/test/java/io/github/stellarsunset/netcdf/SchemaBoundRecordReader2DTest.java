@@ -123,6 +123,36 @@ class SchemaBoundRecordReader2DTest {
         );
     }
 
+    @Test
+    void test2D_ProjectedGrid() throws IOException {
+
+        var projection = new Projection.LambertConformal(38.5, 38.5, 38.5, -97.5, 0., 0., Projection.DEFAULT_EARTH_RADIUS);
+        var grid = ProjectedGrid.of(projection, 0., 3000., 180, 0., 3000., 90);
+
+        var binding = SchemaBinding.<Data2D.Builder>builder()
+                .recordInitializer(Data2D::builder)
+                .byteCoordinateVariable("byte", (b, v) -> b.variable("byte", v))
+                .projectedGrid(grid, (b, lat, lon) -> b.variable("latitude", lat).variable("longitude", lon))
+                .build();
+
+        Hypercube.D2<Data2D> streaming = (Hypercube.D2<Data2D>) Hypercube.schemaBound(
+                NetcdfFiles.open(FILE.getAbsolutePath()),
+                binding,
+                ReadOptions.builder().slabSize(7).build()
+        ).transform(Data2D.Builder::build);
+
+        double[] latLon = new double[2];
+        grid.latLon(40, 100, latLon);
+
+        Data2D record = streaming.read(40, 100);
+
+        assertAll(
+                () -> assertEquals(Set.of("byte", "latitude", "longitude"), record.variables().keySet(), "Variables"),
+                () -> assertEquals(latLon[0], record.variables().get("latitude"), "Latitude"),
+                () -> assertEquals(latLon[1], record.variables().get("longitude"), "Longitude")
+        );
+    }
+
     private record Data2D(int x, int y, Map<String, Object> variables) {
 
         private Data2D(Builder builder) {
@@ -9,12 +9,16 @@ import ucar.nc2.NetcdfFiles;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class SchemaBoundRecordReader3DTest {
 
@@ -124,6 +128,177 @@ class SchemaBoundRecordReader3DTest {
         );
     }
 
+    @Test
+    void test3D_Streaming() throws IOException {
+
+        var binding = SchemaBinding.<Data3D.Builder>builder()
+                .recordInitializer(Data3D::builder)
+                .intDimensionVariable("x", Data3D.Builder::x)
+                .intDimensionVariable("y", Data3D.Builder::y)
+                .intDimensionVariable("z", Data3D.Builder::z)
+                .byteCoordinateVariable("byte", (b, v) -> b.variable("byte", v))
+                .doubleCoordinateVariable("double", (b, v) -> b.variable("double", v))
+                .build();
+
+        Hypercube.D3<Data3D> eager = (Hypercube.D3<Data3D>) Hypercube.schemaBound(
+                NetcdfFiles.open(FILE.getAbsolutePath()),
+                binding
+        ).transform(Data3D.Builder::build);
+
+        Hypercube.D3<Data3D> streaming = (Hypercube.D3<Data3D>) Hypercube.schemaBound(
+                NetcdfFiles.open(FILE.getAbsolutePath()),
+                binding,
+                ReadOptions.builder().slabSize(3).build()
+        ).transform(Data3D.Builder::build);
+
+        assertAll(
+                () -> assertEquals(10, streaming.d0Max(), "D0 Max"),
+                () -> assertEquals(20, streaming.d1Max(), "D1 Max"),
+                () -> assertEquals(30, streaming.d2Max(), "D2 Max"),
+                () -> assertEquals(eager.read(9, 19, 29), streaming.read(9, 19, 29), "Last slab"),
+                () -> assertEquals(eager.read(4, 6, 20), streaming.read(4, 6, 20), "Middle slab"),
+                () -> assertEquals(eager.stream().toList(), streaming.stream().toList(), "Element Stream")
+        );
+    }
+
+    @Test
+    void test3D_Broadcast() throws IOException {
+
+        // the 1D x and z variables are broadcast across the dimensions of the 3D byte variable they don't vary over
+        var binding = SchemaBinding.<Data3D.Builder>builder()
+                .recordInitializer(Data3D::builder)
+                .intCoordinateVariable("x", Data3D.Builder::x)
+                .intCoordinateVariable("z", Data3D.Builder::z)
+                .byteCoordinateVariable("byte", (b, v) -> b.variable("byte", v))
+                .build();
+
+        Hypercube.D3<Data3D> eager = (Hypercube.D3<Data3D>) Hypercube.schemaBound(
+                NetcdfFiles.open(FILE.getAbsolutePath()),
+                binding
+        ).transform(Data3D.Builder::build);
+
+        Hypercube.D3<Data3D> streaming = (Hypercube.D3<Data3D>) Hypercube.schemaBound(
+                NetcdfFiles.open(FILE.getAbsolutePath()),
+                binding,
+                ReadOptions.builder().slabSize(3).build()
+        ).transform(Data3D.Builder::build);
+
+        Data3D record = eager.read(4, 6, 20);
+
+        assertAll(
+                () -> assertEquals(10, eager.d0Max(), "D0 Max"),
+                () -> assertEquals(20, eager.d1Max(), "D1 Max"),
+                () -> assertEquals(30, eager.d2Max(), "D2 Max"),
+                () -> assertEquals(4, record.x(), "Broadcast X"),
+                () -> assertEquals(0, record.y(), "Unbound Y"),
+                () -> assertEquals(20, record.z(), "Broadcast Z"),
+                () -> assertEquals(eager.stream().toList(), streaming.stream().toList(), "Streaming")
+        );
+    }
+
+    @Test
+    void test3D_StreamingInOrder() throws IOException {
+
+        var binding = SchemaBinding.<Data3D.Builder>builder()
+                .recordInitializer(Data3D::builder)
+                .intDimensionVariable("x", Data3D.Builder::x)
+                .intDimensionVariable("y", Data3D.Builder::y)
+                .intDimensionVariable("z", Data3D.Builder::z)
+                .byteCoordinateVariable("byte", (b, v) -> b.variable("byte", v))
+                .build();
+
+        Hypercube.D3<Data3D> eager = (Hypercube.D3<Data3D>) Hypercube.schemaBound(
+                NetcdfFiles.open(FILE.getAbsolutePath()),
+                binding
+        ).transform(Data3D.Builder::build);
+
+        ReadMetrics metrics = new ReadMetrics();
+        Hypercube.D3<Data3D> streaming = (Hypercube.D3<Data3D>) Hypercube.schemaBound(
+                NetcdfFiles.open(FILE.getAbsolutePath()),
+                binding,
+                ReadOptions.builder().slabSize(3).listener(metrics).build()
+        ).transform(Data3D.Builder::build);
+
+        // z before y within each slab of x
+        List<Data3D> permuted = streaming.stream(new int[]{0, 2, 1}).toList();
+
+        assertAll(
+                () -> assertTrue(streaming.streaming(), "Streaming"),
+                () -> assertEquals(eager.stream(new int[]{0, 2, 1}).toList(), permuted, "Same as in memory"),
+                () -> assertEquals(4, metrics.slabsLoaded(), "Each slab loaded once"),
+                () -> assertThrows(IllegalArgumentException.class, () -> streaming.stream(new int[]{1, 0, 2}), "Not led by axis 0"),
+                () -> assertEquals(600, streaming.slice(0, 4).stream(new int[]{1, 0}).count(), "Any order within a slice of one x")
+        );
+    }
+
+    @Test
+    void test3D_StreamInOrder_Finalizer() throws IOException {
+
+        List<Data3D> finalized = new ArrayList<>();
+
+        var binding = SchemaBinding.<Data3D.Builder>builder()
+                .recordInitializer(Data3D::builder)
+                .intDimensionVariable("x", Data3D.Builder::x)
+                .intDimensionVariable("y", Data3D.Builder::y)
+                .intDimensionVariable("z", Data3D.Builder::z)
+                .byteCoordinateVariable("byte", (b, v) -> b.variable("byte", v))
+                .recordFinalizer(b -> finalized.add(b.build()))
+                .build();
+
+        Hypercube.D3<Data3D> cube = (Hypercube.D3<Data3D>) Hypercube.schemaBound(
+                NetcdfFiles.open(FILE.getAbsolutePath()),
+                binding
+        ).transform(Data3D.Builder::build);
+
+        // z before y, an order not ending with the innermost dimension
+        List<Data3D> permuted = cube.stream(new int[]{0, 2, 1}).toList();
+
+        assertAll(
+                () -> assertEquals(6000, permuted.size(), "Records"),
+                () -> assertEquals(new Data3D(0, 1, 0, permuted.get(1).variables()), permuted.get(1), "Second Record"),
+                () -> assertEquals(permuted, finalized, "Finalized In The Requested Order")
+        );
+    }
+
+    @Test
+    void test3D_ProjectedGrid_Finalizer() throws IOException {
+
+        var projection = new Projection.LambertConformal(38.5, 38.5, 38.5, -97.5, 0., 0., Projection.DEFAULT_EARTH_RADIUS);
+        var grid = ProjectedGrid.of(projection, 0., 3000., 30, 0., 3000., 20);
+
+        List<Data3D> finalized = new ArrayList<>();
+
+        var binding = SchemaBinding.<Data3D.Builder>builder()
+                .recordInitializer(Data3D::builder)
+                .byteCoordinateVariable("byte", (b, v) -> b.variable("byte", v))
+                .projectedGrid(grid, (b, lat, lon) -> b.variable("latitude", lat).variable("longitude", lon))
+                .recordFinalizer(b -> finalized.add(b.build()))
+                .build();
+
+        Hypercube.D3<Data3D> cube = (Hypercube.D3<Data3D>) Hypercube.schemaBound(
+                NetcdfFiles.open(FILE.getAbsolutePath()),
+                binding
+        ).transform(Data3D.Builder::build);
+
+        double[] latLon = new double[2];
+        grid.latLon(6, 20, latLon);
+
+        cube.read(4, 6, 20);
+
+        var mismatched = SchemaBinding.<Data3D.Builder>builder()
+                .recordInitializer(Data3D::builder)
+                .byteCoordinateVariable("byte", (b, v) -> b.variable("byte", v))
+                .projectedGrid(ProjectedGrid.of(projection, 0., 3000., 20, 0., 3000., 30), (b, lat, lon) -> b)
+                .build();
+
+        assertAll(
+                () -> assertEquals(1, finalized.size(), "Finalized"),
+                () -> assertEquals(latLon[0], finalized.getFirst().variables().get("latitude"), "Latitude Before Finalizer"),
+                () -> assertEquals(latLon[1], finalized.getFirst().variables().get("longitude"), "Longitude Before Finalizer"),
+                () -> assertThrows(IllegalArgumentException.class, () -> Hypercube.schemaBound(NetcdfFiles.open(FILE.getAbsolutePath()), mismatched), "Mismatched Shape")
+        );
+    }
+
     @Test
     void test3D_OmitDimensions() throws IOException {
 
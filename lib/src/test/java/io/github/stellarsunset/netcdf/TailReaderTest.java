@@ -0,0 +1,208 @@
+package io.github.stellarsunset.netcdf;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ucar.ma2.ArrayDouble;
+import ucar.ma2.ArrayInt;
+import ucar.ma2.DataType;
+import ucar.ma2.InvalidRangeException;
+import ucar.nc2.Dimension;
+import ucar.nc2.NetcdfFile;
+import ucar.nc2.NetcdfFiles;
+import ucar.nc2.write.NetcdfFormatWriter;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TailReaderTest {
+
+    private static final int X_MAX = 3;
+
+    private static final SchemaBinding<Observation> BINDING = SchemaBinding.<Observation>builder()
+            .recordInitializer(Observation::new)
+            .intDimensionVariable("time", (o, v) -> o.time(v))
+            .intDimensionVariable("x", (o, v) -> o.x(v))
+            .doubleCoordinateVariable("value", (o, v) -> o.value(v))
+            .build();
+
+    @Test
+    void testPoll(@TempDir Path temp) throws IOException {
+
+        File growing = temp.resolve("growing.nc").toFile();
+        create(growing, 2);
+
+        try (NetcdfFile file = NetcdfFiles.open(growing.getAbsolutePath())) {
+
+            TailReader<Observation> reader = TailReader.schemaBound(file, BINDING);
+
+            List<Observation> first = reader.poll().stream().toList();
+            assertAll(
+                    () -> assertEquals(6, first.size(), "First Poll"),
+                    () -> assertEquals(2, reader.consumed(), "Consumed")
+            );
+
+            append(growing, 2, 3);
+
+            List<Observation> second = reader.poll().stream().toList();
+            assertAll(
+                    () -> assertEquals(9, second.size(), "Second Poll"),
+                    () -> assertEquals(2, second.getFirst().time, "First New Time"),
+                    () -> assertEquals(4, second.getLast().time, "Last New Time"),
+                    () -> assertEquals(4 * X_MAX + 2, second.getLast().value, "Last New Value"),
+                    () -> assertEquals(5, reader.consumed(), "Consumed")
+            );
+
+            assertEquals(0, reader.poll().stream().count(), "Empty Poll");
+        }
+    }
+
+    @Test
+    void testPoll_Streaming(@TempDir Path temp) throws IOException {
+
+        File growing = temp.resolve("growing.nc").toFile();
+        create(growing, 5);
+
+        ReadMetrics metrics = new ReadMetrics();
+
+        try (NetcdfFile file = NetcdfFiles.open(growing.getAbsolutePath())) {
+
+            TailReader<Observation> reader = TailReader.schemaBound(file, BINDING, ReadOptions.builder().slabSize(2).listener(metrics).build(), 3);
+
+            List<Observation> records = reader.poll().stream().toList();
+            assertAll(
+                    () -> assertEquals(6, records.size(), "Records"),
+                    () -> assertEquals(3, records.getFirst().time, "First Time"),
+                    () -> assertEquals(1, metrics.slabsLoaded(), "Slabs Loaded")
+            );
+        }
+    }
+
+    @Test
+    void testPoll_MemoryBudget(@TempDir Path temp) throws Exception {
+
+        File growing = temp.resolve("growing.nc").toFile();
+        create(growing, 10);
+
+        // the time and x dimension variables (52 bytes) plus two 24 byte rows of values
+        MemoryBudget budget = MemoryBudget.builder().maximumBytes(100).build();
+        ReadMetrics metrics = new ReadMetrics();
+
+        try (NetcdfFile file = NetcdfFiles.open(growing.getAbsolutePath())) {
+
+            TailReader<Observation> reader = TailReader.schemaBound(file, BINDING, ReadOptions.builder().memoryBudget(budget).listener(metrics).build(), 4);
+
+            Hypercube<Observation> cube = reader.poll();
+            List<Observation> records = cube.stream().toList();
+
+            assertAll(
+                    () -> assertEquals(18, records.size(), "Records"),
+                    () -> assertEquals(4, records.getFirst().time, "First Time"),
+                    () -> assertEquals(3, metrics.slabsLoaded(), "Slabs Sized To Fit"),
+                    () -> assertEquals(100, budget.reservedBytes(), "Reserved")
+            );
+
+            cube.close();
+            assertEquals(0, budget.reservedBytes(), "Released");
+        }
+    }
+
+    @Test
+    void testNotUnlimited(@TempDir Path temp) throws IOException {
+
+        File fixed = temp.resolve("fixed.nc").toFile();
+        new NetcdfFileGenerator.XY(2, X_MAX).writeVariables(fixed, NetcdfFileGenerator.varSpec("double", DataType.DOUBLE));
+
+        SchemaBinding<Object> binding = SchemaBinding.<Object>builder()
+                .recordInitializer(Object::new)
+                .doubleCoordinateVariable("double", (o, v) -> o)
+                .build();
+
+        try (NetcdfFile file = NetcdfFiles.open(fixed.getAbsolutePath())) {
+            TailReader<Object> reader = TailReader.schemaBound(file, binding);
+            assertThrows(IllegalArgumentException.class, reader::poll);
+        }
+    }
+
+    /**
+     * Create a file with an unlimited time dimension containing the given number of records.
+     */
+    private static void create(File file, int records) throws IOException {
+
+        NetcdfFormatWriter.Builder builder = NetcdfFormatWriter.createNewNetcdf3(file.getAbsolutePath());
+
+        Dimension time = builder.addUnlimitedDimension("time");
+        Dimension x = builder.addDimension("x", X_MAX);
+
+        builder.addVariable("time", DataType.INT, List.of(time));
+        builder.addVariable("x", DataType.INT, List.of(x));
+        builder.addVariable("value", DataType.DOUBLE, List.of(time, x));
+
+        try (NetcdfFormatWriter writer = builder.build()) {
+
+            ArrayInt xData = new ArrayInt.D1(X_MAX, false);
+            for (int i = 0; i < X_MAX; i++) {
+                xData.setInt(i, i);
+            }
+            writer.write(writer.findVariable("x"), xData);
+
+        } catch (InvalidRangeException e) {
+            throw new IllegalArgumentException("Bad range for write.", e);
+        }
+
+        append(file, 0, records);
+    }
+
+    /**
+     * Append records along the time dimension, the value of each cell is {@code time * X_MAX + x}.
+     */
+    private static void append(File file, int start, int records) throws IOException {
+        try (NetcdfFormatWriter writer = NetcdfFormatWriter.openExisting(file.getAbsolutePath()).build()) {
+
+            ArrayInt timeData = new ArrayInt.D1(records, false);
+            ArrayDouble valueData = new ArrayDouble.D2(records, X_MAX);
+
+            for (int t = 0; t < records; t++) {
+                timeData.setInt(t, start + t);
+                for (int i = 0; i < X_MAX; i++) {
+                    valueData.setDouble(t * X_MAX + i, (start + t) * X_MAX + i);
+                }
+            }
+
+            writer.write("time", new int[]{start}, timeData);
+            writer.write("value", new int[]{start, 0}, valueData);
+
+        } catch (InvalidRangeException e) {
+            throw new IllegalArgumentException("Bad range for write.", e);
+        }
+    }
+
+    private static final class Observation {
+
+        private int time;
+
+        private int x;
+
+        private double value;
+
+        Observation time(int time) {
+            this.time = time;
+            return this;
+        }
+
+        Observation x(int x) {
+            this.x = x;
+            return this;
+        }
+
+        Observation value(double value) {
+            this.value = value;
+            return this;
+        }
+    }
+}
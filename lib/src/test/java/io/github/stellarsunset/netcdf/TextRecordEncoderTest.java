@@ -0,0 +1,120 @@
+package io.github.stellarsunset.netcdf;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TextRecordEncoderTest {
+
+    @Test
+    void testCsv() throws IOException {
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (TextRecordEncoder csv = TextRecordEncoder.csv(bytes, List.of("x", "temperature", "flag", "code"))) {
+            csv.writeHeader();
+
+            // bindings are invoked out of column order, as they may be by the hypercube
+            write(csv, r -> {
+                csv.floatField("temperature").accept(r, 273.15f);
+                csv.intField("x").accept(r, -12);
+                csv.boolField("flag").accept(r, true);
+                csv.charField("code").accept(r, ',');
+            });
+            write(csv, r -> csv.doubleField("temperature").accept(r, Double.NaN));
+            write(csv, r -> csv.longField("x").accept(r, Long.MIN_VALUE));
+        }
+
+        assertEquals("""
+                x,temperature,flag,code
+                -12,273.15,true,","
+                ,NaN,,
+                -9223372036854775808,,,
+                """, bytes.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testNdjson() throws IOException {
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (TextRecordEncoder json = TextRecordEncoder.ndjson(bytes, List.of("x", "value", "code"))) {
+            write(json, r -> {
+                json.charField("code").accept(r, '"');
+                json.shortField("x").accept(r, (short) 7);
+                json.doubleField("value").accept(r, 1.0E-7);
+            });
+            write(json, r -> json.floatField("value").accept(r, Float.POSITIVE_INFINITY));
+            write(json, r -> json.charField("code").accept(r, 'é'));
+        }
+
+        assertEquals("""
+                {"x":7,"value":1.0E-7,"code":"\\""}
+                {"value":null}
+                {"code":"é"}
+                """, bytes.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testShortestFloatingPointRepresentation() throws IOException {
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (TextRecordEncoder csv = TextRecordEncoder.csv(bytes, List.of("f", "d"))) {
+            write(csv, r -> {
+                csv.floatField("f").accept(r, 0.1f);
+                csv.doubleField("d").accept(r, 0.1 + 0.2);
+            });
+        }
+
+        assertEquals("0.1,0.30000000000000004\n", bytes.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testBuffering() throws IOException {
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        TextRecordEncoder csv = TextRecordEncoder.csv(bytes, List.of("x"), 8);
+
+        for (int i = 0; i < 5; i++) {
+            int value = i;
+            write(csv, r -> csv.intField("x").accept(r, value * 111));
+        }
+
+        String beforeFlush = bytes.toString(StandardCharsets.UTF_8);
+        csv.flush();
+
+        assertAll(
+                () -> assertEquals("0\n111\n222\n333\n", beforeFlush, "Written in blocks before flush"),
+                () -> assertEquals("0\n111\n222\n333\n444\n", bytes.toString(StandardCharsets.UTF_8), "Written after flush")
+        );
+    }
+
+    @Test
+    void testBadColumns() {
+        TextRecordEncoder csv = TextRecordEncoder.csv(new ByteArrayOutputStream(), List.of("x"));
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> csv.intField("y"), "Unknown column"),
+                () -> assertThrows(IllegalArgumentException.class, () -> TextRecordEncoder.csv(new ByteArrayOutputStream(), List.of("x", "x")), "Duplicate column"),
+                () -> assertThrows(IllegalStateException.class, () -> TextRecordEncoder.ndjson(new ByteArrayOutputStream(), List.of("x")).writeHeader(), "NDJSON header")
+        );
+    }
+
+    private static void write(TextRecordEncoder encoder, Binder binder) throws IOException {
+        TextRecordEncoder record = encoder.recordInitializer().get();
+        binder.bind(record);
+        encoder.recordFinalizer().accept(record);
+    }
+
+    @FunctionalInterface
+    private interface Binder {
+        void bind(TextRecordEncoder record);
+    }
+}
@@ -26,7 +26,11 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 class ValidatedBindingTest {
 
@@ -93,19 +97,64 @@ class ValidatedBindingTest {
 
         SchemaBinding<String> binding = SchemaBinding.<String>builder()
                 .recordInitializer(() -> "")
-                .intCoordinateVariable("x", (b, v) -> b + v)
-                .intCoordinateVariable("xy", (b, y) -> b + y)
+                .intCoordinateVariable("xy", (b, v) -> b + v)
+                .intCoordinateVariable("zy", (b, v) -> b + v)
                 .build();
 
         Optional<ValidatedBinding.Validator.Error> error = validate(binding).map(this::unwrap);
 
         Multimap<String, String> errorContent = HashMultimap.create();
         errorContent.put("x,y", "xy");
-        errorContent.put("x", "x");
+        errorContent.put("z,y", "zy");
+
+        assertEquals(Optional.of(new MismatchedCoordinateVariableDimensions(errorContent)), error);
+    }
+
+    @Test
+    void testMismatchedCoordinateVariableDimensions_NotASubset() {
+
+        SchemaBinding<String> binding = SchemaBinding.<String>builder()
+                .recordInitializer(() -> "")
+                .intCoordinateVariable("zy", (b, v) -> b + v)
+                .intCoordinateVariable("xyz", (b, v) -> b + v)
+                .build();
+
+        Optional<ValidatedBinding.Validator.Error> error = validate(binding).map(this::unwrap);
+
+        Multimap<String, String> errorContent = HashMultimap.create();
+        errorContent.put("z,y", "zy");
+        errorContent.put("x,y,z", "xyz");
 
         assertEquals(Optional.of(new MismatchedCoordinateVariableDimensions(errorContent)), error);
     }
 
+    @Test
+    void testBroadcastCoordinateVariables() throws IOException {
+
+        SchemaBinding<String> binding = SchemaBinding.<String>builder()
+                .recordInitializer(() -> "")
+                .intDimensionVariable("z", "z", (b, v) -> b + v)
+                .intCoordinateVariable("x", (b, v) -> b + v)
+                .intCoordinateVariable("xy", (b, v) -> b + v)
+                .intCoordinateVariable("xyz", (b, v) -> b + v)
+                .build();
+
+        try (NetcdfFile file = NetcdfFiles.open(FILE.getAbsolutePath())) {
+
+            ValidatedBinding<String> validated = new ValidatedBinding.Validator<>(file, binding).validate().left().orElseThrow();
+            List<Dimension> dimensions = validated.dimensions();
+
+            assertAll(
+                    () -> assertInstanceOf(ValidatedBinding.D3.class, validated, "D3"),
+                    () -> assertArrayEquals(new int[]{10, 10, 5}, validated.shape(), "Shape"),
+                    () -> assertArrayEquals(new int[]{0}, ValidatedBinding.broadcastAxes(dimensions, file.findVariable("x").getDimensions()), "X Axes"),
+                    () -> assertArrayEquals(new int[]{0, 1}, ValidatedBinding.broadcastAxes(dimensions, file.findVariable("xy").getDimensions()), "XY Axes"),
+                    () -> assertArrayEquals(new int[]{2}, ValidatedBinding.broadcastAxes(dimensions, file.findVariable("z").getDimensions()), "Z Axes"),
+                    () -> assertNull(ValidatedBinding.broadcastAxes(dimensions, file.findVariable("zy").getDimensions()), "ZY Axes")
+            );
+        }
+    }
+
     @Test
     void testMismatchedDimensionVariableDimensions() {
 
@@ -0,0 +1,134 @@
+package io.github.stellarsunset.netcdf;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ucar.ma2.DataType;
+import ucar.nc2.NetcdfFile;
+import ucar.nc2.NetcdfFiles;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ValidationCacheTest {
+
+    private static File FIRST;
+
+    private static File SECOND;
+
+    private static File RESIZED;
+
+    private static final SchemaBinding<Object> BINDING = SchemaBinding.<Object>builder()
+            .recordInitializer(Object::new)
+            .intDimensionVariable("x", (o, v) -> o)
+            .floatCoordinateVariable("float", (o, v) -> o)
+            .build();
+
+    @BeforeAll
+    static void setup(@TempDir Path temp) {
+        FIRST = temp.resolve("first.nc").toFile();
+        SECOND = temp.resolve("second.nc").toFile();
+        RESIZED = temp.resolve("resized.nc").toFile();
+
+        new NetcdfFileGenerator.XY(10, 20).writeVariables(FIRST, NetcdfFileGenerator.varSpec("float", DataType.FLOAT));
+        new NetcdfFileGenerator.XY(10, 20).writeVariables(SECOND, NetcdfFileGenerator.varSpec("float", DataType.FLOAT));
+        new NetcdfFileGenerator.XY(10, 21).writeVariables(RESIZED, NetcdfFileGenerator.varSpec("float", DataType.FLOAT));
+    }
+
+    @Test
+    void testFingerprint() throws IOException {
+        try (NetcdfFile first = NetcdfFiles.open(FIRST.getAbsolutePath());
+             NetcdfFile second = NetcdfFiles.open(SECOND.getAbsolutePath());
+             NetcdfFile resized = NetcdfFiles.open(RESIZED.getAbsolutePath())) {
+
+            assertAll(
+                    () -> assertEquals(ValidationCache.fingerprint(first), ValidationCache.fingerprint(second), "Same Layout"),
+                    () -> assertNotEquals(ValidationCache.fingerprint(first), ValidationCache.fingerprint(resized), "Different Layout")
+            );
+        }
+    }
+
+    @Test
+    void testValidate() throws IOException {
+
+        ValidationCache cache = ValidationCache.create();
+
+        try (NetcdfFile first = NetcdfFiles.open(FIRST.getAbsolutePath());
+             NetcdfFile second = NetcdfFiles.open(SECOND.getAbsolutePath());
+             NetcdfFile resized = NetcdfFiles.open(RESIZED.getAbsolutePath())) {
+
+            ValidatedBinding<Object> fromFirst = cache.validate(first, BINDING);
+            ValidatedBinding<Object> fromSecond = cache.validate(second, BINDING);
+            cache.validate(resized, BINDING);
+
+            assertAll(
+                    () -> assertInstanceOf(ValidatedBinding.D2.class, fromFirst, "First"),
+                    () -> assertInstanceOf(ValidatedBinding.D2.class, fromSecond, "Second"),
+                    () -> assertEquals(second, fromSecond.context(), "Second Context"),
+                    () -> assertEquals(1, cache.hitCount(), "Hits"),
+                    () -> assertEquals(2, cache.missCount(), "Misses")
+            );
+        }
+    }
+
+    @Test
+    void testValidate_CachesErrors() throws IOException {
+
+        ValidationCache cache = ValidationCache.create();
+
+        var binding = SchemaBinding.<Object>builder()
+                .recordInitializer(Object::new)
+                .floatCoordinateVariable("missing", (o, v) -> o)
+                .build();
+
+        try (NetcdfFile first = NetcdfFiles.open(FIRST.getAbsolutePath());
+             NetcdfFile second = NetcdfFiles.open(SECOND.getAbsolutePath())) {
+
+            assertAll(
+                    () -> assertThrows(IllegalArgumentException.class, () -> cache.validate(first, binding), "First"),
+                    () -> assertThrows(IllegalArgumentException.class, () -> cache.validate(second, binding), "Second"),
+                    () -> assertEquals(1, cache.hitCount(), "Hits")
+            );
+        }
+    }
+
+    @Test
+    void testValidate_SchemaIdentity() throws IOException {
+
+        ValidationCache cache = ValidationCache.create();
+
+        var other = SchemaBinding.<Object>builder()
+                .recordInitializer(Object::new)
+                .floatCoordinateVariable("float", (o, v) -> o)
+                .build();
+
+        try (NetcdfFile first = NetcdfFiles.open(FIRST.getAbsolutePath())) {
+            cache.validate(first, BINDING);
+            cache.validate(first, other);
+        }
+
+        assertEquals(2, cache.missCount(), "Misses");
+    }
+
+    @Test
+    void testReadOptions() throws IOException {
+
+        ValidationCache cache = ValidationCache.create();
+        ReadOptions options = ReadOptions.builder().validationCache(cache).build();
+
+        for (File file : new File[]{FIRST, SECOND}) {
+            try (NetcdfFile netcdf = NetcdfFiles.open(file.getAbsolutePath())) {
+                assertEquals(200, Hypercube.schemaBound(netcdf, BINDING, options).stream().toList().size(), "Records");
+            }
+        }
+
+        assertEquals(1, cache.hitCount(), "Hits");
+    }
+}
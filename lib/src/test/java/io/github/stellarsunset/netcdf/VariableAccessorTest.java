@@ -0,0 +1,116 @@
+package io.github.stellarsunset.netcdf;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ucar.ma2.DataType;
+import ucar.nc2.NetcdfFile;
+import ucar.nc2.NetcdfFiles;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VariableAccessorTest {
+
+    private static File FILE;
+
+    @BeforeAll
+    static void setup(@TempDir Path temp) {
+        FILE = temp.resolve("test-data.nc").toFile();
+        new NetcdfFileGenerator.XYZ(4, 5, 6).writeVariables(
+                FILE,
+                NetcdfFileGenerator.varSpec("short", DataType.SHORT),
+                NetcdfFileGenerator.varSpec("float", DataType.FLOAT),
+                NetcdfFileGenerator.varSpec("double", DataType.DOUBLE)
+        );
+    }
+
+    @Test
+    void testDimensionVariable() throws IOException {
+        try (NetcdfFile file = NetcdfFiles.open(FILE.getAbsolutePath())) {
+
+            VariableAccessor.D1 x = assertInstanceOf(VariableAccessor.D1.class, VariableAccessor.of(file, "x"));
+
+            assertAll(
+                    () -> assertEquals("x", x.name(), "Name"),
+                    () -> assertEquals(DataType.INT, x.type(), "Type"),
+                    () -> assertEquals(4, x.max(), "Max"),
+                    () -> assertEquals(2, x.intAt(2), "Int"),
+                    () -> assertEquals(2L, x.longAt(2), "Long"),
+                    () -> assertEquals(2d, x.doubleAt(2), "Double"),
+                    () -> assertArrayEquals(IntStream.range(0, 4).toArray(), x.ints().toArray(), "Ints")
+            );
+        }
+    }
+
+    @Test
+    void testCoordinateVariable() throws IOException {
+        try (NetcdfFile file = NetcdfFiles.open(FILE.getAbsolutePath())) {
+
+            ucar.ma2.Array data = file.findVariable("float").read();
+            VariableAccessor.D3 accessor = assertInstanceOf(VariableAccessor.D3.class, VariableAccessor.of(file, "float"));
+
+            assertAll(
+                    () -> assertArrayEquals(new int[]{4, 5, 6}, new int[]{accessor.d0Max(), accessor.d1Max(), accessor.d2Max()}, "Shape"),
+                    () -> assertEquals(120, accessor.size(), "Size"),
+                    () -> assertEquals(data.getFloat((2 * 5 + 3) * 6 + 4), accessor.floatAt(2, 3, 4), "Float"),
+                    () -> assertEquals(data.getDouble(119), accessor.doubleAt(3, 4, 5), "Double"),
+                    () -> assertEquals(120, accessor.doubles().count(), "Doubles")
+            );
+        }
+    }
+
+    @Test
+    void testStreams_IterationOrder() throws IOException {
+        try (NetcdfFile file = NetcdfFiles.open(FILE.getAbsolutePath())) {
+
+            VariableAccessor.D3 accessor = (VariableAccessor.D3) VariableAccessor.of(file, "short");
+
+            int[] expected = new int[(int) accessor.size()];
+            for (int i0 = 0, q = 0; i0 < accessor.d0Max(); i0++) {
+                for (int i1 = 0; i1 < accessor.d1Max(); i1++) {
+                    for (int i2 = 0; i2 < accessor.d2Max(); i2++) {
+                        expected[q++] = accessor.intAt(i0, i1, i2);
+                    }
+                }
+            }
+
+            assertAll(
+                    () -> assertArrayEquals(expected, accessor.ints().toArray(), "Ints"),
+                    () -> assertArrayEquals(IntStream.of(expected).asLongStream().toArray(), accessor.longs().toArray(), "Longs")
+            );
+        }
+    }
+
+    @Test
+    void testNarrowing() throws IOException {
+        try (NetcdfFile file = NetcdfFiles.open(FILE.getAbsolutePath())) {
+
+            VariableAccessor.D3 floats = (VariableAccessor.D3) VariableAccessor.of(file, "float");
+            VariableAccessor.D3 doubles = (VariableAccessor.D3) VariableAccessor.of(file, "double");
+
+            assertAll(
+                    () -> assertThrows(IllegalStateException.class, () -> floats.intAt(0, 0, 0), "Float As Int"),
+                    () -> assertThrows(IllegalStateException.class, () -> floats.longs().toArray(), "Float As Longs"),
+                    () -> assertThrows(IllegalStateException.class, () -> doubles.floatAt(0, 0, 0), "Double As Float")
+            );
+        }
+    }
+
+    @Test
+    void testInvalid() throws IOException {
+        try (NetcdfFile file = NetcdfFiles.open(FILE.getAbsolutePath())) {
+
+            VariableAccessor.D3 accessor = (VariableAccessor.D3) VariableAccessor.of(file, "double");
+
+            assertAll(
+                    () -> assertThrows(IllegalArgumentException.class, () -> VariableAccessor.of(file, "missing"), "Missing"),
+                    () -> assertThrows(IndexOutOfBoundsException.class, () -> accessor.doubleAt(0, 5, 0), "Out Of Bounds")
+            );
+        }
+    }
+}
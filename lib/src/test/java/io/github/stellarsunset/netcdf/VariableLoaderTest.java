@@ -0,0 +1,149 @@
+package io.github.stellarsunset.netcdf;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ucar.ma2.DataType;
+import ucar.nc2.NetcdfFile;
+import ucar.nc2.NetcdfFiles;
+import ucar.nc2.dataset.NetcdfDataset;
+import ucar.nc2.dataset.NetcdfDatasets;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VariableLoaderTest {
+
+    private static File FILE;
+
+    private static ExecutorService EXECUTOR;
+
+    private static final List<String> VARIABLES = List.of("x", "y", "z", "byte", "int", "double");
+
+    @BeforeAll
+    static void setup(@TempDir Path temp) {
+        FILE = temp.resolve("test-data.nc").toFile();
+        EXECUTOR = Executors.newFixedThreadPool(3);
+
+        new NetcdfFileGenerator.XYZ(10, 20, 30).writeVariables(
+                FILE,
+                NetcdfFileGenerator.varSpec("byte", DataType.BYTE),
+                NetcdfFileGenerator.varSpec("int", DataType.INT),
+                NetcdfFileGenerator.varSpec("double", DataType.DOUBLE)
+        );
+    }
+
+    @AfterAll
+    static void teardown() {
+        EXECUTOR.shutdownNow();
+    }
+
+    @Test
+    void testLoad_Concurrent() throws IOException {
+        try (NetcdfFile file = NetcdfFiles.open(FILE.getAbsolutePath())) {
+
+            ReadMetrics metrics = new ReadMetrics();
+            ReadOptions options = ReadOptions.builder().loadExecutor(EXECUTOR).listener(metrics).build();
+
+            Map<String, ucar.ma2.Array> loaded = VariableLoader.load(file, VARIABLES, options);
+
+            assertAll(
+                    () -> assertEquals(VARIABLES, List.copyOf(loaded.keySet()), "Variables In Order"),
+                    () -> assertEquals(6, metrics.variableReads(), "Reads"),
+                    () -> assertArrayEquals(new int[]{10, 20, 30}, loaded.get("double").getShape(), "Shape"),
+                    () -> assertEquals(file.findVariable("z").read().toString(), loaded.get("z").toString(), "Content")
+            );
+        }
+    }
+
+    @Test
+    void testLoad_InMemory() throws IOException {
+        try (NetcdfFile file = NetcdfSources.open(Files.readAllBytes(FILE.toPath()))) {
+
+            ReadOptions options = ReadOptions.builder().loadExecutor(EXECUTOR).build();
+            Map<String, ucar.ma2.Array> loaded = VariableLoader.load(file, VARIABLES, options);
+
+            assertEquals(VARIABLES, List.copyOf(loaded.keySet()), "Read sequentially through the original handle");
+        }
+    }
+
+    @Test
+    void testLoad_Dataset() throws IOException {
+        try (NetcdfDataset dataset = NetcdfDatasets.openDataset(FILE.getAbsolutePath())) {
+
+            AtomicInteger submitted = new AtomicInteger();
+            Executor counting = command -> {
+                submitted.incrementAndGet();
+                EXECUTOR.execute(command);
+            };
+
+            Map<String, ucar.ma2.Array> loaded = VariableLoader.load(dataset, VARIABLES, ReadOptions.builder().loadExecutor(counting).build());
+
+            assertAll(
+                    () -> assertEquals(0, submitted.get(), "Read sequentially through the enhanced dataset"),
+                    () -> assertEquals(dataset.findVariable("double").read().toString(), loaded.get("double").toString(), "Content")
+            );
+        }
+    }
+
+    @Test
+    void testLoad_Rejected() throws IOException {
+        try (NetcdfFile file = NetcdfFiles.open(FILE.getAbsolutePath())) {
+
+            AtomicInteger submitted = new AtomicInteger();
+            Executor rejecting = command -> {
+                if (submitted.incrementAndGet() > 2) {
+                    throw new RejectedExecutionException("Saturated");
+                }
+                EXECUTOR.execute(command);
+            };
+
+            ReadOptions options = ReadOptions.builder().loadExecutor(rejecting).build();
+            assertThrows(RejectedExecutionException.class, () -> VariableLoader.load(file, VARIABLES, options));
+        }
+    }
+
+    @Test
+    void testSchemaBound() throws IOException {
+
+        var binding = SchemaBinding.<double[]>builder()
+                .recordInitializer(() -> new double[3])
+                .intDimensionVariable("x", (o, v) -> {
+                    o[0] = v;
+                    return o;
+                })
+                .byteCoordinateVariable("byte", (o, v) -> {
+                    o[1] = v;
+                    return o;
+                })
+                .doubleCoordinateVariable("double", (o, v) -> {
+                    o[2] = v;
+                    return o;
+                })
+                .build();
+
+        try (NetcdfFile file = NetcdfFiles.open(FILE.getAbsolutePath())) {
+
+            List<double[]> sequential = Hypercube.schemaBound(file, binding).stream().map(double[]::clone).toList();
+            List<double[]> concurrent = Hypercube.schemaBound(file, binding, ReadOptions.builder().loadExecutor(EXECUTOR).build())
+                    .stream().map(double[]::clone).toList();
+
+            assertAll(
+                    () -> assertEquals(6000, concurrent.size(), "Records"),
+                    () -> assertArrayEquals(sequential.get(4321), concurrent.get(4321), "Record")
+            );
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package io.github.stellarsunset.netcdf;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ucar.ma2.DataType;
+import ucar.nc2.NetcdfFile;
+import ucar.nc2.NetcdfFiles;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ViewCacheTest {
+
+    private static File FILE;
+
+    private static File OTHER;
+
+    private static final SchemaBinding<double[]> BINDING = SchemaBinding.<double[]>builder()
+            .recordInitializer(() -> new double[3])
+            .intDimensionVariable("x", (o, v) -> {
+                o[0] = v;
+                return o;
+            })
+            .intDimensionVariable("y", (o, v) -> {
+                o[1] = v;
+                return o;
+            })
+            .doubleCoordinateVariable("double", (o, v) -> {
+                o[2] = v;
+                return o;
+            })
+            .build();
+
+    @BeforeAll
+    static void setup(@TempDir Path temp) {
+        FILE = temp.resolve("test-data.nc").toFile();
+        OTHER = temp.resolve("other-data.nc").toFile();
+
+        var generator = new NetcdfFileGenerator.XY(10, 20);
+
+        generator.writeVariables(FILE, NetcdfFileGenerator.varSpec("double", DataType.DOUBLE));
+        generator.writeVariables(OTHER, NetcdfFileGenerator.varSpec("double", DataType.DOUBLE));
+    }
+
+    @Test
+    void testRepeatedReads(@TempDir Path temp) throws IOException {
+
+        ViewCache cache = ViewCache.builder().directory(temp).build();
+
+        ReadMetrics first = new ReadMetrics();
+        ReadMetrics second = new ReadMetrics();
+
+        List<double[]> direct = read(FILE, ReadOptions.defaults());
+        List<double[]> materialized = read(FILE, ReadOptions.builder().viewCache(cache).listener(first).build());
+        List<double[]> cached = read(FILE, ReadOptions.builder().viewCache(cache).listener(second).build());
+
+        assertAll(
+                () -> assertEquals(200, cached.size(), "Records"),
+                () -> assertArrayEquals(direct.get(57), materialized.get(57), "Materialized Record"),
+                () -> assertArrayEquals(direct.get(57), cached.get(57), "Cached Record"),
+                () -> assertEquals(1, cache.missCount(), "Misses"),
+                () -> assertEquals(1, cache.hitCount(), "Hits"),
+                () -> assertEquals(3, first.variableReads(), "Decoded on the first read"),
+                () -> assertEquals(0, second.variableReads(), "Served from the view"),
+                () -> assertTrue(cache.sizeBytes() > 1720, "Size")
+        );
+    }
+
+    @Test
+    void testStreamingBypassesCache(@TempDir Path temp) throws IOException {
+
+        ViewCache cache = ViewCache.builder().directory(temp).build();
+        read(FILE, ReadOptions.builder().viewCache(cache).slabSize(2).build());
+
+        assertAll(
+                () -> assertEquals(0, cache.missCount(), "Misses"),
+                () -> assertEquals(0, cache.sizeBytes(), "Size")
+        );
+    }
+
+    @Test
+    void testEviction(@TempDir Path temp) throws IOException {
+
+        ViewCache cache = ViewCache.builder().directory(temp).maximumBytes(2000).build();
+
+        read(FILE, ReadOptions.builder().viewCache(cache).build());
+        read(OTHER, ReadOptions.builder().viewCache(cache).build());
+
+        try (var views = Files.list(temp)) {
+            assertEquals(1, views.count(), "Only the most recent view fits");
+        }
+    }
+
+    @Test
+    void testRoundTrip(@TempDir Path temp) throws IOException {
+
+        Map<String, ucar.ma2.Array> columns = new LinkedHashMap<>();
+        columns.put("floats", ucar.ma2.Array.factory(DataType.FLOAT, new int[]{2, 3}, new float[]{1f, 2f, 3f, 4f, 5f, 6f}));
+        columns.put("bools", ucar.ma2.Array.factory(DataType.BOOLEAN, new int[]{3}, new boolean[]{true, false, true}));
+        columns.put("shorts", ucar.ma2.Array.factory(DataType.SHORT, new int[]{1}, new short[]{7}));
+
+        Path view = temp.resolve("view.ncmv");
+        MaterializedView.write(view, columns);
+
+        Map<String, ucar.ma2.Array> read = MaterializedView.read(view);
+
+        assertAll(
+                () -> assertEquals(List.of("floats", "bools", "shorts"), List.copyOf(read.keySet()), "Columns"),
+                () -> assertArrayEquals(new int[]{2, 3}, read.get("floats").getShape(), "Shape"),
+                () -> assertArrayEquals(new float[]{1f, 2f, 3f, 4f, 5f, 6f}, (float[]) read.get("floats").get1DJavaArray(DataType.FLOAT), "Floats"),
+                () -> assertArrayEquals(new boolean[]{true, false, true}, (boolean[]) read.get("bools").get1DJavaArray(DataType.BOOLEAN), "Booleans"),
+                () -> assertArrayEquals(new short[]{7}, (short[]) read.get("shorts").get1DJavaArray(DataType.SHORT), "Shorts")
+        );
+    }
+
+    @Test
+    void testRead_NotAView(@TempDir Path temp) throws IOException {
+        Path garbage = Files.write(temp.resolve("garbage.ncmv"), new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13});
+        assertNull(MaterializedView.read(garbage), "Not a view");
+    }
+
+    private static List<double[]> read(File file, ReadOptions options) throws IOException {
+        try (NetcdfFile netcdfFile = NetcdfFiles.open(file.getAbsolutePath())) {
+            return Hypercube.schemaBound(netcdfFile, BINDING, options).stream().map(double[]::clone).toList();
+        }
+    }
+}
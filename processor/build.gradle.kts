@@ -0,0 +1,70 @@
+import com.vanniktech.maven.publish.JavaLibrary
+import com.vanniktech.maven.publish.JavadocJar
+
+plugins {
+    `java-library`
+    id("io.github.stellarsunset.auto-semver") version "2.0.0"
+    id("com.vanniktech.maven.publish") version "0.37.0"
+}
+
+repositories {
+    mavenCentral()
+    maven {
+        url = uri("https://artifacts.unidata.ucar.edu/repository/unidata-all/")
+        mavenContent {
+            releasesOnly()
+        }
+    }
+}
+
+dependencies {
+
+    // the processor only works against annotation mirrors, the library is only required to compile generated sources
+    testImplementation(project(":lib"))
+    testImplementation(libs.junit.jupiter)
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+}
+
+java {
+    toolchain {
+        languageVersion = JavaLanguageVersion.of(25)
+    }
+}
+
+tasks.named<Test>("test") {
+    useJUnitPlatform()
+}
+
+mavenPublishing {
+    configure(JavaLibrary(javadocJar = JavadocJar.Javadoc(), sourcesJar = true))
+
+    publishToMavenCentral(automaticRelease = true)
+
+    coordinates("io.github.stellarsunset", "netcdf-processor", project.version.toString())
+
+    pom {
+        name = "netcdf-processor"
+        description = "Annotation processor generating direct record bindings for the netcdf library."
+        url = "https://github.com/stellarsunset/netcdf"
+        licenses {
+            license {
+                name = "The Apache License, Version 2.0"
+                url = "http://www.apache.org/licenses/LICENSE-2.0.txt"
+            }
+        }
+        developers {
+            developer {
+                id = "stellarsunset"
+                name = "Alex Cramer"
+                email = "stellarsunset@proton.me"
+            }
+        }
+        scm {
+            connection = "scm:git:git://github.com/stellarsunset/netcdf.git"
+            developerConnection = "scm:git:ssh://github.com/stellarsunset/netcdf.git"
+            url = "http://github.com/stellarsunset/netcdf"
+        }
+    }
+
+    signAllPublications()
+}
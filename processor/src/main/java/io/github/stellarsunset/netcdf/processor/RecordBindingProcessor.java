@@ -0,0 +1,306 @@
+package io.github.stellarsunset.netcdf.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeKind;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Annotation processor generating a {@code RecordBinding} implementation for each record whose components are annotated
+ * with {@code @CoordinateVariable} or {@code @DimensionVariable}.
+ *
+ * <p>For a record {@code com.example.Measurement} the processor generates {@code com.example.MeasurementBinding} (nested
+ * records are prefixed with their enclosing types, e.g. {@code Outer_MeasurementBinding}) which reads each component's
+ * primitive value straight out of the decoded variable data and invokes the canonical constructor directly.
+ *
+ * <p>All components of an annotated record must be primitives and must be annotated, as every constructor argument needs
+ * a variable to be read from. Violations are reported as compilation errors against the offending component.
+ */
+@SupportedAnnotationTypes({
+        RecordBindingProcessor.COORDINATE_VARIABLE,
+        RecordBindingProcessor.DIMENSION_VARIABLE
+})
+public final class RecordBindingProcessor extends AbstractProcessor {
+
+    static final String COORDINATE_VARIABLE = "io.github.stellarsunset.netcdf.CoordinateVariable";
+
+    static final String DIMENSION_VARIABLE = "io.github.stellarsunset.netcdf.DimensionVariable";
+
+    private static final String RECORD_BINDING = "io.github.stellarsunset.netcdf.RecordBinding";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+
+        Set<TypeElement> records = new LinkedHashSet<>();
+
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.RECORD_COMPONENT) {
+                    records.add((TypeElement) element.getEnclosingElement());
+                }
+            }
+        }
+
+        for (TypeElement record : records) {
+            columns(record).ifPresent(columns -> write(record, columns));
+        }
+
+        return false;
+    }
+
+    /**
+     * The columns for each of the record's components, or empty if any of the components couldn't be bound (in which case
+     * errors have been reported).
+     */
+    private Optional<List<Column>> columns(TypeElement record) {
+
+        Messager messager = processingEnv.getMessager();
+        boolean valid = true;
+
+        if (!record.getTypeParameters().isEmpty()) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Generic records can't be bound to variables.", record);
+            valid = false;
+        }
+
+        if (isPrivate(record)) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Records bound to variables can't be private.", record);
+            valid = false;
+        }
+
+        List<Column> columns = new ArrayList<>();
+
+        for (RecordComponentElement component : record.getRecordComponents()) {
+
+            Optional<Type> type = Type.of(component.asType().getKind());
+            Optional<? extends AnnotationMirror> coordinate = annotation(component, COORDINATE_VARIABLE);
+            Optional<? extends AnnotationMirror> dimension = annotation(component, DIMENSION_VARIABLE);
+
+            if (type.isEmpty()) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "Components bound to variables must be primitives, was: " + component.asType(), component);
+                valid = false;
+            } else if (coordinate.isPresent() == dimension.isPresent()) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "Components must be annotated with exactly one of @CoordinateVariable or @DimensionVariable.", component);
+                valid = false;
+            } else if (coordinate.isPresent()) {
+                columns.add(new Column(value(coordinate.get(), "value"), null, type.get()));
+            } else {
+                String dim = value(dimension.get(), "dim");
+                String variable = value(dimension.get(), "variable");
+                columns.add(new Column(variable.isEmpty() ? dim : variable, dim, type.get()));
+            }
+        }
+
+        return valid ? Optional.of(columns) : Optional.empty();
+    }
+
+    private void write(TypeElement record, List<Column> columns) {
+
+        PackageElement pkg = processingEnv.getElementUtils().getPackageOf(record);
+        String packageName = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+
+        String bindingName = bindingName(record);
+        String recordName = record.getQualifiedName().toString();
+
+        StringBuilder source = new StringBuilder();
+
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+
+        source.append("/**\n")
+                .append(" * Generated {@link ").append(RECORD_BINDING).append("} for {@link ").append(recordName).append("}.\n")
+                .append(" */\n")
+                .append("@javax.annotation.processing.Generated(\"").append(RecordBindingProcessor.class.getName()).append("\")\n")
+                .append("public final class ").append(bindingName)
+                .append(" implements ").append(RECORD_BINDING).append("<").append(recordName).append("> {\n\n");
+
+        source.append("    private static final java.util.List<").append(RECORD_BINDING).append(".Column> COLUMNS = java.util.List.of(\n");
+        for (int i = 0; i < columns.size(); i++) {
+            Column column = columns.get(i);
+            String type = RECORD_BINDING + ".Type." + column.type().name();
+            source.append("            ");
+            if (column.dimension() == null) {
+                source.append(RECORD_BINDING).append(".Column.coordinate(").append(literal(column.variable())).append(", ").append(type).append(")");
+            } else {
+                source.append(RECORD_BINDING).append(".Column.dimension(").append(literal(column.dimension())).append(", ")
+                        .append(literal(column.variable())).append(", ").append(type).append(")");
+            }
+            source.append(i < columns.size() - 1 ? ",\n" : "\n");
+        }
+        source.append("    );\n\n");
+
+        source.append("    @Override\n")
+                .append("    public java.util.List<").append(RECORD_BINDING).append(".Column> columns() {\n")
+                .append("        return COLUMNS;\n")
+                .append("    }\n\n");
+
+        source.append("    @Override\n")
+                .append("    public ").append(RECORD_BINDING).append(".RecordFactory<").append(recordName).append("> factory(")
+                .append(RECORD_BINDING).append(".Columns columns) {\n");
+
+        for (int i = 0; i < columns.size(); i++) {
+            Column column = columns.get(i);
+            source.append("        final ").append(column.type().javaType()).append("[] c").append(i)
+                    .append(" = columns.").append(column.type().accessor()).append("(").append(i).append(");\n");
+            if (column.dimension() != null) {
+                source.append("        final int a").append(i).append(" = columns.axis(").append(i).append(");\n");
+            }
+        }
+
+        source.append("        return (offset, i0, i1, i2, i3) -> new ").append(recordName).append("(\n");
+        for (int i = 0; i < columns.size(); i++) {
+            Column column = columns.get(i);
+            source.append("                c").append(i).append("[");
+            if (column.dimension() == null) {
+                source.append("offset");
+            } else {
+                source.append(RECORD_BINDING).append(".select(a").append(i).append(", i0, i1, i2, i3)");
+            }
+            source.append("]").append(i < columns.size() - 1 ? ",\n" : "\n");
+        }
+        source.append("        );\n")
+                .append("    }\n")
+                .append("}\n");
+
+        String qualifiedName = packageName.isEmpty() ? bindingName : packageName + "." + bindingName;
+        Filer filer = processingEnv.getFiler();
+
+        try (Writer writer = filer.createSourceFile(qualifiedName, record).openWriter()) {
+            writer.write(source.toString());
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Error writing generated binding: " + e.getMessage(), record);
+        }
+    }
+
+    /**
+     * The simple name of the generated binding, nested records are prefixed with the names of their enclosing types so
+     * the generated class can be top-level.
+     */
+    private static String bindingName(TypeElement record) {
+        StringBuilder name = new StringBuilder(record.getSimpleName()).append("Binding");
+        Element enclosing = record.getEnclosingElement();
+        while (enclosing instanceof TypeElement type) {
+            name.insert(0, type.getSimpleName() + "_");
+            enclosing = type.getEnclosingElement();
+        }
+        return name.toString();
+    }
+
+    private static boolean isPrivate(TypeElement record) {
+        Element element = record;
+        while (element instanceof TypeElement type) {
+            if (type.getModifiers().contains(Modifier.PRIVATE)) {
+                return true;
+            }
+            element = type.getEnclosingElement();
+        }
+        return false;
+    }
+
+    private static Optional<? extends AnnotationMirror> annotation(Element element, String annotationName) {
+        return element.getAnnotationMirrors().stream()
+                .filter(mirror -> ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotationName))
+                .findFirst();
+    }
+
+    private String value(AnnotationMirror mirror, String name) {
+        Map<? extends ExecutableElement, ? extends AnnotationValue> values = processingEnv.getElementUtils().getElementValuesWithDefaults(mirror);
+        return values.entrySet().stream()
+                .filter(entry -> entry.getKey().getSimpleName().contentEquals(name))
+                .map(entry -> (String) entry.getValue().getValue())
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Missing annotation value: " + name));
+    }
+
+    private static String literal(String value) {
+        StringBuilder literal = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"' -> literal.append("\\\"");
+                case '\\' -> literal.append("\\\\");
+                case '\n' -> literal.append("\\n");
+                case '\r' -> literal.append("\\r");
+                case '\t' -> literal.append("\\t");
+                default -> literal.append(c);
+            }
+        }
+        return literal.append('"').toString();
+    }
+
+    /**
+     * A bound record component, the dimension is null for coordinate variables.
+     */
+    private record Column(String variable, String dimension, Type type) {
+    }
+
+    /**
+     * Mirror of {@code RecordBinding.Type}, kept separate so the processor doesn't need the library on its classpath.
+     */
+    private enum Type {
+        BOOLEAN("boolean", "booleans"),
+        BYTE("byte", "bytes"),
+        CHAR("char", "chars"),
+        SHORT("short", "shorts"),
+        INT("int", "ints"),
+        LONG("long", "longs"),
+        FLOAT("float", "floats"),
+        DOUBLE("double", "doubles");
+
+        private final String javaType;
+
+        private final String accessor;
+
+        Type(String javaType, String accessor) {
+            this.javaType = javaType;
+            this.accessor = accessor;
+        }
+
+        static Optional<Type> of(TypeKind kind) {
+            return switch (kind) {
+                case BOOLEAN -> Optional.of(BOOLEAN);
+                case BYTE -> Optional.of(BYTE);
+                case CHAR -> Optional.of(CHAR);
+                case SHORT -> Optional.of(SHORT);
+                case INT -> Optional.of(INT);
+                case LONG -> Optional.of(LONG);
+                case FLOAT -> Optional.of(FLOAT);
+                case DOUBLE -> Optional.of(DOUBLE);
+                default -> Optional.empty();
+            };
+        }
+
+        String javaType() {
+            return javaType;
+        }
+
+        String accessor() {
+            return accessor;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package io.github.stellarsunset.netcdf.processor;
+
+import io.github.stellarsunset.netcdf.RecordBinding;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RecordBindingProcessorTest {
+
+    private static final String MEASUREMENT = """
+            package com.example;
+
+            import io.github.stellarsunset.netcdf.CoordinateVariable;
+            import io.github.stellarsunset.netcdf.DimensionVariable;
+
+            public record Measurement(
+                    @DimensionVariable(dim = "x", variable = "latitude") double latitude,
+                    @DimensionVariable(dim = "y") int y,
+                    @CoordinateVariable("temperature") float temperature) {
+            }
+            """;
+
+    @Test
+    void testGeneratedBinding(@TempDir Path temp) throws Exception {
+
+        Compilation compilation = compile(temp, "com.example.Measurement", MEASUREMENT);
+        assertTrue(compilation.success(), () -> "Compilation failed: " + compilation.diagnostics());
+
+        try (URLClassLoader loader = new URLClassLoader(new java.net.URL[]{temp.toUri().toURL()}, getClass().getClassLoader())) {
+
+            @SuppressWarnings("unchecked")
+            RecordBinding<Record> binding = (RecordBinding<Record>) loader.loadClass("com.example.MeasurementBinding")
+                    .getConstructor()
+                    .newInstance();
+
+            RecordBinding.Columns columns = new RecordBinding.Columns(
+                    new Object[]{new double[]{10., 20.}, new int[]{0, 1, 2}, new float[]{0f, 1f, 2f, 3f, 4f, 5f}},
+                    new int[]{0, 1, -1}
+            );
+
+            Record record = binding.factory(columns).create(5, 1, 2, 0, 0);
+
+            assertAll(
+                    () -> assertEquals(List.of(
+                            RecordBinding.Column.dimension("x", "latitude", RecordBinding.Type.DOUBLE),
+                            RecordBinding.Column.dimension("y", "y", RecordBinding.Type.INT),
+                            RecordBinding.Column.coordinate("temperature", RecordBinding.Type.FLOAT)
+                    ), binding.columns(), "Columns"),
+                    () -> assertEquals("Measurement[latitude=20.0, y=2, temperature=5.0]", record.toString(), "Record")
+            );
+        }
+    }
+
+    @Test
+    void testNestedRecord(@TempDir Path temp) throws IOException {
+
+        Compilation compilation = compile(temp, "com.example.Outer", """
+                package com.example;
+
+                import io.github.stellarsunset.netcdf.CoordinateVariable;
+
+                public class Outer {
+                    public record Inner(@CoordinateVariable("value") long value) {
+                    }
+                }
+                """);
+
+        assertAll(
+                () -> assertTrue(compilation.success(), () -> "Compilation failed: " + compilation.diagnostics()),
+                () -> assertTrue(Files.exists(temp.resolve("com/example/Outer_InnerBinding.class")), "Generated Binding")
+        );
+    }
+
+    @Test
+    void testUnannotatedComponent(@TempDir Path temp) throws IOException {
+
+        Compilation compilation = compile(temp, "com.example.Partial", """
+                package com.example;
+
+                import io.github.stellarsunset.netcdf.CoordinateVariable;
+
+                public record Partial(@CoordinateVariable("value") long value, int other) {
+                }
+                """);
+
+        assertAll(
+                () -> assertFalse(compilation.success(), "Success"),
+                () -> assertTrue(compilation.diagnostics().contains("exactly one of"), () -> "Diagnostics: " + compilation.diagnostics())
+        );
+    }
+
+    @Test
+    void testNonPrimitiveComponent(@TempDir Path temp) throws IOException {
+
+        Compilation compilation = compile(temp, "com.example.Boxed", """
+                package com.example;
+
+                import io.github.stellarsunset.netcdf.CoordinateVariable;
+
+                public record Boxed(@CoordinateVariable("value") Long value) {
+                }
+                """);
+
+        assertAll(
+                () -> assertFalse(compilation.success(), "Success"),
+                () -> assertTrue(compilation.diagnostics().contains("must be primitives"), () -> "Diagnostics: " + compilation.diagnostics())
+        );
+    }
+
+    private static Compilation compile(Path output, String className, String source) throws IOException {
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+
+        try (var fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+
+            JavaCompiler.CompilationTask task = compiler.getTask(
+                    null,
+                    fileManager,
+                    diagnostics,
+                    List.of("-d", output.toString(), "-classpath", System.getProperty("java.class.path"), "-proc:full"),
+                    null,
+                    List.of(new Source(className, source))
+            );
+
+            task.setProcessors(List.of(new RecordBindingProcessor()));
+            boolean success = task.call();
+
+            StringBuilder messages = new StringBuilder();
+            for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+                messages.append(diagnostic.getMessage(null)).append('\n');
+            }
+
+            return new Compilation(success, messages.toString());
+        }
+    }
+
+    private record Compilation(boolean success, String diagnostics) {
+    }
+
+    private static final class Source extends SimpleJavaFileObject {
+
+        private final String source;
+
+        Source(String className, String source) {
+            super(URI.create("string:///" + className.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return source;
+        }
+    }
+}
@@ -4,3 +4,4 @@ plugins {
 
 rootProject.name = "netcdf"
 include("lib")
+include("processor")